@@ -9,6 +9,8 @@ import io.quarkus.security.identity.SecurityIdentity;
 import jakarta.inject.Inject;
 import jakarta.interceptor.InvocationContext;
 
+import java.util.Arrays;
+
 import static io.apicurio.registry.storage.RegistryStorage.ArtifactRetrievalBehavior.DEFAULT;
 
 public abstract class AbstractAccessController implements IAccessController {
@@ -23,6 +25,9 @@ public abstract class AbstractAccessController implements IAccessController {
     @Current
     RegistryStorage storage;
 
+    @Inject
+    AuthorizationCache authorizationCache;
+
     protected boolean isOwner(InvocationContext context) {
         Authorized annotation = context.getMethod().getAnnotation(Authorized.class);
         AuthorizedStyle style = annotation.style();
@@ -46,40 +51,53 @@ public abstract class AbstractAccessController implements IAccessController {
     }
 
     private boolean verifyGroupCreatedBy(String groupId) {
-        try {
-            GroupMetaDataDto dto = storage.getGroupMetaData(groupId);
-            String createdBy = dto.getCreatedBy();
-            return createdBy == null || createdBy.equals(securityIdentity.getPrincipal().getName());
-        } catch (NotFoundException nfe) {
-            // If the group is not found, then return true and let the operation proceed.
-            return true;
-        }
+        String principalId = securityIdentity.getPrincipal().getName();
+        Boolean owner = authorizationCache.isOwner(principalId, Arrays.asList("group", groupId), () -> {
+            try {
+                GroupMetaDataDto dto = storage.getGroupMetaData(groupId);
+                return isCreatedBy(dto.getCreatedBy(), principalId);
+            } catch (NotFoundException nfe) {
+                return null;
+            }
+        });
+        // If the group is not found, then return true and let the operation proceed.
+        return owner == null || owner;
     }
 
     private boolean verifyArtifactCreatedBy(String groupId, String artifactId) {
-        try {
-            ArtifactMetaDataDto dto = storage.getArtifactMetaData(groupId, artifactId, DEFAULT);
-            String createdBy = dto.getCreatedBy();
-            return createdBy == null || createdBy.equals(securityIdentity.getPrincipal().getName());
-        } catch (NotFoundException nfe) {
-            // If the artifact is not found, then return true and let the operation proceed
-            // as normal. The result of which will typically be a 404 response, but sometimes
-            // will be some other result (e.g. creating an artifact that doesn't exist)
-            return true;
-        }
+        String principalId = securityIdentity.getPrincipal().getName();
+        Boolean owner = authorizationCache.isOwner(principalId, Arrays.asList("artifact", groupId, artifactId), () -> {
+            try {
+                ArtifactMetaDataDto dto = storage.getArtifactMetaData(groupId, artifactId, DEFAULT);
+                return isCreatedBy(dto.getCreatedBy(), principalId);
+            } catch (NotFoundException nfe) {
+                return null;
+            }
+        });
+        // If the artifact is not found, then return true and let the operation proceed
+        // as normal. The result of which will typically be a 404 response, but sometimes
+        // will be some other result (e.g. creating an artifact that doesn't exist)
+        return owner == null || owner;
     }
 
     private boolean verifyArtifactCreatedBy(long globalId) {
-        try {
-            ArtifactMetaDataDto dto = storage.getArtifactMetaData(globalId);
-            String createdBy = dto.getCreatedBy();
-            return createdBy == null || createdBy.equals(securityIdentity.getPrincipal().getName());
-        } catch (NotFoundException nfe) {
-            // If the artifact is not found, then return true and let the operation proceed
-            // as normal. The result of which will typically be a 404 response, but sometimes
-            // will be some other result (e.g. creating an artifact that doesn't exist)
-            return true;
-        }
+        String principalId = securityIdentity.getPrincipal().getName();
+        Boolean owner = authorizationCache.isOwner(principalId, Arrays.asList("globalId", globalId), () -> {
+            try {
+                ArtifactMetaDataDto dto = storage.getArtifactMetaData(globalId);
+                return isCreatedBy(dto.getCreatedBy(), principalId);
+            } catch (NotFoundException nfe) {
+                return null;
+            }
+        });
+        // If the artifact is not found, then return true and let the operation proceed
+        // as normal. The result of which will typically be a 404 response, but sometimes
+        // will be some other result (e.g. creating an artifact that doesn't exist)
+        return owner == null || owner;
+    }
+
+    private static boolean isCreatedBy(String createdBy, String principalId) {
+        return createdBy == null || createdBy.equals(principalId);
     }
 
     protected String getStringParam(InvocationContext context, int index) {
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.auth;
+
+import com.google.common.cache.CacheBuilder;
+import io.apicurio.common.apps.config.Info;
+import io.apicurio.registry.metrics.MetricsConstants;
+import io.apicurio.registry.storage.decorator.InvalidatingCache;
+import io.apicurio.registry.storage.decorator.RegistryStorageCacheDecoratorBase;
+import io.apicurio.registry.storage.decorator.RegistryStorageDecoratorOrderConstants;
+import io.apicurio.registry.storage.dto.ArtifactOwnerDto;
+import io.apicurio.registry.storage.error.RegistryStorageException;
+import io.apicurio.registry.storage.impexp.EntityInputStream;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Caches the authorization decisions that require a storage lookup, so that authorization checks do not
+ * query the storage on every request: the roles of principals, when the roles are managed by the registry,
+ * and whether principals own artifacts and groups, when owner-only authorization is enabled.
+ * <p>
+ * The cached roles are invalidated by the role mapping operations, and the cached ownership decisions by
+ * every storage operation that may change the owner of an artifact or group.  Changes made by another
+ * registry replica (or reloaded by the GitOps storage) are picked up when the cached decisions expire,
+ * so the expiration should be kept short.
+ */
+@ApplicationScoped
+public class AuthorizationCache extends RegistryStorageCacheDecoratorBase {
+
+    private static final String DECISION_ROLE = "role";
+    private static final String DECISION_OWNER = "owner";
+
+    private static final String RESULT_HIT = "hit";
+    private static final String RESULT_MISS = "miss";
+
+    @Inject
+    MeterRegistry registry;
+
+    @ConfigProperty(name = "registry.auth.cache.enabled", defaultValue = "true")
+    @Info(category = "cache", description = "Authorization decision cache enabled", availableSince = "3.0.0")
+    boolean enabled;
+
+    @ConfigProperty(name = "registry.auth.cache.max-size", defaultValue = "10000")
+    @Info(category = "cache", description = "Maximum number of cached role and of cached ownership authorization decisions", availableSince = "3.0.0")
+    long maxSize;
+
+    @ConfigProperty(name = "registry.auth.cache.expire-after-write", defaultValue = "PT10S")
+    @Info(category = "cache", description = "Time after which a cached authorization decision expires", availableSince = "3.0.0")
+    Duration expireAfterWrite;
+
+    private InvalidatingCache<String, Optional<String>> roles;
+    private InvalidatingCache<List<Object>, Boolean> owners;
+
+    @PostConstruct
+    void onConstruct() {
+        roles = new InvalidatingCache<>(CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(expireAfterWrite)
+                .build(), counter(DECISION_ROLE, RESULT_HIT), counter(DECISION_ROLE, RESULT_MISS));
+        owners = new InvalidatingCache<>(CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(expireAfterWrite)
+                .build(), counter(DECISION_OWNER, RESULT_HIT), counter(DECISION_OWNER, RESULT_MISS));
+    }
+
+    private Counter counter(String decision, String result) {
+        return Counter.builder(MetricsConstants.CACHE_AUTHORIZATION)
+                .description(MetricsConstants.CACHE_AUTHORIZATION_DESCRIPTION)
+                .tag(MetricsConstants.CACHE_AUTHORIZATION_TAG_DECISION, decision)
+                .tag(MetricsConstants.CACHE_AUTHORIZATION_TAG_RESULT, result)
+                .register(registry);
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.decorator.RegistryStorageDecorator#isEnabled()
+     */
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.decorator.RegistryStorageDecorator#order()
+     */
+    @Override
+    public int order() {
+        return RegistryStorageDecoratorOrderConstants.AUTHORIZATION_CACHE_DECORATOR;
+    }
+
+    @Override
+    public String getRoleForPrincipal(String principalId) throws RegistryStorageException {
+        return roles.get(principalId, () -> Optional.ofNullable(super.getRoleForPrincipal(principalId))).orElse(null);
+    }
+
+    /**
+     * Gets the decision whether the given principal owns an artifact or group, from the cache, or from the
+     * given supplier.
+     *
+     * @param target identifies the artifact or group, e.g. by its group and artifact IDs, or by the global ID
+     *               of one of its versions
+     * @param supplier returns the decision, or null if the artifact or group does not exist, which is not cached
+     * @return the decision, or null if the artifact or group does not exist
+     */
+    public Boolean isOwner(String principalId, List<Object> target, Supplier<Boolean> supplier) {
+        if (!enabled) {
+            return supplier.get();
+        }
+        return owners.get(Arrays.asList(principalId, target), supplier);
+    }
+
+    @Override
+    public void createRoleMapping(String principalId, String role, String principalName) throws RegistryStorageException {
+        invalidateAfter(() -> super.createRoleMapping(principalId, role, principalName), roles);
+    }
+
+    @Override
+    public void updateRoleMapping(String principalId, String role) throws RegistryStorageException {
+        invalidateAfter(() -> super.updateRoleMapping(principalId, role), roles);
+    }
+
+    @Override
+    public void deleteRoleMapping(String principalId) throws RegistryStorageException {
+        invalidateAfter(() -> super.deleteRoleMapping(principalId), roles);
+    }
+
+    @Override
+    public void updateArtifactOwner(String groupId, String artifactId, ArtifactOwnerDto owner) throws RegistryStorageException {
+        invalidateAfter(() -> super.updateArtifactOwner(groupId, artifactId, owner), owners);
+    }
+
+    @Override
+    public List<String> deleteArtifact(String groupId, String artifactId) throws RegistryStorageException {
+        return invalidateAfter(() -> super.deleteArtifact(groupId, artifactId), owners);
+    }
+
+    @Override
+    public void deleteArtifacts(String groupId) throws RegistryStorageException {
+        invalidateAfter(() -> super.deleteArtifacts(groupId), owners);
+    }
+
+    @Override
+    public void deleteGroup(String groupId) throws RegistryStorageException {
+        invalidateAfter(() -> super.deleteGroup(groupId), owners);
+    }
+
+    @Override
+    public void importData(EntityInputStream entities, boolean preserveGlobalId, boolean preserveContentId)
+            throws RegistryStorageException {
+        invalidateAfter(() -> super.importData(entities, preserveGlobalId, preserveContentId), roles, owners);
+    }
+
+    @Override
+    public void deleteAllUserData() {
+        invalidateAfter(() -> super.deleteAllUserData(), roles, owners);
+    }
+}
@@ -16,6 +16,9 @@
 
 package io.apicurio.registry.auth;
 
+import io.apicurio.registry.metrics.MetricsConstants;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.quarkus.security.ForbiddenException;
 import io.quarkus.security.UnauthorizedException;
 import io.quarkus.security.identity.SecurityIdentity;
@@ -28,6 +31,8 @@ import jakarta.interceptor.InvocationContext;
 import org.eclipse.microprofile.jwt.JsonWebToken;
 import org.slf4j.Logger;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * This class implements authorization logic for the registry.  It is driven by a combination of the
  * security identity (authenticated user) and configured security level of the operation the user is
@@ -42,6 +47,9 @@ import org.slf4j.Logger;
 @Priority(Interceptor.Priority.APPLICATION)
 public class AuthorizedInterceptor {
 
+    private static final String RESULT_GRANTED = "granted";
+    private static final String RESULT_DENIED = "denied";
+
     @Inject
     Logger log;
 
@@ -63,6 +71,28 @@ public class AuthorizedInterceptor {
     @Inject
     OwnerBasedAccessController obac;
 
+    private MeterRegistry registry;
+    private Timer grantedTimer;
+    private Timer deniedTimer;
+
+    /**
+     * Registers the timers once, as an initializer method, because a no-argument lifecycle callback of an
+     * interceptor class would intercept the lifecycle of the intercepted beans.
+     */
+    @Inject
+    void registerTimers(MeterRegistry registry) {
+        this.registry = registry;
+        grantedTimer = timer(registry, RESULT_GRANTED);
+        deniedTimer = timer(registry, RESULT_DENIED);
+    }
+
+    private static Timer timer(MeterRegistry registry, String result) {
+        return Timer.builder(MetricsConstants.AUTH_AUTHORIZATION)
+                .description(MetricsConstants.AUTH_AUTHORIZATION_DESCRIPTION)
+                .tag(MetricsConstants.AUTH_AUTHORIZATION_TAG_RESULT, result)
+                .register(registry);
+    }
+
     @AroundInvoke
     public Object authorizeMethod(InvocationContext context) throws Exception {
 
@@ -83,6 +113,20 @@ public class AuthorizedInterceptor {
 
         log.trace("Authentication enabled, protected resource: " + context.getMethod());
 
+        long start = registry.config().clock().monotonicTime();
+        boolean authorized = false;
+        try {
+            authorize(context);
+            authorized = true;
+        } finally {
+            Timer timer = authorized ? grantedTimer : deniedTimer;
+            timer.record(registry.config().clock().monotonicTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        return context.proceed();
+    }
+
+    private void authorize(InvocationContext context) {
         Authorized annotation = context.getMethod().getAnnotation(Authorized.class);
 
         // If the securityIdentity is not set (or is anonymous)...
@@ -90,14 +134,14 @@ public class AuthorizedInterceptor {
             // Anonymous users are allowed to perform "None" operations.
             if (annotation.level() == AuthorizedLevel.None) {
                 log.trace("Anonymous user is being granted access to unprotected operation.");
-                return context.proceed();
+                return;
             }
 
             // Anonymous users are allowed to perform read-only operations, but only if
             // registry.auth.anonymous-read-access.enabled is set to 'true'
             if (authConfig.anonymousReadAccessEnabled.get() && annotation.level() == AuthorizedLevel.Read) {
                 log.trace("Anonymous user is being granted access to read-only operation.");
-                return context.proceed();
+                return;
             }
 
             // Otherwise just fail - auth was enabled but no credentials provided.
@@ -109,19 +153,19 @@ public class AuthorizedInterceptor {
 
         // If the user is authenticated and the operation auth level is None, allow it
         if (annotation.level() == AuthorizedLevel.None) {
-            return context.proceed();
+            return;
         }
 
         // If the user is an admin (via the admin-override check) then there's no need to
         // check rbac or obac.
         if (adminOverride.isAdmin()) {
             log.trace("Admin override successful.");
-            return context.proceed();
+            return;
         }
 
         // If Authenticated read access is enabled, and the operation auth level is Read, allow it.
         if (authConfig.authenticatedReadAccessEnabled.get() && annotation.level() == AuthorizedLevel.Read) {
-            return context.proceed();
+            return;
         }
 
         // If RBAC is enabled, apply role based rules
@@ -135,7 +179,5 @@ public class AuthorizedInterceptor {
             log.warn("OBAC enabled and operation not permitted due to wrong owner.");
             throw new ForbiddenException("User " + securityIdentity.getPrincipal().getName() + " is not authorized to perform the requested operation.");
         }
-
-        return context.proceed();
     }
 }
@@ -21,6 +21,7 @@ import io.apicurio.registry.ccompat.dto.SchemaReference;
 import io.apicurio.registry.ccompat.rest.error.ConflictException;
 import io.apicurio.registry.ccompat.rest.error.UnprocessableEntityException;
 import io.apicurio.registry.content.ContentHandle;
+import io.apicurio.registry.content.ParsedContentHandle;
 import io.apicurio.registry.rest.v2.beans.ArtifactReference;
 import io.apicurio.registry.rules.RuleApplicationType;
 import io.apicurio.registry.rules.RuleViolationException;
@@ -29,7 +30,6 @@ import io.apicurio.registry.storage.RegistryStorage;
 import io.apicurio.registry.storage.dto.ArtifactMetaDataDto;
 import io.apicurio.registry.storage.dto.ArtifactReferenceDto;
 import io.apicurio.registry.storage.dto.ArtifactVersionMetaDataDto;
-import io.apicurio.registry.storage.dto.StoredArtifactDto;
 import io.apicurio.registry.storage.error.ArtifactNotFoundException;
 import io.apicurio.registry.storage.error.RuleNotFoundException;
 import io.apicurio.registry.storage.error.VersionNotFoundException;
@@ -37,7 +37,6 @@ import io.apicurio.registry.types.ArtifactState;
 import io.apicurio.registry.types.ArtifactType;
 import io.apicurio.registry.types.Current;
 import io.apicurio.registry.types.RuleType;
-import io.apicurio.registry.types.provider.ArtifactTypeUtilProvider;
 import io.apicurio.registry.types.provider.ArtifactTypeUtilProviderFactory;
 import org.apache.avro.AvroTypeException;
 import org.apache.avro.SchemaParseException;
@@ -84,8 +83,9 @@ public abstract class AbstractResource {
         final List<ArtifactReference> artifactReferences = parsedReferences.stream().map(dto -> ArtifactReference.builder().name(dto.getName()).groupId(dto.getGroupId()).artifactId(dto.getArtifactId()).version(dto.getVersion()).build()).collect(Collectors.toList());
         final Map<String, ContentHandle> resolvedReferences = storage.resolveReferences(parsedReferences);
         try {
+            // Parse the content only once, for the rules and the storage
             ContentHandle schemaContent;
-            schemaContent = ContentHandle.create(schema);
+            schemaContent = ParsedContentHandle.of(ContentHandle.create(schema));
 
             if (!doesArtifactExist(subject, groupId)) {
                 rulesService.applyRules(groupId, subject, artifactType, schemaContent, RuleApplicationType.CREATE, artifactReferences, resolvedReferences);
@@ -109,7 +109,6 @@ public abstract class AbstractResource {
         try {
             final String type = schemaType == null ? ArtifactType.AVRO : schemaType;
             final List<ArtifactReferenceDto> artifactReferences = parseReferences(schemaReferences, groupId);
-            ArtifactTypeUtilProvider artifactTypeProvider = factory.getArtifactTypeProvider(type);
             ArtifactVersionMetaDataDto amd;
 
             if (cconfig.canonicalHashModeEnabled.get() || normalize) {
@@ -120,16 +119,12 @@ public abstract class AbstractResource {
                         //When comparing using content, sometimes the references might be inlined into the content, try to dereference the existing content and compare as a fallback. See https://github.com/Apicurio/apicurio-registry/issues/3588 for more information.
                         //If using this method there is no matching content either, just re-throw the exception.
                         //This approach only works for schema types with dereference support (for now, only Avro in the ccompat API).
-                        amd = storage.getArtifactVersions(groupId, subject)
-                                .stream().filter(version -> {
-                                    StoredArtifactDto artifactVersion = storage.getArtifactVersion(groupId, subject, version);
-                                    Map<String, ContentHandle> artifactVersionReferences = storage.resolveReferences(artifactVersion.getReferences());
-                                    String dereferencedExistingContentSha = DigestUtils.sha256Hex(artifactTypeProvider.getContentDereferencer().dereference(artifactVersion.getContent(), artifactVersionReferences).content());
-                                    return dereferencedExistingContentSha.equals(DigestUtils.sha256Hex(schema));
-                                })
-                                .findAny()
-                                .map(version -> storage.getArtifactVersionMetaData(groupId, subject, version))
-                                .orElseThrow(() -> ex);
+                        //The dereferenced hashes of the existing content are stored, so this is a single indexed lookup.
+                        try {
+                            amd = storage.getArtifactVersionMetaDataByDereferencedHash(groupId, subject, DigestUtils.sha256Hex(schema));
+                        } catch (ArtifactNotFoundException notFound) {
+                            throw ex;
+                        }
                     } else {
                         throw ex;
                     }
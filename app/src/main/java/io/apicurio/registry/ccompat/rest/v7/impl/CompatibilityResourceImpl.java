@@ -48,9 +48,9 @@ public class CompatibilityResourceImpl extends AbstractResource implements Compa
         final boolean fverbose = verbose == null ? Boolean.FALSE : verbose;
         try {
             final List<String> versions = storage.getArtifactVersions(groupId, subject);
-            for (String version : versions) {
-                final ArtifactVersionMetaDataDto artifactVersionMetaData = storage.getArtifactVersionMetaData(groupId, subject, version);
-                rulesService.applyRules(groupId, subject, version, artifactVersionMetaData.getType(), ContentHandle.create(request.getSchema()), Collections.emptyList(), Collections.emptyMap());
+            if (!versions.isEmpty()) {
+                final ArtifactVersionMetaDataDto artifactVersionMetaData = storage.getArtifactVersionMetaData(groupId, subject, versions.get(versions.size() - 1));
+                rulesService.applyRules(groupId, subject, versions, artifactVersionMetaData.getType(), ContentHandle.create(request.getSchema()), Collections.emptyList(), Collections.emptyMap());
             }
             return CompatibilityCheckResponse.IS_COMPATIBLE;
         } catch (RuleViolationException ex) {
@@ -34,7 +34,7 @@ import io.apicurio.registry.metrics.health.liveness.ResponseErrorLivenessCheck;
 import io.apicurio.registry.metrics.health.readiness.ResponseTimeoutReadinessCheck;
 import io.apicurio.registry.storage.dto.ArtifactMetaDataDto;
 import io.apicurio.registry.storage.dto.ArtifactVersionMetaDataDto;
-import io.apicurio.registry.storage.dto.StoredArtifactDto;
+import io.apicurio.registry.storage.dto.StoredArtifactVersionDto;
 import io.apicurio.registry.storage.error.ArtifactNotFoundException;
 import io.apicurio.registry.storage.error.InvalidArtifactTypeException;
 import io.apicurio.registry.storage.error.VersionNotFoundException;
@@ -193,10 +193,9 @@ public class SubjectVersionsResourceImpl extends AbstractResource implements Sub
     protected Schema getSchema(String groupId, String subject, String versionString, boolean deleted) {
         if (doesArtifactExist(subject, groupId) && isArtifactActive(subject, groupId, SKIP_DISABLED_LATEST)) {
             return parseVersionString(subject, versionString, groupId, version -> {
-                ArtifactVersionMetaDataDto amd = storage.getArtifactVersionMetaData(groupId, subject, version);
-                if (amd.getState() != ArtifactState.DISABLED || deleted) {
-                    StoredArtifactDto storedArtifact = storage.getArtifactVersion(groupId, subject, amd.getVersion());
-                    return converter.convert(subject, storedArtifact);
+                StoredArtifactVersionDto artifactVersion = storage.getArtifactVersionContent(groupId, subject, version);
+                if (artifactVersion.getMetaData().getState() != ArtifactState.DISABLED || deleted) {
+                    return converter.convert(subject, artifactVersion.getArtifact());
                 } else {
                     throw new VersionNotFoundException(groupId, subject, version);
                 }
@@ -158,12 +158,10 @@ public class SchemagroupsResourceImpl implements SchemagroupsResource {
     @Authorized(style=AuthorizedStyle.GroupAndArtifact, level=AuthorizedLevel.Read)
     public Response getLatestSchema(String groupId, String schemaId) {
         verifyGroupExists(groupId);
-        StoredArtifactDto artifact = storage.getArtifact(groupId, schemaId);
+        StoredArtifactVersionDto artifactVersion = storage.getLatestArtifactVersionContent(groupId, schemaId);
+        String contentType = artifactVersion.getMetaData().getProperties().get(PROP_CONTENT_TYPE);
 
-        ArtifactMetaDataDto metadata = storage.getArtifactMetaData(groupId, schemaId);
-        String contentType = metadata.getProperties().get(PROP_CONTENT_TYPE);
-
-        return Response.ok(artifact.getContent(), contentType).build();
+        return Response.ok(artifactVersion.getArtifact().getContent(), contentType).build();
     }
 
     //TODO spec says: If schema with identical content already exists, existing schema's ID is returned. Our storage API does not allow to know if some content belongs to any other artifactId
@@ -248,12 +246,10 @@ public class SchemagroupsResourceImpl implements SchemagroupsResource {
     @Authorized(style=AuthorizedStyle.GroupAndArtifact, level=AuthorizedLevel.Read)
     public Response getSchemaVersion(String groupId, String schemaId, Integer versionNumber) {
         verifyGroupExists(groupId);
-        StoredArtifactDto artifact = storage.getArtifactVersion(groupId, schemaId, VersionUtil.toString(versionNumber));
-
-        ArtifactVersionMetaDataDto metadata = storage.getArtifactVersionMetaData(groupId, schemaId, VersionUtil.toString(versionNumber));
-        String contentType = metadata.getProperties().get(PROP_CONTENT_TYPE);
+        StoredArtifactVersionDto artifactVersion = storage.getArtifactVersionContent(groupId, schemaId, VersionUtil.toString(versionNumber));
+        String contentType = artifactVersion.getMetaData().getProperties().get(PROP_CONTENT_TYPE);
 
-        return Response.ok(artifact.getContent(), contentType).build();
+        return Response.ok(artifactVersion.getArtifact().getContent(), contentType).build();
     }
 
     @Override
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.content;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.apicurio.common.apps.config.Info;
+import io.apicurio.registry.metrics.MetricsConstants;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Caches compressed artifact content, so that large documents are not compressed again on every request.
+ * The content is compressed lazily, on its first request in a given encoding.  The compressed content is
+ * keyed by the content hash and the encoding.
+ * <p>
+ * The cache is bounded by the total size of the compressed content.
+ */
+@ApplicationScoped
+public class CompressedContentCache {
+
+    public static final String ENCODING_GZIP = "gzip";
+    public static final String ENCODING_BROTLI = "br";
+
+    private static final String RESULT_HIT = "hit";
+    private static final String RESULT_MISS = "miss";
+
+    private static final int BROTLI_QUALITY = 9;
+
+    @Inject
+    Logger log;
+
+    @Inject
+    MeterRegistry registry;
+
+    @ConfigProperty(name = "registry.compressed-content.cache.enabled", defaultValue = "true")
+    @Info(category = "cache", description = "Compress artifact content for clients that accept it, and cache the compressed content", availableSince = "3.0.0")
+    boolean enabled;
+
+    @ConfigProperty(name = "registry.compressed-content.cache.max-bytes", defaultValue = "52428800")
+    @Info(category = "cache", description = "Maximum total size, in bytes, of the cached compressed content", availableSince = "3.0.0")
+    long maxBytes;
+
+    @ConfigProperty(name = "registry.compressed-content.min-size", defaultValue = "2048")
+    @Info(category = "cache", description = "Minimum size, in bytes, of artifact content to be compressed", availableSince = "3.0.0")
+    int minSize;
+
+    private Cache<List<String>, byte[]> cache;
+    private boolean brotliAvailable;
+
+    private Counter hits;
+    private Counter misses;
+
+    @PostConstruct
+    void onConstruct() {
+        cache = CacheBuilder.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((List<String> key, byte[] compressed) -> compressed.length)
+                .build();
+        brotliAvailable = Brotli4jLoader.isAvailable();
+        if (enabled && !brotliAvailable) {
+            log.info("Brotli is not available, artifact content is only compressed with gzip: {}",
+                    String.valueOf(Brotli4jLoader.getUnavailabilityCause()));
+        }
+        hits = counter(RESULT_HIT);
+        misses = counter(RESULT_MISS);
+    }
+
+    private Counter counter(String result) {
+        return Counter.builder(MetricsConstants.CACHE_COMPRESSED_CONTENT)
+                .description(MetricsConstants.CACHE_COMPRESSED_CONTENT_DESCRIPTION)
+                .tag(MetricsConstants.CACHE_COMPRESSED_CONTENT_TAG_RESULT, result)
+                .register(registry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return true if content of the given size is worth compressing
+     */
+    public boolean isCompressible(int size) {
+        return size >= minSize;
+    }
+
+    /**
+     * @return the supported content encodings, in order of preference
+     */
+    public List<String> getEncodings() {
+        return brotliAvailable ? List.of(ENCODING_BROTLI, ENCODING_GZIP) : List.of(ENCODING_GZIP);
+    }
+
+    /**
+     * Gets the given content compressed with the given encoding, from the cache or by compressing it.
+     *
+     * @param contentHash the hash of the given content
+     * @param encoding one of {@link #getEncodings()}
+     */
+    public byte[] get(String contentHash, String encoding, byte[] content) {
+        List<String> key = List.of(contentHash, encoding);
+        byte[] compressed = cache.getIfPresent(key);
+        if (compressed != null) {
+            hits.increment();
+            return compressed;
+        }
+        misses.increment();
+        try {
+            // Concurrent requests for the same content wait for a single compression
+            return cache.get(key, () -> compress(encoding, content));
+        } catch (ExecutionException e) {
+            throw new UncheckedIOException((IOException) e.getCause());
+        }
+    }
+
+    private static byte[] compress(String encoding, byte[] content) throws IOException {
+        if (ENCODING_BROTLI.equals(encoding)) {
+            return Encoder.compress(content, new Encoder.Parameters().setQuality(BROTLI_QUALITY));
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(content);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.content;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.Provider;
+import org.apache.commons.codec.digest.DigestUtils;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Compresses artifact content for clients that accept a compressed response, using the
+ * {@link CompressedContentCache}.  The compressed content is keyed by the hash of the bytes of the response,
+ * rather than by its entity tag, because the same entity tag does not always identify the same bytes (e.g.
+ * content with rewritten references, that depends on the request).  Content smaller than the configured
+ * minimum size is not compressed.
+ * <p>
+ * The compressed response is not byte-for-byte the same representation as the uncompressed one, so its
+ * entity tag is made weak.
+ */
+@Provider
+@ApplicationScoped
+public class CompressedContentResponseFilter implements ContainerResponseFilter {
+
+    @Inject
+    CompressedContentCache cache;
+
+    @Override
+    public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) throws IOException {
+        if (!cache.isEnabled() || responseContext.getStatus() != Response.Status.OK.getStatusCode()
+                || !(responseContext.getEntity() instanceof ContentHandle)) {
+            return;
+        }
+        MultivaluedMap<String, Object> headers = responseContext.getHeaders();
+        if (headers.containsKey(HttpHeaders.CONTENT_ENCODING)) {
+            return;
+        }
+        headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        String encoding = negotiate(requestContext.getHeaderString(HttpHeaders.ACCEPT_ENCODING), cache.getEncodings());
+        if (encoding == null) {
+            return;
+        }
+        byte[] content = ((ContentHandle) responseContext.getEntity()).bytes();
+        if (!cache.isCompressible(content.length)) {
+            return;
+        }
+        byte[] compressed = cache.get(DigestUtils.sha256Hex(content), encoding, content);
+        responseContext.setEntity(compressed, responseContext.getEntityAnnotations(), responseContext.getMediaType());
+        headers.putSingle(HttpHeaders.CONTENT_ENCODING, encoding);
+        EntityTag tag = responseContext.getEntityTag();
+        if (tag != null) {
+            headers.putSingle(HttpHeaders.ETAG, weak(tag));
+        }
+    }
+
+    /**
+     * @return the weak entity tag with the same value as the given one
+     */
+    static EntityTag weak(EntityTag tag) {
+        return tag.isWeak() ? tag : new EntityTag(tag.getValue(), true);
+    }
+
+    /**
+     * Selects the content encoding of the response, by the quality values of the Accept-Encoding request header.
+     *
+     * @param acceptEncoding the value of the Accept-Encoding request header, may be null
+     * @param encodings the supported encodings, in order of preference
+     * @return the supported encoding accepted with the highest quality, or null if none is accepted
+     */
+    static String negotiate(String acceptEncoding, List<String> encodings) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return null;
+        }
+        Map<String, Double> accepted = new HashMap<>();
+        for (String coding : acceptEncoding.split(",")) {
+            String[] params = coding.split(";");
+            String name = params[0].trim().toLowerCase(Locale.ROOT);
+            double quality = 1;
+            for (int i = 1; i < params.length; i++) {
+                String param = params[i].trim();
+                if (param.startsWith("q=") || param.startsWith("Q=")) {
+                    try {
+                        quality = Double.parseDouble(param.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            if (!name.isEmpty()) {
+                accepted.put(name, quality);
+            }
+        }
+        String selected = null;
+        double selectedQuality = 0;
+        for (String encoding : encodings) {
+            double quality = accepted.getOrDefault(encoding, accepted.getOrDefault("*", 0d));
+            if (quality > selectedQuality) {
+                selected = encoding;
+                selectedQuality = quality;
+            }
+        }
+        return selected;
+    }
+}
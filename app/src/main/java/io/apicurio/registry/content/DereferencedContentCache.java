@@ -0,0 +1,220 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.content;
+
+import com.google.common.cache.CacheBuilder;
+import io.apicurio.common.apps.config.Info;
+import io.apicurio.registry.metrics.MetricsConstants;
+import io.apicurio.registry.storage.decorator.InvalidatingCache;
+import io.apicurio.registry.storage.decorator.RegistryStorageCacheDecoratorBase;
+import io.apicurio.registry.storage.decorator.RegistryStorageDecoratorOrderConstants;
+import io.apicurio.registry.storage.dto.ArtifactMetaDataDto;
+import io.apicurio.registry.storage.dto.ArtifactReferenceDto;
+import io.apicurio.registry.storage.dto.EditableArtifactMetaDataDto;
+import io.apicurio.registry.storage.error.RegistryStorageException;
+import io.apicurio.registry.storage.impexp.EntityInputStream;
+import io.apicurio.registry.storage.impl.sql.IdGenerator;
+import io.apicurio.registry.types.ArtifactState;
+import io.apicurio.registry.utils.impexp.ArtifactVersionEntity;
+import io.apicurio.registry.utils.impexp.ContentEntity;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Caches the content of artifact versions with their references dereferenced or rewritten, so that
+ * popular artifacts are not dereferenced on every request.  The content of a version never changes, but
+ * its references are resolved by their coordinates, so the cache is invalidated by every storage operation
+ * that creates, changes or deletes versions.  Versions changed by another registry replica (or reloaded by
+ * the GitOps storage) are picked up when the cached content expires.
+ * <p>
+ * The cache is bounded by the total size of the cached content.
+ */
+@ApplicationScoped
+public class DereferencedContentCache extends RegistryStorageCacheDecoratorBase {
+
+    private static final String RESULT_HIT = "hit";
+    private static final String RESULT_MISS = "miss";
+
+    @Inject
+    MeterRegistry registry;
+
+    @ConfigProperty(name = "registry.dereferenced-content.cache.enabled", defaultValue = "true")
+    @Info(category = "cache", description = "Dereferenced content cache enabled", availableSince = "3.0.0")
+    boolean enabled;
+
+    @ConfigProperty(name = "registry.dereferenced-content.cache.max-bytes", defaultValue = "52428800")
+    @Info(category = "cache", description = "Maximum total size, in bytes, of the cached dereferenced content", availableSince = "3.0.0")
+    long maxBytes;
+
+    @ConfigProperty(name = "registry.dereferenced-content.cache.expire-after-write", defaultValue = "PT5M")
+    @Info(category = "cache", description = "Time after which cached dereferenced content expires", availableSince = "3.0.0")
+    Duration expireAfterWrite;
+
+    private InvalidatingCache<List<Object>, ContentHandle> cache;
+
+    @PostConstruct
+    void onConstruct() {
+        cache = new InvalidatingCache<>(CacheBuilder.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((List<Object> key, ContentHandle content) -> content.getSizeBytes())
+                .expireAfterWrite(expireAfterWrite)
+                .build(), counter(RESULT_HIT), counter(RESULT_MISS));
+    }
+
+    private Counter counter(String result) {
+        return Counter.builder(MetricsConstants.CACHE_DEREFERENCED_CONTENT)
+                .description(MetricsConstants.CACHE_DEREFERENCED_CONTENT_DESCRIPTION)
+                .tag(MetricsConstants.CACHE_DEREFERENCED_CONTENT_TAG_RESULT, result)
+                .register(registry);
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.decorator.RegistryStorageDecorator#isEnabled()
+     */
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.decorator.RegistryStorageDecorator#order()
+     */
+    @Override
+    public int order() {
+        return RegistryStorageDecoratorOrderConstants.DEREFERENCED_CONTENT_CACHE_DECORATOR;
+    }
+
+    /**
+     * Gets the content of the artifact version with the given global ID, with its references handled in the
+     * given way, from the cache, or from the given supplier.
+     *
+     * @param mode how the references are handled, e.g. the name of a {@code HandleReferencesType}
+     * @param variant anything else the handled content depends on, e.g. the URLs the references are rewritten to
+     */
+    public ContentHandle get(long globalId, String mode, Object variant, Supplier<ContentHandle> supplier) {
+        if (!enabled) {
+            return supplier.get();
+        }
+        return cache.get(Arrays.asList(globalId, mode, variant), supplier);
+    }
+
+    @Override
+    public ArtifactMetaDataDto createArtifact(String groupId, String artifactId, String version, String artifactType,
+            ContentHandle content, List<ArtifactReferenceDto> references) throws RegistryStorageException {
+        return invalidateAfter(() -> super.createArtifact(groupId, artifactId, version, artifactType, content, references), cache);
+    }
+
+    @Override
+    public ArtifactMetaDataDto createArtifactWithMetadata(String groupId, String artifactId, String version, String artifactType,
+            ContentHandle content, EditableArtifactMetaDataDto metaData, List<ArtifactReferenceDto> references)
+            throws RegistryStorageException {
+        return invalidateAfter(() -> super.createArtifactWithMetadata(groupId, artifactId, version, artifactType, content,
+                metaData, references), cache);
+    }
+
+    @Override
+    public ArtifactMetaDataDto createArtifactWithMetadata(String groupId, String artifactId, String version, String artifactType,
+            String contentHash, String createdBy, Date createdOn, EditableArtifactMetaDataDto metaData,
+            IdGenerator globalIdGenerator) throws RegistryStorageException {
+        return invalidateAfter(() -> super.createArtifactWithMetadata(groupId, artifactId, version, artifactType, contentHash,
+                createdBy, createdOn, metaData, globalIdGenerator), cache);
+    }
+
+    @Override
+    public ArtifactMetaDataDto updateArtifact(String groupId, String artifactId, String version, String artifactType,
+            ContentHandle content, List<ArtifactReferenceDto> references) throws RegistryStorageException {
+        return invalidateAfter(() -> super.updateArtifact(groupId, artifactId, version, artifactType, content, references), cache);
+    }
+
+    @Override
+    public ArtifactMetaDataDto updateArtifactWithMetadata(String groupId, String artifactId, String version, String artifactType,
+            ContentHandle content, EditableArtifactMetaDataDto metaData, List<ArtifactReferenceDto> references)
+            throws RegistryStorageException {
+        return invalidateAfter(() -> super.updateArtifactWithMetadata(groupId, artifactId, version, artifactType, content,
+                metaData, references), cache);
+    }
+
+    @Override
+    public ArtifactMetaDataDto updateArtifactWithMetadata(String groupId, String artifactId, String version, String artifactType,
+            String contentHash, String createdBy, Date createdOn, EditableArtifactMetaDataDto metaData,
+            IdGenerator globalIdGenerator) throws RegistryStorageException {
+        return invalidateAfter(() -> super.updateArtifactWithMetadata(groupId, artifactId, version, artifactType, contentHash,
+                createdBy, createdOn, metaData, globalIdGenerator), cache);
+    }
+
+    @Override
+    public void updateArtifactState(String groupId, String artifactId, ArtifactState state) throws RegistryStorageException {
+        invalidateAfter(() -> super.updateArtifactState(groupId, artifactId, state), cache);
+    }
+
+    @Override
+    public void updateArtifactState(String groupId, String artifactId, String version, ArtifactState state)
+            throws RegistryStorageException {
+        invalidateAfter(() -> super.updateArtifactState(groupId, artifactId, version, state), cache);
+    }
+
+    @Override
+    public List<String> deleteArtifact(String groupId, String artifactId) throws RegistryStorageException {
+        return invalidateAfter(() -> super.deleteArtifact(groupId, artifactId), cache);
+    }
+
+    @Override
+    public void deleteArtifacts(String groupId) throws RegistryStorageException {
+        invalidateAfter(() -> super.deleteArtifacts(groupId), cache);
+    }
+
+    @Override
+    public void deleteArtifactVersion(String groupId, String artifactId, String version) throws RegistryStorageException {
+        invalidateAfter(() -> super.deleteArtifactVersion(groupId, artifactId, version), cache);
+    }
+
+    @Override
+    public void deleteGroup(String groupId) throws RegistryStorageException {
+        invalidateAfter(() -> super.deleteGroup(groupId), cache);
+    }
+
+    @Override
+    public void importData(EntityInputStream entities, boolean preserveGlobalId, boolean preserveContentId)
+            throws RegistryStorageException {
+        invalidateAfter(() -> super.importData(entities, preserveGlobalId, preserveContentId), cache);
+    }
+
+    @Override
+    public void deleteAllUserData() {
+        invalidateAfter(() -> super.deleteAllUserData(), cache);
+    }
+
+    @Override
+    public void importContent(ContentEntity entity) {
+        invalidateAfter(() -> super.importContent(entity), cache);
+    }
+
+    @Override
+    public void importArtifactVersion(ArtifactVersionEntity entity) {
+        invalidateAfter(() -> super.importArtifactVersion(entity), cache);
+    }
+}
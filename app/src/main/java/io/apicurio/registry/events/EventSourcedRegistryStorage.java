@@ -25,6 +25,7 @@ import io.apicurio.registry.storage.decorator.RegistryStorageDecoratorBase;
 import io.apicurio.registry.storage.decorator.RegistryStorageDecoratorOrderConstants;
 import io.apicurio.registry.storage.dto.*;
 import io.apicurio.registry.storage.error.*;
+import io.apicurio.registry.storage.impexp.EntityInputStream;
 import io.apicurio.registry.types.ArtifactState;
 import io.apicurio.registry.types.RuleType;
 import jakarta.enterprise.context.ApplicationScoped;
@@ -289,4 +290,22 @@ public class EventSourcedRegistryStorage extends RegistryStorageDecoratorBase im
         data.setGroupId(groupId);
         fireEvent(RegistryEventType.GROUP_DELETED, groupId, data, null);
     }
+
+    /**
+     * @see io.apicurio.registry.storage.RegistryStorage#importData(io.apicurio.registry.storage.impexp.EntityInputStream, boolean, boolean)
+     */
+    @Override
+    public void importData(EntityInputStream entities, boolean preserveGlobalId, boolean preserveContentId) throws RegistryStorageException {
+        delegate.importData(entities, preserveGlobalId, preserveContentId);
+        fireEvent(RegistryEventType.DATA_IMPORTED, null, new HashMap<String, Object>(), null);
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.RegistryStorage#deleteAllUserData()
+     */
+    @Override
+    public void deleteAllUserData() {
+        delegate.deleteAllUserData();
+        fireEvent(RegistryEventType.ALL_USER_DATA_DELETED, null, new HashMap<String, Object>(), null);
+    }
 }
@@ -0,0 +1,313 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.events.feed;
+
+import io.apicurio.common.apps.config.Info;
+import io.apicurio.registry.events.EventSink;
+import io.apicurio.registry.storage.RegistryStorage;
+import io.apicurio.registry.types.Raw;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.Message;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.sse.OutboundSseEvent;
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseEventSink;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Streams the registry events to the subscribers of the change feed, as server-sent events.  Every event has
+ * a cursor as its ID, and a subscriber that reconnects with the cursor of the last event it received gets the
+ * events it missed, as long as they are still buffered.  Otherwise, e.g. when the subscriber reconnects to a
+ * different registry replica or after a restart, it gets a reset event and must assume that anything changed.
+ * <p>
+ * The feed must have the changes made through every registry replica, so when the storage provides a
+ * {@link ChangeFeedJournal} (KafkaSQL), the events are published to it and the feed streams the events
+ * consumed from it.  Other storages have no such journal, and the events of a replica only reach its own
+ * feed, so the feed is only available when that replica is the only one: with the in-memory storage, or with
+ * the SQL storage when {@code registry.events.feed.single-replica} is set.  Otherwise subscriptions are
+ * refused, rather than silently missing the changes made through the other replicas.
+ */
+@ApplicationScoped
+public class ChangeFeed implements EventSink {
+
+    public static final String RESET_EVENT_TYPE = "io.apicurio.registry.feed-reset";
+
+    private static final String IN_MEMORY_STORAGE_NAME = "in-memory";
+    private static final String GITOPS_STORAGE_NAME = "gitops";
+
+    @Inject
+    Logger log;
+
+    @Inject
+    Vertx vertx;
+
+    @Inject
+    Instance<ChangeFeedJournal> journal;
+
+    @Inject
+    @Raw
+    RegistryStorage storage;
+
+    @ConfigProperty(name = "registry.events.feed.enabled", defaultValue = "false")
+    @Info(category = "events", description = "Change feed enabled (available with the KafkaSQL and in-memory storages, or a single replica of the SQL storage)", availableSince = "3.0.0")
+    boolean enabled;
+
+    @ConfigProperty(name = "registry.events.feed.single-replica", defaultValue = "false")
+    @Info(category = "events", description = "Change feed served by the only replica of the registry, required to enable it with the SQL storage", availableSince = "3.0.0")
+    boolean singleReplica;
+
+    @ConfigProperty(name = "registry.events.feed.buffer-size", defaultValue = "10000")
+    @Info(category = "events", description = "Number of recent events kept to resume change feed subscriptions", availableSince = "3.0.0")
+    int bufferSize;
+
+    @ConfigProperty(name = "registry.events.feed.heartbeat-interval", defaultValue = "PT5S")
+    @Info(category = "events", description = "Interval of the heartbeats that keep idle change feed subscriptions open", availableSince = "3.0.0")
+    Duration heartbeatInterval;
+
+    /**
+     * Identifies this run of this replica in the cursors, so that cursors of other runs are not resumed.
+     */
+    private final String epoch = UUID.randomUUID().toString();
+
+    private final Deque<Change> buffer = new ArrayDeque<>();
+    private long sequence;
+
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Sends the events to the subscriptions in order, so that the event bus is never blocked by a slow
+     * subscriber.
+     */
+    private ExecutorService sender;
+    private long heartbeatTimer;
+
+    @PostConstruct
+    void onConstruct() {
+        if (enabled) {
+            sender = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "registry-change-feed");
+                thread.setDaemon(true);
+                return thread;
+            });
+            heartbeatTimer = vertx.setPeriodic(heartbeatInterval.toMillis(), id -> sender.execute(this::heartbeat));
+        }
+    }
+
+    @PreDestroy
+    void onDestroy() {
+        if (enabled) {
+            vertx.cancelTimer(heartbeatTimer);
+            sender.shutdownNow();
+            subscriptions.forEach(subscription -> subscription.sink.close());
+        }
+    }
+
+    @Override
+    public String name() {
+        return "Change Feed";
+    }
+
+    @Override
+    public boolean isConfigured() {
+        return enabled;
+    }
+
+    /**
+     * Whether the feed is enabled and has the changes made through every registry replica.  The storage is
+     * only checked when there is no journal, i.e. not with KafkaSQL.  The GitOps storage is never changed
+     * through the registry, so its feed would never have any change.
+     */
+    public boolean isAvailable() {
+        if (!enabled) {
+            return false;
+        }
+        if (journal.isResolvable()) {
+            return true;
+        }
+        String storageName = storage.storageName();
+        return IN_MEMORY_STORAGE_NAME.equals(storageName) || (singleReplica && !GITOPS_STORAGE_NAME.equals(storageName));
+    }
+
+    @Override
+    public void handle(Message<Buffer> message) {
+        String type = message.headers().get("type");
+        String data = message.body().toString();
+        if (journal.isResolvable()) {
+            // Appended when consumed from the journal, in the same order on every replica
+            journal.get().publish(type, data);
+        } else {
+            append(type, data);
+        }
+    }
+
+    /**
+     * Appends an event to the feed, and sends it to the subscriptions.  Called by the journal on every
+     * replica, whether its feed is enabled or not.
+     */
+    public void append(String type, String data) {
+        if (!enabled) {
+            return;
+        }
+        Change change;
+        synchronized (buffer) {
+            change = new Change(++sequence, type, data);
+            buffer.addLast(change);
+            if (buffer.size() > bufferSize) {
+                buffer.removeFirst();
+            }
+        }
+        sender.execute(() -> {
+            for (Subscription subscription : subscriptions) {
+                subscription.send(change);
+            }
+        });
+    }
+
+    /**
+     * Subscribes to the events that follow the one with the given cursor, or to the new events if there is no
+     * cursor.
+     */
+    public void subscribe(SseEventSink sink, Sse sse, String cursor) {
+        Subscription subscription = new Subscription(sink, sse);
+        sender.execute(() -> resume(subscription, cursor));
+    }
+
+    private void resume(Subscription subscription, String cursor) {
+        List<Change> missed = new ArrayList<>();
+        boolean resumable;
+        synchronized (buffer) {
+            subscription.lastSequence = sequence;
+            Long cursorSequence = parseCursor(cursor);
+            long oldestSequence = buffer.isEmpty() ? sequence + 1 : buffer.getFirst().sequence;
+            resumable = cursorSequence != null && cursorSequence >= oldestSequence - 1 && cursorSequence <= sequence;
+            if (resumable) {
+                buffer.stream().filter(change -> change.sequence > cursorSequence).forEach(missed::add);
+                subscription.lastSequence = cursorSequence;
+            }
+        }
+        if (cursor != null && !resumable) {
+            log.debug("Change feed cursor {} can not be resumed", cursor);
+            subscription.send(subscription.sse.newEventBuilder()
+                    .id(cursor(subscription.lastSequence))
+                    .name(RESET_EVENT_TYPE)
+                    .mediaType(MediaType.APPLICATION_JSON_TYPE)
+                    .data(String.class, "{}")
+                    .build());
+        }
+        missed.forEach(subscription::send);
+        subscriptions.add(subscription);
+    }
+
+    private void heartbeat() {
+        for (Subscription subscription : subscriptions) {
+            subscription.send(subscription.sse.newEventBuilder().comment("heartbeat").build());
+        }
+    }
+
+    private String cursor(long sequence) {
+        return epoch + "-" + sequence;
+    }
+
+    /**
+     * @return the sequence number of the given cursor, or {@code null} if it is not a cursor of this run
+     */
+    private Long parseCursor(String cursor) {
+        if (cursor == null || !cursor.startsWith(epoch + "-")) {
+            return null;
+        }
+        try {
+            return Long.parseLong(cursor.substring(epoch.length() + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static class Change {
+
+        private final long sequence;
+        private final String type;
+        private final String data;
+
+        private Change(long sequence, String type, String data) {
+            this.sequence = sequence;
+            this.type = type;
+            this.data = data;
+        }
+    }
+
+    private class Subscription {
+
+        private final SseEventSink sink;
+        private final Sse sse;
+
+        /**
+         * Only accessed by the sender thread.
+         */
+        private long lastSequence;
+
+        private Subscription(SseEventSink sink, Sse sse) {
+            this.sink = sink;
+            this.sse = sse;
+        }
+
+        private void send(Change change) {
+            // Events buffered after the subscription resumed are also sent to all subscriptions
+            if (change.sequence <= lastSequence) {
+                return;
+            }
+            lastSequence = change.sequence;
+            send(sse.newEventBuilder()
+                    .id(cursor(change.sequence))
+                    .name(change.type)
+                    .mediaType(MediaType.APPLICATION_JSON_TYPE)
+                    .data(String.class, change.data)
+                    .build());
+        }
+
+        private void send(OutboundSseEvent event) {
+            if (sink.isClosed()) {
+                subscriptions.remove(this);
+                return;
+            }
+            sink.send(event).whenComplete((result, error) -> {
+                if (error != null) {
+                    log.debug("Closing change feed subscription", error);
+                    subscriptions.remove(this);
+                    sink.close();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.events.feed;
+
+/**
+ * A journal of the registry events that every registry replica consumes, e.g. the KafkaSQL topic.  When the
+ * storage provides one, the {@link ChangeFeed} publishes the events of its replica to the journal, and every
+ * replica appends the events it consumes from the journal to its feed, so that the feed of any replica has
+ * the changes made through all of them.
+ */
+public interface ChangeFeedJournal {
+
+    /**
+     * Publishes a registry event to the journal.  The journal must then pass it to
+     * {@link ChangeFeed#append(String, String)} on every replica, including this one.
+     *
+     * @param type the cloud event type of the event
+     * @param data the event data, as JSON
+     */
+    void publish(String type, String data);
+
+}
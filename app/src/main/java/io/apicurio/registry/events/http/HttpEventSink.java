@@ -16,33 +16,45 @@
 package io.apicurio.registry.events.http;
 
 import io.apicurio.registry.events.EventSink;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.eventbus.Message;
 import org.slf4j.Logger;
 
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
-import jakarta.ws.rs.core.MediaType;
-import java.net.URI;
 import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
-import java.util.UUID;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.stream.Collectors;
 
 /**
+ * Sends the registry events to the configured HTTP sinks.  Every sink has its own bounded queue and
+ * delivers its events asynchronously, see {@link HttpSinkDelivery}.
+ *
  * @author Fabian Martinez
  */
 @ApplicationScoped
 public class HttpEventSink implements EventSink {
 
-    private HttpClient httpClient;
-
     @Inject
     Logger log;
 
     @Inject
     HttpSinksConfiguration sinksConfiguration;
 
+    @Inject
+    HttpEventSinkConfiguration deliveryConfiguration;
+
+    @Inject
+    MeterRegistry registry;
+
+    private HttpClient httpClient;
+    private ScheduledExecutorService retryScheduler;
+    private List<HttpSinkDelivery> deliveries;
+
     @Override
     public String name() {
         return "HTTP Sink";
@@ -60,46 +72,34 @@ public class HttpEventSink implements EventSink {
 
         log.info("Firing event " + type);
 
-        for (HttpSinkConfiguration httpSink : sinksConfiguration.httpSinks()) {
-            sendEventHttp(type, httpSink, message.body());
+        byte[] data = message.body().getBytes();
+        for (HttpSinkDelivery delivery : getDeliveries()) {
+            delivery.offer(type, data);
         }
 
     }
 
-    private void sendEventHttp(String type, HttpSinkConfiguration httpSink, Buffer data) {
-        try {
-            log.debug("Sending event to sink " + httpSink.getName());
-
-            final HttpRequest eventRequest = HttpRequest.newBuilder()
-                    .uri(URI.create(httpSink.getEndpoint()))
-                    .version(HttpClient.Version.HTTP_1_1)
-                    .header("ce-id", UUID.randomUUID().toString())
-                    .header("ce-specversion", "1.0")
-                    .header("ce-source", "apicurio-registry")
-                    .header("ce-type", type)
-                    .header("content-type", MediaType.APPLICATION_JSON)
-                    .POST(HttpRequest.BodyPublishers.ofByteArray(data.getBytes()))
+    private synchronized List<HttpSinkDelivery> getDeliveries() {
+        if (deliveries == null) {
+            httpClient = HttpClient.newBuilder()
                     .build();
-
-            final HttpResponse<String> eventResponse = getHttpClient()
-                    .send(eventRequest, HttpResponse.BodyHandlers.ofString());
-
-            if (eventResponse.statusCode() != 200) {
-                log.warn("Error sending http event: {}", eventResponse.body());
-            }
-
-
-        } catch (Exception e) {
-            log.error("Error sending http event", e);
+            retryScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "registry-http-event-sink-retry");
+                thread.setDaemon(true);
+                return thread;
+            });
+            deliveries = sinksConfiguration.httpSinks().stream()
+                    .map(sink -> new HttpSinkDelivery(sink, httpClient, retryScheduler, deliveryConfiguration, registry, log))
+                    .collect(Collectors.toList());
         }
+        return deliveries;
     }
 
-    private synchronized HttpClient getHttpClient() {
-        if (httpClient == null) {
-            httpClient = HttpClient.newBuilder()
-                    .build();
+    @PreDestroy
+    synchronized void stop() {
+        if (retryScheduler != null) {
+            retryScheduler.shutdownNow();
         }
-        return httpClient;
     }
 
-}
\ No newline at end of file
+}
@@ -15,6 +15,7 @@
  */
 package io.apicurio.registry.events.http;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import java.util.Properties;
@@ -38,6 +39,38 @@ public class HttpEventSinkConfiguration {
     @Info(category = "events", description = "Events Kafka sink enabled", availableSince = "2.0.0.Final")
     Optional<String> ksink;
 
+    @ConfigProperty(name = "registry.events.http.queue-size", defaultValue = "1000")
+    @Info(category = "events", description = "Maximum number of events waiting to be sent to an HTTP sink, further events are dropped", availableSince = "3.0.0")
+    int queueSize;
+
+    @ConfigProperty(name = "registry.events.http.max-concurrent-requests", defaultValue = "1")
+    @Info(category = "events", description = "Maximum number of concurrent requests to an HTTP sink, events may be delivered out of order when greater than 1", availableSince = "3.0.0")
+    int maxConcurrentRequests;
+
+    @ConfigProperty(name = "registry.events.http.request-timeout", defaultValue = "PT10S")
+    @Info(category = "events", description = "Timeout of the requests to HTTP sinks", availableSince = "3.0.0")
+    Duration requestTimeout;
+
+    @ConfigProperty(name = "registry.events.http.retries", defaultValue = "5")
+    @Info(category = "events", description = "Number of times a failed request to an HTTP sink is retried before its events are dropped", availableSince = "3.0.0")
+    int retries;
+
+    @ConfigProperty(name = "registry.events.http.retry-backoff", defaultValue = "PT0.5S")
+    @Info(category = "events", description = "Backoff before the first retry of a failed request to an HTTP sink, doubled on every further retry", availableSince = "3.0.0")
+    Duration retryBackoff;
+
+    @ConfigProperty(name = "registry.events.http.max-retry-backoff", defaultValue = "PT30S")
+    @Info(category = "events", description = "Maximum backoff between retries of a failed request to an HTTP sink", availableSince = "3.0.0")
+    Duration maxRetryBackoff;
+
+    @ConfigProperty(name = "registry.events.http.batch.enabled", defaultValue = "false")
+    @Info(category = "events", description = "Send the queued events to HTTP sinks in batches, in the CloudEvents batched content mode", availableSince = "3.0.0")
+    boolean batchEnabled;
+
+    @ConfigProperty(name = "registry.events.http.batch.max-size", defaultValue = "100")
+    @Info(category = "events", description = "Maximum number of events in a batch sent to an HTTP sink", availableSince = "3.0.0")
+    int batchMaxSize;
+
     @Produces
     public HttpSinksConfiguration sinkConfig(@RegistryProperties(value = {"registry.events.sink"}) Properties properties) {
         List<HttpSinkConfiguration> httpSinks = properties.stringPropertyNames().stream()
@@ -49,5 +82,37 @@ public class HttpEventSinkConfiguration {
         return new HttpSinksConfiguration(httpSinks);
     }
 
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    public Duration getRequestTimeout() {
+        return requestTimeout;
+    }
+
+    public int getRetries() {
+        return retries;
+    }
+
+    public Duration getRetryBackoff() {
+        return retryBackoff;
+    }
+
+    public Duration getMaxRetryBackoff() {
+        return maxRetryBackoff;
+    }
+
+    public boolean isBatchEnabled() {
+        return batchEnabled;
+    }
+
+    public int getBatchMaxSize() {
+        return batchMaxSize;
+    }
+
 
 }
@@ -0,0 +1,261 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.events.http;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.apicurio.registry.metrics.MetricsConstants;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.ws.rs.core.MediaType;
+import org.slf4j.Logger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delivers the events of a single HTTP sink.  Events are queued in a bounded queue and sent
+ * asynchronously, by at most a configured number of concurrent requests, so that a slow or failing
+ * sink neither blocks the event bus nor delays the other sinks.  A failed request is retried with
+ * an exponential backoff, while it keeps its request slot, so that a failing sink fills its queue
+ * and events are then dropped instead of piling up in memory.
+ * <p>
+ * In batch mode the queued events are sent together, in the CloudEvents batched content mode,
+ * otherwise every event is sent on its own, in the CloudEvents binary content mode.
+ */
+class HttpSinkDelivery {
+
+    static final String BATCH_CONTENT_TYPE = "application/cloudevents-batch+json";
+
+    private static final String DROP_REASON_QUEUE_FULL = "queue_full";
+    private static final String DROP_REASON_FAILED = "failed";
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final HttpSinkConfiguration sink;
+    private final URI endpoint;
+    private final HttpClient httpClient;
+    private final ScheduledExecutorService retryScheduler;
+    private final HttpEventSinkConfiguration config;
+    private final Logger log;
+
+    private final Queue<Event> queue = new ArrayDeque<>();
+    private int requests;
+
+    private final Timer deliveryTimer;
+    private final Counter queueFullDrops;
+    private final Counter failedDrops;
+
+    HttpSinkDelivery(HttpSinkConfiguration sink, HttpClient httpClient, ScheduledExecutorService retryScheduler,
+                     HttpEventSinkConfiguration config, MeterRegistry registry, Logger log) {
+        this.sink = sink;
+        this.endpoint = URI.create(sink.getEndpoint());
+        this.httpClient = httpClient;
+        this.retryScheduler = retryScheduler;
+        this.config = config;
+        this.log = log;
+
+        Gauge.builder(MetricsConstants.EVENTS_HTTP_SINK_QUEUE, this, HttpSinkDelivery::queueDepth)
+                .description(MetricsConstants.EVENTS_HTTP_SINK_QUEUE_DESCRIPTION)
+                .tag(MetricsConstants.EVENTS_HTTP_SINK_TAG_NAME, sink.getName())
+                .register(registry);
+        deliveryTimer = Timer.builder(MetricsConstants.EVENTS_HTTP_SINK_DELIVERY)
+                .description(MetricsConstants.EVENTS_HTTP_SINK_DELIVERY_DESCRIPTION)
+                .tag(MetricsConstants.EVENTS_HTTP_SINK_TAG_NAME, sink.getName())
+                .register(registry);
+        queueFullDrops = dropCounter(registry, DROP_REASON_QUEUE_FULL);
+        failedDrops = dropCounter(registry, DROP_REASON_FAILED);
+    }
+
+    private Counter dropCounter(MeterRegistry registry, String reason) {
+        return Counter.builder(MetricsConstants.EVENTS_HTTP_SINK_DROPPED)
+                .description(MetricsConstants.EVENTS_HTTP_SINK_DROPPED_DESCRIPTION)
+                .tag(MetricsConstants.EVENTS_HTTP_SINK_TAG_NAME, sink.getName())
+                .tag(MetricsConstants.EVENTS_HTTP_SINK_TAG_REASON, reason)
+                .register(registry);
+    }
+
+    /**
+     * Queues the given event for delivery, or drops it if the queue is full.  Never blocks.
+     */
+    void offer(String type, byte[] data) {
+        synchronized (queue) {
+            if (queue.size() >= config.getQueueSize()) {
+                queueFullDrops.increment();
+                log.warn("Dropping event {}, the queue of http sink {} is full", type, sink.getName());
+                return;
+            }
+            queue.add(new Event(UUID.randomUUID().toString(), type, data, System.nanoTime()));
+        }
+        dispatch();
+    }
+
+    private void dispatch() {
+        while (true) {
+            List<Event> events;
+            synchronized (queue) {
+                if (queue.isEmpty() || requests >= config.getMaxConcurrentRequests()) {
+                    return;
+                }
+                int size = config.isBatchEnabled() ? Math.min(queue.size(), config.getBatchMaxSize()) : 1;
+                events = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    events.add(queue.poll());
+                }
+                requests++;
+            }
+            send(events, 0);
+        }
+    }
+
+    private void send(List<Event> events, int attempt) {
+        HttpRequest request;
+        try {
+            request = createRequest(events);
+        } catch (RuntimeException e) {
+            log.error("Error creating http event request for sink " + sink.getName(), e);
+            drop(events);
+            return;
+        }
+        log.debug("Sending {} event(s) to sink {}", events.size(), sink.getName());
+        httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .whenComplete((response, error) -> {
+                    if (error == null && response.statusCode() / 100 == 2) {
+                        long now = System.nanoTime();
+                        events.forEach(event -> deliveryTimer.record(now - event.queuedNanos, TimeUnit.NANOSECONDS));
+                        release();
+                    } else if (attempt < config.getRetries()) {
+                        if (error != null) {
+                            log.debug("Error sending http event to sink {}, retrying", sink.getName(), error);
+                        } else {
+                            log.debug("Error sending http event to sink {}, retrying: {}", sink.getName(), response.body());
+                        }
+                        try {
+                            retryScheduler.schedule(() -> send(events, attempt + 1), backoff(attempt), TimeUnit.MILLISECONDS);
+                        } catch (RejectedExecutionException e) {
+                            // Shutting down
+                            drop(events);
+                        }
+                    } else {
+                        if (error != null) {
+                            log.error("Error sending http event to sink " + sink.getName(), error);
+                        } else {
+                            log.warn("Error sending http event to sink {}: {}", sink.getName(), response.body());
+                        }
+                        drop(events);
+                    }
+                });
+    }
+
+    private long backoff(int attempt) {
+        long backoff = config.getRetryBackoff().toMillis() << Math.min(attempt, 30);
+        return Math.min(backoff, config.getMaxRetryBackoff().toMillis());
+    }
+
+    private void drop(List<Event> events) {
+        failedDrops.increment(events.size());
+        release();
+    }
+
+    private void release() {
+        synchronized (queue) {
+            requests--;
+        }
+        dispatch();
+    }
+
+    private HttpRequest createRequest(List<Event> events) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder()
+                .uri(endpoint)
+                .version(HttpClient.Version.HTTP_1_1)
+                .timeout(config.getRequestTimeout());
+        if (config.isBatchEnabled()) {
+            return builder
+                    .header("content-type", BATCH_CONTENT_TYPE)
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(toBatch(events)))
+                    .build();
+        }
+        Event event = events.get(0);
+        return builder
+                .header("ce-id", event.id)
+                .header("ce-specversion", "1.0")
+                .header("ce-source", "apicurio-registry")
+                .header("ce-type", event.type)
+                .header("content-type", MediaType.APPLICATION_JSON)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(event.data))
+                .build();
+    }
+
+    private static byte[] toBatch(List<Event> events) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(out)) {
+            generator.writeStartArray();
+            for (Event event : events) {
+                generator.writeStartObject();
+                generator.writeStringField("specversion", "1.0");
+                generator.writeStringField("id", event.id);
+                generator.writeStringField("source", "apicurio-registry");
+                generator.writeStringField("type", event.type);
+                generator.writeStringField("datacontenttype", MediaType.APPLICATION_JSON);
+                generator.writeFieldName("data");
+                generator.writeRawValue(new String(event.data, StandardCharsets.UTF_8));
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private int queueDepth() {
+        synchronized (queue) {
+            return queue.size();
+        }
+    }
+
+    private static class Event {
+
+        final String id;
+        final String type;
+        final byte[] data;
+        final long queuedNanos;
+
+        Event(String id, String type, byte[] data, long queuedNanos) {
+            this.id = id;
+            this.type = type;
+            this.data = data;
+            this.queuedNanos = queuedNanos;
+        }
+    }
+}
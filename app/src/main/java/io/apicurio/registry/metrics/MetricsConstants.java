@@ -36,4 +36,77 @@ public interface MetricsConstants {
 
     String STORAGE_METHOD_CALL_TAG_METHOD = "method";
     String STORAGE_METHOD_CALL_TAG_SUCCESS = "success";
+
+    // Storage datasources
+
+    String STORAGE_DATASOURCE_HANDLE = STORAGE_PREFIX + "datasource.handle";
+    String STORAGE_DATASOURCE_HANDLE_DESCRIPTION = "Timing of database handles, per datasource";
+
+    String STORAGE_DATASOURCE_CONNECTIONS_ACTIVE = STORAGE_PREFIX + "datasource.connections.active";
+    String STORAGE_DATASOURCE_CONNECTIONS_ACTIVE_DESCRIPTION = "Number of active connections, per datasource";
+
+    String STORAGE_DATASOURCE_CONNECTIONS_AVAILABLE = STORAGE_PREFIX + "datasource.connections.available";
+    String STORAGE_DATASOURCE_CONNECTIONS_AVAILABLE_DESCRIPTION = "Number of idle connections available, per datasource";
+
+    String STORAGE_DATASOURCE_TAG_NAME = "datasource";
+
+    // Storage SQL statements
+
+    String STORAGE_SQL_STATEMENT = STORAGE_PREFIX + "sql.statement";
+    String STORAGE_SQL_STATEMENT_DESCRIPTION = "Timing of SQL statement executions";
+
+    String STORAGE_SQL_STATEMENT_ROWS = STORAGE_SQL_STATEMENT + ".rows";
+    String STORAGE_SQL_STATEMENT_ROWS_DESCRIPTION = "Number of rows returned or affected by SQL statement executions";
+
+    String STORAGE_SQL_STATEMENT_TAG_NAME = "statement";
+
+    // Rules
+
+    String RULES_PREFIX = "rules.";
+    String RULES_COMPATIBILITY_MEMO = RULES_PREFIX + "compatibility.memo";
+    String RULES_COMPATIBILITY_MEMO_DESCRIPTION = "Lookups of memoized compatibility check results, by the tier that answered them";
+
+    String RULES_COMPATIBILITY_MEMO_TAG_RESULT = "result";
+
+    // Auth
+
+    String AUTH_PREFIX = "auth.";
+    String AUTH_AUTHORIZATION = AUTH_PREFIX + "authorization";
+    String AUTH_AUTHORIZATION_DESCRIPTION = "Timing and results of authorization checks of REST API operations";
+
+    String AUTH_AUTHORIZATION_TAG_RESULT = "result";
+
+    // Caches
+
+    String CACHE_PREFIX = "cache.";
+    String CACHE_DEREFERENCED_CONTENT = CACHE_PREFIX + "dereferenced.content";
+    String CACHE_DEREFERENCED_CONTENT_DESCRIPTION = "Lookups of dereferenced and rewritten content in the cache, by whether they hit the cache";
+
+    String CACHE_DEREFERENCED_CONTENT_TAG_RESULT = "result";
+
+    String CACHE_COMPRESSED_CONTENT = CACHE_PREFIX + "compressed.content";
+    String CACHE_COMPRESSED_CONTENT_DESCRIPTION = "Lookups of compressed content in the cache, by whether they hit the cache";
+
+    String CACHE_COMPRESSED_CONTENT_TAG_RESULT = "result";
+
+    String CACHE_AUTHORIZATION = CACHE_PREFIX + "authorization";
+    String CACHE_AUTHORIZATION_DESCRIPTION = "Lookups of role and ownership authorization decisions in the cache, by whether they hit the cache";
+
+    String CACHE_AUTHORIZATION_TAG_DECISION = "decision";
+    String CACHE_AUTHORIZATION_TAG_RESULT = "result";
+
+    // Events
+
+    String EVENTS_PREFIX = "events.";
+    String EVENTS_HTTP_SINK_QUEUE = EVENTS_PREFIX + "http.sink.queue";
+    String EVENTS_HTTP_SINK_QUEUE_DESCRIPTION = "Number of events waiting to be sent, per HTTP sink";
+
+    String EVENTS_HTTP_SINK_DELIVERY = EVENTS_PREFIX + "http.sink.delivery";
+    String EVENTS_HTTP_SINK_DELIVERY_DESCRIPTION = "Time from queueing to successful delivery of events, per HTTP sink";
+
+    String EVENTS_HTTP_SINK_DROPPED = EVENTS_PREFIX + "http.sink.dropped";
+    String EVENTS_HTTP_SINK_DROPPED_DESCRIPTION = "Number of events dropped, per HTTP sink, because its queue was full or all retries failed";
+
+    String EVENTS_HTTP_SINK_TAG_NAME = "sink";
+    String EVENTS_HTTP_SINK_TAG_REASON = "reason";
 }
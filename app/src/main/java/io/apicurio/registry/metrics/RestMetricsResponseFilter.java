@@ -31,6 +31,10 @@ import jakarta.ws.rs.container.ResourceInfo;
 import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.ext.Provider;
 import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.regex.Pattern;
 
 import static io.apicurio.registry.metrics.MetricsConstants.REST_REQUESTS;
@@ -75,40 +79,41 @@ public class RestMetricsResponseFilter implements ContainerRequestFilter, Contai
         }
     }
 
+    private static final String[] STATUS_GROUPS = { "", "1xx", "2xx", "3xx", "4xx", "5xx" };
+
+    /**
+     * The meters of each resource method and HTTP method, resolved on the first response of each status
+     * group.  Keyed by the resource method, or by this filter class for requests that matched no resource
+     * method.
+     */
+    private final Map<Object, ResourceMeters> meters = new ConcurrentHashMap<>();
+
     @Override
     public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext)
             throws IOException {
 
-        if (requestContext.getProperty(TIMER_SAMPLE_CONTEXT_PROPERTY_NAME) == null) {
+        Timer.Sample sample = (Timer.Sample) requestContext.getProperty(TIMER_SAMPLE_CONTEXT_PROPERTY_NAME);
+        if (sample == null) {
             return;
         }
 
-        Timer timer = Timer
-                .builder(REST_REQUESTS)
-                .description(REST_REQUESTS_DESCRIPTION)
-                .tag(REST_REQUESTS_TAG_PATH, this.getPath())
-                .tag(REST_REQUESTS_TAG_METHOD, requestContext.getMethod())
-                .tag(REST_REQUESTS_TAG_STATUS_CODE_FAMILY, this.getStatusGroup(responseContext.getStatus()))
-                .register(registry);
+        Method resourceMethod = resourceInfo.getResourceMethod();
+        Object key = resourceMethod != null ? resourceMethod : RestMetricsResponseFilter.class;
+        ResourceMeters resourceMeters = meters.get(key);
+        if (resourceMeters == null) {
+            resourceMeters = meters.computeIfAbsent(key, k -> new ResourceMeters(this.getPath()));
+        }
+        Meters statusMeters = resourceMeters.get(requestContext.getMethod(), this.getStatusGroupIndex(responseContext.getStatus()));
 
-        Timer.Sample sample = (Timer.Sample) requestContext.getProperty(TIMER_SAMPLE_CONTEXT_PROPERTY_NAME);
-        sample.stop(timer);
-
-        Counter.builder(REST_REQUESTS_COUNTER)
-                .description(REST_REQUESTS_COUNTER_DESCRIPTION)
-                .tag(REST_REQUESTS_TAG_PATH, this.getPath())
-                .tag(REST_REQUESTS_TAG_METHOD, requestContext.getMethod())
-                .tag(REST_REQUESTS_TAG_STATUS_CODE_FAMILY, this.getStatusGroup(responseContext.getStatus()))
-                .register(registry)
-                .increment();
+        sample.stop(statusMeters.timer);
+        statusMeters.counter.increment();
     }
 
-    private String getStatusGroup(int statusCode) {
+    private int getStatusGroupIndex(int statusCode) {
         if (statusCode < 100 || statusCode >= 600) {
-            return "";
+            return 0;
         }
-        int statusCodeGroup = statusCode / 100;
-        return String.format("%dxx", statusCodeGroup);
+        return statusCode / 100;
     }
 
     private String getPath() {
@@ -116,13 +121,66 @@ public class RestMetricsResponseFilter implements ContainerRequestFilter, Contai
     }
 
     private String getResourceClassPath() {
-        Path classPath = resourceInfo.getResourceClass().getAnnotation(Path.class);
+        Class<?> resourceClass = resourceInfo.getResourceClass();
+        Path classPath = resourceClass != null ? resourceClass.getAnnotation(Path.class) : null;
         return classPath != null ? classPath.value() : "";
     }
 
     private String getResourceMethodPath() {
-        Path methodPath = resourceInfo.getResourceMethod().getAnnotation(Path.class);
+        Method resourceMethod = resourceInfo.getResourceMethod();
+        Path methodPath = resourceMethod != null ? resourceMethod.getAnnotation(Path.class) : null;
         return methodPath != null ? methodPath.value() : "";
     }
 
+    private class ResourceMeters {
+
+        private final String path;
+
+        /**
+         * Per HTTP method, the meters per status group (indexed like {@link RestMetricsResponseFilter#STATUS_GROUPS}).  A resource
+         * method is almost always called with a single HTTP method (or HEAD).
+         */
+        private final Map<String, AtomicReferenceArray<Meters>> byHttpMethod = new ConcurrentHashMap<>(2);
+
+        ResourceMeters(String path) {
+            this.path = path;
+        }
+
+        Meters get(String httpMethod, int statusGroupIndex) {
+            AtomicReferenceArray<Meters> byStatusGroup = byHttpMethod.get(httpMethod);
+            if (byStatusGroup == null) {
+                byStatusGroup = byHttpMethod.computeIfAbsent(httpMethod, m -> new AtomicReferenceArray<>(STATUS_GROUPS.length));
+            }
+            Meters result = byStatusGroup.get(statusGroupIndex);
+            if (result == null) {
+                // Registering the same meters again is harmless, the registry returns the existing ones
+                result = new Meters(path, httpMethod, STATUS_GROUPS[statusGroupIndex]);
+                byStatusGroup.set(statusGroupIndex, result);
+            }
+            return result;
+        }
+    }
+
+    private class Meters {
+
+        private final Timer timer;
+        private final Counter counter;
+
+        Meters(String path, String httpMethod, String statusGroup) {
+            this.timer = Timer
+                    .builder(REST_REQUESTS)
+                    .description(REST_REQUESTS_DESCRIPTION)
+                    .tag(REST_REQUESTS_TAG_PATH, path)
+                    .tag(REST_REQUESTS_TAG_METHOD, httpMethod)
+                    .tag(REST_REQUESTS_TAG_STATUS_CODE_FAMILY, statusGroup)
+                    .register(registry);
+            this.counter = Counter.builder(REST_REQUESTS_COUNTER)
+                    .description(REST_REQUESTS_COUNTER_DESCRIPTION)
+                    .tag(REST_REQUESTS_TAG_PATH, path)
+                    .tag(REST_REQUESTS_TAG_METHOD, httpMethod)
+                    .tag(REST_REQUESTS_TAG_STATUS_CODE_FAMILY, statusGroup)
+                    .register(registry);
+        }
+    }
+
 }
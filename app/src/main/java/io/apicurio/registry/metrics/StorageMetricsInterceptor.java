@@ -1,5 +1,6 @@
 package io.apicurio.registry.metrics;
 
+import io.micrometer.core.instrument.Clock;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import org.eclipse.microprofile.context.ThreadContext;
@@ -9,7 +10,10 @@ import jakarta.interceptor.AroundInvoke;
 import jakarta.interceptor.Interceptor;
 import jakarta.interceptor.InvocationContext;
 import java.lang.reflect.Method;
+import java.util.Map;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 import static io.apicurio.registry.metrics.MetricsConstants.STORAGE_METHOD_CALL;
 import static io.apicurio.registry.metrics.MetricsConstants.STORAGE_METHOD_CALL_DESCRIPTION;
@@ -31,13 +35,20 @@ public class StorageMetricsInterceptor {
     @Inject
     ThreadContext threadContext;
 
+    /**
+     * The timers of each intercepted method, resolved on its first call.
+     */
+    private final Map<Method, MethodTimers> timers = new ConcurrentHashMap<>();
+
     @AroundInvoke
     public Object intercept(InvocationContext context) throws Exception {
 
         Exception exception = null;
         Object result = null;
 
-        Timer.Sample sample = Timer.start(registry);
+        MethodTimers methodTimers = getTimers(context.getMethod());
+        Clock clock = registry.config().clock();
+        long start = clock.monotonicTime();
 
         try {
             result = context.proceed();
@@ -46,29 +57,66 @@ public class StorageMetricsInterceptor {
         }
 
         if (exception != null) {
-            this.record(sample, context.getMethod(), false);
+            record(methodTimers.failure(), clock, start);
             throw exception;
         }
 
         if (result instanceof CompletionStage) {
             CompletionStage<?> r = (CompletionStage<?>) result;
             threadContext.withContextCapture(r).whenComplete((ok, ex) ->
-                this.record(sample, context.getMethod(), ex == null)); // TODO
+                record(ex == null ? methodTimers.success : methodTimers.failure(), clock, start)); // TODO
             return r;
         }
 
-        this.record(sample, context.getMethod(), true);
+        record(methodTimers.success, clock, start);
         return result;
     }
 
-    private void record(Timer.Sample sample, Method method, boolean success) {
-        Timer timer = Timer
+    private static void record(Timer timer, Clock clock, long start) {
+        timer.record(clock.monotonicTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private MethodTimers getTimers(Method method) {
+        MethodTimers methodTimers = timers.get(method);
+        if (methodTimers == null) {
+            methodTimers = timers.computeIfAbsent(method, m -> new MethodTimers(getMethodString(m)));
+        }
+        return methodTimers;
+    }
+
+    private Timer timer(String method, boolean success) {
+        return Timer
             .builder(STORAGE_METHOD_CALL)
             .description(STORAGE_METHOD_CALL_DESCRIPTION)
-            .tag(STORAGE_METHOD_CALL_TAG_METHOD, getMethodString(method))
+            .tag(STORAGE_METHOD_CALL_TAG_METHOD, method)
             .tag(STORAGE_METHOD_CALL_TAG_SUCCESS, String.valueOf(success))
             .register(registry);
-        sample.stop(timer);
+    }
+
+    /**
+     * The timer of the failed calls is only registered on the first failure, so that methods that never
+     * fail do not publish an empty timer.
+     */
+    private class MethodTimers {
+
+        private final String method;
+        private final Timer success;
+        private volatile Timer failure;
+
+        private MethodTimers(String method) {
+            this.method = method;
+            this.success = timer(method, true);
+        }
+
+        private Timer failure() {
+            Timer timer = failure;
+            if (timer == null) {
+                // The registry returns the already registered timer if two threads get here
+                timer = timer(method, false);
+                failure = timer;
+            }
+            return timer;
+        }
     }
 
     private static String getMethodString(Method method) {
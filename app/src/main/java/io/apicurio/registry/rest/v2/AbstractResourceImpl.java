@@ -33,6 +33,7 @@ import org.slf4j.Logger;
 
 import io.apicurio.common.apps.config.Info;
 import io.apicurio.registry.content.ContentHandle;
+import io.apicurio.registry.content.DereferencedContentCache;
 import io.apicurio.registry.content.dereference.ContentDereferencer;
 import io.apicurio.registry.content.refs.JsonPointerExternalReference;
 import io.apicurio.registry.rest.v2.beans.HandleReferencesType;
@@ -58,6 +59,9 @@ public abstract class AbstractResourceImpl {
     @Inject
     ArtifactTypeUtilProviderFactory factory;
 
+    @Inject
+    DereferencedContentCache dereferencedContentCache;
+
     @Context
     HttpServletRequest request;
 
@@ -68,25 +72,33 @@ public abstract class AbstractResourceImpl {
     /**
      * Handle the content references based on the value of "HandleReferencesType" - this can either mean
      * we need to fully dereference the content, or we need to rewrite the references, or we do nothing.
+     * Dereferenced and rewritten content is cached by the global ID of the artifact version.
      * @param referencesType
-     * @param metaData
-     * @param artifact
+     * @param globalId
+     * @param artifactType
      * @param content
+     * @param references
      */
-    protected ContentHandle handleContentReferences(HandleReferencesType referencesType, String artifactType, 
+    protected ContentHandle handleContentReferences(HandleReferencesType referencesType, long globalId, String artifactType,
             ContentHandle content, List<ArtifactReferenceDto> references) {
         // Dereference or rewrite references
         if (!references.isEmpty()) {
             if (referencesType == HandleReferencesType.DEREFERENCE) {
-                ArtifactTypeUtilProvider artifactTypeProvider = factory.getArtifactTypeProvider(artifactType);
-                ContentDereferencer contentDereferencer = artifactTypeProvider.getContentDereferencer();
-                Map<String, ContentHandle> resolvedReferences = storage.resolveReferences(references);
-                content = contentDereferencer.dereference(content, resolvedReferences);
+                ContentHandle original = content;
+                content = dereferencedContentCache.get(globalId, referencesType.name(), null, () -> {
+                    ArtifactTypeUtilProvider artifactTypeProvider = factory.getArtifactTypeProvider(artifactType);
+                    ContentDereferencer contentDereferencer = artifactTypeProvider.getContentDereferencer();
+                    Map<String, ContentHandle> resolvedReferences = storage.resolveReferences(references);
+                    return contentDereferencer.dereference(original, resolvedReferences);
+                });
             } else if (referencesType == HandleReferencesType.REWRITE) {
-                ArtifactTypeUtilProvider artifactTypeProvider = factory.getArtifactTypeProvider(artifactType);
-                ContentDereferencer contentDereferencer = artifactTypeProvider.getContentDereferencer();
+                ContentHandle original = content;
                 Map<String, String> resolvedReferenceUrls = resolveReferenceUrls(references);
-                content = contentDereferencer.rewriteReferences(content, resolvedReferenceUrls);
+                content = dereferencedContentCache.get(globalId, referencesType.name(), resolvedReferenceUrls, () -> {
+                    ArtifactTypeUtilProvider artifactTypeProvider = factory.getArtifactTypeProvider(artifactType);
+                    ContentDereferencer contentDereferencer = artifactTypeProvider.getContentDereferencer();
+                    return contentDereferencer.rewriteReferences(original, resolvedReferenceUrls);
+                });
             }
         }
         return content;
@@ -119,6 +131,24 @@ public abstract class AbstractResourceImpl {
      * @param reference
      */
     protected String resolveReferenceUrl(ArtifactReferenceDto reference) {
+        URI baseHref = resolveApiBaseHref();
+        if (baseHref == null) {
+            return null;
+        }
+
+        String path = String.format("/apis/registry/v2/groups/%s/artifacts/%s/versions/%s?references=REWRITE",
+                URLEncoder.encode(reference.getGroupId(), StandardCharsets.UTF_8),
+                URLEncoder.encode(reference.getArtifactId(), StandardCharsets.UTF_8),
+                URLEncoder.encode(reference.getVersion(), StandardCharsets.UTF_8));
+        return baseHref.resolve(path).toString();
+    }
+
+    /**
+     * Resolves the base href of the REST API, either configured or from the current request.  Content with
+     * rewritten references depends on it.
+     * @return the base href, or null if it can't be determined
+     */
+    protected URI resolveApiBaseHref() {
         URI baseHref = null;
         try {
             if (!"_".equals(apiBaseHref)) {
@@ -136,14 +166,8 @@ public abstract class AbstractResourceImpl {
         
         if (baseHref == null) {
             this.log.warn("Failed to determine baseHref for the REST API.");
-            return null;
         }
-
-        String path = String.format("/apis/registry/v2/groups/%s/artifacts/%s/versions/%s?references=REWRITE",
-                URLEncoder.encode(reference.getGroupId(), StandardCharsets.UTF_8),
-                URLEncoder.encode(reference.getArtifactId(), StandardCharsets.UTF_8),
-                URLEncoder.encode(reference.getVersion(), StandardCharsets.UTF_8));
-        return baseHref.resolve(path).toString();
+        return baseHref;
     }
 
     /**
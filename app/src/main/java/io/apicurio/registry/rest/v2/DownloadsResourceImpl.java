@@ -23,6 +23,7 @@ import io.apicurio.registry.auth.AuthorizedStyle;
 import io.apicurio.registry.metrics.health.liveness.ResponseErrorLivenessCheck;
 import io.apicurio.registry.metrics.health.readiness.ResponseTimeoutReadinessCheck;
 import io.apicurio.registry.rest.v2.shared.DataExporter;
+import io.apicurio.registry.rest.v2.shared.ExportProgress;
 import io.apicurio.registry.storage.RegistryStorage;
 import io.apicurio.registry.storage.dto.DownloadContextDto;
 import io.apicurio.registry.storage.dto.DownloadContextType;
@@ -35,6 +36,7 @@ import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 
 /**
@@ -60,7 +62,7 @@ public class DownloadsResourceImpl {
     public Response download(@PathParam("downloadId") String downloadId) {
         DownloadContextDto downloadContext = storage.consumeDownload(downloadId);
         if (downloadContext.getType() == DownloadContextType.EXPORT) {
-            return exporter.exportData();
+            return exporter.exportData(downloadId);
         }
 
         // TODO support other types of downloads (e.g. download content by contentId)
@@ -68,6 +70,19 @@ public class DownloadsResourceImpl {
         throw new DownloadNotFoundException();
     }
 
+    /**
+     * Gets the progress of the export streamed by the download with the given ID, while the export is
+     * running and for a while after it finished.
+     * @param downloadId
+     */
+    @Authorized(style=AuthorizedStyle.None, level=AuthorizedLevel.None)
+    @GET
+    @Path("{downloadId}/progress")
+    @Produces(MediaType.APPLICATION_JSON)
+    public ExportProgress getProgress(@PathParam("downloadId") String downloadId) {
+        return exporter.getProgress(downloadId).orElseThrow(DownloadNotFoundException::new);
+    }
+
     /**
      * A duplicate version of the above that will allow a filename to be added
      * for download purposes.  So e.g. /apis/registry/v2/downloads/ABCD-1234 can
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.rest.v2;
+
+import io.apicurio.common.apps.logging.Logged;
+import io.apicurio.registry.auth.Authorized;
+import io.apicurio.registry.auth.AuthorizedLevel;
+import io.apicurio.registry.auth.AuthorizedStyle;
+import io.apicurio.registry.events.feed.ChangeFeed;
+import io.apicurio.registry.metrics.health.liveness.ResponseErrorLivenessCheck;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.interceptor.Interceptors;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseEventSink;
+
+/**
+ * The change feed, as server-sent events.  Not part of the OpenAPI specification of the API, because a
+ * subscription is a long-lived stream of events rather than a response.
+ */
+@ApplicationScoped
+@Interceptors({ResponseErrorLivenessCheck.class})
+@Logged
+@Path("/apis/registry/v2/events")
+public class EventsResourceImpl {
+
+    @Inject
+    ChangeFeed changeFeed;
+
+    /**
+     * Subscribes to the changes of the registry.  A subscriber that reconnects passes the ID of the last event
+     * it received, either as the standard {@code Last-Event-ID} header or as the {@code cursor} query parameter.
+     * Subscriptions are refused when the feed can not have the changes made through every replica, see
+     * {@link ChangeFeed}.
+     */
+    @Authorized(style=AuthorizedStyle.None, level=AuthorizedLevel.Read)
+    @GET
+    @Produces(MediaType.SERVER_SENT_EVENTS)
+    public void subscribe(@HeaderParam(HttpHeaders.LAST_EVENT_ID_HEADER) String lastEventId, @QueryParam("cursor") String cursor,
+                          @Context SseEventSink sink, @Context Sse sse) {
+        if (!changeFeed.isConfigured()) {
+            throw new NotFoundException("The change feed is not enabled.");
+        }
+        if (!changeFeed.isAvailable()) {
+            // Subscribers stop on a 404, rather than relying on a feed that misses the changes of other replicas
+            throw new NotFoundException("The change feed is not available, because this registry replica can not see the changes made through the other replicas.");
+        }
+        changeFeed.subscribe(sink, sse, lastEventId != null ? lastEventId : cursor);
+    }
+
+}
@@ -23,6 +23,7 @@ import io.apicurio.registry.auth.Authorized;
 import io.apicurio.registry.auth.AuthorizedLevel;
 import io.apicurio.registry.auth.AuthorizedStyle;
 import io.apicurio.registry.content.ContentHandle;
+import io.apicurio.registry.content.ParsedContentHandle;
 import io.apicurio.registry.metrics.health.liveness.ResponseErrorLivenessCheck;
 import io.apicurio.registry.metrics.health.readiness.ResponseTimeoutReadinessCheck;
 import io.apicurio.registry.rest.HeadersHack;
@@ -116,16 +117,17 @@ public class GroupsResourceImpl extends AbstractResourceImpl implements GroupsRe
             references = HandleReferencesType.PRESERVE;
         }
 
-        ArtifactMetaDataDto metaData = storage.getArtifactMetaData(defaultGroupIdToNull(groupId), artifactId);
+        StoredArtifactVersionDto latest = storage.getLatestArtifactVersionContent(defaultGroupIdToNull(groupId), artifactId);
+        ArtifactVersionMetaDataDto metaData = latest.getMetaData();
         if (ArtifactState.DISABLED.equals(metaData.getState())) {
             throw new ArtifactNotFoundException(groupId, artifactId);
         }
-        StoredArtifactDto artifact = storage.getArtifact(defaultGroupIdToNull(groupId), artifactId);
+        StoredArtifactDto artifact = latest.getArtifact();
 
         MediaType contentType = factory.getArtifactMediaType(metaData.getType());
 
         ContentHandle contentToReturn = artifact.getContent();
-        contentToReturn = handleContentReferences(references, metaData.getType(), contentToReturn, artifact.getReferences());  
+        contentToReturn = handleContentReferences(references, artifact.getGlobalId(), metaData.getType(), contentToReturn, artifact.getReferences());  
         
         Response.ResponseBuilder builder = Response.ok(contentToReturn, contentType);
         checkIfDeprecated(metaData::getState, groupId, artifactId, metaData.getVersion(), builder);
@@ -506,16 +508,17 @@ public class GroupsResourceImpl extends AbstractResourceImpl implements GroupsRe
             references = HandleReferencesType.PRESERVE;
         }
 
-        ArtifactVersionMetaDataDto metaData = storage.getArtifactVersionMetaData(defaultGroupIdToNull(groupId), artifactId, version);
+        StoredArtifactVersionDto artifactVersion = storage.getArtifactVersionContent(defaultGroupIdToNull(groupId), artifactId, version);
+        ArtifactVersionMetaDataDto metaData = artifactVersion.getMetaData();
         if (ArtifactState.DISABLED.equals(metaData.getState())) {
             throw new VersionNotFoundException(groupId, artifactId, version);
         }
-        StoredArtifactDto artifact = storage.getArtifactVersion(defaultGroupIdToNull(groupId), artifactId, version);
+        StoredArtifactDto artifact = artifactVersion.getArtifact();
 
         MediaType contentType = factory.getArtifactMediaType(metaData.getType());
 
         ContentHandle contentToReturn = artifact.getContent();
-        contentToReturn = handleContentReferences(references, metaData.getType(), contentToReturn, artifact.getReferences());  
+        contentToReturn = handleContentReferences(references, artifact.getGlobalId(), metaData.getType(), contentToReturn, artifact.getReferences());  
 
         Response.ResponseBuilder builder = Response.ok(contentToReturn, contentType);
         checkIfDeprecated(metaData::getState, groupId, artifactId, version, builder);
@@ -885,6 +888,8 @@ public class GroupsResourceImpl extends AbstractResourceImpl implements GroupsRe
                     (ContentTypeUtil.isApplicationCreateExtended(ct) && ContentTypeUtil.isParsableYaml(content))) {
                 content = ContentTypeUtil.yamlToJson(content);
             }
+            // Parse the content only once, for the type discovery, the rules and the storage
+            content = ParsedContentHandle.of(content);
 
             String artifactType = ArtifactTypeUtil.determineArtifactType(content, xRegistryArtifactType, ct, factory.getAllArtifactTypes());
 
@@ -983,6 +988,8 @@ public class GroupsResourceImpl extends AbstractResourceImpl implements GroupsRe
         if (ContentTypeUtil.isApplicationYaml(ct)) {
             content = ContentTypeUtil.yamlToJson(content);
         }
+        // Parse the content only once, for the rules and the storage
+        content = ParsedContentHandle.of(content);
 
         //Transform the given references into dtos and set the contentId, this will also detect if any of the passed references does not exist.
         final List<ArtifactReferenceDto> referencesAsDtos = toReferenceDtos(references);
@@ -1091,6 +1098,8 @@ public class GroupsResourceImpl extends AbstractResourceImpl implements GroupsRe
         if (ContentTypeUtil.isApplicationYaml(contentType)) {
             content = ContentTypeUtil.yamlToJson(content);
         }
+        // Parse the content only once, for the rules and the storage
+        content = ParsedContentHandle.of(content);
 
         String artifactType = lookupArtifactType(groupId, artifactId);
 
@@ -16,6 +16,7 @@
 
 package io.apicurio.registry.rest.v2;
 
+import io.apicurio.common.apps.config.Info;
 import io.apicurio.common.apps.logging.Logged;
 import io.apicurio.registry.auth.Authorized;
 import io.apicurio.registry.auth.AuthorizedLevel;
@@ -25,22 +26,43 @@ import io.apicurio.registry.metrics.health.liveness.ResponseErrorLivenessCheck;
 import io.apicurio.registry.metrics.health.readiness.ResponseTimeoutReadinessCheck;
 import io.apicurio.registry.rest.HeadersHack;
 import io.apicurio.registry.rest.v2.beans.ArtifactReference;
+import io.apicurio.registry.rest.v2.beans.BatchContent;
+import io.apicurio.registry.rest.v2.beans.BatchContentRequest;
 import io.apicurio.registry.rest.v2.beans.HandleReferencesType;
 import io.apicurio.registry.rest.v2.shared.CommonResourceOperations;
 import io.apicurio.registry.storage.dto.ArtifactMetaDataDto;
+import io.apicurio.registry.storage.dto.ArtifactReferenceDto;
+import io.apicurio.registry.storage.dto.ArtifactVersionMetaDataDto;
 import io.apicurio.registry.storage.dto.ContentWrapperDto;
 import io.apicurio.registry.storage.dto.StoredArtifactDto;
+import io.apicurio.registry.storage.dto.StoredArtifactVersionDto;
 import io.apicurio.registry.storage.error.ArtifactNotFoundException;
+import io.apicurio.registry.storage.error.ContentNotFoundException;
 import io.apicurio.registry.types.ArtifactMediaTypes;
 import io.apicurio.registry.types.ArtifactState;
 import io.apicurio.registry.types.ReferenceType;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.interceptor.Interceptors;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -55,6 +77,17 @@ public class IdsResourceImpl extends AbstractResourceImpl implements IdsResource
     @Inject
     CommonResourceOperations common;
 
+    @Context
+    Request jaxrsRequest;
+
+    @ConfigProperty(name = "registry.apis.v2.content.max-age", defaultValue = "P365D")
+    @Info(category = "api", description = "How long clients and caches may reuse content fetched by its contentId or hash", availableSince = "3.0.0")
+    Duration contentMaxAge;
+
+    @ConfigProperty(name = "registry.apis.v2.ids.batch.max-size", defaultValue = "1000")
+    @Info(category = "api", description = "The maximum number of ids of a single request for the content of many artifacts", availableSince = "3.0.0")
+    int batchMaxSize;
+
     private void checkIfDeprecated(Supplier<ArtifactState> stateSupplier, String artifactId, String version, Response.ResponseBuilder builder) {
         HeadersHack.checkIfDeprecated(stateSupplier, null, artifactId, version, builder);
     }
@@ -65,9 +98,19 @@ public class IdsResourceImpl extends AbstractResourceImpl implements IdsResource
     @Override
     @Authorized(style = AuthorizedStyle.None, level = AuthorizedLevel.Read)
     public Response getContentById(long contentId) {
-        ContentHandle content = storage.getArtifactByContentId(contentId).getContent();
-        Response.ResponseBuilder builder = Response.ok(content, ArtifactMediaTypes.BINARY);
-        return builder.build();
+        if (isConditional()) {
+            String contentHash = storage.contentHashFromId(contentId)
+                    .orElseThrow(() -> new ContentNotFoundException(contentId));
+            Response.ResponseBuilder builder = evaluateIfNoneMatch(new EntityTag(contentHash));
+            if (builder != null) {
+                return immutable(builder).build();
+            }
+        }
+
+        ContentWrapperDto content = storage.getArtifactByContentId(contentId);
+        Response.ResponseBuilder builder = Response.ok(content.getContent(), ArtifactMediaTypes.BINARY)
+                .tag(new EntityTag(content.getContentHash()));
+        return immutable(builder).build();
     }
 
     /**
@@ -76,7 +119,8 @@ public class IdsResourceImpl extends AbstractResourceImpl implements IdsResource
     @Override
     @Authorized(style = AuthorizedStyle.GlobalId, level = AuthorizedLevel.Read)
     public Response getContentByGlobalId(long globalId, HandleReferencesType references) {
-        ArtifactMetaDataDto metaData = storage.getArtifactMetaData(globalId);
+        StoredArtifactVersionDto artifactVersion = storage.getArtifactVersionContent(globalId);
+        ArtifactVersionMetaDataDto metaData = artifactVersion.getMetaData();
         if (ArtifactState.DISABLED.equals(metaData.getState())) {
             throw new ArtifactNotFoundException(null, String.valueOf(globalId));
         }
@@ -85,15 +129,28 @@ public class IdsResourceImpl extends AbstractResourceImpl implements IdsResource
             references = HandleReferencesType.PRESERVE;
         }
 
-        StoredArtifactDto artifact = storage.getArtifactVersion(globalId);
+        // The content of a version never changes, but the version can be disabled or deprecated, so caches must revalidate
+        EntityTag tag = entityTag(artifactVersion.getContentHash(), references);
+        if (isConditional()) {
+            Response.ResponseBuilder builder = evaluateIfNoneMatch(tag);
+            if (builder != null) {
+                builder.header(HttpHeaders.CACHE_CONTROL, "no-cache");
+                checkIfDeprecated(metaData::getState, artifactVersion.getArtifactId(), metaData.getVersion(), builder);
+                return builder.build();
+            }
+        }
+
+        StoredArtifactDto artifact = artifactVersion.getArtifact();
 
         MediaType contentType = factory.getArtifactMediaType(metaData.getType());
 
         ContentHandle contentToReturn = artifact.getContent();
-        handleContentReferences(references, metaData.getType(), contentToReturn, artifact.getReferences());
+        contentToReturn = handleContentReferences(references, globalId, metaData.getType(), contentToReturn, artifact.getReferences());
 
-        Response.ResponseBuilder builder = Response.ok(contentToReturn, contentType);
-        checkIfDeprecated(metaData::getState, metaData.getId(), metaData.getVersion(), builder);
+        Response.ResponseBuilder builder = Response.ok(contentToReturn, contentType)
+                .tag(tag)
+                .header(HttpHeaders.CACHE_CONTROL, "no-cache");
+        checkIfDeprecated(metaData::getState, artifactVersion.getArtifactId(), metaData.getVersion(), builder);
         return builder.build();
     }
 
@@ -103,9 +160,164 @@ public class IdsResourceImpl extends AbstractResourceImpl implements IdsResource
     @Override
     @Authorized(style = AuthorizedStyle.None, level = AuthorizedLevel.Read)
     public Response getContentByHash(String contentHash) {
+        // The hash identifies the content, so a client that has an entity tag for it already has the content
+        EntityTag tag = new EntityTag(contentHash);
+        if (isConditional()) {
+            Response.ResponseBuilder builder = evaluateIfNoneMatch(tag);
+            if (builder != null) {
+                return immutable(builder).build();
+            }
+        }
+
         ContentHandle content = storage.getArtifactByContentHash(contentHash).getContent();
-        Response.ResponseBuilder builder = Response.ok(content, ArtifactMediaTypes.BINARY);
-        return builder.build();
+        Response.ResponseBuilder builder = Response.ok(content, ArtifactMediaTypes.BINARY).tag(tag);
+        return immutable(builder).build();
+    }
+
+    /**
+     * @see io.apicurio.registry.rest.v2.IdsResource#getContentBatch(io.apicurio.registry.rest.v2.beans.BatchContentRequest)
+     */
+    @Override
+    @Authorized(style = AuthorizedStyle.None, level = AuthorizedLevel.Read)
+    public List<BatchContent> getContentBatch(BatchContentRequest data) {
+        Set<Long> globalIds = data.getGlobalIds() == null ? Set.of() : new LinkedHashSet<>(data.getGlobalIds());
+        Set<Long> contentIds = data.getContentIds() == null ? Set.of() : new LinkedHashSet<>(data.getContentIds());
+        if (globalIds.size() + contentIds.size() > batchMaxSize) {
+            throw new BadRequestException("At most " + batchMaxSize + " ids can be requested at once.");
+        }
+
+        List<StoredArtifactDto> versions = storage.getArtifactVersionsByGlobalIds(globalIds);
+        Map<Long, ContentWrapperDto> contents = storage.getArtifactsByContentIds(contentIds);
+
+        // The requested contents often reference the same artifact versions, so each one is loaded only once
+        List<List<ArtifactReferenceDto>> references = new ArrayList<>(versions.size() + contents.size());
+        versions.forEach(version -> references.add(version.getReferences()));
+        contents.values().forEach(content -> references.add(content.getReferences()));
+        Map<String, Optional<StoredArtifactDto>> referencedVersions = loadReferencedVersions(references);
+
+        List<BatchContent> result = new ArrayList<>(globalIds.size() + contentIds.size());
+        for (StoredArtifactDto version : versions) {
+            result.add(BatchContent.builder()
+                    .globalId(version.getGlobalId())
+                    .contentId(version.getContentId())
+                    .content(version.getContent().content())
+                    .references(toBatchContent(version.getReferences(), referencedVersions, new HashSet<>()))
+                    .build());
+        }
+        contents.forEach((contentId, content) -> {
+            result.add(BatchContent.builder()
+                    .contentId(contentId)
+                    .content(content.getContent().content())
+                    .references(toBatchContent(content.getReferences(), referencedVersions, new HashSet<>()))
+                    .build());
+        });
+        return result;
+    }
+
+    /**
+     * Loads the versions that are referenced, directly or not, by the given references.  The references are
+     * followed level by level, so there is a single storage query per level rather than per reference.
+     *
+     * @return the referenced versions by their coordinates, empty for the versions that do not exist
+     */
+    private Map<String, Optional<StoredArtifactDto>> loadReferencedVersions(List<List<ArtifactReferenceDto>> references) {
+        Map<String, Optional<StoredArtifactDto>> referencedVersions = new HashMap<>();
+        Set<ArtifactReferenceDto> level = new HashSet<>();
+        references.forEach(level::addAll);
+        while (!level.isEmpty()) {
+            Map<ArtifactReferenceDto, StoredArtifactDto> loaded = storage.getArtifactVersionsByReferences(level);
+            Set<ArtifactReferenceDto> next = new HashSet<>();
+            for (ArtifactReferenceDto reference : level) {
+                StoredArtifactDto version = loaded.get(reference);
+                referencedVersions.put(coordinates(reference), Optional.ofNullable(version));
+                if (version != null) {
+                    next.addAll(version.getReferences());
+                }
+            }
+            next.removeIf(reference -> referencedVersions.containsKey(coordinates(reference)));
+            level = next;
+        }
+        return referencedVersions;
+    }
+
+    /**
+     * Recursively resolves the given references.  References to versions that do not exist are left out,
+     * like when the references are resolved for dereferencing, and so are the references of a version
+     * that references itself, directly or not.
+     *
+     * @param referencedVersions the versions that were already loaded, by their coordinates
+     * @param path the coordinates of the versions that reference the given references
+     */
+    private List<BatchContent> toBatchContent(List<ArtifactReferenceDto> references,
+            Map<String, Optional<StoredArtifactDto>> referencedVersions, Set<String> path) {
+        List<BatchContent> result = new ArrayList<>(references.size());
+        for (ArtifactReferenceDto reference : references) {
+            String coordinates = coordinates(reference);
+            Optional<StoredArtifactDto> version = referencedVersions.get(coordinates);
+            if (version.isEmpty()) {
+                continue;
+            }
+            List<BatchContent> nested = List.of();
+            if (path.add(coordinates)) {
+                nested = toBatchContent(version.get().getReferences(), referencedVersions, path);
+                path.remove(coordinates);
+            }
+            result.add(BatchContent.builder()
+                    .globalId(version.get().getGlobalId())
+                    .contentId(version.get().getContentId())
+                    .content(version.get().getContent().content())
+                    .name(reference.getName())
+                    .groupId(reference.getGroupId())
+                    .artifactId(reference.getArtifactId())
+                    .version(reference.getVersion())
+                    .references(nested)
+                    .build());
+        }
+        return result;
+    }
+
+    private static String coordinates(ArtifactReferenceDto reference) {
+        return reference.getGroupId() + "/" + reference.getArtifactId() + "/" + reference.getVersion();
+    }
+
+    private boolean isConditional() {
+        return request.getHeader(HttpHeaders.IF_NONE_MATCH) != null;
+    }
+
+    /**
+     * Compressed responses have the weak variant of the entity tag, and If-None-Match uses the weak comparison,
+     * so the header matches either variant.
+     *
+     * @return the builder of the "304 Not Modified" response, or null when the If-None-Match header does not match
+     */
+    private Response.ResponseBuilder evaluateIfNoneMatch(EntityTag tag) {
+        for (EntityTag candidate : List.of(tag, new EntityTag(tag.getValue(), true))) {
+            Response.ResponseBuilder builder = jaxrsRequest.evaluatePreconditions(candidate);
+            if (builder != null) {
+                return builder.tag(candidate);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The representation of the content of a version depends on how its references are handled.  Rewritten
+     * references are URLs of the REST API, so that representation also depends on the base href of the API,
+     * which can differ between requests (e.g. behind a proxy).
+     */
+    private EntityTag entityTag(String contentHash, HandleReferencesType references) {
+        if (references == HandleReferencesType.PRESERVE) {
+            return new EntityTag(contentHash);
+        }
+        String tag = contentHash + "-" + references.name().toLowerCase();
+        if (references == HandleReferencesType.REWRITE) {
+            tag += "-" + DigestUtils.sha256Hex(String.valueOf(resolveApiBaseHref()));
+        }
+        return new EntityTag(tag);
+    }
+
+    private Response.ResponseBuilder immutable(Response.ResponseBuilder builder) {
+        return builder.header(HttpHeaders.CACHE_CONTROL, "max-age=" + contentMaxAge.getSeconds() + ", immutable");
     }
 
     /**
@@ -16,21 +16,37 @@
 
 package io.apicurio.registry.rest.v2.shared;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.apicurio.common.apps.config.Info;
 import io.apicurio.registry.storage.RegistryStorage;
 import io.apicurio.registry.types.Current;
 import io.apicurio.registry.utils.impexp.EntityWriter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.StreamingOutput;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.slf4j.Logger;
 
+import java.io.FilterOutputStream;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.zip.ZipOutputStream;
 
 /**
+ * Streams all registry data as a zip file.  The storage reads the data in a single snapshot, while the
+ * entries of the zip file are compressed in parallel by a pool shared by all exports, see
+ * {@link ParallelZipWriter}.
+ *
  * @author eric.wittmann@gmail.com
  */
 @ApplicationScoped
@@ -43,38 +59,154 @@ public class DataExporter {
     @Current
     RegistryStorage storage;
 
+    @ConfigProperty(name = "registry.export.compression.threads", defaultValue = "0")
+    @Info(category = "download", description = "Number of threads compressing exported data, 0 to use one thread per available processor", availableSince = "3.0.0")
+    int compressionThreads;
+
+    @ConfigProperty(name = "registry.export.compression.level", defaultValue = "6")
+    @Info(category = "download", description = "Compression level of exported data, from 0 (no compression) to 9 (best compression)", availableSince = "3.0.0")
+    int compressionLevel;
+
+    @ConfigProperty(name = "registry.export.max-pending-entries", defaultValue = "256")
+    @Info(category = "download", description = "Maximum number of exported zip entries held in memory while they are compressed, per export", availableSince = "3.0.0")
+    int maxPendingEntries;
+
+    @ConfigProperty(name = "registry.export.progress.retention", defaultValue = "PT1H")
+    @Info(category = "download", description = "Time for which the progress of a finished export remains available", availableSince = "3.0.0")
+    Duration progressRetention;
+
+    private ExecutorService compressors;
+
+    private final Map<String, ExportProgress> running = new ConcurrentHashMap<>();
+    private Cache<String, ExportProgress> finished;
+
+    @PostConstruct
+    void onConstruct() {
+        int threads = compressionThreads > 0 ? compressionThreads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger counter = new AtomicInteger();
+        compressors = Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "registry-export-compression-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        finished = CacheBuilder.newBuilder()
+                .expireAfterWrite(progressRetention)
+                .build();
+    }
+
+    @PreDestroy
+    void onDestroy() {
+        compressors.shutdownNow();
+    }
+
     /**
      * Exports all registry data.
      */
     public Response exportData() {
+        return exportData(null);
+    }
+
+    /**
+     * Exports all registry data, reporting the progress of the export under the given download ID.
+     *
+     * @param downloadId null if the progress is not reported
+     */
+    public Response exportData(String downloadId) {
         StreamingOutput stream = os -> {
+            ExportProgress progress = new ExportProgress();
+            if (downloadId != null) {
+                running.put(downloadId, progress);
+            }
+            OutputStream output = new FilterOutputStream(os) {
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    out.write(b, off, len);
+                    progress.bytesWritten(len);
+                }
+
+                @Override
+                public void write(int b) throws IOException {
+                    out.write(b);
+                    progress.bytesWritten(1);
+                }
+
+                @Override
+                public void close() {
+                    // The container closes the response
+                }
+            };
+            ParallelZipWriter zip = new ParallelZipWriter(output, compressors, maxPendingEntries, compressionLevel);
             try {
-                ZipOutputStream zip = new ZipOutputStream(os, StandardCharsets.UTF_8);
                 EntityWriter writer = new EntityWriter(zip);
-                AtomicInteger errorCounter = new AtomicInteger(0);
                 storage.exportData(entity -> {
                     try {
                         writer.writeEntity(entity);
+                        progress.entityWritten();
+                    } catch (IOException e) {
+                        throw new ExportException(e);
                     } catch (Exception e) {
-                        // TODO do something interesting with this
-                        e.printStackTrace();
-                        errorCounter.incrementAndGet();
+                        log.error("Error exporting entity " + entity.getEntityType(), e);
+                        progress.entityFailed();
                     }
                     return null;
                 });
 
-                // TODO if the errorCounter > 0, then what?
-
-                zip.flush();
-                zip.close();
+                zip.finish();
+                output.flush();
+                progress.finished(ExportProgress.State.COMPLETED);
+            } catch (ExportException e) {
+                progress.finished(ExportProgress.State.FAILED);
+                throw e.getCause();
             } catch (IOException e) {
+                progress.finished(ExportProgress.State.FAILED);
                 throw e;
             } catch (Exception e) {
-                throw new IOException(e);
+                progress.finished(ExportProgress.State.FAILED);
+                Throwable cause = e.getCause();
+                while (cause != null && !(cause instanceof ExportException)) {
+                    cause = cause.getCause();
+                }
+                throw cause != null ? ((ExportException) cause).getCause() : new IOException(e);
+            } finally {
+                zip.cancel();
+                if (downloadId != null) {
+                    finished.put(downloadId, progress);
+                    running.remove(downloadId);
+                }
             }
         };
 
         return Response.ok(stream).type("application/zip").build();
     }
 
+    /**
+     * Gets the progress of the export of the given download, while it is running and for a while after
+     * it finished.
+     */
+    public Optional<ExportProgress> getProgress(String downloadId) {
+        ExportProgress progress = running.get(downloadId);
+        if (progress == null) {
+            progress = finished.getIfPresent(downloadId);
+        }
+        return Optional.ofNullable(progress);
+    }
+
+    /**
+     * Aborts the export when the zip file cannot be written, e.g. because the client went away, instead
+     * of reading the rest of the data for nothing.
+     */
+    private static class ExportException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        ExportException(IOException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized IOException getCause() {
+            return (IOException) super.getCause();
+        }
+    }
+
 }
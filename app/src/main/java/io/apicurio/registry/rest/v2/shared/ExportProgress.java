@@ -0,0 +1,90 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.rest.v2.shared;
+
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The progress of a data export, as reported by the downloads API while the export is streamed.
+ */
+public class ExportProgress {
+
+    public enum State {
+        RUNNING, COMPLETED, FAILED
+    }
+
+    private final Date startedOn = new Date();
+    private volatile Date finishedOn;
+    private volatile State state = State.RUNNING;
+    private final AtomicLong entities = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+    private final AtomicLong bytes = new AtomicLong();
+
+    void entityWritten() {
+        entities.incrementAndGet();
+    }
+
+    void entityFailed() {
+        errors.incrementAndGet();
+    }
+
+    void bytesWritten(long count) {
+        bytes.addAndGet(count);
+    }
+
+    void finished(State state) {
+        this.finishedOn = new Date();
+        this.state = state;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public Date getStartedOn() {
+        return startedOn;
+    }
+
+    /**
+     * @return null while the export is running
+     */
+    public Date getFinishedOn() {
+        return finishedOn;
+    }
+
+    /**
+     * @return the number of entities exported so far
+     */
+    public long getEntities() {
+        return entities.get();
+    }
+
+    /**
+     * @return the number of entities that could not be exported
+     */
+    public long getErrors() {
+        return errors.get();
+    }
+
+    /**
+     * @return the number of (compressed) bytes streamed so far
+     */
+    public long getBytes() {
+        return bytes.get();
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.rest.v2.shared;
+
+import io.apicurio.registry.utils.impexp.EntityWriter;
+import org.apache.commons.compress.archivers.zip.Zip64Mode;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+
+/**
+ * Writes a zip file as a stream, compressing its entries in parallel.  The entries are compressed by the
+ * given executor and written, in the order in which they were added, as soon as they are compressed.  At
+ * most a given number of entries are compressed or waiting to be written at any time, which bounds the
+ * memory used regardless of the size of the zip file.
+ */
+public class ParallelZipWriter implements EntityWriter.EntryHandler {
+
+    private final ZipArchiveOutputStream zip;
+    private final Executor compressors;
+    private final int maxPendingEntries;
+    private final int level;
+
+    private final Queue<FutureTask<CompressedEntry>> pending = new ArrayDeque<>();
+
+    /**
+     * @param maxPendingEntries the maximum number of entries compressed or waiting to be written
+     * @param level the compression level, see {@link Deflater}
+     */
+    public ParallelZipWriter(OutputStream output, Executor compressors, int maxPendingEntries, int level) {
+        this.zip = new ZipArchiveOutputStream(output);
+        this.zip.setUseZip64(Zip64Mode.AsNeeded);
+        this.compressors = compressors;
+        this.maxPendingEntries = Math.max(1, maxPendingEntries);
+        this.level = level;
+    }
+
+    /**
+     * Adds an entry to the zip file, waiting for the oldest pending entries to be written if there are
+     * too many of them.
+     *
+     * @see io.apicurio.registry.utils.impexp.EntityWriter.EntryHandler#handle(java.lang.String, byte[])
+     */
+    @Override
+    public void handle(String path, byte[] data) throws IOException {
+        while (pending.size() >= maxPendingEntries) {
+            writeOldest();
+        }
+        FutureTask<CompressedEntry> task = new FutureTask<>(() -> compress(path, data));
+        pending.add(task);
+        compressors.execute(task);
+    }
+
+    /**
+     * Writes all pending entries and the central directory of the zip file.  Does not close the output.
+     */
+    public void finish() throws IOException {
+        while (!pending.isEmpty()) {
+            writeOldest();
+        }
+        zip.finish();
+    }
+
+    /**
+     * Cancels the entries that are still pending, e.g. when the export failed.
+     */
+    public void cancel() {
+        pending.forEach(task -> task.cancel(false));
+        pending.clear();
+    }
+
+    private void writeOldest() throws IOException {
+        CompressedEntry entry;
+        try {
+            entry = pending.remove().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+        zip.addRawArchiveEntry(entry.entry, new ByteArrayInputStream(entry.compressed));
+    }
+
+    private CompressedEntry compress(String path, byte[] data) {
+        CRC32 crc = new CRC32();
+        crc.update(data);
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(64, data.length / 4));
+        Deflater deflater = new Deflater(level, true);
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                int length = deflater.deflate(buffer);
+                compressed.write(buffer, 0, length);
+            }
+        } finally {
+            deflater.end();
+        }
+
+        ZipArchiveEntry entry = new ZipArchiveEntry(path);
+        entry.setMethod(ZipEntry.DEFLATED);
+        entry.setSize(data.length);
+        entry.setCompressedSize(compressed.size());
+        entry.setCrc(crc.getValue());
+        return new CompressedEntry(entry, compressed.toByteArray());
+    }
+
+    private static class CompressedEntry {
+
+        final ZipArchiveEntry entry;
+        final byte[] compressed;
+
+        CompressedEntry(ZipArchiveEntry entry, byte[] compressed) {
+            this.entry = entry;
+            this.compressed = compressed;
+        }
+    }
+}
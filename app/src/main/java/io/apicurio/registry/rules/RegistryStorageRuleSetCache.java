@@ -0,0 +1,180 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.rules;
+
+import com.google.common.cache.CacheBuilder;
+import io.apicurio.common.apps.config.Info;
+import io.apicurio.registry.storage.decorator.InvalidatingCache;
+import io.apicurio.registry.storage.decorator.RegistryStorageCacheDecoratorBase;
+import io.apicurio.registry.storage.decorator.RegistryStorageDecoratorOrderConstants;
+import io.apicurio.registry.storage.dto.RuleConfigurationDto;
+import io.apicurio.registry.storage.dto.RuleSetDto;
+import io.apicurio.registry.storage.error.RegistryStorageException;
+import io.apicurio.registry.storage.impexp.EntityInputStream;
+import io.apicurio.registry.types.RuleType;
+import io.apicurio.registry.utils.impexp.ArtifactRuleEntity;
+import io.apicurio.registry.utils.impexp.GlobalRuleEntity;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Caches the rule sets used when applying rules, so that rule evaluation does not query the rule
+ * configuration in steady state.  The cache is invalidated by every storage operation that may change
+ * a rule.  Rules changed by another registry replica (or reloaded by the GitOps storage) are picked up
+ * when the cached rule set expires.
+ */
+@ApplicationScoped
+public class RegistryStorageRuleSetCache extends RegistryStorageCacheDecoratorBase {
+
+    @ConfigProperty(name = "registry.rules.cache.enabled", defaultValue = "true")
+    @Info(category = "cache", description = "Rule set cache enabled", availableSince = "3.0.0")
+    boolean enabled;
+
+    @ConfigProperty(name = "registry.rules.cache.max-size", defaultValue = "1000")
+    @Info(category = "cache", description = "Maximum number of cached rule sets", availableSince = "3.0.0")
+    long maxSize;
+
+    @ConfigProperty(name = "registry.rules.cache.expire-after-write", defaultValue = "PT30S")
+    @Info(category = "cache", description = "Time after which a cached rule set expires", availableSince = "3.0.0")
+    Duration expireAfterWrite;
+
+    private InvalidatingCache<List<String>, RuleSetDto> cache;
+
+    @PostConstruct
+    void onConstruct() {
+        cache = new InvalidatingCache<>(CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(expireAfterWrite)
+                .build());
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.decorator.RegistryStorageDecorator#isEnabled()
+     */
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.decorator.RegistryStorageDecorator#order()
+     */
+    @Override
+    public int order() {
+        return RegistryStorageDecoratorOrderConstants.RULE_SET_CACHE_DECORATOR;
+    }
+
+    @Override
+    public RuleSetDto getRuleSet(String groupId, String artifactId) throws RegistryStorageException {
+        return cache.get(Arrays.asList(groupId, artifactId), () -> {
+            RuleSetDto stored = super.getRuleSet(groupId, artifactId);
+            return RuleSetDto.builder()
+                    .artifactRules(Map.copyOf(stored.getArtifactRules()))
+                    .globalRules(Map.copyOf(stored.getGlobalRules()))
+                    .build();
+        });
+    }
+
+    @Override
+    public List<String> deleteArtifact(String groupId, String artifactId) throws RegistryStorageException {
+        return invalidateAfter(() -> super.deleteArtifact(groupId, artifactId), cache);
+    }
+
+    @Override
+    public void deleteArtifacts(String groupId) throws RegistryStorageException {
+        invalidateAfter(() -> super.deleteArtifacts(groupId), cache);
+    }
+
+    @Override
+    public void deleteArtifactVersion(String groupId, String artifactId, String version) throws RegistryStorageException {
+        invalidateAfter(() -> super.deleteArtifactVersion(groupId, artifactId, version), cache);
+    }
+
+    @Override
+    public void createArtifactRule(String groupId, String artifactId, RuleType rule, RuleConfigurationDto config)
+            throws RegistryStorageException {
+        invalidateAfter(() -> super.createArtifactRule(groupId, artifactId, rule, config), cache);
+    }
+
+    @Override
+    public void deleteArtifactRules(String groupId, String artifactId) throws RegistryStorageException {
+        invalidateAfter(() -> super.deleteArtifactRules(groupId, artifactId), cache);
+    }
+
+    @Override
+    public void updateArtifactRule(String groupId, String artifactId, RuleType rule, RuleConfigurationDto config)
+            throws RegistryStorageException {
+        invalidateAfter(() -> super.updateArtifactRule(groupId, artifactId, rule, config), cache);
+    }
+
+    @Override
+    public void deleteArtifactRule(String groupId, String artifactId, RuleType rule) throws RegistryStorageException {
+        invalidateAfter(() -> super.deleteArtifactRule(groupId, artifactId, rule), cache);
+    }
+
+    @Override
+    public void createGlobalRule(RuleType rule, RuleConfigurationDto config) throws RegistryStorageException {
+        invalidateAfter(() -> super.createGlobalRule(rule, config), cache);
+    }
+
+    @Override
+    public void deleteGlobalRules() throws RegistryStorageException {
+        invalidateAfter(() -> super.deleteGlobalRules(), cache);
+    }
+
+    @Override
+    public void updateGlobalRule(RuleType rule, RuleConfigurationDto config) throws RegistryStorageException {
+        invalidateAfter(() -> super.updateGlobalRule(rule, config), cache);
+    }
+
+    @Override
+    public void deleteGlobalRule(RuleType rule) throws RegistryStorageException {
+        invalidateAfter(() -> super.deleteGlobalRule(rule), cache);
+    }
+
+    @Override
+    public void deleteGroup(String groupId) throws RegistryStorageException {
+        invalidateAfter(() -> super.deleteGroup(groupId), cache);
+    }
+
+    @Override
+    public void importData(EntityInputStream entities, boolean preserveGlobalId, boolean preserveContentId)
+            throws RegistryStorageException {
+        invalidateAfter(() -> super.importData(entities, preserveGlobalId, preserveContentId), cache);
+    }
+
+    @Override
+    public void deleteAllUserData() {
+        invalidateAfter(() -> super.deleteAllUserData(), cache);
+    }
+
+    @Override
+    public void importGlobalRule(GlobalRuleEntity entity) {
+        invalidateAfter(() -> super.importGlobalRule(entity), cache);
+    }
+
+    @Override
+    public void importArtifactRule(ArtifactRuleEntity entity) {
+        invalidateAfter(() -> super.importArtifactRule(entity), cache);
+    }
+}
@@ -17,6 +17,7 @@
 package io.apicurio.registry.rules;
 
 import io.apicurio.registry.content.ContentHandle;
+import io.apicurio.registry.content.ParsedContentHandle;
 import io.apicurio.registry.rest.v2.beans.ArtifactReference;
 
 import java.util.List;
@@ -26,6 +27,9 @@ import java.util.Objects;
 /**
  * Contains all of the information needed by a rule executor, including the rule-specific
  * configuration, current and updated content, and any other meta-data needed.
+ * <p>
+ * The updated content is a {@link ParsedContentHandle}, so that the models parsed from it by one
+ * rule (or by the registry before the rules are applied) are reused by the other rules.
  *
  * @author Ales Justin
  */
@@ -35,7 +39,7 @@ public class RuleContext {
     private final String artifactType;
     private final String configuration;
     private final List<ContentHandle> currentContent;
-    private final ContentHandle updatedContent;
+    private final ParsedContentHandle updatedContent;
     private final List<ArtifactReference> references;
     private final Map<String, ContentHandle> resolvedReferences;
 
@@ -57,7 +61,7 @@ public class RuleContext {
         this.artifactType = Objects.requireNonNull(artifactType);
         this.configuration = Objects.requireNonNull(configuration);
         this.currentContent = currentContent; // Current Content will be null when creating an artifact.
-        this.updatedContent = Objects.requireNonNull(updatedContent);
+        this.updatedContent = ParsedContentHandle.of(Objects.requireNonNull(updatedContent));
         this.references = Objects.requireNonNull(references);
         this.resolvedReferences = Objects.requireNonNull(resolvedReferences);
     }
@@ -98,9 +102,9 @@ public class RuleContext {
     }
 
     /**
-     * @return the updatedContent
+     * @return the updatedContent, holding the models parsed from it
      */
-    public ContentHandle getUpdatedContent() {
+    public ParsedContentHandle getUpdatedContent() {
         return updatedContent;
     }
 
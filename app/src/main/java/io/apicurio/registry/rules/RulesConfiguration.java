@@ -15,15 +15,29 @@
  */
 package io.apicurio.registry.rules;
 
+import io.apicurio.common.apps.config.Info;
+import io.apicurio.registry.rules.compatibility.TransitiveCompatibilityExecutor;
 import io.apicurio.registry.utils.RegistryProperties;
 
+import io.quarkus.runtime.StartupEvent;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
 import jakarta.enterprise.inject.Produces;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
 import java.util.Properties;
 
 @ApplicationScoped
 public class RulesConfiguration {
 
+    @ConfigProperty(name = "registry.rules.compatibility.parallelism", defaultValue = "4")
+    @Info(category = "rules", description = "Maximum number of existing artifact versions checked concurrently by a transitive compatibility check", availableSince = "3.0.0")
+    int compatibilityParallelism;
+
+    void onStart(@Observes StartupEvent ev) {
+        TransitiveCompatibilityExecutor.setParallelism(compatibilityParallelism);
+    }
+
     @Produces
     @ApplicationScoped
     public RulesProperties rulesProperties(@RegistryProperties(value = {"registry.rules.global"}) Properties properties) {
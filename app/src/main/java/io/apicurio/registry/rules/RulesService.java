@@ -82,6 +82,23 @@ public interface RulesService {
             throws RuleViolationException;
 
 
+    /**
+     * Applies configured rules to the content update, relative to EACH of the given artifact versions.  The
+     * content of all versions is loaded up front and checked at once, see {@link #applyRules(String, String, String, String, ContentHandle, List, Map)}
+     * for a single version.
+     * @param groupId
+     * @param artifactId
+     * @param artifactVersions
+     * @param artifactType
+     * @param updatedContent
+     * @param references
+     * @param resolvedReferences
+     * @throws RuleViolationException
+     */
+    public void applyRules(String groupId, String artifactId, List<String> artifactVersions, String artifactType,
+            ContentHandle updatedContent, List<ArtifactReference> references, Map<String, ContentHandle> resolvedReferences)
+            throws RuleViolationException;
+
     public void applyRulesCompat(String groupId, String artifactId, String artifactVersion, String artifactType,
                                  ContentHandle updatedContent, List<ArtifactReference> references,
                                  Map<String, ContentHandle> resolvedReferences) throws RuleViolationException;
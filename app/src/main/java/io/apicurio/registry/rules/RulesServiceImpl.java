@@ -18,11 +18,15 @@
 package io.apicurio.registry.rules;
 
 import io.apicurio.registry.content.ContentHandle;
+import io.apicurio.registry.content.ParsedContentHandle;
+import io.apicurio.registry.content.StoredContentHandle;
 import io.apicurio.registry.rest.v2.beans.ArtifactReference;
 import io.apicurio.registry.content.canon.ContentCanonicalizer;
+import io.apicurio.registry.rules.compatibility.CompatibilityLevel;
 import io.apicurio.registry.storage.RegistryStorage;
 import io.apicurio.registry.storage.dto.LazyContentList;
 import io.apicurio.registry.storage.dto.RuleConfigurationDto;
+import io.apicurio.registry.storage.dto.RuleSetDto;
 import io.apicurio.registry.storage.dto.StoredArtifactDto;
 import io.apicurio.registry.types.Current;
 import io.apicurio.registry.types.RuleType;
@@ -32,7 +36,9 @@ import io.apicurio.registry.types.provider.ArtifactTypeUtilProviderFactory;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -66,11 +72,9 @@ public class RulesServiceImpl implements RulesService {
     public void applyRules(String groupId, String artifactId, String artifactType, ContentHandle artifactContent,
                            RuleApplicationType ruleApplicationType, List<ArtifactReference> references,
                            Map<String, ContentHandle> resolvedReferences) throws RuleViolationException {
-        @SuppressWarnings("unchecked")
-        List<RuleType> rules = Collections.EMPTY_LIST;
-        if (ruleApplicationType == RuleApplicationType.UPDATE) {
-            rules = storage.getArtifactRules(groupId, artifactId);
-        }
+        // Only the global rules apply to a new artifact
+        RuleSetDto ruleSet = storage.getRuleSet(groupId,
+                ruleApplicationType == RuleApplicationType.UPDATE ? artifactId : null);
         LazyContentList currentContent = null;
         if (ruleApplicationType == RuleApplicationType.UPDATE) {
             currentContent = new LazyContentList(storage, storage.getEnabledArtifactContentIds(groupId, artifactId));
@@ -78,37 +82,45 @@ public class RulesServiceImpl implements RulesService {
             currentContent = new LazyContentList(storage, Collections.emptyList());
         }
 
-        applyGlobalAndArtifactRules(groupId, artifactId, artifactType, currentContent, artifactContent, rules, references, resolvedReferences);
+        applyGlobalAndArtifactRules(groupId, artifactId, artifactType, currentContent, artifactContent, ruleSet, references, resolvedReferences);
     }
 
     private void applyGlobalAndArtifactRules(String groupId, String artifactId, String artifactType,
                                              List<ContentHandle> currentArtifactContent, ContentHandle updatedArtifactContent,
-                                             List<RuleType> artifactRules, List<ArtifactReference> references, Map<String, ContentHandle> resolvedReferences) {
-
-        Map<RuleType, RuleConfigurationDto> globalOrArtifactRulesMap = artifactRules.stream()
-                .collect(Collectors.toMap(ruleType -> ruleType, ruleType -> storage.getArtifactRule(groupId, artifactId, ruleType)));
-
-        if (globalOrArtifactRulesMap.isEmpty()) {
-            List<RuleType> globalRules = storage.getGlobalRules();
-            globalOrArtifactRulesMap = globalRules.stream()
-                    .collect(Collectors.toMap(ruleType -> ruleType, storage::getGlobalRule));
+                                             RuleSetDto ruleSet, List<ArtifactReference> references, Map<String, ContentHandle> resolvedReferences) {
 
-            // Add any default global rules to the map (after filtering out any global rules from artifactStore)
-            Map<RuleType, RuleConfigurationDto> filteredDefaultGlobalRulesMap = rulesProperties.getFilteredDefaultGlobalRules(globalRules).stream()
-                    .collect(Collectors.toMap(ruleType -> ruleType, rulesProperties::getDefaultGlobalRuleConfiguration));
-            globalOrArtifactRulesMap.putAll(filteredDefaultGlobalRulesMap);
-        }
+        Map<RuleType, RuleConfigurationDto> globalOrArtifactRulesMap = getGlobalOrArtifactRules(ruleSet);
 
         if (globalOrArtifactRulesMap.isEmpty()) {
             return;
         }
 
+        // All rules share the models parsed from the updated content
+        ContentHandle parsedArtifactContent = ParsedContentHandle.of(updatedArtifactContent);
         for (RuleType ruleType : globalOrArtifactRulesMap.keySet()) {
-            applyRule(groupId, artifactId, artifactType, currentArtifactContent, updatedArtifactContent, ruleType,
+            applyRule(groupId, artifactId, artifactType, currentArtifactContent, parsedArtifactContent, ruleType,
                     globalOrArtifactRulesMap.get(ruleType).getConfiguration(), references, resolvedReferences);
         }
     }
 
+    /**
+     * The artifact rules if there are any, otherwise the global rules including the default ones.
+     */
+    private Map<RuleType, RuleConfigurationDto> getGlobalOrArtifactRules(RuleSetDto ruleSet) {
+        Map<RuleType, RuleConfigurationDto> globalOrArtifactRulesMap = ruleSet.getArtifactRules();
+
+        if (globalOrArtifactRulesMap.isEmpty()) {
+            List<RuleType> globalRules = new ArrayList<>(ruleSet.getGlobalRules().keySet());
+            globalOrArtifactRulesMap = new HashMap<>(ruleSet.getGlobalRules());
+
+            // Add any default global rules to the map (after filtering out any global rules from artifactStore)
+            Map<RuleType, RuleConfigurationDto> filteredDefaultGlobalRulesMap = rulesProperties.getFilteredDefaultGlobalRules(globalRules).stream()
+                    .collect(Collectors.toMap(ruleType -> ruleType, rulesProperties::getDefaultGlobalRuleConfiguration));
+            globalOrArtifactRulesMap.putAll(filteredDefaultGlobalRulesMap);
+        }
+        return globalOrArtifactRulesMap;
+    }
+
     /**
      * @see io.apicurio.registry.rules.RulesService#applyRule(java.lang.String, java.lang.String, java.lang.String, io.apicurio.registry.content.ContentHandle, io.apicurio.registry.types.RuleType, java.lang.String, io.apicurio.registry.rules.RuleApplicationType, java.util.List, java.util.Map)
      */
@@ -145,8 +157,52 @@ public class RulesServiceImpl implements RulesService {
                            ContentHandle updatedContent, List<ArtifactReference> references,
                            Map<String, ContentHandle> resolvedReferences) throws RuleViolationException {
         StoredArtifactDto versionContent = storage.getArtifactVersion(groupId, artifactId, artifactVersion);
-        applyGlobalAndArtifactRules(groupId, artifactId, artifactType, Collections.singletonList(versionContent.getContent()),
-                updatedContent, storage.getArtifactRules(groupId, artifactId), references, resolvedReferences);
+        applyGlobalAndArtifactRules(groupId, artifactId, artifactType,
+                Collections.singletonList(storedContent(versionContent)),
+                updatedContent, storage.getRuleSet(groupId, artifactId), references, resolvedReferences);
+    }
+
+    /**
+     * @see io.apicurio.registry.rules.RulesService#applyRules(java.lang.String, java.lang.String, java.util.List, java.lang.String, io.apicurio.registry.content.ContentHandle, java.util.List, java.util.Map)
+     */
+    @Override
+    public void applyRules(String groupId, String artifactId, List<String> artifactVersions, String artifactType,
+                           ContentHandle updatedContent, List<ArtifactReference> references,
+                           Map<String, ContentHandle> resolvedReferences) throws RuleViolationException {
+        // The content of every version is loaded on the calling thread, the compatibility rule then checks
+        // the pairs in parallel (see TransitiveCompatibilityExecutor)
+        List<ContentHandle> versionsContent = new ArrayList<>(artifactVersions.size());
+        for (String artifactVersion : artifactVersions) {
+            versionsContent.add(storedContent(storage.getArtifactVersion(groupId, artifactId, artifactVersion)));
+        }
+        RuleSetDto ruleSet = storage.getRuleSet(groupId, artifactId);
+        Map<RuleType, RuleConfigurationDto> rulesMap = getGlobalOrArtifactRules(ruleSet);
+        if (rulesMap.isEmpty()) {
+            return;
+        }
+        ContentHandle parsedArtifactContent = ParsedContentHandle.of(updatedContent);
+        for (RuleType ruleType : rulesMap.keySet()) {
+            String configuration = rulesMap.get(ruleType).getConfiguration();
+            if (ruleType == RuleType.COMPATIBILITY) {
+                // Being compatible with each version on its own is the transitive variant of the level
+                configuration = transitive(CompatibilityLevel.valueOf(configuration)).name();
+            }
+            applyRule(groupId, artifactId, artifactType, versionsContent, parsedArtifactContent, ruleType,
+                    configuration, references, resolvedReferences);
+        }
+    }
+
+    private static CompatibilityLevel transitive(CompatibilityLevel level) {
+        switch (level) {
+            case BACKWARD:
+                return CompatibilityLevel.BACKWARD_TRANSITIVE;
+            case FORWARD:
+                return CompatibilityLevel.FORWARD_TRANSITIVE;
+            case FULL:
+                return CompatibilityLevel.FULL_TRANSITIVE;
+            default:
+                return level;
+        }
     }
 
     @Override
@@ -158,6 +214,13 @@ public class RulesServiceImpl implements RulesService {
         StoredArtifactDto versionContent = storage.getArtifactVersion(groupId, artifactId, artifactVersion);
         applyGlobalAndArtifactRules(groupId, artifactId, artifactType,
                 Collections.singletonList(contentCanonicalizer.canonicalize(versionContent.getContent(), Map.of())),
-                updatedContent, storage.getArtifactRules(groupId, artifactId), references, resolvedReferences);
+                updatedContent, storage.getRuleSet(groupId, artifactId), references, resolvedReferences);
+    }
+
+    private static ContentHandle storedContent(StoredArtifactDto artifact) {
+        if (artifact.getContentId() == null) {
+            return artifact.getContent();
+        }
+        return new StoredContentHandle(artifact.getContentId(), artifact.getContent());
     }
 }
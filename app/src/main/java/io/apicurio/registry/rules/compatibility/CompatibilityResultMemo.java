@@ -0,0 +1,179 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.rules.compatibility;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.apicurio.common.apps.config.Info;
+import io.apicurio.registry.content.ContentHandle;
+import io.apicurio.registry.metrics.MetricsConstants;
+import io.apicurio.registry.rules.RuleViolation;
+import io.apicurio.registry.storage.RegistryStorage;
+import io.apicurio.registry.storage.dto.CompatibilityResultDto;
+import io.apicurio.registry.types.Current;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Memoizes the results of pairwise compatibility checks.  Content is immutable, so the result of checking
+ * a proposed content against an existing content at a given (non-transitive) compatibility level never
+ * changes.  Results are identified by the hash the existing content is stored under and by the SHA-256
+ * hashes of the proposed content and of the resolved references, so they stay valid even if content IDs
+ * are reused, e.g. after the registry data is re-imported.
+ * <p>
+ * Results are kept in a bounded in-memory cache and, optionally, in the storage, so that they can be
+ * shared between registry replicas and survive restarts.
+ */
+@ApplicationScoped
+public class CompatibilityResultMemo {
+
+    private static final String RESULT_MEMORY = "memory";
+    private static final String RESULT_STORAGE = "storage";
+    private static final String RESULT_MISS = "miss";
+
+    @Inject
+    Logger log;
+
+    @Inject
+    @Current
+    RegistryStorage storage;
+
+    @Inject
+    MeterRegistry registry;
+
+    @ConfigProperty(name = "registry.rules.compatibility.memo.enabled", defaultValue = "false")
+    @Info(category = "rules", description = "Memoize the results of compatibility checks", availableSince = "3.0.0")
+    boolean enabled;
+
+    @ConfigProperty(name = "registry.rules.compatibility.memo.max-size", defaultValue = "10000")
+    @Info(category = "rules", description = "Maximum number of compatibility check results memoized in memory", availableSince = "3.0.0")
+    long maxSize;
+
+    @ConfigProperty(name = "registry.rules.compatibility.memo.storage.enabled", defaultValue = "false")
+    @Info(category = "rules", description = "Also store memoized compatibility check results in the storage", availableSince = "3.0.0")
+    boolean storageEnabled;
+
+    private Cache<String, Set<RuleViolation>> cache;
+
+    private Counter memoryHits;
+    private Counter storageHits;
+    private Counter misses;
+
+    @PostConstruct
+    void onConstruct() {
+        cache = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .build();
+        memoryHits = counter(RESULT_MEMORY);
+        storageHits = counter(RESULT_STORAGE);
+        misses = counter(RESULT_MISS);
+    }
+
+    private Counter counter(String result) {
+        return Counter.builder(MetricsConstants.RULES_COMPATIBILITY_MEMO)
+                .description(MetricsConstants.RULES_COMPATIBILITY_MEMO_DESCRIPTION)
+                .tag(MetricsConstants.RULES_COMPATIBILITY_MEMO_TAG_RESULT, result)
+                .register(registry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Creates the part of the result keys that is shared by all the existing contents the proposed content is
+     * checked against, so that the proposed content and the references are hashed only once.
+     *
+     * @param level must not be a transitive level, transitive checks are a union of pairwise checks
+     */
+    public static String resultKeyPrefix(String artifactType, CompatibilityLevel level, ContentHandle proposed,
+                                         Map<String, ContentHandle> resolvedReferences) {
+        StringBuilder key = new StringBuilder()
+                .append(artifactType).append(':')
+                .append(level.name()).append(':')
+                .append(proposed.getSha256Hash());
+        if (resolvedReferences != null) {
+            new TreeMap<>(resolvedReferences).forEach((name, reference) -> key
+                    .append(':').append(name)
+                    .append('=').append(reference.getSha256Hash()));
+        }
+        return DigestUtils.sha256Hex(key.toString());
+    }
+
+    /**
+     * Creates the key of the result of checking the proposed content against the existing content.
+     *
+     * @param resultKeyPrefix     see {@link #resultKeyPrefix(String, CompatibilityLevel, ContentHandle, Map)}
+     * @param existingContentHash the hash the existing content is stored under, or the SHA-256 hash of content
+     *                            that is not stored
+     */
+    public static String resultKey(String resultKeyPrefix, String existingContentHash) {
+        return DigestUtils.sha256Hex(resultKeyPrefix + ':' + existingContentHash);
+    }
+
+    /**
+     * @return the memoized violations (empty if the contents are compatible), or null if the result is not known
+     */
+    public Set<RuleViolation> get(String resultKey) {
+        Set<RuleViolation> violations = cache.getIfPresent(resultKey);
+        if (violations != null) {
+            memoryHits.increment();
+            return violations;
+        }
+        if (storageEnabled) {
+            try {
+                CompatibilityResultDto result = storage.getCompatibilityResult(resultKey);
+                if (result != null) {
+                    violations = Set.copyOf(result.getViolations());
+                    cache.put(resultKey, violations);
+                    storageHits.increment();
+                    return violations;
+                }
+            } catch (Exception e) {
+                log.warn("Could not read a compatibility result from the storage: {}", e.getMessage());
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    public void put(String resultKey, Set<RuleViolation> violations) {
+        violations = Set.copyOf(violations);
+        cache.put(resultKey, violations);
+        if (storageEnabled && !storage.isReadOnly()) {
+            try {
+                storage.createCompatibilityResult(CompatibilityResultDto.builder()
+                        .resultKey(resultKey)
+                        .violations(violations)
+                        .build());
+            } catch (Exception e) {
+                // Another replica may have stored the same result concurrently
+                log.debug("Could not store a compatibility result: {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -22,6 +22,7 @@ import io.apicurio.registry.rules.RuleContext;
 import io.apicurio.registry.rules.RuleExecutor;
 import io.apicurio.registry.rules.RuleViolation;
 import io.apicurio.registry.rules.RuleViolationException;
+import io.apicurio.registry.storage.dto.LazyContentList;
 import io.apicurio.registry.types.RuleType;
 import io.apicurio.registry.types.provider.ArtifactTypeUtilProvider;
 import io.apicurio.registry.types.provider.ArtifactTypeUtilProviderFactory;
@@ -32,6 +33,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static java.util.Collections.emptyList;
@@ -50,6 +52,9 @@ public class CompatibilityRuleExecutor implements RuleExecutor {
     @Inject
     ArtifactTypeUtilProviderFactory factory;
 
+    @Inject
+    CompatibilityResultMemo memo;
+
     /**
      * @see io.apicurio.registry.rules.RuleExecutor#execute(io.apicurio.registry.rules.RuleContext)
      */
@@ -60,20 +65,96 @@ public class CompatibilityRuleExecutor implements RuleExecutor {
         CompatibilityChecker checker = provider.getCompatibilityChecker();
         List<ContentHandle> existingArtifacts = context.getCurrentContent() != null
                 ? context.getCurrentContent() : emptyList();
-        CompatibilityExecutionResult compatibilityExecutionResult = checker.testCompatibility(
-                level,
-                existingArtifacts,
-                context.getUpdatedContent(),
-                context.getResolvedReferences());
-        if (!compatibilityExecutionResult.isCompatible()) {
+        Set<RuleViolation> violations;
+        if (memo.isEnabled()) {
+            violations = testCompatibilityMemoized(context, checker, level, existingArtifacts);
+        } else {
+            CompatibilityExecutionResult compatibilityExecutionResult = checker.testCompatibility(
+                    level,
+                    existingArtifacts,
+                    context.getUpdatedContent(),
+                    context.getResolvedReferences());
+            violations = transformCompatibilityDiffs(compatibilityExecutionResult.getIncompatibleDifferences());
+        }
+        if (!violations.isEmpty()) {
             throw new RuleViolationException(String.format("Incompatible artifact: %s [%s], num of incompatible diffs: {%s}, list of diff types: %s",
                     context.getArtifactId(), context.getArtifactType(),
-                    compatibilityExecutionResult.getIncompatibleDifferences().size(), outputReadableCompatabilityDiffs(compatibilityExecutionResult.getIncompatibleDifferences())),
+                    violations.size(), outputReadableCompatabilityDiffs(violations)),
                     RuleType.COMPATIBILITY, context.getConfiguration(),
-                    transformCompatibilityDiffs(compatibilityExecutionResult.getIncompatibleDifferences()));
+                    violations);
         }
     }
 
+    /**
+     * A transitive check is the union of pairwise checks against every existing artifact, and a
+     * non-transitive check is a pairwise check against the latest one.  Each pairwise check is looked
+     * up in the memo first.
+     */
+    private Set<RuleViolation> testCompatibilityMemoized(RuleContext context, CompatibilityChecker checker,
+                                                         CompatibilityLevel level, List<ContentHandle> existingArtifacts) {
+        if (existingArtifacts.isEmpty() || level == CompatibilityLevel.NONE) {
+            return Collections.emptySet();
+        }
+        CompatibilityLevel pairwiseLevel;
+        int firstChecked;
+        switch (level) {
+            case BACKWARD_TRANSITIVE:
+                pairwiseLevel = CompatibilityLevel.BACKWARD;
+                firstChecked = 0;
+                break;
+            case FORWARD_TRANSITIVE:
+                pairwiseLevel = CompatibilityLevel.FORWARD;
+                firstChecked = 0;
+                break;
+            case FULL_TRANSITIVE:
+                pairwiseLevel = CompatibilityLevel.FULL;
+                firstChecked = 0;
+                break;
+            default:
+                pairwiseLevel = level;
+                firstChecked = existingArtifacts.size() - 1;
+        }
+
+        ContentHandle proposed = context.getUpdatedContent();
+        Map<String, ContentHandle> resolvedReferences = context.getResolvedReferences();
+        String resultKeyPrefix = CompatibilityResultMemo.resultKeyPrefix(context.getArtifactType(), pairwiseLevel,
+                proposed, resolvedReferences);
+        Set<RuleViolation> violations = new HashSet<>();
+        // The memo is read and written, and the content of the pairs that are not memoized is loaded, on the
+        // calling thread, only the checks of those pairs are evaluated in parallel
+        List<ContentHandle> missed = new ArrayList<>();
+        List<String> missedKeys = new ArrayList<>();
+        for (int i = firstChecked; i < existingArtifacts.size(); i++) {
+            String resultKey = CompatibilityResultMemo.resultKey(resultKeyPrefix, existingContentHash(existingArtifacts, i));
+            Set<RuleViolation> result = memo.get(resultKey);
+            if (result != null) {
+                violations.addAll(result);
+            } else {
+                missed.add(existingArtifacts.get(i));
+                missedKeys.add(resultKey);
+            }
+        }
+        List<Set<RuleViolation>> results = TransitiveCompatibilityExecutor.map(missed, existing ->
+                transformCompatibilityDiffs(checker.testCompatibility(pairwiseLevel, List.of(existing), proposed,
+                        resolvedReferences).getIncompatibleDifferences()));
+        for (int i = 0; i < results.size(); i++) {
+            memo.put(missedKeys.get(i), results.get(i));
+            violations.addAll(results.get(i));
+        }
+        return violations;
+    }
+
+    /**
+     * Stored content is identified by its content hash, so that it does not have to be loaded to look up
+     * a memoized result.
+     */
+    private static String existingContentHash(List<ContentHandle> existingArtifacts, int index) {
+        if (existingArtifacts instanceof LazyContentList) {
+            return ((LazyContentList) existingArtifacts).getContentHash(index);
+        }
+        return existingArtifacts.get(index).getSha256Hash();
+    }
+
     /**
      * Convert the set of compatibility differences into a collection of rule violation causes
      * for return to the user.
@@ -91,16 +172,12 @@ public class CompatibilityRuleExecutor implements RuleExecutor {
         }
     }
 
-    private List<String> outputReadableCompatabilityDiffs(Set<CompatibilityDifference> differences) {
-        if (!differences.isEmpty()) {
-            List<String> res = new ArrayList<String>();
-            for (CompatibilityDifference diff : differences) {
-                res.add(diff.asRuleViolation().getDescription() + " at " + diff.asRuleViolation().getContext());
-            }
-            return res;
-        } else {
-            return new ArrayList<String>();
+    private List<String> outputReadableCompatabilityDiffs(Set<RuleViolation> violations) {
+        List<String> res = new ArrayList<String>();
+        for (RuleViolation violation : violations) {
+            res.add(violation.getDescription() + " at " + violation.getContext());
         }
+        return res;
     }
 
 }
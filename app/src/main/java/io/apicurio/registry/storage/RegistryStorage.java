@@ -26,6 +26,7 @@ import io.apicurio.registry.storage.dto.ArtifactReferenceDto;
 import io.apicurio.registry.storage.dto.ArtifactSearchResultsDto;
 import io.apicurio.registry.storage.dto.ArtifactVersionMetaDataDto;
 import io.apicurio.registry.storage.dto.CommentDto;
+import io.apicurio.registry.storage.dto.CompatibilityResultDto;
 import io.apicurio.registry.storage.dto.ContentWrapperDto;
 import io.apicurio.registry.storage.dto.DownloadContextDto;
 import io.apicurio.registry.storage.dto.EditableArtifactMetaDataDto;
@@ -35,8 +36,10 @@ import io.apicurio.registry.storage.dto.OrderBy;
 import io.apicurio.registry.storage.dto.OrderDirection;
 import io.apicurio.registry.storage.dto.RoleMappingDto;
 import io.apicurio.registry.storage.dto.RuleConfigurationDto;
+import io.apicurio.registry.storage.dto.RuleSetDto;
 import io.apicurio.registry.storage.dto.SearchFilter;
 import io.apicurio.registry.storage.dto.StoredArtifactDto;
+import io.apicurio.registry.storage.dto.StoredArtifactVersionDto;
 import io.apicurio.registry.storage.dto.VersionSearchResultsDto;
 import io.apicurio.registry.storage.error.*;
 import io.apicurio.registry.storage.impexp.EntityInputStream;
@@ -195,6 +198,16 @@ public interface RegistryStorage extends DynamicConfigStorage {
      */
     ContentWrapperDto getArtifactByContentId(long contentId) throws ContentNotFoundException, RegistryStorageException;
 
+    /**
+     * Gets many pieces of artifact content by their unique contentIds, with a single query.
+     * Content that does not exist is left out of the result.
+     *
+     * @param contentIds
+     * @return the content, by contentId
+     * @throws RegistryStorageException
+     */
+    Map<Long, ContentWrapperDto> getArtifactsByContentIds(Set<Long> contentIds) throws RegistryStorageException;
+
     /**
      * Gets some artifact content by the SHA-256 hash of that content.  This method of getting content
      * from storage does not allow extra meta-data to be returned, because the content hash only
@@ -310,6 +323,20 @@ public interface RegistryStorage extends DynamicConfigStorage {
     ArtifactVersionMetaDataDto getArtifactVersionMetaData(String groupId, String artifactId, boolean canonical,
                                                           ContentHandle content, List<ArtifactReferenceDto> artifactReferences) throws ArtifactNotFoundException, RegistryStorageException;
 
+    /**
+     * Gets the metadata of the most recent version whose content, dereferenced (i.e. with its references
+     * inlined by the dereferencer of the artifact type), has the given SHA-256 hash.  Only content with
+     * references has a dereferenced hash, which is stored when the first version of the content is created.
+     *
+     * @param groupId          (optional)
+     * @param artifactId
+     * @param dereferencedHash
+     * @throws ArtifactNotFoundException if the artifact does not exist, or no version matches
+     * @throws RegistryStorageException
+     */
+    ArtifactVersionMetaDataDto getArtifactVersionMetaDataByDereferencedHash(String groupId, String artifactId, String dereferencedHash)
+            throws ArtifactNotFoundException, RegistryStorageException;
+
     /**
      * Gets the stored meta-data for an artifact by global ID.  This will include client-editable meta-data such as
      * name and description, but also generated meta-data such as "modifedOn" and "globalId".
@@ -354,6 +381,17 @@ public interface RegistryStorage extends DynamicConfigStorage {
      */
     List<RuleType> getArtifactRules(String groupId, String artifactId) throws ArtifactNotFoundException, RegistryStorageException;
 
+    /**
+     * Gets the configurations of all rules of an artifact, together with the configurations of all
+     * global rules, in a single operation.  Unlike {@link #getArtifactRules(String, String)}, this does
+     * not check that the artifact exists.
+     *
+     * @param groupId    (optional)
+     * @param artifactId (optional) if null, no artifact rules are returned
+     * @throws RegistryStorageException
+     */
+    RuleSetDto getRuleSet(String groupId, String artifactId) throws RegistryStorageException;
+
     /**
      * Creates an artifact rule for a specific Artifact.  If the named rule already exists for the artifact, then
      * this should fail.
@@ -461,6 +499,25 @@ public interface RegistryStorage extends DynamicConfigStorage {
      */
     StoredArtifactDto getArtifactVersion(long globalId) throws ArtifactNotFoundException, RegistryStorageException;
 
+    /**
+     * Gets the stored artifact content of many artifact versions by their unique global IDs, with a single
+     * query.  Versions that do not exist or that are disabled are left out of the result.
+     *
+     * @param globalIds
+     * @throws RegistryStorageException
+     */
+    List<StoredArtifactDto> getArtifactVersionsByGlobalIds(Set<Long> globalIds) throws RegistryStorageException;
+
+    /**
+     * Gets the stored artifact content of the artifact versions referenced by many artifact references, with
+     * a single query.  References to versions that do not exist are left out of the result.
+     *
+     * @param references
+     * @return the content, by reference
+     * @throws RegistryStorageException
+     */
+    Map<ArtifactReferenceDto, StoredArtifactDto> getArtifactVersionsByReferences(Set<ArtifactReferenceDto> references) throws RegistryStorageException;
+
     /**
      * Gets the stored value for a single version of a given artifact.
      *
@@ -473,6 +530,38 @@ public interface RegistryStorage extends DynamicConfigStorage {
      */
     StoredArtifactDto getArtifactVersion(String groupId, String artifactId, String version) throws ArtifactNotFoundException, VersionNotFoundException, RegistryStorageException;
 
+    /**
+     * Gets the meta-data and the stored content of a single version of a given artifact, with a single query.
+     *
+     * @param groupId    (optional)
+     * @param artifactId
+     * @param version
+     * @throws VersionNotFoundException
+     * @throws RegistryStorageException
+     */
+    StoredArtifactVersionDto getArtifactVersionContent(String groupId, String artifactId, String version) throws VersionNotFoundException, RegistryStorageException;
+
+    /**
+     * Gets the meta-data and the stored content of the artifact version with the given unique global ID, with a
+     * single query.
+     *
+     * @param globalId
+     * @throws ArtifactNotFoundException
+     * @throws RegistryStorageException
+     */
+    StoredArtifactVersionDto getArtifactVersionContent(long globalId) throws ArtifactNotFoundException, RegistryStorageException;
+
+    /**
+     * Gets the meta-data and the stored content of the latest version of a given artifact, with a single query
+     * in most cases.  The latest version is selected according to the default artifact retrieval behavior.
+     *
+     * @param groupId    (optional)
+     * @param artifactId
+     * @throws ArtifactNotFoundException
+     * @throws RegistryStorageException
+     */
+    StoredArtifactVersionDto getLatestArtifactVersionContent(String groupId, String artifactId) throws ArtifactNotFoundException, RegistryStorageException;
+
     /**
      * Deletes a single version of a given artifact.
      *
@@ -735,6 +824,25 @@ public interface RegistryStorage extends DynamicConfigStorage {
      */
     void deleteAllExpiredDownloads() throws RegistryStorageException;
 
+    /**
+     * Gets the stored result of a compatibility check.
+     *
+     * @param resultKey
+     * @return the result, or null if no result is stored with the given key
+     * @throws RegistryStorageException
+     */
+    CompatibilityResultDto getCompatibilityResult(String resultKey) throws RegistryStorageException;
+
+    /**
+     * Stores the result of a compatibility check, so that it can be reused by other registry replicas.
+     * Results only cache derived data, so they are not exported.  If a result with the same key already
+     * exists, it is kept.
+     *
+     * @param result
+     * @throws RegistryStorageException
+     */
+    void createCompatibilityResult(CompatibilityResultDto result) throws RegistryStorageException;
+
     /**
      * Gets the raw value of a property, bypassing any caching that might be enabled.
      *
@@ -919,6 +1027,12 @@ public interface RegistryStorage extends DynamicConfigStorage {
     Optional<Long> contentIdFromHash(String contentHash);
 
 
+    /**
+     * Returns the hash of the content with the given id, without loading the content itself.
+     */
+    Optional<String> contentHashFromId(long contentId);
+
+
     ArtifactMetaDataDto updateArtifactWithMetadata(String groupId, String artifactId, String version,
                                                    String artifactType, String contentHash, String createdBy, Date createdOn,
                                                    EditableArtifactMetaDataDto metaData,
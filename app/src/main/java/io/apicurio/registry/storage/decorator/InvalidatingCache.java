@@ -0,0 +1,87 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.storage.decorator;
+
+import com.google.common.cache.Cache;
+import io.micrometer.core.instrument.Counter;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * A cache of values read from the storage, used by storage decorators that invalidate it whenever they
+ * forward an operation that may change the cached values (see {@link RegistryStorageCacheDecoratorBase}).
+ * <p>
+ * A generation counter is incremented on every invalidation, so that a value read concurrently with a
+ * change is not cached.
+ */
+public class InvalidatingCache<K, V> {
+
+    private final Cache<K, V> cache;
+    private final AtomicLong generation = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+
+    /**
+     * @param hits   optional counter of cache hits
+     * @param misses optional counter of cache misses
+     */
+    public InvalidatingCache(Cache<K, V> cache, Counter hits, Counter misses) {
+        this.cache = cache;
+        this.hits = hits;
+        this.misses = misses;
+    }
+
+    public InvalidatingCache(Cache<K, V> cache) {
+        this(cache, null, null);
+    }
+
+    /**
+     * Gets the value from the cache, or from the given loader.
+     *
+     * @param loader returns the value, or null if there is no value to cache
+     * @return the value, or null if the loader returned null
+     */
+    public V get(K key, Supplier<V> loader) {
+        V value = cache.getIfPresent(key);
+        if (value != null) {
+            increment(hits);
+            return value;
+        }
+        increment(misses);
+        long readGeneration = generation.get();
+        value = loader.get();
+        if (value != null) {
+            cache.put(key, value);
+            if (generation.get() != readGeneration) {
+                cache.invalidate(key);
+            }
+        }
+        return value;
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+}
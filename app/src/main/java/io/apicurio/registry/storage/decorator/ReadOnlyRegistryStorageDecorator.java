@@ -368,6 +368,13 @@ public class ReadOnlyRegistryStorageDecorator extends RegistryStorageDecoratorRe
     }
 
 
+    @Override
+    public void createCompatibilityResult(CompatibilityResultDto result) throws RegistryStorageException {
+        checkReadOnly();
+        delegate.createCompatibilityResult(result);
+    }
+
+
     @Override
     public CommentDto createArtifactVersionCommentRaw(String groupId, String artifactId, String version,
                                                       IdGenerator commentId, String createdBy, Date createdOn, String value) {
@@ -0,0 +1,860 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.storage.decorator;
+
+import io.apicurio.common.apps.config.DynamicConfigPropertyDto;
+import io.apicurio.registry.content.ContentHandle;
+import io.apicurio.registry.storage.RegistryStorage;
+import io.apicurio.registry.storage.dto.*;
+import io.apicurio.registry.storage.error.*;
+import io.apicurio.registry.storage.impexp.EntityInputStream;
+import io.apicurio.registry.storage.impl.sql.IdGenerator;
+import io.apicurio.registry.storage.impl.sql.ReadReplicaDataSource;
+import io.apicurio.registry.storage.impl.sql.ReadReplicaRouting;
+import io.apicurio.registry.types.ArtifactState;
+import io.apicurio.registry.types.Raw;
+import io.apicurio.registry.types.RuleType;
+import io.apicurio.registry.utils.impexp.*;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Routes read-only storage operations to the read replica datasource (when one is configured),
+ * and records write operations so that the staleness policy can send subsequent reads to the primary.
+ * See {@link ReadReplicaRouting}.
+ * <p>
+ * This decorator is executed first, so that reads performed by the other decorators are routed as well.
+ */
+@ApplicationScoped
+public class ReadReplicaRoutingDecorator extends RegistryStorageDecoratorReadOnlyBase implements RegistryStorageDecorator {
+
+    private static final String SQL_STORAGE_NAME = "sql";
+
+    @Inject
+    ReadReplicaDataSource readReplicaDataSource;
+
+    @Inject
+    ReadReplicaRouting routing;
+
+    @Inject
+    @Raw
+    RegistryStorage storage;
+
+
+    /**
+     * Enabled only when a read replica is configured and the SQL storage is active, because the other
+     * storage variants (KafkaSQL, GitOps, in-memory) do not have a replica of their database.  The storage is
+     * checked first, so that the replica datasource is not created for them.
+     */
+    @Override
+    public boolean isEnabled() {
+        return SQL_STORAGE_NAME.equals(storage.storageName()) && readReplicaDataSource.isEnabled();
+    }
+
+
+    @Override
+    public int order() {
+        return RegistryStorageDecoratorOrderConstants.READ_REPLICA_DECORATOR;
+    }
+
+
+    /**
+     * Failed writes are not tracked, they leave nothing for the replica to catch up with.
+     */
+    private <T> T write(Supplier<T> operation) {
+        T result = operation.get();
+        routing.onWrite();
+        return result;
+    }
+
+
+    private void write(Runnable operation) {
+        operation.run();
+        routing.onWrite();
+    }
+
+
+    @Override
+    public StoredArtifactDto getArtifact(String groupId, String artifactId)
+            throws ArtifactNotFoundException, RegistryStorageException {
+        return routing.read(() -> delegate.getArtifact(groupId, artifactId));
+    }
+
+
+    @Override
+    public StoredArtifactDto getArtifact(String groupId, String artifactId, ArtifactRetrievalBehavior behavior)
+            throws ArtifactNotFoundException, RegistryStorageException {
+        return routing.read(() -> delegate.getArtifact(groupId, artifactId, behavior));
+    }
+
+
+    @Override
+    public ContentWrapperDto getArtifactByContentId(long contentId)
+            throws ContentNotFoundException, RegistryStorageException {
+        return routing.read(() -> delegate.getArtifactByContentId(contentId));
+    }
+
+
+    @Override
+    public Map<Long, ContentWrapperDto> getArtifactsByContentIds(Set<Long> contentIds) throws RegistryStorageException {
+        return routing.read(() -> delegate.getArtifactsByContentIds(contentIds));
+    }
+
+
+    @Override
+    public ContentWrapperDto getArtifactByContentHash(String contentHash)
+            throws ContentNotFoundException, RegistryStorageException {
+        return routing.read(() -> delegate.getArtifactByContentHash(contentHash));
+    }
+
+
+    @Override
+    public List<ArtifactMetaDataDto> getArtifactVersionsByContentId(long contentId) {
+        return routing.read(() -> delegate.getArtifactVersionsByContentId(contentId));
+    }
+
+
+    @Override
+    public Set<String> getArtifactIds(Integer limit) {
+        return routing.read(() -> delegate.getArtifactIds(limit));
+    }
+
+
+    @Override
+    public ArtifactSearchResultsDto searchArtifacts(Set<SearchFilter> filters, OrderBy orderBy,
+                                                    OrderDirection orderDirection, int offset, int limit) {
+        return routing.read(() -> delegate.searchArtifacts(filters, orderBy, orderDirection, offset, limit));
+    }
+
+
+    @Override
+    public ArtifactMetaDataDto getArtifactMetaData(String groupId, String artifactId)
+            throws ArtifactNotFoundException, RegistryStorageException {
+        return routing.read(() -> delegate.getArtifactMetaData(groupId, artifactId));
+    }
+
+
+    @Override
+    public ArtifactMetaDataDto getArtifactMetaData(String groupId, String artifactId, ArtifactRetrievalBehavior behavior)
+            throws ArtifactNotFoundException, RegistryStorageException {
+        return routing.read(() -> delegate.getArtifactMetaData(groupId, artifactId, behavior));
+    }
+
+
+    @Override
+    public ArtifactVersionMetaDataDto getArtifactVersionMetaData(String groupId, String artifactId,
+                                                                 boolean canonical, ContentHandle content, List<ArtifactReferenceDto> artifactReferences)
+            throws ArtifactNotFoundException, RegistryStorageException {
+        return routing.read(() -> delegate.getArtifactVersionMetaData(groupId, artifactId, canonical, content, artifactReferences));
+    }
+
+
+    @Override
+    public ArtifactVersionMetaDataDto getArtifactVersionMetaDataByDereferencedHash(String groupId, String artifactId,
+                                                                                 String dereferencedHash)
+            throws ArtifactNotFoundException, RegistryStorageException {
+        return routing.read(() -> delegate.getArtifactVersionMetaDataByDereferencedHash(groupId, artifactId, dereferencedHash));
+    }
+
+
+    @Override
+    public ArtifactMetaDataDto getArtifactMetaData(long globalId)
+            throws ArtifactNotFoundException, RegistryStorageException {
+        return routing.read(() -> delegate.getArtifactMetaData(globalId));
+    }
+
+
+    /**
+     * Not routed to the read replica, because rule sets are cached (see
+     * {@link io.apicurio.registry.rules.RegistryStorageRuleSetCache}), and a stale rule set read from the
+     * replica would be cached until it expires.
+     */
+    @Override
+    public RuleSetDto getRuleSet(String groupId, String artifactId) throws RegistryStorageException {
+        return delegate.getRuleSet(groupId, artifactId);
+    }
+
+
+    @Override
+    public List<RuleType> getArtifactRules(String groupId, String artifactId)
+            throws ArtifactNotFoundException, RegistryStorageException {
+        return routing.read(() -> delegate.getArtifactRules(groupId, artifactId));
+    }
+
+
+    @Override
+    public RuleConfigurationDto getArtifactRule(String groupId, String artifactId, RuleType rule)
+            throws ArtifactNotFoundException, RuleNotFoundException, RegistryStorageException {
+        return routing.read(() -> delegate.getArtifactRule(groupId, artifactId, rule));
+    }
+
+
+    @Override
+    public List<String> getArtifactVersions(String groupId, String artifactId)
+            throws ArtifactNotFoundException, RegistryStorageException {
+        return routing.read(() -> delegate.getArtifactVersions(groupId, artifactId));
+    }
+
+
+    @Override
+    public VersionSearchResultsDto searchVersions(String groupId, String artifactId, int offset, int limit)
+            throws ArtifactNotFoundException, RegistryStorageException {
+        return routing.read(() -> delegate.searchVersions(groupId, artifactId, offset, limit));
+    }
+
+
+    @Override
+    public StoredArtifactDto getArtifactVersion(long globalId)
+            throws ArtifactNotFoundException, RegistryStorageException {
+        return routing.read(() -> delegate.getArtifactVersion(globalId));
+    }
+
+
+    @Override
+    public List<StoredArtifactDto> getArtifactVersionsByGlobalIds(Set<Long> globalIds) throws RegistryStorageException {
+        return routing.read(() -> delegate.getArtifactVersionsByGlobalIds(globalIds));
+    }
+
+
+    @Override
+    public Map<ArtifactReferenceDto, StoredArtifactDto> getArtifactVersionsByReferences(Set<ArtifactReferenceDto> references)
+            throws RegistryStorageException {
+        return routing.read(() -> delegate.getArtifactVersionsByReferences(references));
+    }
+
+
+    @Override
+    public StoredArtifactDto getArtifactVersion(String groupId, String artifactId, String version)
+            throws ArtifactNotFoundException, VersionNotFoundException, RegistryStorageException {
+        return routing.read(() -> delegate.getArtifactVersion(groupId, artifactId, version));
+    }
+
+
+    @Override
+    public StoredArtifactVersionDto getArtifactVersionContent(String groupId, String artifactId, String version)
+            throws VersionNotFoundException, RegistryStorageException {
+        return routing.read(() -> delegate.getArtifactVersionContent(groupId, artifactId, version));
+    }
+
+
+    @Override
+    public StoredArtifactVersionDto getArtifactVersionContent(long globalId)
+            throws ArtifactNotFoundException, RegistryStorageException {
+        return routing.read(() -> delegate.getArtifactVersionContent(globalId));
+    }
+
+
+    @Override
+    public StoredArtifactVersionDto getLatestArtifactVersionContent(String groupId, String artifactId)
+            throws ArtifactNotFoundException, RegistryStorageException {
+        return routing.read(() -> delegate.getLatestArtifactVersionContent(groupId, artifactId));
+    }
+
+
+    @Override
+    public ArtifactVersionMetaDataDto getArtifactVersionMetaData(String groupId, String artifactId,
+                                                                 String version)
+            throws ArtifactNotFoundException, VersionNotFoundException, RegistryStorageException {
+        return routing.read(() -> delegate.getArtifactVersionMetaData(groupId, artifactId, version));
+    }
+
+
+    @Override
+    public List<RuleType> getGlobalRules() throws RegistryStorageException {
+        return routing.read(() -> delegate.getGlobalRules());
+    }
+
+
+    @Override
+    public RuleConfigurationDto getGlobalRule(RuleType rule)
+            throws RuleNotFoundException, RegistryStorageException {
+        return routing.read(() -> delegate.getGlobalRule(rule));
+    }
+
+
+    @Override
+    public List<String> getGroupIds(Integer limit) throws RegistryStorageException {
+        return routing.read(() -> delegate.getGroupIds(limit));
+    }
+
+
+    @Override
+    public GroupMetaDataDto getGroupMetaData(String groupId)
+            throws GroupNotFoundException, RegistryStorageException {
+        return routing.read(() -> delegate.getGroupMetaData(groupId));
+    }
+
+
+    @Override
+    public void exportData(Function<Entity, Void> handler) throws RegistryStorageException {
+        routing.read(() -> {
+            delegate.exportData(handler);
+            return null;
+        });
+    }
+
+
+    @Override
+    public long countArtifacts() throws RegistryStorageException {
+        return routing.read(() -> delegate.countArtifacts());
+    }
+
+
+    @Override
+    public long countArtifactVersions(String groupId, String artifactId) throws RegistryStorageException {
+        return routing.read(() -> delegate.countArtifactVersions(groupId, artifactId));
+    }
+
+
+    @Override
+    public long countTotalArtifactVersions() throws RegistryStorageException {
+        return routing.read(() -> delegate.countTotalArtifactVersions());
+    }
+
+
+    @Override
+    public RoleMappingDto getRoleMapping(String principalId) throws RegistryStorageException {
+        return routing.read(() -> delegate.getRoleMapping(principalId));
+    }
+
+
+    /**
+     * Not routed to the read replica, because authorization decisions are cached (see
+     * {@link io.apicurio.registry.auth.AuthorizationCache}), and a stale role read from the replica would be
+     * cached until it expires.
+     */
+    @Override
+    public String getRoleForPrincipal(String principalId) throws RegistryStorageException {
+        return delegate.getRoleForPrincipal(principalId);
+    }
+
+
+    @Override
+    public List<RoleMappingDto> getRoleMappings() throws RegistryStorageException {
+        return routing.read(() -> delegate.getRoleMappings());
+    }
+
+
+    @Override
+    public List<DynamicConfigPropertyDto> getConfigProperties() throws RegistryStorageException {
+        return routing.read(() -> delegate.getConfigProperties());
+    }
+
+
+    @Override
+    public DynamicConfigPropertyDto getConfigProperty(String propertyName) {
+        return routing.read(() -> delegate.getConfigProperty(propertyName));
+    }
+
+
+    @Override
+    public List<DynamicConfigPropertyDto> getStaleConfigProperties(Instant since) {
+        return routing.read(() -> delegate.getStaleConfigProperties(since));
+    }
+
+
+    @Override
+    public DynamicConfigPropertyDto getRawConfigProperty(String propertyName) {
+        return routing.read(() -> delegate.getRawConfigProperty(propertyName));
+    }
+
+
+    @Override
+    public CompatibilityResultDto getCompatibilityResult(String resultKey) throws RegistryStorageException {
+        return routing.read(() -> delegate.getCompatibilityResult(resultKey));
+    }
+
+
+    @Override
+    public Map<String, ContentHandle> resolveReferences(List<ArtifactReferenceDto> references) {
+        return routing.read(() -> delegate.resolveReferences(references));
+    }
+
+
+    @Override
+    public boolean isArtifactExists(String groupId, String artifactId) throws RegistryStorageException {
+        return routing.read(() -> delegate.isArtifactExists(groupId, artifactId));
+    }
+
+
+    @Override
+    public boolean isGroupExists(String groupId) throws RegistryStorageException {
+        return routing.read(() -> delegate.isGroupExists(groupId));
+    }
+
+
+    @Override
+    public boolean isArtifactVersionExists(String groupId, String artifactId, String version) throws RegistryStorageException {
+        return routing.read(() -> delegate.isArtifactVersionExists(groupId, artifactId, version));
+    }
+
+
+    @Override
+    public List<Long> getArtifactContentIds(String groupId, String artifactId) {
+        return routing.read(() -> delegate.getArtifactContentIds(groupId, artifactId));
+    }
+
+
+    @Override
+    public List<Long> getContentIdsReferencingArtifact(String groupId, String artifactId, String version) {
+        return routing.read(() -> delegate.getContentIdsReferencingArtifact(groupId, artifactId, version));
+    }
+
+
+    @Override
+    public List<Long> getGlobalIdsReferencingArtifact(String groupId, String artifactId, String version) {
+        return routing.read(() -> delegate.getGlobalIdsReferencingArtifact(groupId, artifactId, version));
+    }
+
+
+    @Override
+    public List<ArtifactReferenceDto> getInboundArtifactReferences(String groupId, String artifactId, String version) {
+        return routing.read(() -> delegate.getInboundArtifactReferences(groupId, artifactId, version));
+    }
+
+
+    @Override
+    public GroupSearchResultsDto searchGroups(Set<SearchFilter> filters, OrderBy orderBy, OrderDirection orderDirection, Integer offset, Integer limit) {
+        return routing.read(() -> delegate.searchGroups(filters, orderBy, orderDirection, offset, limit));
+    }
+
+
+    @Override
+    public List<CommentDto> getArtifactVersionComments(String groupId, String artifactId, String version) {
+        return routing.read(() -> delegate.getArtifactVersionComments(groupId, artifactId, version));
+    }
+
+
+    @Override
+    public boolean isContentExists(String contentHash) throws RegistryStorageException {
+        return routing.read(() -> delegate.isContentExists(contentHash));
+    }
+
+
+    @Override
+    public boolean isArtifactRuleExists(String groupId, String artifactId, RuleType rule) throws RegistryStorageException {
+        return routing.read(() -> delegate.isArtifactRuleExists(groupId, artifactId, rule));
+    }
+
+
+    @Override
+    public boolean isGlobalRuleExists(RuleType rule) throws RegistryStorageException {
+        return routing.read(() -> delegate.isGlobalRuleExists(rule));
+    }
+
+
+    @Override
+    public boolean isRoleMappingExists(String principalId) {
+        return routing.read(() -> delegate.isRoleMappingExists(principalId));
+    }
+
+
+    @Override
+    public Optional<Long> contentIdFromHash(String contentHash) {
+        return routing.read(() -> delegate.contentIdFromHash(contentHash));
+    }
+
+
+    @Override
+    public Optional<String> contentHashFromId(long contentId) {
+        return routing.read(() -> delegate.contentHashFromId(contentId));
+    }
+
+
+    @Override
+    public String normalizeVersion(String groupId, String artifactId, String version) {
+        return routing.read(() -> delegate.normalizeVersion(groupId, artifactId, version));
+    }
+
+
+    @Override
+    public List<Long> getEnabledArtifactContentIds(String groupId, String artifactId) {
+        return routing.read(() -> delegate.getEnabledArtifactContentIds(groupId, artifactId));
+    }
+
+
+    @Override
+    public List<String> getArtifactVersions(String groupId, String artifactId, ArtifactRetrievalBehavior behavior) throws ArtifactNotFoundException, RegistryStorageException {
+        return routing.read(() -> delegate.getArtifactVersions(groupId, artifactId, behavior));
+    }
+
+
+    @Override
+    public ArtifactMetaDataDto createArtifact(String groupId, String artifactId, String version, String artifactType, ContentHandle content, List<ArtifactReferenceDto> references)
+            throws ArtifactAlreadyExistsException, RegistryStorageException {
+        return write(() -> delegate.createArtifact(groupId, artifactId, version, artifactType, content, references));
+    }
+
+
+    @Override
+    public ArtifactMetaDataDto createArtifactWithMetadata(String groupId, String artifactId, String version, String artifactType,
+                                                          ContentHandle content, EditableArtifactMetaDataDto metaData,
+                                                          List<ArtifactReferenceDto> references)
+            throws ArtifactAlreadyExistsException, RegistryStorageException {
+        return write(() -> delegate.createArtifactWithMetadata(groupId, artifactId, version, artifactType, content, metaData, references));
+    }
+
+
+    @Override
+    public List<String> deleteArtifact(String groupId, String artifactId) throws ArtifactNotFoundException, RegistryStorageException {
+        return write(() -> delegate.deleteArtifact(groupId, artifactId));
+    }
+
+
+    @Override
+    public void deleteArtifacts(String groupId) throws RegistryStorageException {
+        write(() -> delegate.deleteArtifacts(groupId));
+    }
+
+
+    @Override
+    public ArtifactMetaDataDto updateArtifact(String groupId, String artifactId, String version, String artifactType,
+                                              ContentHandle content, List<ArtifactReferenceDto> references)
+            throws ArtifactNotFoundException, RegistryStorageException {
+        return write(() -> delegate.updateArtifact(groupId, artifactId, version, artifactType, content, references));
+    }
+
+
+    @Override
+    public ArtifactMetaDataDto updateArtifactWithMetadata(String groupId, String artifactId, String version, String artifactType,
+                                                          ContentHandle content, EditableArtifactMetaDataDto metaData,
+                                                          List<ArtifactReferenceDto> references)
+            throws ArtifactNotFoundException, RegistryStorageException {
+        return write(() -> delegate.updateArtifactWithMetadata(groupId, artifactId, version, artifactType, content, metaData, references));
+    }
+
+
+    @Override
+    public void updateArtifactMetaData(String groupId, String artifactId, EditableArtifactMetaDataDto metaData)
+            throws ArtifactNotFoundException, RegistryStorageException {
+        write(() -> delegate.updateArtifactMetaData(groupId, artifactId, metaData));
+    }
+
+
+    @Override
+    public void updateArtifactOwner(String groupId, String artifactId, ArtifactOwnerDto owner)
+            throws ArtifactNotFoundException, RegistryStorageException {
+        write(() -> delegate.updateArtifactOwner(groupId, artifactId, owner));
+    }
+
+
+    @Override
+    public void createArtifactRule(String groupId, String artifactId, RuleType rule, RuleConfigurationDto config)
+            throws ArtifactNotFoundException, RuleAlreadyExistsException, RegistryStorageException {
+        write(() -> delegate.createArtifactRule(groupId, artifactId, rule, config));
+    }
+
+
+    @Override
+    public void deleteArtifactRules(String groupId, String artifactId) throws ArtifactNotFoundException, RegistryStorageException {
+        write(() -> delegate.deleteArtifactRules(groupId, artifactId));
+    }
+
+
+    @Override
+    public void updateArtifactRule(String groupId, String artifactId, RuleType rule, RuleConfigurationDto config)
+            throws ArtifactNotFoundException, RuleNotFoundException, RegistryStorageException {
+        write(() -> delegate.updateArtifactRule(groupId, artifactId, rule, config));
+    }
+
+
+    @Override
+    public void deleteArtifactRule(String groupId, String artifactId, RuleType rule)
+            throws ArtifactNotFoundException, RuleNotFoundException, RegistryStorageException {
+        write(() -> delegate.deleteArtifactRule(groupId, artifactId, rule));
+    }
+
+
+    @Override
+    public void deleteArtifactVersion(String groupId, String artifactId, String version)
+            throws ArtifactNotFoundException, RegistryStorageException {
+        write(() -> delegate.deleteArtifactVersion(groupId, artifactId, version));
+    }
+
+
+    @Override
+    public void updateArtifactVersionMetaData(String groupId, String artifactId, String version, EditableArtifactMetaDataDto metaData)
+            throws ArtifactNotFoundException, RegistryStorageException {
+        write(() -> delegate.updateArtifactVersionMetaData(groupId, artifactId, version, metaData));
+    }
+
+
+    @Override
+    public void deleteArtifactVersionMetaData(String groupId, String artifactId, String version)
+            throws ArtifactNotFoundException, RegistryStorageException {
+        write(() -> delegate.deleteArtifactVersionMetaData(groupId, artifactId, version));
+    }
+
+
+    @Override
+    public void createGlobalRule(RuleType rule, RuleConfigurationDto config)
+            throws RuleAlreadyExistsException, RegistryStorageException {
+        write(() -> delegate.createGlobalRule(rule, config));
+    }
+
+
+    @Override
+    public void deleteGlobalRules() throws RegistryStorageException {
+        write(() -> delegate.deleteGlobalRules());
+    }
+
+
+    @Override
+    public void updateGlobalRule(RuleType rule, RuleConfigurationDto config) throws RuleNotFoundException, RegistryStorageException {
+        write(() -> delegate.updateGlobalRule(rule, config));
+    }
+
+
+    @Override
+    public void deleteGlobalRule(RuleType rule) throws RuleNotFoundException, RegistryStorageException {
+        write(() -> delegate.deleteGlobalRule(rule));
+    }
+
+
+    @Override
+    public void updateArtifactState(String groupId, String artifactId, ArtifactState state)
+            throws ArtifactNotFoundException, RegistryStorageException {
+        write(() -> delegate.updateArtifactState(groupId, artifactId, state));
+    }
+
+
+    @Override
+    public void updateArtifactState(String groupId, String artifactId, String version, ArtifactState state)
+            throws ArtifactNotFoundException, RegistryStorageException {
+        write(() -> delegate.updateArtifactState(groupId, artifactId, version, state));
+    }
+
+
+    @Override
+    public void createGroup(GroupMetaDataDto group) throws GroupAlreadyExistsException, RegistryStorageException {
+        write(() -> delegate.createGroup(group));
+    }
+
+
+    @Override
+    public void updateGroupMetaData(GroupMetaDataDto group) throws GroupNotFoundException, RegistryStorageException {
+        write(() -> delegate.updateGroupMetaData(group));
+    }
+
+
+    @Override
+    public void deleteGroup(String groupId) throws GroupNotFoundException, RegistryStorageException {
+        write(() -> delegate.deleteGroup(groupId));
+    }
+
+
+    @Override
+    public void importData(EntityInputStream entities, boolean preserveGlobalId, boolean preserveContentId)
+            throws RegistryStorageException {
+        write(() -> delegate.importData(entities, preserveGlobalId, preserveContentId));
+    }
+
+
+    @Override
+    public void createRoleMapping(String principalId, String role, String principalName) throws RegistryStorageException {
+        write(() -> delegate.createRoleMapping(principalId, role, principalName));
+    }
+
+
+    @Override
+    public void deleteRoleMapping(String principalId) throws RegistryStorageException {
+        write(() -> delegate.deleteRoleMapping(principalId));
+    }
+
+
+    @Override
+    public void updateRoleMapping(String principalId, String role) throws RegistryStorageException {
+        write(() -> delegate.updateRoleMapping(principalId, role));
+    }
+
+
+    @Override
+    public void deleteAllUserData() throws RegistryStorageException {
+        write(() -> delegate.deleteAllUserData());
+    }
+
+
+    @Override
+    public void setConfigProperty(DynamicConfigPropertyDto propertyDto) {
+        write(() -> delegate.setConfigProperty(propertyDto));
+    }
+
+
+    @Override
+    public void deleteConfigProperty(String propertyName) {
+        write(() -> delegate.deleteConfigProperty(propertyName));
+    }
+
+
+    @Override
+    public CommentDto createArtifactVersionComment(String groupId, String artifactId, String version, String value) {
+        return write(() -> delegate.createArtifactVersionComment(groupId, artifactId, version, value));
+    }
+
+
+    @Override
+    public void deleteArtifactVersionComment(String groupId, String artifactId, String version, String commentId) {
+        write(() -> delegate.deleteArtifactVersionComment(groupId, artifactId, version, commentId));
+    }
+
+
+    @Override
+    public void updateArtifactVersionComment(String groupId, String artifactId, String version, String commentId, String value) {
+        write(() -> delegate.updateArtifactVersionComment(groupId, artifactId, version, commentId, value));
+    }
+
+
+    @Override
+    public String createDownload(DownloadContextDto context) throws RegistryStorageException {
+        return write(() -> delegate.createDownload(context));
+    }
+
+
+    @Override
+    public DownloadContextDto consumeDownload(String downloadId) throws RegistryStorageException {
+        return write(() -> delegate.consumeDownload(downloadId));
+    }
+
+
+    @Override
+    public void deleteAllExpiredDownloads() throws RegistryStorageException {
+        write(() -> delegate.deleteAllExpiredDownloads());
+    }
+
+
+    /**
+     * Not tracked as a write, because it only memoizes the result of a compatibility check.  A result that
+     * is not replicated yet is just computed again, so it must not send the reads to the primary.
+     */
+    @Override
+    public void createCompatibilityResult(CompatibilityResultDto result) throws RegistryStorageException {
+        delegate.createCompatibilityResult(result);
+    }
+
+
+    @Override
+    public CommentDto createArtifactVersionCommentRaw(String groupId, String artifactId, String version,
+                                                      IdGenerator commentId, String createdBy, Date createdOn, String value) {
+        return write(() -> delegate.createArtifactVersionCommentRaw(groupId, artifactId, version, commentId, createdBy, createdOn, value));
+    }
+
+
+    @Override
+    public void resetGlobalId() {
+        write(() -> delegate.resetGlobalId());
+    }
+
+
+    @Override
+    public void resetContentId() {
+        write(() -> delegate.resetContentId());
+    }
+
+
+    @Override
+    public void resetCommentId() {
+        write(() -> delegate.resetCommentId());
+    }
+
+
+    @Override
+    public void importComment(CommentEntity entity) {
+        write(() -> delegate.importComment(entity));
+    }
+
+
+    @Override
+    public void importGroup(GroupEntity entity) {
+        write(() -> delegate.importGroup(entity));
+    }
+
+
+    @Override
+    public void importGlobalRule(GlobalRuleEntity entity) {
+        write(() -> delegate.importGlobalRule(entity));
+    }
+
+
+    @Override
+    public void importContent(ContentEntity entity) {
+        write(() -> delegate.importContent(entity));
+    }
+
+
+    @Override
+    public void importArtifactVersion(ArtifactVersionEntity entity) {
+        write(() -> delegate.importArtifactVersion(entity));
+    }
+
+
+    @Override
+    public void importArtifactRule(ArtifactRuleEntity entity) {
+        write(() -> delegate.importArtifactRule(entity));
+    }
+
+
+    @Override
+    public void updateContentCanonicalHash(String newCanonicalHash, long contentId, String contentHash) {
+        write(() -> delegate.updateContentCanonicalHash(newCanonicalHash, contentId, contentHash));
+    }
+
+
+    @Override
+    public ArtifactMetaDataDto updateArtifactWithMetadata(String groupId, String artifactId, String version,
+                                                          String artifactType, String contentHash, String createdBy,
+                                                          Date createdOn, EditableArtifactMetaDataDto metaData,
+                                                          IdGenerator globalIdGenerator) {
+        return write(() -> delegate.updateArtifactWithMetadata(groupId, artifactId, version, artifactType, contentHash, createdBy, createdOn, metaData, globalIdGenerator));
+    }
+
+
+    @Override
+    public ArtifactMetaDataDto createArtifactWithMetadata(String groupId, String artifactId, String version,
+                                                          String artifactType, String contentHash, String createdBy,
+                                                          Date createdOn, EditableArtifactMetaDataDto metaData,
+                                                          IdGenerator globalIdGenerator)
+            throws ArtifactNotFoundException, RegistryStorageException {
+        return write(() -> delegate.createArtifactWithMetadata(groupId, artifactId, version, artifactType, contentHash, createdBy, createdOn, metaData, globalIdGenerator));
+    }
+
+
+    @Override
+    public long nextContentId() {
+        return write(() -> delegate.nextContentId());
+    }
+
+
+    @Override
+    public long nextGlobalId() {
+        return write(() -> delegate.nextGlobalId());
+    }
+
+
+    @Override
+    public long nextCommentId() {
+        return write(() -> delegate.nextCommentId());
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.storage.decorator;
+
+import java.util.function.Supplier;
+
+/**
+ * Base of the storage decorators that cache values read from the storage, and invalidate their
+ * {@link InvalidatingCache caches} after the storage operations that may change the cached values.
+ * The caches are invalidated even if the operation fails, because it may have changed the storage
+ * before failing.
+ */
+public abstract class RegistryStorageCacheDecoratorBase extends RegistryStorageDecoratorBase implements RegistryStorageDecorator {
+
+    protected <T> T invalidateAfter(Supplier<T> operation, InvalidatingCache<?, ?>... caches) {
+        try {
+            return operation.get();
+        } finally {
+            invalidate(caches);
+        }
+    }
+
+    protected void invalidateAfter(Runnable operation, InvalidatingCache<?, ?>... caches) {
+        try {
+            operation.run();
+        } finally {
+            invalidate(caches);
+        }
+    }
+
+    private static void invalidate(InvalidatingCache<?, ?>... caches) {
+        for (InvalidatingCache<?, ?> cache : caches) {
+            cache.invalidateAll();
+        }
+    }
+}
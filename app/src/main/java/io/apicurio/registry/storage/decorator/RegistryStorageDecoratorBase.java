@@ -256,6 +256,12 @@ public class RegistryStorageDecoratorBase extends RegistryStorageDecoratorReadOn
     }
 
 
+    @Override
+    public void createCompatibilityResult(CompatibilityResultDto result) throws RegistryStorageException {
+        delegate.createCompatibilityResult(result);
+    }
+
+
     @Override
     public void setConfigProperty(DynamicConfigPropertyDto property) throws RegistryStorageException {
         delegate.setConfigProperty(property);
@@ -5,6 +5,8 @@ package io.apicurio.registry.storage.decorator;
  */
 public interface RegistryStorageDecoratorOrderConstants {
 
+    int READ_REPLICA_DECORATOR = 0;
+
     int READ_ONLY_DECORATOR = 10;
 
     int LIMITS_ENFORCER_DECORATOR = 20;
@@ -12,4 +14,10 @@ public interface RegistryStorageDecoratorOrderConstants {
     int CONFIG_CACHE_DECORATOR = 30;
 
     int EVENT_SOURCED_DECORATOR = 40;
+
+    int RULE_SET_CACHE_DECORATOR = 50;
+
+    int DEREFERENCED_CONTENT_CACHE_DECORATOR = 60;
+
+    int AUTHORIZATION_CACHE_DECORATOR = 70;
 }
@@ -94,6 +94,12 @@ public abstract class RegistryStorageDecoratorReadOnlyBase implements RegistrySt
     }
 
 
+    @Override
+    public Map<Long, ContentWrapperDto> getArtifactsByContentIds(Set<Long> contentIds) throws RegistryStorageException {
+        return delegate.getArtifactsByContentIds(contentIds);
+    }
+
+
     @Override
     public ContentWrapperDto getArtifactByContentHash(String contentHash)
             throws ContentNotFoundException, RegistryStorageException {
@@ -142,6 +148,14 @@ public abstract class RegistryStorageDecoratorReadOnlyBase implements RegistrySt
     }
 
 
+    @Override
+    public ArtifactVersionMetaDataDto getArtifactVersionMetaDataByDereferencedHash(String groupId, String artifactId,
+                                                                                 String dereferencedHash)
+            throws ArtifactNotFoundException, RegistryStorageException {
+        return delegate.getArtifactVersionMetaDataByDereferencedHash(groupId, artifactId, dereferencedHash);
+    }
+
+
     @Override
     public ArtifactMetaDataDto getArtifactMetaData(long globalId)
             throws ArtifactNotFoundException, RegistryStorageException {
@@ -149,6 +163,12 @@ public abstract class RegistryStorageDecoratorReadOnlyBase implements RegistrySt
     }
 
 
+    @Override
+    public RuleSetDto getRuleSet(String groupId, String artifactId) throws RegistryStorageException {
+        return delegate.getRuleSet(groupId, artifactId);
+    }
+
+
     @Override
     public List<RuleType> getArtifactRules(String groupId, String artifactId)
             throws ArtifactNotFoundException, RegistryStorageException {
@@ -192,6 +212,19 @@ public abstract class RegistryStorageDecoratorReadOnlyBase implements RegistrySt
     }
 
 
+    @Override
+    public List<StoredArtifactDto> getArtifactVersionsByGlobalIds(Set<Long> globalIds) throws RegistryStorageException {
+        return delegate.getArtifactVersionsByGlobalIds(globalIds);
+    }
+
+
+    @Override
+    public Map<ArtifactReferenceDto, StoredArtifactDto> getArtifactVersionsByReferences(Set<ArtifactReferenceDto> references)
+            throws RegistryStorageException {
+        return delegate.getArtifactVersionsByReferences(references);
+    }
+
+
     @Override
     public StoredArtifactDto getArtifactVersion(String groupId, String artifactId, String version)
             throws ArtifactNotFoundException, VersionNotFoundException, RegistryStorageException {
@@ -199,6 +232,27 @@ public abstract class RegistryStorageDecoratorReadOnlyBase implements RegistrySt
     }
 
 
+    @Override
+    public StoredArtifactVersionDto getArtifactVersionContent(String groupId, String artifactId, String version)
+            throws VersionNotFoundException, RegistryStorageException {
+        return delegate.getArtifactVersionContent(groupId, artifactId, version);
+    }
+
+
+    @Override
+    public StoredArtifactVersionDto getArtifactVersionContent(long globalId)
+            throws ArtifactNotFoundException, RegistryStorageException {
+        return delegate.getArtifactVersionContent(globalId);
+    }
+
+
+    @Override
+    public StoredArtifactVersionDto getLatestArtifactVersionContent(String groupId, String artifactId)
+            throws ArtifactNotFoundException, RegistryStorageException {
+        return delegate.getLatestArtifactVersionContent(groupId, artifactId);
+    }
+
+
     @Override
     public ArtifactVersionMetaDataDto getArtifactVersionMetaData(String groupId, String artifactId,
                                                                  String version)
@@ -299,6 +353,12 @@ public abstract class RegistryStorageDecoratorReadOnlyBase implements RegistrySt
     }
 
 
+    @Override
+    public CompatibilityResultDto getCompatibilityResult(String resultKey) throws RegistryStorageException {
+        return delegate.getCompatibilityResult(resultKey);
+    }
+
+
     @Override
     public Map<String, ContentHandle> resolveReferences(List<ArtifactReferenceDto> references) {
         return delegate.resolveReferences(references);
@@ -388,6 +448,12 @@ public abstract class RegistryStorageDecoratorReadOnlyBase implements RegistrySt
     }
 
 
+    @Override
+    public Optional<String> contentHashFromId(long contentId) {
+        return delegate.contentHashFromId(contentId);
+    }
+
+
     @Override
     public String normalizeVersion(String groupId, String artifactId, String version) {
         return delegate.normalizeVersion(groupId, artifactId, version);
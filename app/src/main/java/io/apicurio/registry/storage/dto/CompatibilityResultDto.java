@@ -0,0 +1,52 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.storage.dto;
+
+import io.apicurio.registry.rules.RuleViolation;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.Set;
+
+/**
+ * The result of a compatibility check between two pieces of content, identified by a key derived
+ * from the checked content.  An empty set of violations means the content is compatible.
+ */
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode
+@Getter
+@Setter
+@ToString
+@RegisterForReflection
+public class CompatibilityResultDto {
+
+    private String resultKey;
+    private Set<RuleViolation> violations;
+
+    /**
+     * Constructor.
+     */
+    public CompatibilityResultDto() {
+    }
+
+}
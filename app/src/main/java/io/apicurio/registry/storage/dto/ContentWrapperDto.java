@@ -31,6 +31,7 @@ import java.util.List;
 public class ContentWrapperDto {
 
     private ContentHandle content;
+    private String contentHash;
     private List<ArtifactReferenceDto> references;
 
     public ContentWrapperDto() {
@@ -50,6 +51,20 @@ public class ContentWrapperDto {
         this.content = content;
     }
 
+    /**
+     * @return the content hash
+     */
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    /**
+     * @param contentHash
+     */
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
     /**
      * @return the content references
      */
@@ -17,7 +17,9 @@
 package io.apicurio.registry.storage.dto;
 
 import io.apicurio.registry.content.ContentHandle;
+import io.apicurio.registry.content.StoredContentHandle;
 import io.apicurio.registry.storage.RegistryStorage;
+import io.apicurio.registry.storage.error.ContentNotFoundException;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Collection;
@@ -28,6 +30,10 @@ import java.util.NoSuchElementException;
 import java.util.Spliterator;
 import java.util.function.Consumer;
 
+/**
+ * A list of stored content, loaded on demand.  Every element is a {@link StoredContentHandle}, so
+ * the consumers of the list can cache anything they derive from the content by its content ID.
+ */
 public class LazyContentList implements List<ContentHandle> {
 
     private final RegistryStorage storage;
@@ -56,7 +62,7 @@ public class LazyContentList implements List<ContentHandle> {
     @Override
     public ContentHandle get(int index) {
         //Not the best solution, works for now...
-        return storage.getArtifactByContentId(contentIds.get(index)).getContent();
+        return load(contentIds.get(index));
     }
 
     @Override
@@ -169,7 +175,7 @@ public class LazyContentList implements List<ContentHandle> {
     @Override
     public void forEach(Consumer<? super ContentHandle> action) {
         for (Long contentId : contentIds) {
-            ContentHandle retrievedContent = storage.getArtifactByContentId(contentId).getContent();
+            ContentHandle retrievedContent = load(contentId);
             action.accept(retrievedContent);
         }
     }
@@ -180,12 +186,24 @@ public class LazyContentList implements List<ContentHandle> {
 
     public ContentHandle getContentById(long contentId) {
         if (contentIds.contains(contentId)) {
-            return storage.getArtifactByContentId(contentId).getContent();
+            return load(contentId);
         } else {
             throw new NoSuchElementException(String.format("No content found with id %d", contentId));
         }
     }
 
+    /**
+     * Returns the hash the content at the given index is stored under, without loading the content.
+     */
+    public String getContentHash(int index) {
+        long contentId = contentIds.get(index);
+        return storage.contentHashFromId(contentId).orElseThrow(() -> new ContentNotFoundException(contentId));
+    }
+
+    private ContentHandle load(long contentId) {
+        return new StoredContentHandle(contentId, storage.getArtifactByContentId(contentId).getContent());
+    }
+
     private static class LazyContentListIterator implements Iterator<ContentHandle> {
 
         private final LazyContentList lazyContentList;
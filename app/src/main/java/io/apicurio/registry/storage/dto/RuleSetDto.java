@@ -0,0 +1,51 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.storage.dto;
+
+import io.apicurio.registry.types.RuleType;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.Map;
+
+/**
+ * The configured rules of an artifact, together with the configured global rules.
+ */
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode
+@Getter
+@Setter
+@ToString
+@RegisterForReflection
+public class RuleSetDto {
+
+    private Map<RuleType, RuleConfigurationDto> artifactRules;
+    private Map<RuleType, RuleConfigurationDto> globalRules;
+
+    /**
+     * Constructor.
+     */
+    public RuleSetDto() {
+    }
+
+}
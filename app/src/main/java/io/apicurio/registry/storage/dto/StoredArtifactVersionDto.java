@@ -0,0 +1,40 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.storage.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * The meta-data and the stored content of a single artifact version, as read together by the most common
+ * read operations.
+ */
+@Value
+@Builder
+public class StoredArtifactVersionDto {
+
+    private String groupId;
+
+    private String artifactId;
+
+    private String contentHash;
+
+    private ArtifactVersionMetaDataDto metaData;
+
+    private StoredArtifactDto artifact;
+
+}
@@ -17,10 +17,14 @@
 package io.apicurio.registry.storage.impl.sql;
 
 import io.agroal.api.AgroalDataSource;
+import io.apicurio.registry.metrics.MetricsConstants;
 import io.apicurio.registry.storage.error.RegistryStorageException;
 import io.apicurio.registry.storage.impl.sql.jdb.Handle;
 import io.apicurio.registry.storage.impl.sql.jdb.HandleCallback;
 import io.apicurio.registry.storage.impl.sql.jdb.HandleImpl;
+import io.apicurio.registry.storage.impl.sql.jdb.StatementMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 
 import java.io.IOException;
@@ -38,15 +42,42 @@ public abstract class AbstractHandleFactory implements HandleFactory {
 
     private AgroalDataSource dataSource;
 
+    private AgroalDataSource readReplicaDataSource;
+
     private String dataSourceId;
 
     private Logger log;
 
+    private Timer primaryTimer;
+
+    private Timer readReplicaTimer;
+
+    private StatementMetrics statementMetrics;
+
     protected void initialize(AgroalDataSource dataSource, String dataSourceId, Logger log) {
+        initialize(dataSource, null, dataSourceId, null, null, log);
+    }
+
+    /**
+     * @param readReplicaDataSource optional datasource used for handles opened within a read scope,
+     *                              see {@link ReadReplicaRouting#isReadScope()}
+     * @param registry              optional meter registry, used to time handles per datasource
+     * @param statementMetrics      optional per-statement metrics
+     */
+    protected void initialize(AgroalDataSource dataSource, AgroalDataSource readReplicaDataSource, String dataSourceId,
+                              MeterRegistry registry, StatementMetrics statementMetrics, Logger log) {
         // CDI error if there is no no-args constructor
         this.dataSource = dataSource;
+        this.readReplicaDataSource = readReplicaDataSource;
         this.dataSourceId = dataSourceId;
         this.log = log;
+        this.statementMetrics = statementMetrics;
+        if (registry != null) {
+            this.primaryTimer = handleTimer(registry, dataSourceId);
+            if (readReplicaDataSource != null) {
+                this.readReplicaTimer = handleTimer(registry, ReadReplicaDataSource.NAME);
+            }
+        }
     }
 
     @Override
@@ -56,26 +87,43 @@ public abstract class AbstractHandleFactory implements HandleFactory {
          * Make sure that all nested uses of a handle are either within a transaction context,
          * or without one. Starting a transaction with a nested handle will cause an exception.
          */
+        LocalState state = get();
         try {
-            if (get().handle == null) {
-                get().handle = new HandleImpl(dataSource.getConnection());
+            if (state.handle == null) {
+                boolean useReadReplica = readReplicaDataSource != null && ReadReplicaRouting.isReadScope();
+                state.timer = useReadReplica ? readReplicaTimer : primaryTimer;
+                if (state.timer != null) {
+                    state.sample = Timer.start();
+                }
+                state.handle = new HandleImpl((useReadReplica ? readReplicaDataSource : dataSource).getConnection(),
+                        statementMetrics);
             } else {
-                get().level++;
+                state.level++;
             }
-            return callback.withHandle(get().handle);
+            return callback.withHandle(state.handle);
         } catch (SQLException e) {
             throw new RegistryStorageException(e);
         } finally {
-            if (get().level > 0) {
-                get().level--;
+            if (state.level > 0) {
+                state.level--;
             } else {
                 try {
-                    get().handle.close();
+                    if (state.handle != null) {
+                        state.handle.close();
+                    }
                 } catch (IOException ex) {
                     // Nothing we can do
                     log.error("Could not close a database handle", ex);
                 } finally {
-                    local.get().remove(dataSourceId);
+                    Map<String, LocalState> states = local.get();
+                    states.remove(dataSourceId);
+                    if (states.isEmpty()) {
+                        // Do not keep the map of a thread that holds no handle, e.g. a short-lived (virtual) thread
+                        local.remove();
+                    }
+                    if (state.sample != null) {
+                        state.sample.stop(state.timer);
+                    }
                 }
             }
         }
@@ -94,6 +142,14 @@ public abstract class AbstractHandleFactory implements HandleFactory {
     }
 
 
+    private static Timer handleTimer(MeterRegistry registry, String dataSourceName) {
+        return Timer.builder(MetricsConstants.STORAGE_DATASOURCE_HANDLE)
+                .description(MetricsConstants.STORAGE_DATASOURCE_HANDLE_DESCRIPTION)
+                .tag(MetricsConstants.STORAGE_DATASOURCE_TAG_NAME, dataSourceName)
+                .register(registry);
+    }
+
+
     private LocalState get() {
         return local.get().computeIfAbsent(dataSourceId, k -> new LocalState());
     }
@@ -104,5 +160,9 @@ public abstract class AbstractHandleFactory implements HandleFactory {
         Handle handle;
 
         int level;
+
+        Timer timer;
+
+        Timer.Sample sample;
     }
 }
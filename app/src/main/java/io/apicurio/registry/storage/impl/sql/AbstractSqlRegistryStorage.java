@@ -16,6 +16,7 @@
 
 package io.apicurio.registry.storage.impl.sql;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.apicurio.common.apps.config.DynamicConfigPropertyDto;
@@ -23,6 +24,7 @@ import io.apicurio.common.apps.config.Info;
 import io.apicurio.common.apps.core.System;
 import io.apicurio.registry.content.ContentHandle;
 import io.apicurio.registry.exception.UnreachableCodeException;
+import io.apicurio.registry.rules.RuleViolation;
 import io.apicurio.registry.storage.ArtifactStateExt;
 import io.apicurio.registry.storage.RegistryStorage;
 import io.apicurio.registry.storage.StorageBehaviorProperties;
@@ -34,6 +36,7 @@ import io.apicurio.registry.storage.impexp.EntityInputStream;
 import io.apicurio.registry.storage.impl.sql.jdb.Handle;
 import io.apicurio.registry.storage.impl.sql.jdb.Query;
 import io.apicurio.registry.storage.impl.sql.jdb.RowMapper;
+import io.apicurio.registry.storage.impl.sql.jdb.RuntimeSqlException;
 import io.apicurio.registry.storage.impl.sql.mappers.*;
 import io.apicurio.registry.storage.importing.DataImporter;
 import io.apicurio.registry.storage.importing.SqlDataImporter;
@@ -63,6 +66,8 @@ import java.sql.SQLException;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -84,7 +89,7 @@ public abstract class AbstractSqlRegistryStorage implements RegistryStorage {
 
     private static int DB_VERSION = Integer.valueOf(
             IoUtil.toString(AbstractSqlRegistryStorage.class.getResourceAsStream("db-version"))).intValue();
-    private static final Object inmemorySequencesMutex = new Object();
+    private static final Lock inmemorySequencesLock = new ReentrantLock();
 
     private static final ObjectMapper mapper = new ObjectMapper();
 
@@ -135,6 +140,38 @@ public abstract class AbstractSqlRegistryStorage implements RegistryStorage {
     @Info(category = "storage", description = "Datasource jdbc URL", availableSince = "2.1.0.Final")
     String jdbcUrl;
 
+    @ConfigProperty(name = "registry.sql.content.compression.enabled", defaultValue = "false")
+    @Info(category = "storage", description = "Compress artifact content stored in the database", availableSince = "3.0.0")
+    boolean contentCompressionEnabled;
+
+    @ConfigProperty(name = "registry.sql.content.compression.threshold", defaultValue = "1024")
+    @Info(category = "storage", description = "Minimum size (in bytes) of artifact content to be compressed", availableSince = "3.0.0")
+    int contentCompressionThreshold;
+
+    @ConfigProperty(name = "registry.sql.content.compression.upgrade", defaultValue = "false")
+    @Info(category = "storage", description = "Compress existing artifact content on startup (requires content compression to be enabled)", availableSince = "3.0.0")
+    boolean contentCompressionUpgrade;
+
+    @ConfigProperty(name = "registry.sql.content.compression.upgrade.batch-size", defaultValue = "100")
+    @Info(category = "storage", description = "Number of content rows compressed per batch when compressing existing content", availableSince = "3.0.0")
+    int contentCompressionUpgradeBatchSize;
+
+    @ConfigProperty(name = "registry.sql.import.bulk.enabled", defaultValue = "false")
+    @Info(category = "storage", description = "Use JDBC batches when importing data into an empty storage", availableSince = "3.0.0")
+    boolean bulkImportEnabled;
+
+    @ConfigProperty(name = "registry.sql.import.bulk.batch-size", defaultValue = "500")
+    @Info(category = "storage", description = "Maximum number of rows written in a single JDBC batch during a bulk import", availableSince = "3.0.0")
+    int bulkImportBatchSize;
+
+    @ConfigProperty(name = "registry.sql.import.bulk.rebuild-indexes", defaultValue = "false")
+    @Info(category = "storage", description = "Drop secondary indexes during a bulk import and create them again afterwards", availableSince = "3.0.0")
+    boolean bulkImportRebuildIndexes;
+
+    @ConfigProperty(name = "registry.sql.export.fetch-size", defaultValue = "1000")
+    @Info(category = "storage", description = "Number of rows fetched from the database at a time when exporting data", availableSince = "3.0.0")
+    int exportFetchSize;
+
     @Inject
     Event<SqlStorageEvent> sqlStorageEvent;
 
@@ -142,6 +179,7 @@ public abstract class AbstractSqlRegistryStorage implements RegistryStorage {
     Event<StorageEvent> storageEvent;
 
     private volatile boolean isReady = false;
+    private DereferencedHashUpgrader dereferencedHashes;
     private volatile Instant isAliveLastCheck = Instant.MIN;
     private volatile boolean isAliveCached = false;
 
@@ -155,6 +193,7 @@ public abstract class AbstractSqlRegistryStorage implements RegistryStorage {
     @Transactional
     protected void initialize(HandleFactory handleFactory, boolean emitStorageReadyEvent) {
         this.handles = handleFactory;
+        this.dereferencedHashes = new DereferencedHashUpgrader(log, sqlStatements, utils, this::resolveReferences);
 
         log.info("SqlRegistryStorage constructed successfully.  JDBC URL: " + jdbcUrl);
 
@@ -171,6 +210,12 @@ public abstract class AbstractSqlRegistryStorage implements RegistryStorage {
                     log.info("Old database version detected, upgrading.");
                     upgradeDatabase(handle);
                 }
+
+                if (contentCompressionEnabled && contentCompressionUpgrade) {
+                    log.info("Compressing existing content.");
+                    new ContentCompressionUpgrader(log, sqlStatements, contentCompressionThreshold,
+                            contentCompressionUpgradeBatchSize).upgrade(handle);
+                }
             } else {
                 if (!isDatabaseInitialized(handle)) {
                     log.error("Database not initialized.  Please use the DDL scripts to initialize the database before starting the application.");
@@ -266,6 +311,11 @@ public abstract class AbstractSqlRegistryStorage implements RegistryStorage {
             }
         });
         log.debug("---");
+
+        // Dereferenced hashes (DB version 3) depend on the artifact type and the referenced content, so they can't be computed in SQL
+        if (fromVersion < 3) {
+            dereferencedHashes.upgrade(handle);
+        }
     }
 
     /**
@@ -351,6 +401,26 @@ public abstract class AbstractSqlRegistryStorage implements RegistryStorage {
     }
 
 
+    @Override
+    @Transactional
+    public Map<Long, ContentWrapperDto> getArtifactsByContentIds(Set<Long> contentIds) throws RegistryStorageException {
+        if (contentIds.isEmpty()) {
+            return Map.of();
+        }
+        return handles.withHandleNoException(handle -> {
+            Query query = handle.createQuery(sqlStatements().selectContentByIds(contentIds.size()));
+            int idx = 0;
+            for (Long contentId : contentIds) {
+                query.bind(idx++, contentId);
+            }
+            return query.map(rs -> Pair.of(rs.getLong("contentId"), ContentMapper.instance.map(rs)))
+                    .list()
+                    .stream()
+                    .collect(Collectors.toMap(Pair::getLeft, Pair::getRight));
+        });
+    }
+
+
     @Override
     @Transactional
     public ContentWrapperDto getArtifactByContentHash(String contentHash) throws ContentNotFoundException, RegistryStorageException {
@@ -602,7 +672,7 @@ public abstract class AbstractSqlRegistryStorage implements RegistryStorage {
      */
     private Long getOrCreateContentRaw(ContentHandle content, String contentHash, String canonicalContentHash, List<ArtifactReferenceDto> references, String referencesSerialized) {
         return handles.withHandleNoException(handle -> {
-            byte[] contentBytes = content.bytes();
+            byte[] contentBytes = compressContent(content.bytes());
 
             // Upsert a row in the "content" table.  This will insert a row for the content
             // if a row doesn't already exist.  We use the content hash to determine whether
@@ -657,6 +727,18 @@ public abstract class AbstractSqlRegistryStorage implements RegistryStorage {
     }
 
 
+    /**
+     * Compresses the given (raw) content bytes prior to storing them, if content compression is enabled.
+     * Note that content hashes must always be computed over the raw bytes.
+     */
+    byte[] compressContent(byte[] contentBytes) {
+        if (contentCompressionEnabled) {
+            return ContentCompressionUtil.compress(contentBytes, contentCompressionThreshold);
+        }
+        return contentBytes;
+    }
+
+
     /**
      * IMPORTANT: Private methods can't be @Transactional. Callers MUST have started a transaction.
      */
@@ -744,6 +826,7 @@ public abstract class AbstractSqlRegistryStorage implements RegistryStorage {
                 ArtifactVersionMetaDataDto vmdd = createArtifactVersionRaw(true, groupId, artifactId, version,
                         metaData.getName(), metaData.getDescription(), metaData.getLabels(), metaData.getProperties(), createdBy, createdOn,
                         contentId, globalIdGenerator);
+                dereferencedHashes.storeDereferencedHash(handle, contentId);
 
                 // Get the content, so we can return references in the metadata
                 ContentWrapperDto contentDto = getArtifactByContentId(contentId);
@@ -771,6 +854,7 @@ public abstract class AbstractSqlRegistryStorage implements RegistryStorage {
     public List<String> deleteArtifact(String groupId, String artifactId)
             throws ArtifactNotFoundException, RegistryStorageException {
         log.debug("Deleting an artifact: {} {}", groupId, artifactId);
+        utils.invalidateCanonicalHashes();
         try {
             List<String> res = handles.withHandle(handle -> {
                 // Get the list of versions of the artifact (will be deleted)
@@ -832,6 +916,7 @@ public abstract class AbstractSqlRegistryStorage implements RegistryStorage {
     @Transactional
     public void deleteArtifacts(String groupId) throws RegistryStorageException {
         log.debug("Deleting all artifacts in group: {}", groupId);
+        utils.invalidateCanonicalHashes();
         try {
             handles.withHandle(handle -> {
 
@@ -1011,6 +1096,7 @@ public abstract class AbstractSqlRegistryStorage implements RegistryStorage {
                 // Now create the version and return the new version metadata.
                 ArtifactVersionMetaDataDto versionDto = createArtifactVersionRaw(false, groupId, artifactId, version,
                         name, description, labels, properties, createdBy, createdOn, contentId, globalIdGenerator);
+                dereferencedHashes.storeDereferencedHash(handle, contentId);
                 ArtifactMetaDataDto dto = convert(groupId, artifactId, versionDto);
                 dto.setCreatedOn(latest.getCreatedOn());
                 dto.setCreatedBy(latest.getCreatedBy());
@@ -1360,6 +1446,32 @@ public abstract class AbstractSqlRegistryStorage implements RegistryStorage {
     }
 
 
+    @Override
+    @Transactional
+    public ArtifactVersionMetaDataDto getArtifactVersionMetaDataByDereferencedHash(String groupId, String artifactId, String dereferencedHash)
+            throws ArtifactNotFoundException, RegistryStorageException {
+        boolean skipDisabled = storageBehaviorProps.getDefaultArtifactRetrievalBehavior() == ArtifactRetrievalBehavior.SKIP_DISABLED_LATEST;
+        try {
+            return handles.withHandle(handle -> {
+                List<ArtifactVersionMetaDataDto> versions = handle.createQuery(sqlStatements.selectArtifactVersionMetaDataByDereferencedHash())
+                        .bind(0, normalizeGroupId(groupId))
+                        .bind(1, artifactId)
+                        .bind(2, dereferencedHash)
+                        .map(ArtifactVersionMetaDataDtoMapper.instance)
+                        .list();
+                return versions.stream()
+                        .filter(version -> !skipDisabled || version.getState() != ArtifactState.DISABLED)
+                        .findFirst()
+                        .orElseThrow(() -> new ArtifactNotFoundException(groupId, artifactId));
+            });
+        } catch (ArtifactNotFoundException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RegistryStorageException(e);
+        }
+    }
+
+
     @Override
     @Transactional
     public ArtifactMetaDataDto getArtifactMetaData(long globalId)
@@ -1454,6 +1566,30 @@ public abstract class AbstractSqlRegistryStorage implements RegistryStorage {
     }
 
 
+    @Override
+    @Transactional
+    public RuleSetDto getRuleSet(String groupId, String artifactId) throws RegistryStorageException {
+        log.debug("Getting the rule set for: {} {}", groupId, artifactId);
+        return handles.withHandleNoException(handle -> {
+            Map<RuleType, RuleConfigurationDto> artifactRules = new HashMap<>();
+            Map<RuleType, RuleConfigurationDto> globalRules = new HashMap<>();
+            handle.createQuery(sqlStatements.selectRuleSet())
+                    .bind(0, normalizeGroupId(groupId))
+                    .bind(1, artifactId)
+                    .map(rs -> {
+                        Map<RuleType, RuleConfigurationDto> rules = rs.getInt(1) == 0 ? artifactRules : globalRules;
+                        rules.put(RuleType.fromValue(rs.getString(2)), new RuleConfigurationDto(rs.getString(3)));
+                        return null;
+                    })
+                    .list();
+            return RuleSetDto.builder()
+                    .artifactRules(artifactRules)
+                    .globalRules(globalRules)
+                    .build();
+        });
+    }
+
+
     @Override
     @Transactional
     public void createArtifactRule(String groupId, String artifactId, RuleType rule, RuleConfigurationDto config)
@@ -1715,6 +1851,56 @@ public abstract class AbstractSqlRegistryStorage implements RegistryStorage {
     }
 
 
+    @Override
+    @Transactional
+    public List<StoredArtifactDto> getArtifactVersionsByGlobalIds(Set<Long> globalIds) throws RegistryStorageException {
+        log.debug("Selecting artifact versions by globalIds: {}", globalIds);
+        if (globalIds.isEmpty()) {
+            return List.of();
+        }
+        return handles.withHandleNoException(handle -> {
+            Query query = handle.createQuery(sqlStatements.selectArtifactVersionContentByGlobalIds(globalIds.size()));
+            int idx = 0;
+            for (Long globalId : globalIds) {
+                query.bind(idx++, globalId);
+            }
+            return query.map(StoredArtifactMapper.instance).list();
+        });
+    }
+
+
+    @Override
+    @Transactional
+    public Map<ArtifactReferenceDto, StoredArtifactDto> getArtifactVersionsByReferences(Set<ArtifactReferenceDto> references)
+            throws RegistryStorageException {
+        log.debug("Selecting artifact versions by references: {}", references);
+        // Different references (e.g. with different names) can point to the same version
+        Map<String, List<ArtifactReferenceDto>> referencesByCoordinates = references.stream()
+                .collect(Collectors.groupingBy(reference -> normalizeGroupId(reference.getGroupId()) + "/"
+                        + reference.getArtifactId() + "/" + reference.getVersion()));
+        if (referencesByCoordinates.isEmpty()) {
+            return Map.of();
+        }
+        return handles.withHandleNoException(handle -> {
+            Query query = handle.createQuery(sqlStatements.selectArtifactVersionContentByCoordinates(referencesByCoordinates.size()));
+            int idx = 0;
+            for (List<ArtifactReferenceDto> sameCoordinates : referencesByCoordinates.values()) {
+                ArtifactReferenceDto reference = sameCoordinates.get(0);
+                query.bind(idx++, normalizeGroupId(reference.getGroupId()));
+                query.bind(idx++, reference.getArtifactId());
+                query.bind(idx++, reference.getVersion());
+            }
+            Map<ArtifactReferenceDto, StoredArtifactDto> result = new HashMap<>();
+            query.map(rs -> Pair.of(rs.getString("groupId") + "/" + rs.getString("artifactId") + "/" + rs.getString("version"),
+                            StoredArtifactMapper.instance.map(rs)))
+                    .list()
+                    .forEach(row -> referencesByCoordinates.get(row.getLeft())
+                            .forEach(reference -> result.put(reference, row.getRight())));
+            return result;
+        });
+    }
+
+
     @Override
     @Transactional
     public StoredArtifactDto getArtifactVersion(String groupId, String artifactId, String version)
@@ -1738,11 +1924,91 @@ public abstract class AbstractSqlRegistryStorage implements RegistryStorage {
     }
 
 
+    @Override
+    @Transactional
+    public StoredArtifactVersionDto getArtifactVersionContent(String groupId, String artifactId, String version)
+            throws VersionNotFoundException, RegistryStorageException {
+        log.debug("Selecting a single artifact version with its content by artifactId: {} {} and version {}", groupId, artifactId, version);
+        try {
+            return handles.withHandle(handle -> {
+                Optional<StoredArtifactVersionDto> res = handle.createQuery(sqlStatements.selectArtifactVersionMetaDataAndContent())
+                        .bind(0, normalizeGroupId(groupId))
+                        .bind(1, artifactId)
+                        .bind(2, version)
+                        .map(StoredArtifactVersionMapper.instance)
+                        .findOne();
+                return res.orElseThrow(() -> new VersionNotFoundException(groupId, artifactId, version));
+            });
+        } catch (VersionNotFoundException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RegistryStorageException(e);
+        }
+    }
+
+
+    @Override
+    @Transactional
+    public StoredArtifactVersionDto getArtifactVersionContent(long globalId)
+            throws ArtifactNotFoundException, RegistryStorageException {
+        log.debug("Selecting a single artifact version with its content by globalId: {}", globalId);
+        try {
+            return handles.withHandle(handle -> {
+                Optional<StoredArtifactVersionDto> res = handle.createQuery(sqlStatements.selectArtifactVersionMetaDataAndContentByGlobalId())
+                        .bind(0, globalId)
+                        .map(StoredArtifactVersionMapper.instance)
+                        .findOne();
+                return res.orElseThrow(() -> new ArtifactNotFoundException(null, "gid-" + globalId));
+            });
+        } catch (ArtifactNotFoundException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RegistryStorageException(e);
+        }
+    }
+
+
+    @Override
+    @Transactional
+    public StoredArtifactVersionDto getLatestArtifactVersionContent(String groupId, String artifactId)
+            throws ArtifactNotFoundException, RegistryStorageException {
+        ArtifactRetrievalBehavior behavior = storageBehaviorProps.getDefaultArtifactRetrievalBehavior();
+        log.debug("Selecting the latest artifact version with its content by artifactId: {} {} (behavior = {})", groupId, artifactId, behavior);
+        try {
+            return handles.withHandle(handle -> {
+                Optional<StoredArtifactVersionDto> res = handle.createQuery(sqlStatements.selectLatestArtifactVersionMetaDataAndContent())
+                        .bind(0, normalizeGroupId(groupId))
+                        .bind(1, artifactId)
+                        .map(StoredArtifactVersionMapper.instance)
+                        .findOne();
+                if (behavior == ArtifactRetrievalBehavior.SKIP_DISABLED_LATEST && res.isPresent()
+                        && res.get().getMetaData().getState() == ArtifactState.DISABLED) {
+                    // Unlikely, but the latest artifact version may be disabled
+                    res = handle.createQuery(sqlStatements.selectLatestArtifactVersionMetaDataAndContentWithMaxGlobalIDSkipDisabledState())
+                            .bind(0, normalizeGroupId(groupId))
+                            .bind(1, artifactId)
+                            // INNER:
+                            .bind(2, normalizeGroupId(groupId))
+                            .bind(3, artifactId)
+                            .map(StoredArtifactVersionMapper.instance)
+                            .findOne();
+                }
+                return res.orElseThrow(() -> new ArtifactNotFoundException(groupId, artifactId));
+            });
+        } catch (ArtifactNotFoundException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RegistryStorageException(e);
+        }
+    }
+
+
     @Override
     @Transactional
     public void deleteArtifactVersion(String groupId, String artifactId, String version)
             throws ArtifactNotFoundException, VersionNotFoundException, RegistryStorageException {
         log.debug("Deleting version {} of artifact {} {}", version, groupId, artifactId);
+        utils.invalidateCanonicalHashes();
 
         //For deleting artifact versions we need to list always every single version, including disabled ones.
         List<String> versions = getArtifactVersions(groupId, artifactId, DEFAULT);
@@ -2437,9 +2703,12 @@ public abstract class AbstractSqlRegistryStorage implements RegistryStorage {
 
     /**
      * NOTE: Does not export the manifest file TODO
+     * <p>
+     * Runs outside of any managed transaction, so that the connection is not enlisted and the export
+     * can read all data in its own read-only snapshot transaction.
      */
     @Override
-    @Transactional
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
     public void exportData(Function<Entity, Void> handler) throws RegistryStorageException {
         try {
             // Export a simple manifest file
@@ -2453,105 +2722,75 @@ public abstract class AbstractSqlRegistryStorage implements RegistryStorage {
             manifest.systemVersion = system.getVersion();
             handler.apply(manifest);
 
-            // Export all content
-            /////////////////////////////////
-            handles.withHandle(handle -> {
-                Stream<ContentEntity> stream = handle.createQuery(sqlStatements.exportContent())
-                        .setFetchSize(50)
-                        .map(ContentEntityMapper.instance)
-                        .stream();
-                // Process and then close the stream.
-                try (stream) {
-                    stream.forEach(handler::apply);
-                }
-                return null;
-            });
-
-            // Export all groups
-            /////////////////////////////////
-            handles.withHandle(handle -> {
-                Stream<GroupEntity> stream = handle.createQuery(sqlStatements.exportGroups())
-                        .setFetchSize(50)
-                        .map(GroupEntityMapper.instance)
-                        .stream();
-                // Process and then close the stream.
-                try (stream) {
-                    stream.forEach(handler::apply);
-                }
-                return null;
-            });
-
-            // Export all artifact versions
-            /////////////////////////////////
-            handles.withHandle(handle -> {
-                Stream<ArtifactVersionEntity> stream = handle.createQuery(sqlStatements.exportArtifactVersions())
-                        .setFetchSize(50)
-                        .map(ArtifactVersionEntityMapper.instance)
-                        .stream();
-                // Process and then close the stream.
-                try (stream) {
-                    stream.forEach(handler::apply);
-                }
-                return null;
-            });
-
-            // Export all artifact comments
-            /////////////////////////////////
-            handles.withHandle(handle -> {
-                Stream<CommentEntity> stream = handle.createQuery(sqlStatements.exportComments())
-                        .setFetchSize(50)
-                        .map(CommentEntityMapper.instance)
-                        .stream();
-                // Process and then close the stream.
-                try (stream) {
-                    stream.forEach(handler::apply);
-                }
-                return null;
-            });
-
-            // Export all artifact rules
-            /////////////////////////////////
-            handles.withHandle(handle -> {
-                Stream<ArtifactRuleEntity> stream = handle.createQuery(sqlStatements.exportArtifactRules())
-                        .setFetchSize(50)
-                        .map(ArtifactRuleEntityMapper.instance)
-                        .stream();
-                // Process and then close the stream.
-                try (stream) {
-                    stream.forEach(handler::apply);
-                }
-                return null;
-            });
-
-            // Export all global rules
+            // Export all data in a single read-only transaction, so that the export is a consistent
+            // snapshot of the registry (and so that the fetch size is honored by all databases)
             /////////////////////////////////
             handles.withHandle(handle -> {
-                Stream<GlobalRuleEntity> stream = handle.createQuery(sqlStatements.exportGlobalRules())
-                        .setFetchSize(50)
-                        .map(GlobalRuleEntityMapper.instance)
-                        .stream();
-                // Process and then close the stream.
-                try (stream) {
-                    stream.forEach(handler::apply);
-                }
-                return null;
+                return handle.inReadOnlyTransaction(sqlStatements.snapshotIsolationLevel(), snapshot -> {
+                    exportEntities(snapshot, sqlStatements.exportContent(), ContentEntityMapper.instance, handler);
+                    exportEntities(snapshot, sqlStatements.exportGroups(), GroupEntityMapper.instance, handler);
+                    exportEntities(snapshot, sqlStatements.exportArtifactVersions(), ArtifactVersionEntityMapper.instance, handler);
+                    exportEntities(snapshot, sqlStatements.exportComments(), CommentEntityMapper.instance, handler);
+                    exportEntities(snapshot, sqlStatements.exportArtifactRules(), ArtifactRuleEntityMapper.instance, handler);
+                    exportEntities(snapshot, sqlStatements.exportGlobalRules(), GlobalRuleEntityMapper.instance, handler);
+                    return null;
+                });
             });
 
-
         } catch (Exception e) {
             throw new RegistryStorageException(e);
         }
     }
 
 
+    private <T extends Entity> void exportEntities(Handle handle, String sql, RowMapper<T> mapper, Function<Entity, Void> handler) {
+        Stream<T> stream = handle.createQuery(sql)
+                .setFetchSize(exportFetchSize)
+                .map(mapper)
+                .stream();
+        // Process and then close the stream.
+        try (stream) {
+            stream.forEach(handler::apply);
+        }
+    }
+
+
     @Override
     public void importData(EntityInputStream entities, boolean preserveGlobalId, boolean preserveContentId) {
+        if (bulkImportEnabled && isEmptyForImport()) {
+            log.info("Storage is empty, importing data in bulk.");
+            try {
+                handles.withHandleNoException(handle -> {
+                    DataImporter dataImporter = new SqlBulkDataImporter(log, utils, this, handle, sqlStatements,
+                            preserveGlobalId, preserveContentId, bulkImportBatchSize, bulkImportRebuildIndexes);
+                    dataImporter.importData(entities, () -> {
+                        dereferencedHashes.upgrade(handle);
+                    });
+                    return null;
+                });
+            } catch (RuntimeSqlException e) {
+                throw new RegistryStorageException("Bulk import failed, no data has been imported.", e);
+            }
+            return;
+        }
         DataImporter dataImporter = new SqlDataImporter(log, utils, this, preserveGlobalId, preserveContentId);
         dataImporter.importData(entities, () -> {
         });
     }
 
 
+    /**
+     * Returns true if there is no data that could conflict with imported entities.
+     */
+    private boolean isEmptyForImport() {
+        return handles.withHandleNoException(handle -> {
+            return handle.createQuery(sqlStatements.selectAllContentCount()).mapTo(Long.class).one() == 0
+                    && handle.createQuery(sqlStatements.selectAllArtifactCount()).mapTo(Long.class).one() == 0
+                    && handle.createQuery(sqlStatements.selectAllGroupCount()).mapTo(Long.class).one() == 0;
+        });
+    }
+
+
     @Override
     @Transactional
     public long countArtifacts() throws RegistryStorageException {
@@ -2778,10 +3017,63 @@ public abstract class AbstractSqlRegistryStorage implements RegistryStorage {
     }
 
 
+    @Override
+    @Transactional
+    public CompatibilityResultDto getCompatibilityResult(String resultKey) throws RegistryStorageException {
+        log.debug("Selecting a compatibility result: {}", resultKey);
+        try {
+            return handles.withHandle(handle -> {
+                Optional<String> res = handle.createQuery(sqlStatements.selectCompatibilityResult())
+                        .bind(0, resultKey)
+                        .mapTo(String.class)
+                        .findOne();
+                if (res.isEmpty()) {
+                    return null;
+                }
+                Set<RuleViolation> violations = mapper.readValue(res.get(), new TypeReference<Set<RuleViolation>>() {
+                });
+                return CompatibilityResultDto.builder()
+                        .resultKey(resultKey)
+                        .violations(violations)
+                        .build();
+            });
+        } catch (Exception e) {
+            throw new RegistryStorageException(e);
+        }
+    }
+
+
+    @Override
+    @Transactional
+    public void createCompatibilityResult(CompatibilityResultDto result) throws RegistryStorageException {
+        log.debug("Inserting a compatibility result: {}", result.getResultKey());
+        try {
+            handles.withHandle(handle -> {
+                boolean exists = handle.createQuery(sqlStatements.selectCompatibilityResult())
+                        .bind(0, result.getResultKey())
+                        .mapTo(String.class)
+                        .findOne()
+                        .isPresent();
+                if (!exists) {
+                    handle.createUpdate(sqlStatements.insertCompatibilityResult())
+                            .bind(0, result.getResultKey())
+                            .bind(1, mapper.writeValueAsString(result.getViolations()))
+                            .bind(2, java.lang.System.currentTimeMillis())
+                            .execute();
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            throw new RegistryStorageException(e);
+        }
+    }
+
+
     @Override
     @Transactional
     public void deleteAllUserData() {
         log.debug("Deleting all user data");
+        utils.invalidateCanonicalHashes();
 
         deleteGlobalRules();
 
@@ -2825,6 +3117,10 @@ public abstract class AbstractSqlRegistryStorage implements RegistryStorage {
             handle.createUpdate(sqlStatements.deleteAllConfigProperties())
                     .execute();
 
+            // Delete all compatibility results
+            handle.createUpdate(sqlStatements.deleteAllCompatibilityResults())
+                    .execute();
+
             // TODO Do we need to delete comments?
 
             return null;
@@ -3226,6 +3522,11 @@ public abstract class AbstractSqlRegistryStorage implements RegistryStorage {
                             .execute();
                 }
 
+                // Content is imported before the versions it references, so content referencing this version may be complete now
+                dereferencedHashes.storeDereferencedHash(handle, entity.contentId);
+                getContentIdsReferencingArtifact(entity.groupId, entity.artifactId, entity.version)
+                        .forEach(contentId -> dereferencedHashes.storeDereferencedHash(handle, contentId));
+
             } else {
                 throw new VersionAlreadyExistsException(entity.globalId);
             }
@@ -3247,7 +3548,7 @@ public abstract class AbstractSqlRegistryStorage implements RegistryStorage {
                         .bind(0, entity.contentId)
                         .bind(1, entity.canonicalHash)
                         .bind(2, entity.contentHash)
-                        .bind(3, entity.contentBytes)
+                        .bind(3, compressContent(entity.contentBytes))
                         .bind(4, entity.serializedReferences)
                         .execute();
 
@@ -3376,7 +3677,9 @@ public abstract class AbstractSqlRegistryStorage implements RegistryStorage {
                 // but for inmemory storage that's not guaranteed
                 // that forces us to use an inmemory lock, should not cause any harm
                 // caveat emptor , consider yourself as warned
-                synchronized (inmemorySequencesMutex) { // TODO Use implementation from common app components
+                // Not synchronized, so that a virtual thread waiting for the database is not pinned to its carrier
+                inmemorySequencesLock.lock(); // TODO Use implementation from common app components
+                try {
                     Optional<Long> seqExists = handle.createQuery(sqlStatements.selectCurrentSequenceValue())
                             .bind(0, sequenceName)
                             .mapTo(Long.class)
@@ -3397,6 +3700,8 @@ public abstract class AbstractSqlRegistryStorage implements RegistryStorage {
                                 .execute();
                         return 1L;
                     }
+                } finally {
+                    inmemorySequencesLock.unlock();
                 }
             }
         });
@@ -3492,6 +3797,18 @@ public abstract class AbstractSqlRegistryStorage implements RegistryStorage {
     }
 
 
+    @Override
+    @Transactional
+    public Optional<String> contentHashFromId(long contentId) {
+        return handles.withHandleNoException(handle -> {
+            return handle.createQuery(sqlStatements().selectContentHashById())
+                    .bind(0, contentId)
+                    .mapTo(String.class)
+                    .findOne();
+        });
+    }
+
+
     @Override
     @Transactional
     public ArtifactMetaDataDto updateArtifactWithMetadata(String groupId, String artifactId, String version,
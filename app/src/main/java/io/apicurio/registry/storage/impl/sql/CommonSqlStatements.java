@@ -18,7 +18,9 @@ package io.apicurio.registry.storage.impl.sql;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.sql.Connection;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -68,6 +70,16 @@ public abstract class CommonSqlStatements implements SqlStatements {
         return statements;
     }
 
+    /**
+     * Repeatable read is implemented as snapshot isolation by both PostgreSQL and H2.
+     *
+     * @see io.apicurio.registry.storage.impl.sql.SqlStatements#snapshotIsolationLevel()
+     */
+    @Override
+    public int snapshotIsolationLevel() {
+        return Connection.TRANSACTION_REPEATABLE_READ;
+    }
+
     /**
      * @see io.apicurio.registry.storage.impl.sql.SqlStatements#getDatabaseVersion()
      */
@@ -181,6 +193,26 @@ public abstract class CommonSqlStatements implements SqlStatements {
                 + "WHERE v.globalId = ?";
     }
 
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.SqlStatements#selectArtifactVersionContentByGlobalIds(int)
+     */
+    @Override
+    public String selectArtifactVersionContentByGlobalIds(int count) {
+        return "SELECT v.globalId, v.version, v.versionId, v.contentId, c.content, c.artifactreferences FROM versions v "
+                + "JOIN content c ON v.contentId = c.contentId "
+                + "WHERE v.globalId IN (" + parameters(count) + ") AND v.state != 'DISABLED'";
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.SqlStatements#selectArtifactVersionContentByCoordinates(int)
+     */
+    @Override
+    public String selectArtifactVersionContentByCoordinates(int count) {
+        return "SELECT v.groupId, v.artifactId, v.globalId, v.version, v.versionId, c.contentId, c.content, c.artifactreferences FROM versions v "
+                + "JOIN content c ON v.contentId = c.contentId "
+                + "WHERE " + String.join(" OR ", Collections.nCopies(count, "(v.groupId = ? AND v.artifactId = ? AND v.version = ?)"));
+    }
+
     /**
      * @see io.apicurio.registry.storage.impl.sql.SqlStatements#selectArtifactVersions()
      */
@@ -237,6 +269,17 @@ public abstract class CommonSqlStatements implements SqlStatements {
                 + "WHERE v.groupId = ? AND v.artifactId = ? AND c.canonicalHash = ? ORDER BY v.globalId DESC";
     }
 
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.SqlStatements#selectArtifactVersionMetaDataByDereferencedHash()
+     */
+    @Override
+    public String selectArtifactVersionMetaDataByDereferencedHash() {
+        return "SELECT v.*, a.type FROM versions v "
+                + "JOIN content c ON v.contentId = c.contentId "
+                + "JOIN artifacts a ON v.groupId = a.groupId AND v.artifactId = a.artifactId "
+                + "WHERE v.groupId = ? AND v.artifactId = ? AND c.dereferencedHash = ? ORDER BY v.globalId DESC";
+    }
+
     /**
      * @see io.apicurio.registry.storage.impl.sql.SqlStatements#selectArtifactVersionContentByGlobalId()
      */
@@ -257,6 +300,54 @@ public abstract class CommonSqlStatements implements SqlStatements {
                 + "WHERE v.groupId = ? AND v.artifactId = ? AND v.version = ?";
     }
 
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.SqlStatements#selectArtifactVersionMetaDataAndContent()
+     */
+    @Override
+    public String selectArtifactVersionMetaDataAndContent() {
+        return "SELECT v.*, a.type, c.contentHash, c.content, c.artifactreferences FROM versions v "
+                + "JOIN artifacts a ON v.groupId = a.groupId AND v.artifactId = a.artifactId "
+                + "JOIN content c ON v.contentId = c.contentId "
+                + "WHERE v.groupId = ? AND v.artifactId = ? AND v.version = ?";
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.SqlStatements#selectArtifactVersionMetaDataAndContentByGlobalId()
+     */
+    @Override
+    public String selectArtifactVersionMetaDataAndContentByGlobalId() {
+        return "SELECT v.*, a.type, c.contentHash, c.content, c.artifactreferences FROM versions v "
+                + "JOIN artifacts a ON v.groupId = a.groupId AND v.artifactId = a.artifactId "
+                + "JOIN content c ON v.contentId = c.contentId "
+                + "WHERE v.globalId = ?";
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.SqlStatements#selectLatestArtifactVersionMetaDataAndContent()
+     */
+    @Override
+    public String selectLatestArtifactVersionMetaDataAndContent() {
+        return "SELECT v.*, a.type, c.contentHash, c.content, c.artifactreferences FROM artifacts a "
+                + "JOIN versions v ON a.latest = v.globalId "
+                + "JOIN content c ON v.contentId = c.contentId "
+                + "WHERE a.groupId = ? AND a.artifactId = ?";
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.SqlStatements#selectLatestArtifactVersionMetaDataAndContentWithMaxGlobalIDSkipDisabledState()
+     */
+    @Override
+    public String selectLatestArtifactVersionMetaDataAndContentWithMaxGlobalIDSkipDisabledState() {
+        var inner = "SELECT MAX(v.globalId) "
+                + "FROM versions v "
+                + "WHERE v.groupId = ? AND v.artifactId = ? AND v.state != 'DISABLED'";
+
+        return "SELECT v.*, a.type, c.contentHash, c.content, c.artifactreferences FROM artifacts a "
+                + "JOIN versions v ON a.groupId = v.groupId AND a.artifactId = v.artifactId "
+                + "JOIN content c ON v.contentId = c.contentId "
+                + "WHERE a.groupId = ? AND a.artifactId = ? AND v.globalId IN (" + inner + ")";
+    }
+
     /**
      * @see io.apicurio.registry.storage.impl.sql.SqlStatements#selectArtifactVersionContent()
      */
@@ -342,6 +433,23 @@ public abstract class CommonSqlStatements implements SqlStatements {
         return "SELECT c.contentId FROM content c WHERE c.contentHash = ?";
     }
 
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.SqlStatements#selectContentHashById()
+     */
+    @Override
+    public String selectContentHashById() {
+        return "SELECT c.contentHash FROM content c WHERE c.contentId = ?";
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.SqlStatements#selectContentByIds(int)
+     */
+    @Override
+    public String selectContentByIds(int count) {
+        return "SELECT c.contentId, c.content, c.contentHash, c.artifactreferences FROM content c "
+                + "WHERE c.contentId IN (" + parameters(count) + ")";
+    }
+
     /**
      * @see io.apicurio.registry.storage.impl.sql.SqlStatements#selectArtifactRules()
      */
@@ -350,6 +458,15 @@ public abstract class CommonSqlStatements implements SqlStatements {
         return "SELECT r.* FROM rules r WHERE r.groupId = ? AND r.artifactId = ?";
     }
 
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.SqlStatements#selectRuleSet()
+     */
+    @Override
+    public String selectRuleSet() {
+        return "SELECT 0, r.type, r.configuration FROM rules r WHERE r.groupId = ? AND r.artifactId = ? "
+                + "UNION ALL SELECT 1, g.type, g.configuration FROM globalrules g";
+    }
+
     /**
      * @see io.apicurio.registry.storage.impl.sql.SqlStatements#insertArtifactRule()
      */
@@ -606,6 +723,22 @@ public abstract class CommonSqlStatements implements SqlStatements {
         return "SELECT COUNT(a.artifactId) FROM artifacts a ";
     }
 
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.SqlStatements#selectAllContentCount()
+     */
+    @Override
+    public String selectAllContentCount() {
+        return "SELECT COUNT(c.contentId) FROM content c ";
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.SqlStatements#selectAllGroupCount()
+     */
+    @Override
+    public String selectAllGroupCount() {
+        return "SELECT COUNT(g.groupId) FROM groups g ";
+    }
+
     /**
      * @see io.apicurio.registry.storage.impl.sql.SqlStatements#selectAllArtifactVersionsCount()
      */
@@ -670,7 +803,7 @@ public abstract class CommonSqlStatements implements SqlStatements {
      */
     @Override
     public String selectContentById() {
-        return "SELECT c.content, c.artifactreferences FROM content c "
+        return "SELECT c.content, c.contentHash, c.artifactreferences FROM content c "
                 + "WHERE c.contentId = ?";
     }
 
@@ -679,7 +812,7 @@ public abstract class CommonSqlStatements implements SqlStatements {
      */
     @Override
     public String selectContentByContentHash() {
-        return "SELECT c.content, c.artifactreferences FROM content c "
+        return "SELECT c.content, c.contentHash, c.artifactreferences FROM content c "
                 + "WHERE c.contentHash = ?";
     }
 
@@ -706,6 +839,59 @@ public abstract class CommonSqlStatements implements SqlStatements {
         return "UPDATE content SET canonicalHash = ? WHERE contentId = ? AND contentHash = ?";
     }
 
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.SqlStatements#selectContentIdsWithoutDereferencedHash()
+     */
+    @Override
+    public String selectContentIdsWithoutDereferencedHash() {
+        return "SELECT DISTINCT v.contentId FROM versions v JOIN content c ON v.contentId = c.contentId "
+                + "WHERE c.dereferencedHash IS NULL AND c.artifactreferences IS NOT NULL";
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.SqlStatements#selectContentWithoutDereferencedHash()
+     */
+    @Override
+    public String selectContentWithoutDereferencedHash() {
+        return "SELECT c.content, c.contentHash, c.artifactreferences, a.type FROM content c "
+                + "JOIN versions v ON v.contentId = c.contentId "
+                + "JOIN artifacts a ON v.groupId = a.groupId AND v.artifactId = a.artifactId "
+                + "WHERE c.contentId = ? AND c.dereferencedHash IS NULL AND c.artifactreferences IS NOT NULL";
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.SqlStatements#updateContentDereferencedHash()
+     */
+    @Override
+    public String updateContentDereferencedHash() {
+        return "UPDATE content SET dereferencedHash = ? WHERE contentId = ?";
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.SqlStatements#selectContentBatch()
+     */
+    @Override
+    public String selectContentBatch() {
+        return "SELECT c.contentId, c.content FROM content c "
+                + "WHERE c.contentId > ? ORDER BY c.contentId ASC LIMIT ?";
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.SqlStatements#updateContentBytes()
+     */
+    @Override
+    public String updateContentBytes() {
+        return "UPDATE content SET content = ? WHERE contentId = ?";
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.SqlStatements#dropIndex(java.lang.String, java.lang.String)
+     */
+    @Override
+    public String dropIndex(String indexName, String tableName) {
+        return "DROP INDEX " + indexName;
+    }
+
     /**
      * @see io.apicurio.registry.storage.impl.sql.SqlStatements#insertGroup()
      */
@@ -984,6 +1170,30 @@ public abstract class CommonSqlStatements implements SqlStatements {
         return "DELETE FROM downloads WHERE expires < ?";
     }
 
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.SqlStatements#selectCompatibilityResult()
+     */
+    @Override
+    public String selectCompatibilityResult() {
+        return "SELECT r.violations FROM compatibility_results r WHERE r.resultKey = ?";
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.SqlStatements#insertCompatibilityResult()
+     */
+    @Override
+    public String insertCompatibilityResult() {
+        return "INSERT INTO compatibility_results (resultKey, violations, createdOn) VALUES (?, ?, ?)";
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.SqlStatements#deleteAllCompatibilityResults()
+     */
+    @Override
+    public String deleteAllCompatibilityResults() {
+        return "DELETE FROM compatibility_results";
+    }
+
     /**
      * @see io.apicurio.registry.storage.impl.sql.SqlStatements#selectConfigProperties()
      */
@@ -1088,4 +1298,11 @@ public abstract class CommonSqlStatements implements SqlStatements {
     public String updateComment() {
         return "UPDATE comments SET cvalue = ? WHERE globalId = ? AND commentId = ? AND createdBy = ?";
     }
+
+    /**
+     * @return the given number of comma separated parameter placeholders, for an IN clause
+     */
+    private static String parameters(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
 }
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.storage.impl.sql;
+
+import io.apicurio.registry.storage.impl.sql.jdb.Handle;
+import org.apache.commons.lang3.tuple.Pair;
+import org.slf4j.Logger;
+
+import java.util.List;
+
+/**
+ * Compresses all existing (uncompressed) rows of the "content" table, in batches.  Rows are
+ * processed in contentId order so that the upgrader never needs to hold more than a single
+ * batch of content in memory.  Rows that are already compressed, or too small to be worth
+ * compressing, are left untouched - it is therefore safe to run this upgrader more than once.
+ */
+public class ContentCompressionUpgrader implements IDbUpgrader {
+
+    private final Logger log;
+    private final SqlStatements sqlStatements;
+    private final int threshold;
+    private final int batchSize;
+
+    /**
+     * Constructor.
+     * @param log
+     * @param sqlStatements
+     * @param threshold the minimum size (in bytes) of content worth compressing
+     * @param batchSize the number of content rows to load at once
+     */
+    public ContentCompressionUpgrader(Logger log, SqlStatements sqlStatements, int threshold, int batchSize) {
+        this.log = log;
+        this.sqlStatements = sqlStatements;
+        this.threshold = threshold;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.IDbUpgrader#upgrade(io.apicurio.registry.storage.impl.sql.jdb.Handle)
+     */
+    @Override
+    public void upgrade(Handle dbHandle) {
+        long lastContentId = -1;
+        long compressed = 0;
+        List<Pair<Long, byte[]>> batch;
+        do {
+            batch = dbHandle.createQuery(sqlStatements.selectContentBatch())
+                    .bind(0, lastContentId)
+                    .bind(1, batchSize)
+                    .map(rs -> Pair.of(rs.getLong("contentId"), rs.getBytes("content")))
+                    .list();
+
+            for (Pair<Long, byte[]> row : batch) {
+                lastContentId = row.getLeft();
+                byte[] storedBytes = row.getRight();
+                if (ContentCompressionUtil.isCompressed(storedBytes)) {
+                    continue;
+                }
+                byte[] compressedBytes = ContentCompressionUtil.compress(storedBytes, threshold);
+                if (compressedBytes != storedBytes) {
+                    dbHandle.createUpdate(sqlStatements.updateContentBytes())
+                            .bind(0, compressedBytes)
+                            .bind(1, row.getLeft())
+                            .execute();
+                    compressed++;
+                }
+            }
+            log.debug("Compressed content up to contentId {} ({} rows so far)", lastContentId, compressed);
+        } while (batch.size() == batchSize);
+
+        log.info("Compressed {} existing content rows.", compressed);
+    }
+
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.storage.impl.sql;
+
+import io.apicurio.registry.content.ContentHandle;
+import io.apicurio.registry.utils.IoUtil;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Transparent compression of stored artifact content.  Compressed content is prefixed with
+ * a short header (a magic sequence followed by a format marker byte) so that compressed and
+ * uncompressed rows can live side by side in the same table - content written before compression
+ * was enabled is simply returned as-is.
+ * <p>
+ * Content hashes are always computed over the uncompressed bytes, so compression is never
+ * visible outside of the storage layer.
+ */
+public class ContentCompressionUtil {
+
+    /**
+     * The magic sequence starts with a NUL byte, which never appears at the start of any of
+     * the textual artifact formats supported by the registry.
+     */
+    private static final byte[] MAGIC = { 0x00, 'A', 'R', 'Z' };
+
+    /**
+     * Format marker for content compressed with the DEFLATE algorithm.
+     */
+    public static final byte FORMAT_DEFLATE = 0x01;
+
+    private static final int HEADER_LENGTH = MAGIC.length + 1;
+
+    /**
+     * Compresses the given content bytes, but only if the content is at least
+     * <code>threshold</code> bytes long and compression actually makes it smaller.
+     * Otherwise the original bytes are returned unchanged.
+     *
+     * @param contentBytes the raw (uncompressed) content
+     * @param threshold the minimum size (in bytes) of content worth compressing
+     */
+    public static byte[] compress(byte[] contentBytes, int threshold) {
+        if (contentBytes == null || contentBytes.length < threshold || isCompressed(contentBytes)) {
+            return contentBytes;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(contentBytes.length / 4 + HEADER_LENGTH);
+        out.write(MAGIC, 0, MAGIC.length);
+        out.write(FORMAT_DEFLATE);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (DeflaterOutputStream dos = new DeflaterOutputStream(out, deflater)) {
+            dos.write(contentBytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            deflater.end();
+        }
+        byte[] compressed = out.toByteArray();
+        return compressed.length < contentBytes.length ? compressed : contentBytes;
+    }
+
+    /**
+     * Returns true if the given bytes start with the compressed content header.
+     *
+     * @param bytes the bytes as stored
+     */
+    public static boolean isCompressed(byte[] bytes) {
+        if (bytes == null || bytes.length < HEADER_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (bytes[i] != MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Eagerly decompresses the given stored bytes.  Uncompressed bytes are returned as-is.
+     *
+     * @param storedBytes the bytes as stored
+     */
+    public static byte[] decompress(byte[] storedBytes) {
+        if (!isCompressed(storedBytes)) {
+            return storedBytes;
+        }
+        return IoUtil.toBytes(inflaterStream(storedBytes));
+    }
+
+    /**
+     * Creates a {@link ContentHandle} for the given stored bytes.  Compressed bytes are decompressed
+     * eagerly, because the handle is shared by caches and by concurrent rule evaluation, and a
+     * stream backed handle is not thread safe.
+     *
+     * @param storedBytes the bytes as stored
+     */
+    public static ContentHandle toContentHandle(byte[] storedBytes) {
+        return ContentHandle.create(decompress(storedBytes));
+    }
+
+    private static InflaterInputStream inflaterStream(byte[] storedBytes) {
+        byte format = storedBytes[MAGIC.length];
+        if (format != FORMAT_DEFLATE) {
+            throw new IllegalStateException("Unsupported content compression format: " + format);
+        }
+        return new InflaterInputStream(new ByteArrayInputStream(storedBytes, HEADER_LENGTH, storedBytes.length - HEADER_LENGTH));
+    }
+
+}
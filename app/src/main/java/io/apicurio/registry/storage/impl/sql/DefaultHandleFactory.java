@@ -17,7 +17,10 @@
 package io.apicurio.registry.storage.impl.sql;
 
 import io.agroal.api.AgroalDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
 import org.slf4j.Logger;
 
 /**
@@ -26,8 +29,25 @@ import org.slf4j.Logger;
 @ApplicationScoped
 public class DefaultHandleFactory extends AbstractHandleFactory {
 
+    @Inject
+    AgroalDataSource dataSource;
 
-    public DefaultHandleFactory(AgroalDataSource dataSource, Logger log) {
-        initialize(dataSource, "default", log);
+    @Inject
+    ReadReplicaDataSource readReplicaDataSource;
+
+    @Inject
+    MeterRegistry registry;
+
+    @Inject
+    SqlStatementMetrics statementMetrics;
+
+    @Inject
+    Logger log;
+
+
+    @PostConstruct
+    void onConstruct() {
+        initialize(dataSource, readReplicaDataSource.getDataSource(), "default", registry,
+                statementMetrics.isEnabled() ? statementMetrics : null, log);
     }
 }
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.storage.impl.sql;
+
+import io.apicurio.registry.content.ContentHandle;
+import io.apicurio.registry.storage.dto.ArtifactReferenceDto;
+import io.apicurio.registry.storage.dto.ContentWrapperDto;
+import io.apicurio.registry.storage.impl.sql.jdb.Handle;
+import io.apicurio.registry.storage.impl.sql.mappers.ContentMapper;
+import org.apache.commons.lang3.tuple.Pair;
+import org.slf4j.Logger;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Stores the dereferenced hash (the hash of the content with its references inlined) of content rows
+ * that have references.  The hash depends on the artifact type and on the content of the references,
+ * so it is computed when a version of the content is created, rather than when the content is created.
+ * A hash is only stored once all references of the content can be resolved, so content imported before
+ * the versions it references is picked up again when those versions are imported.
+ * <p>
+ * When used as an upgrader, stores the missing hashes of all existing content.
+ */
+public class DereferencedHashUpgrader implements IDbUpgrader {
+
+    private final Logger log;
+    private final SqlStatements sqlStatements;
+    private final RegistryStorageContentUtils utils;
+    private final Function<List<ArtifactReferenceDto>, Map<String, ContentHandle>> referenceResolver;
+
+    /**
+     * Constructor.
+     * @param log
+     * @param sqlStatements
+     * @param utils
+     * @param referenceResolver
+     */
+    public DereferencedHashUpgrader(Logger log, SqlStatements sqlStatements, RegistryStorageContentUtils utils,
+                                    Function<List<ArtifactReferenceDto>, Map<String, ContentHandle>> referenceResolver) {
+        this.log = log;
+        this.sqlStatements = sqlStatements;
+        this.utils = utils;
+        this.referenceResolver = referenceResolver;
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.IDbUpgrader#upgrade(io.apicurio.registry.storage.impl.sql.jdb.Handle)
+     */
+    @Override
+    public void upgrade(Handle dbHandle) {
+        List<Long> contentIds = dbHandle.createQuery(sqlStatements.selectContentIdsWithoutDereferencedHash())
+                .mapTo(Long.class)
+                .list();
+        long stored = contentIds.stream()
+                .filter(contentId -> storeDereferencedHash(dbHandle, contentId))
+                .count();
+        log.info("Stored the dereferenced hashes of {} of {} content rows.", stored, contentIds.size());
+    }
+
+    /**
+     * Stores the dereferenced hash of the given content, if it has references, does not have a dereferenced
+     * hash yet, and is used by at least one version.
+     * @param dbHandle
+     * @param contentId
+     * @return true if a hash was stored
+     */
+    public boolean storeDereferencedHash(Handle dbHandle, long contentId) {
+        Optional<Pair<ContentWrapperDto, String>> row = dbHandle.createQuery(sqlStatements.selectContentWithoutDereferencedHash())
+                .bind(0, contentId)
+                .map(rs -> Pair.of(ContentMapper.instance.map(rs), rs.getString("type")))
+                .findFirst();
+        if (row.isEmpty()) {
+            return false;
+        }
+        ContentWrapperDto content = row.get().getLeft();
+        String artifactType = row.get().getRight();
+
+        String dereferencedHash;
+        try {
+            Map<String, ContentHandle> resolvedReferences = referenceResolver.apply(content.getReferences());
+            if (!content.getReferences().stream().allMatch(reference -> resolvedReferences.containsKey(reference.getName()))) {
+                log.debug("Not all references of content {} exist yet, not storing its dereferenced hash.", contentId);
+                return false;
+            }
+            dereferencedHash = utils.getDereferencedContentHash(content.getContent(), artifactType, resolvedReferences);
+        } catch (Exception e) {
+            log.warn("Failed to dereference content {}, its versions can't be found by their dereferenced content: {}",
+                    contentId, e.getMessage());
+            return false;
+        }
+        dbHandle.createUpdate(sqlStatements.updateContentDereferencedHash())
+                .bind(0, dereferencedHash)
+                .bind(1, contentId)
+                .execute();
+        return true;
+    }
+
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.storage.impl.sql;
+
+import io.agroal.api.AgroalDataSource;
+import io.agroal.api.configuration.supplier.AgroalDataSourceConfigurationSupplier;
+import io.agroal.api.security.NamePrincipal;
+import io.agroal.api.security.SimplePassword;
+import io.apicurio.common.apps.config.Info;
+import io.apicurio.registry.metrics.MetricsConstants;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Optional;
+
+import static io.apicurio.registry.metrics.MetricsConstants.STORAGE_DATASOURCE_TAG_NAME;
+
+/**
+ * An optional, additional datasource pointing to a read replica of the primary database.  When
+ * configured, read-only storage operations may be served by the replica instead of the primary
+ * (see {@link ReadReplicaRouting}).
+ * <p>
+ * The replica is not managed by Quarkus, because it must remain optional at runtime.  Connections
+ * obtained from it are never enlisted in a transaction.
+ */
+@ApplicationScoped
+public class ReadReplicaDataSource {
+
+    public static final String NAME = "read-replica";
+
+    @Inject
+    Logger log;
+
+    @Inject
+    MeterRegistry registry;
+
+    @ConfigProperty(name = "registry.sql.read-replica.jdbc.url")
+    @Info(category = "storage", description = "Read replica datasource jdbc URL (read replica routing is disabled when not set, and with storage other than SQL)", availableSince = "3.0.0")
+    Optional<String> jdbcUrl;
+
+    @ConfigProperty(name = "registry.sql.read-replica.username")
+    @Info(category = "storage", description = "Read replica datasource username", availableSince = "3.0.0")
+    Optional<String> username;
+
+    @ConfigProperty(name = "registry.sql.read-replica.password")
+    @Info(category = "storage", description = "Read replica datasource password", availableSince = "3.0.0")
+    Optional<String> password;
+
+    @ConfigProperty(name = "registry.sql.read-replica.max-size", defaultValue = "20")
+    @Info(category = "storage", description = "Read replica datasource connection pool max size", availableSince = "3.0.0")
+    int maxSize;
+
+    @ConfigProperty(name = "registry.sql.read-replica.acquisition-timeout", defaultValue = "PT5S")
+    @Info(category = "storage", description = "Read replica datasource connection acquisition timeout", availableSince = "3.0.0")
+    Duration acquisitionTimeout;
+
+    private AgroalDataSource dataSource;
+
+    @PostConstruct
+    void onConstruct() {
+        if (jdbcUrl.isEmpty() || jdbcUrl.get().isBlank()) {
+            return;
+        }
+        log.info("Using read replica datasource.  JDBC URL: " + jdbcUrl.get());
+        AgroalDataSourceConfigurationSupplier config = new AgroalDataSourceConfigurationSupplier()
+                .metricsEnabled(true)
+                .connectionPoolConfiguration(pool -> pool
+                        .maxSize(maxSize)
+                        .acquisitionTimeout(acquisitionTimeout)
+                        .connectionFactoryConfiguration(factory -> {
+                            factory.jdbcUrl(jdbcUrl.get()).autoCommit(true);
+                            username.ifPresent(u -> factory.principal(new NamePrincipal(u)));
+                            password.ifPresent(p -> factory.credential(new SimplePassword(p)));
+                            return factory;
+                        }));
+        try {
+            dataSource = AgroalDataSource.from(config);
+        } catch (SQLException e) {
+            throw new RuntimeException("Could not create the read replica datasource.", e);
+        }
+
+        Gauge.builder(MetricsConstants.STORAGE_DATASOURCE_CONNECTIONS_ACTIVE, dataSource, ds -> ds.getMetrics().activeCount())
+                .description(MetricsConstants.STORAGE_DATASOURCE_CONNECTIONS_ACTIVE_DESCRIPTION)
+                .tag(STORAGE_DATASOURCE_TAG_NAME, NAME)
+                .register(registry);
+        Gauge.builder(MetricsConstants.STORAGE_DATASOURCE_CONNECTIONS_AVAILABLE, dataSource, ds -> ds.getMetrics().availableCount())
+                .description(MetricsConstants.STORAGE_DATASOURCE_CONNECTIONS_AVAILABLE_DESCRIPTION)
+                .tag(STORAGE_DATASOURCE_TAG_NAME, NAME)
+                .register(registry);
+    }
+
+    @PreDestroy
+    void onDestroy() {
+        if (dataSource != null) {
+            dataSource.close();
+        }
+    }
+
+    public boolean isEnabled() {
+        return dataSource != null;
+    }
+
+    /**
+     * @return the read replica datasource, or null if none is configured
+     */
+    public AgroalDataSource getDataSource() {
+        return dataSource;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.storage.impl.sql;
+
+import io.apicurio.common.apps.config.Info;
+import io.quarkus.arc.Arc;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Decides whether a read-only storage operation may be served by the read replica datasource,
+ * according to the configured {@link ReadReplicaStalenessPolicy}.
+ * <p>
+ * Read-only operations are executed within a "read scope" (see {@link #read(Supplier)}).  The handle
+ * factory consults {@link #isReadScope()} when it opens a new top-level handle and uses the replica
+ * datasource if the scope is active.  Nested handles always reuse the connection of the outer handle.
+ */
+@ApplicationScoped
+public class ReadReplicaRouting {
+
+    private static final ThreadLocal<Boolean> readScope = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    @ConfigProperty(name = "registry.sql.read-replica.staleness-policy", defaultValue = "read-your-writes")
+    @Info(category = "storage", description = "Read replica staleness policy (read-your-writes or primary-after-write)", availableSince = "3.0.0")
+    ReadReplicaStalenessPolicy stalenessPolicy;
+
+    @ConfigProperty(name = "registry.sql.read-replica.primary-after-write.window", defaultValue = "PT5S")
+    @Info(category = "storage", description = "Read replica primary-after-write window (reads are served by the primary for this long after any write)", availableSince = "3.0.0")
+    Duration primaryAfterWriteWindow;
+
+    @Inject
+    ReadReplicaRequestState requestState;
+
+    private volatile long lastWriteTimestamp;
+
+    /**
+     * @return true if the current thread is executing a read-only operation that may use the read replica
+     */
+    public static boolean isReadScope() {
+        return readScope.get();
+    }
+
+    /**
+     * Executes the given read-only operation, allowing it to be served by the read replica
+     * unless the staleness policy requires the primary.
+     */
+    public <T> T read(Supplier<T> operation) {
+        if (!isReplicaAllowed()) {
+            return operation.get();
+        }
+        Boolean previous = readScope.get();
+        readScope.set(Boolean.TRUE);
+        try {
+            return operation.get();
+        } finally {
+            readScope.set(previous);
+        }
+    }
+
+    /**
+     * Must be called after every successful write operation of user data.
+     */
+    public void onWrite() {
+        lastWriteTimestamp = System.currentTimeMillis();
+        if (isRequestActive()) {
+            requestState.setWritten(true);
+        }
+    }
+
+    private boolean isReplicaAllowed() {
+        if (isRequestActive() && requestState.isWritten()) {
+            return false;
+        }
+        if (stalenessPolicy == ReadReplicaStalenessPolicy.PRIMARY_AFTER_WRITE) {
+            return System.currentTimeMillis() - lastWriteTimestamp > primaryAfterWriteWindow.toMillis();
+        }
+        return true;
+    }
+
+    private static boolean isRequestActive() {
+        return Arc.container().requestContext().isActive();
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.storage.impl.sql;
+
+/**
+ * Controls when read-only storage operations must be served by the primary datasource
+ * instead of the read replica, to hide replication lag from clients.
+ */
+public enum ReadReplicaStalenessPolicy {
+
+    /**
+     * Once a request has written to the storage, all of its subsequent reads are served by the primary.
+     */
+    READ_YOUR_WRITES,
+
+    /**
+     * In addition to {@link #READ_YOUR_WRITES}, all reads are served by the primary for a configured
+     * time window after any write performed by this Registry instance.
+     */
+    PRIMARY_AFTER_WRITE
+
+}
@@ -1,18 +1,27 @@
 package io.apicurio.registry.storage.impl.sql;
 
+import com.google.common.cache.CacheBuilder;
+import io.apicurio.common.apps.config.Info;
 import io.apicurio.registry.content.ContentHandle;
 import io.apicurio.registry.storage.dto.ArtifactReferenceDto;
+import io.apicurio.registry.storage.decorator.InvalidatingCache;
 import io.apicurio.registry.storage.dto.EditableArtifactMetaDataDto;
 import io.apicurio.registry.types.RegistryException;
 import io.apicurio.registry.types.provider.ArtifactTypeUtilProviderFactory;
 import io.apicurio.registry.util.ArtifactTypeUtil;
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import org.apache.commons.codec.binary.Hex;
 import org.apache.commons.codec.digest.DigestUtils;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.slf4j.Logger;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -33,6 +42,30 @@ public class RegistryStorageContentUtils {
     @Inject
     Logger log;
 
+    @ConfigProperty(name = "registry.canonical-hash.memo.enabled", defaultValue = "true")
+    @Info(category = "cache", description = "Memoize the canonical hashes of content", availableSince = "3.0.0")
+    boolean canonicalHashMemoEnabled;
+
+    @ConfigProperty(name = "registry.canonical-hash.memo.max-size", defaultValue = "10000")
+    @Info(category = "cache", description = "Maximum number of memoized canonical hashes", availableSince = "3.0.0")
+    long canonicalHashMemoMaxSize;
+
+    /**
+     * Canonical hashes, by the hash of the content, its artifact type and its references.  The references
+     * are not resolved to look up a memoized hash.  A referenced version always has the same content, as
+     * long as it is not deleted, so the storage invalidates the memo when versions are deleted (see
+     * {@link #invalidateCanonicalHashes()}), and hashes of content with unresolvable references are not
+     * memoized.
+     */
+    private InvalidatingCache<String, String> canonicalHashMemo;
+
+    @PostConstruct
+    void onConstruct() {
+        canonicalHashMemo = new InvalidatingCache<>(CacheBuilder.newBuilder()
+                .maximumSize(canonicalHashMemoMaxSize)
+                .build());
+    }
+
     /**
      * Canonicalize the given content.
      *
@@ -73,17 +106,72 @@ public class RegistryStorageContentUtils {
      */
     public String getCanonicalContentHash(ContentHandle content, String artifactType, List<ArtifactReferenceDto> references,
                                           Function<List<ArtifactReferenceDto>, Map<String, ContentHandle>> referenceResolver) {
-        try {
-            if (notEmpty(references)) {
-                String referencesSerialized = SqlUtil.serializeReferences(references);
-                ContentHandle canonicalContent = canonicalizeContent(artifactType, content, referenceResolver.apply(references));
-                return DigestUtils.sha256Hex(concatContentAndReferences(canonicalContent.bytes(), referencesSerialized));
-            } else {
-                ContentHandle canonicalContent = canonicalizeContent(artifactType, content, Map.of());
-                return DigestUtils.sha256Hex(canonicalContent.bytes());
-            }
-        } catch (IOException ex) {
-            throw new RegistryException("Failed to compute canonical content hash.", ex);
+        String referencesSerialized = notEmpty(references) ? SqlUtil.serializeReferences(references) : null;
+        if (!canonicalHashMemoEnabled) {
+            return computeCanonicalContentHash(content, artifactType, referencesSerialized,
+                    notEmpty(references) ? referenceResolver.apply(references) : Map.of());
+        }
+        String[] computed = new String[1];
+        String memoized = canonicalHashMemo.get(canonicalHashMemoKey(content, artifactType, referencesSerialized), () -> {
+            Map<String, ContentHandle> resolvedReferences = notEmpty(references) ? referenceResolver.apply(references) : Map.of();
+            computed[0] = computeCanonicalContentHash(content, artifactType, referencesSerialized, resolvedReferences);
+            // The hash changes once a missing reference is created
+            boolean resolved = !notEmpty(references)
+                    || references.stream().allMatch(reference -> resolvedReferences.containsKey(reference.getName()));
+            return resolved ? computed[0] : null;
+        });
+        return memoized != null ? memoized : computed[0];
+    }
+
+
+    /**
+     * Must be called whenever an artifact version may have been deleted, because its content may change when
+     * it is created again, and with it the canonical hashes of the content that references it.
+     */
+    public void invalidateCanonicalHashes() {
+        if (canonicalHashMemo != null) {
+            canonicalHashMemo.invalidateAll();
+        }
+    }
+
+
+    private String computeCanonicalContentHash(ContentHandle content, String artifactType, String referencesSerialized,
+                                               Map<String, ContentHandle> resolvedReferences) {
+        MessageDigest digest = DigestUtils.getSha256Digest();
+        digestCanonicalContent(artifactType, content, resolvedReferences, digest);
+        if (referencesSerialized != null) {
+            digest.update(ContentHandle.create(referencesSerialized).bytes());
+        }
+        return Hex.encodeHexString(digest.digest());
+    }
+
+
+    private static String canonicalHashMemoKey(ContentHandle content, String artifactType, String referencesSerialized) {
+        StringBuilder key = new StringBuilder()
+                .append(artifactType).append(':')
+                .append(content.getSha256Hash());
+        if (referencesSerialized != null) {
+            key.append(':').append(referencesSerialized);
+        }
+        return DigestUtils.sha256Hex(key.toString());
+    }
+
+
+    /**
+     * Hashes the canonical form of the given content while it is written, instead of canonicalizing
+     * the content first.  Like {@link #canonicalizeContent(String, ContentHandle, Map)}, hashes the
+     * content itself if it could not be canonicalized.
+     */
+    private void digestCanonicalContent(String artifactType, ContentHandle content, Map<String, ContentHandle> resolvedReferences,
+                                        MessageDigest digest) {
+        try (OutputStream out = new DigestOutputStream(OutputStream.nullOutputStream(), digest)) {
+            factory.getArtifactTypeProvider(artifactType)
+                    .getContentCanonicalizer()
+                    .canonicalize(content, resolvedReferences, out);
+        } catch (Exception ex) {
+            log.debug("Failed to canonicalize content: {}", content.content());
+            digest.reset();
+            digest.update(content.bytes());
         }
     }
 
@@ -118,6 +206,17 @@ public class RegistryStorageContentUtils {
     }
 
 
+    /**
+     * Hashes the given content dereferenced, i.e. with its references inlined.
+     */
+    public String getDereferencedContentHash(ContentHandle content, String artifactType, Map<String, ContentHandle> resolvedReferences) {
+        ContentHandle dereferenced = factory.getArtifactTypeProvider(artifactType)
+                .getContentDereferencer()
+                .dereference(content, resolvedReferences);
+        return DigestUtils.sha256Hex(dereferenced.content());
+    }
+
+
     public String determineArtifactType(ContentHandle content, String artifactTypeHint) {
         return ArtifactTypeUtil.determineArtifactType(content, artifactTypeHint, null, factory.getAllArtifactTypes());
     }
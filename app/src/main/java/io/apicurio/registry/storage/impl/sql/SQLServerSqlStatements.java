@@ -16,6 +16,8 @@
 
 package io.apicurio.registry.storage.impl.sql;
 
+import java.sql.Connection;
+
 /**
  * MS SQL Server implementation of the SQL statements interface.  Provides sql statements that
  * are specific to MS SQL Server, where applicable.
@@ -54,6 +56,18 @@ public class SQLServerSqlStatements extends CommonSqlStatements {
         return error.getMessage().contains("conflicted with the FOREIGN KEY constraint");
     }
 
+    /**
+     * SQL Server implements repeatable read with locks, which would block all writes for the duration of
+     * an export, and snapshot isolation must be enabled for the database first.  Read committed snapshot
+     * isolation, when enabled for the database, at least gives every statement a consistent view.
+     *
+     * @see io.apicurio.registry.storage.impl.sql.SqlStatements#snapshotIsolationLevel()
+     */
+    @Override
+    public int snapshotIsolationLevel() {
+        return Connection.TRANSACTION_READ_COMMITTED;
+    }
+
     /**
      * @see io.apicurio.registry.storage.impl.sql.SqlStatements.core.storage.jdbc.ISqlStatements#isDatabaseInitialized()
      */
@@ -148,6 +162,23 @@ public class SQLServerSqlStatements extends CommonSqlStatements {
                 + "ORDER BY v.globalId ASC OFFSET ? ROWS FETCH NEXT ? ROWS ONLY";
     }
 
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.SqlStatements#selectContentBatch()
+     */
+    @Override
+    public String selectContentBatch() {
+        return "SELECT c.contentId, c.content FROM content c "
+                + "WHERE c.contentId > ? ORDER BY c.contentId ASC OFFSET 0 ROWS FETCH NEXT ? ROWS ONLY";
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.SqlStatements#dropIndex(java.lang.String, java.lang.String)
+     */
+    @Override
+    public String dropIndex(String indexName, String tableName) {
+        return "DROP INDEX " + indexName + " ON " + tableName;
+    }
+
     /**
      * @see io.apicurio.registry.storage.impl.sql.SqlStatements#selectGroups()
      */
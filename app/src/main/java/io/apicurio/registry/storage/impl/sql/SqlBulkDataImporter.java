@@ -0,0 +1,403 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.storage.impl.sql;
+
+import io.apicurio.registry.storage.dto.ArtifactReferenceDto;
+import io.apicurio.registry.storage.error.ArtifactNotFoundException;
+import io.apicurio.registry.storage.error.ContentAlreadyExistsException;
+import io.apicurio.registry.storage.error.GroupAlreadyExistsException;
+import io.apicurio.registry.storage.error.RegistryStorageException;
+import io.apicurio.registry.storage.error.RuleAlreadyExistsException;
+import io.apicurio.registry.storage.error.VersionAlreadyExistsException;
+import io.apicurio.registry.storage.impexp.EntityInputStream;
+import io.apicurio.registry.storage.importing.SqlDataImporter;
+import io.apicurio.registry.storage.impl.sql.jdb.Handle;
+import io.apicurio.registry.storage.impl.sql.jdb.Update;
+import io.apicurio.registry.types.RuleType;
+import io.apicurio.registry.utils.impexp.ArtifactRuleEntity;
+import io.apicurio.registry.utils.impexp.ArtifactVersionEntity;
+import io.apicurio.registry.utils.impexp.CommentEntity;
+import io.apicurio.registry.utils.impexp.ContentEntity;
+import io.apicurio.registry.utils.impexp.Entity;
+import io.apicurio.registry.utils.impexp.EntityType;
+import io.apicurio.registry.utils.impexp.GlobalRuleEntity;
+import io.apicurio.registry.utils.impexp.GroupEntity;
+import org.slf4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static io.apicurio.registry.storage.impl.sql.SqlUtil.normalizeGroupId;
+
+/**
+ * Imports data into an empty SQL storage using JDBC batches.  Rows are accumulated per table
+ * and written once a batch is full, instead of executing several statements (including existence
+ * checks) for every imported entity.  IDs are allocated locally and the sequences are reset
+ * at the end of the import.
+ * <p>
+ * Because the target storage is known to be empty, duplicates can only come from the imported
+ * data itself - they are detected in memory.  Artifact references are inserted at the very end,
+ * once all content has been written.  Optionally, the secondary indexes of the affected tables
+ * are dropped before the import and created again afterwards.
+ * <p>
+ * WARNING: All the work is done using the given handle, which must stay open during the import.
+ */
+public class SqlBulkDataImporter extends SqlDataImporter {
+
+    private static final Pattern CREATE_INDEX_PATTERN = Pattern.compile("^CREATE (?:HASH )?INDEX (\\w+) ON (\\w+)");
+
+    private static final Set<String> IMPORTED_TABLES = Set.of("artifacts", "content", "versions", "labels", "properties", "comments");
+
+    private final AbstractSqlRegistryStorage sqlStorage;
+    private final Handle handle;
+    private final SqlStatements sqlStatements;
+    private final int batchSize;
+    private final boolean rebuildIndexes;
+
+    // Batches, in the order in which they must be flushed (to satisfy foreign keys)
+    private final Update groups;
+    private final Update contents;
+    private final Update artifacts;
+    private final Update versions;
+    private final Update labels;
+    private final Update properties;
+    private final Update latestVersions;
+    private final Update comments;
+    private final Update artifactRules;
+    private final Update globalRules;
+    private final List<Update> batches;
+
+    // Artifact references are inserted after all content has been imported
+    private final Update references;
+    private final Set<String> importedReferences = new HashSet<>();
+
+    // Duplicate detection
+    private final Set<String> importedGroups = new HashSet<>();
+    private final Set<String> importedArtifacts = new HashSet<>();
+    private final Set<Long> importedContentIds = new HashSet<>();
+    private final Set<Long> importedGlobalIds = new HashSet<>();
+    private final Set<String> importedCommentIds = new HashSet<>();
+    private final Set<RuleType> importedGlobalRules = new HashSet<>();
+
+    private long nextContentId = -1;
+    private long nextGlobalId = -1;
+
+    /**
+     * Constructor.
+     * @param log
+     * @param utils
+     * @param sqlStorage the storage to import into, which must be empty
+     * @param handle the handle used to write all imported data
+     * @param sqlStatements
+     * @param preserveGlobalId
+     * @param preserveContentId
+     * @param batchSize the maximum number of rows written in a single JDBC batch
+     * @param rebuildIndexes whether to drop the secondary indexes during the import
+     */
+    public SqlBulkDataImporter(Logger log, RegistryStorageContentUtils utils, AbstractSqlRegistryStorage sqlStorage,
+                               Handle handle, SqlStatements sqlStatements, boolean preserveGlobalId,
+                               boolean preserveContentId, int batchSize, boolean rebuildIndexes) {
+        super(log, utils, sqlStorage, preserveGlobalId, preserveContentId);
+        this.sqlStorage = sqlStorage;
+        this.handle = handle;
+        this.sqlStatements = sqlStatements;
+        this.batchSize = batchSize;
+        this.rebuildIndexes = rebuildIndexes;
+
+        groups = handle.createUpdate(sqlStatements.importGroup());
+        contents = handle.createUpdate(sqlStatements.importContent());
+        artifacts = handle.createUpdate(sqlStatements.insertArtifact());
+        versions = handle.createUpdate(sqlStatements.importArtifactVersion());
+        labels = handle.createUpdate(sqlStatements.insertLabel());
+        properties = handle.createUpdate(sqlStatements.insertProperty());
+        latestVersions = handle.createUpdate(sqlStatements.updateArtifactLatest());
+        comments = handle.createUpdate(sqlStatements.insertComment());
+        artifactRules = handle.createUpdate(sqlStatements.importArtifactRule());
+        globalRules = handle.createUpdate(sqlStatements.importGlobalRule());
+        batches = List.of(groups, contents, artifacts, versions, labels, properties, latestVersions, comments,
+                artifactRules, globalRules);
+
+        references = handle.createUpdate(sqlStatements.upsertReference());
+    }
+
+
+    /**
+     * Imports the data in a single transaction, so that a failed import does not leave partially
+     * imported data behind.  The indexes are dropped and re-created outside of the transaction, because
+     * some databases commit DDL statements implicitly.
+     *
+     * @see io.apicurio.registry.storage.importing.SqlDataImporter#importData(io.apicurio.registry.storage.impexp.EntityInputStream, java.lang.Runnable)
+     */
+    @Override
+    public void importData(EntityInputStream entities, Runnable postImportAction) {
+        List<String> droppedIndexes = rebuildIndexes ? dropIndexes() : List.of();
+        try {
+            handle.inTransaction(h -> {
+                super.importData(entities, () -> {
+                    flush();
+                    log.info("Inserting {} artifact references.", references.batchSize());
+                    executeBatch(references);
+                    postImportAction.run();
+                });
+                return null;
+            });
+        } finally {
+            createIndexes(droppedIndexes);
+        }
+    }
+
+
+    /**
+     * Batches are flushed here, between entities, rather than while an entity is imported, so that a
+     * failed batch aborts the import instead of being reported as a failure to import the current entity.
+     *
+     * @see io.apicurio.registry.storage.importing.AbstractDataImporter#importEntity(io.apicurio.registry.utils.impexp.Entity)
+     */
+    @Override
+    public void importEntity(Entity entity) {
+        if (entity.getEntityType() == EntityType.Content) {
+            ContentEntity content = (ContentEntity) entity;
+            if (content.canonicalHash == null && content.artifactType != null && content.serializedReferences != null) {
+                // The content is canonicalized with its references resolved, which might still be waiting in a batch
+                flush();
+            }
+        }
+        super.importEntity(entity);
+        if (batches.stream().anyMatch(batch -> batch.batchSize() >= batchSize)) {
+            flush();
+        }
+    }
+
+
+    @Override
+    protected long nextContentId() {
+        if (nextContentId < 0) {
+            nextContentId = sqlStorage.nextContentId();
+            return nextContentId;
+        }
+        return ++nextContentId;
+    }
+
+
+    @Override
+    protected long nextGlobalId() {
+        if (nextGlobalId < 0) {
+            nextGlobalId = sqlStorage.nextGlobalId();
+            return nextGlobalId;
+        }
+        return ++nextGlobalId;
+    }
+
+
+    @Override
+    protected void insertGroup(GroupEntity entity) {
+        String groupId = normalizeGroupId(entity.groupId);
+        if (!importedGroups.add(groupId)) {
+            throw new GroupAlreadyExistsException(entity.groupId);
+        }
+        groups.bind(0, groupId)
+                .bind(1, entity.description)
+                .bind(2, entity.artifactsType)
+                .bind(3, entity.createdBy)
+                .bind(4, new Date(entity.createdOn))
+                .bind(5, entity.modifiedBy)
+                .bind(6, new Date(entity.modifiedOn))
+                .bind(7, SqlUtil.serializeProperties(entity.properties))
+                .add();
+    }
+
+
+    @Override
+    protected void insertContent(ContentEntity entity) {
+        if (!importedContentIds.add(entity.contentId)) {
+            throw new ContentAlreadyExistsException(entity.contentId);
+        }
+        contents.bind(0, entity.contentId)
+                .bind(1, entity.canonicalHash)
+                .bind(2, entity.contentHash)
+                .bind(3, sqlStorage.compressContent(entity.contentBytes))
+                .bind(4, entity.serializedReferences)
+                .add();
+
+        List<ArtifactReferenceDto> refs = SqlUtil.deserializeReferences(entity.serializedReferences);
+        if (refs != null) {
+            for (ArtifactReferenceDto reference : refs) {
+                if (importedReferences.add(entity.contentId + "/" + reference.getName())) {
+                    references.bind(0, entity.contentId)
+                            .bind(1, normalizeGroupId(reference.getGroupId()))
+                            .bind(2, reference.getArtifactId())
+                            .bind(3, reference.getVersion())
+                            .bind(4, reference.getName())
+                            .add();
+                }
+            }
+        }
+    }
+
+
+    @Override
+    protected void insertArtifactVersion(ArtifactVersionEntity entity) {
+        if (!importedGlobalIds.add(entity.globalId)) {
+            throw new VersionAlreadyExistsException(entity.globalId);
+        }
+        String groupId = normalizeGroupId(entity.groupId);
+
+        if (importedArtifacts.add(groupId + "/" + entity.artifactId)) {
+            artifacts.bind(0, groupId)
+                    .bind(1, entity.artifactId)
+                    .bind(2, entity.artifactType)
+                    .bind(3, entity.createdBy)
+                    .bind(4, new Date(entity.createdOn))
+                    .add();
+        }
+
+        versions.bind(0, entity.globalId)
+                .bind(1, groupId)
+                .bind(2, entity.artifactId)
+                .bind(3, entity.version)
+                .bind(4, entity.versionId)
+                .bind(5, entity.state)
+                .bind(6, entity.name)
+                .bind(7, entity.description)
+                .bind(8, entity.createdBy)
+                .bind(9, new Date(entity.createdOn))
+                .bind(10, SqlUtil.serializeLabels(entity.labels))
+                .bind(11, SqlUtil.serializeProperties(entity.properties))
+                .bind(12, entity.contentId)
+                .add();
+
+        if (entity.labels != null) {
+            entity.labels.forEach(label -> {
+                labels.bind(0, entity.globalId)
+                        .bind(1, label.toLowerCase())
+                        .add();
+            });
+        }
+
+        if (entity.properties != null) {
+            entity.properties.forEach((k, v) -> {
+                properties.bind(0, entity.globalId)
+                        .bind(1, k.toLowerCase())
+                        .bind(2, v.toLowerCase())
+                        .add();
+            });
+        }
+
+        if (entity.isLatest) {
+            latestVersions.bind(0, entity.globalId)
+                    .bind(1, groupId)
+                    .bind(2, entity.artifactId)
+                    .add();
+        }
+    }
+
+
+    @Override
+    protected void insertComment(CommentEntity entity) {
+        if (!importedCommentIds.add(entity.commentId)) {
+            throw new RegistryStorageException("Duplicate commentId " + entity.commentId);
+        }
+        comments.bind(0, entity.commentId)
+                .bind(1, entity.globalId)
+                .bind(2, entity.createdBy)
+                .bind(3, new Date(entity.createdOn))
+                .bind(4, entity.value)
+                .add();
+    }
+
+
+    @Override
+    protected void insertArtifactRule(ArtifactRuleEntity entity) {
+        String groupId = normalizeGroupId(entity.groupId);
+        if (!importedArtifacts.contains(groupId + "/" + entity.artifactId)) {
+            throw new ArtifactNotFoundException(entity.groupId, entity.artifactId);
+        }
+        artifactRules.bind(0, groupId)
+                .bind(1, entity.artifactId)
+                .bind(2, entity.type.name())
+                .bind(3, entity.configuration)
+                .add();
+    }
+
+
+    @Override
+    protected void insertGlobalRule(GlobalRuleEntity entity) {
+        if (!importedGlobalRules.add(entity.ruleType)) {
+            throw new RuleAlreadyExistsException(entity.ruleType);
+        }
+        globalRules.bind(0, entity.ruleType.name())
+                .bind(1, entity.configuration)
+                .add();
+    }
+
+
+    /**
+     * Writes all pending batches, in foreign key order.  Failures are not handled here, they abort the import.
+     */
+    private void flush() {
+        int rows = 0;
+        for (Update batch : batches) {
+            rows += executeBatch(batch);
+        }
+        if (rows > 0) {
+            log.debug("Bulk import flushed {} rows.", rows);
+        }
+    }
+
+
+    private int executeBatch(Update batch) {
+        int rows = batch.batchSize();
+        if (rows > 0) {
+            batch.executeBatch();
+        }
+        return rows;
+    }
+
+
+    /**
+     * Drops the secondary indexes of the tables written by the import, and returns the
+     * statements that re-create them.
+     */
+    private List<String> dropIndexes() {
+        List<String> createStatements = new ArrayList<>();
+        for (String statement : sqlStatements.databaseInitialization()) {
+            Matcher matcher = CREATE_INDEX_PATTERN.matcher(statement);
+            if (matcher.find() && IMPORTED_TABLES.contains(matcher.group(2))) {
+                handle.createUpdate(sqlStatements.dropIndex(matcher.group(1), matcher.group(2))).executeNoUpdate();
+                createStatements.add(statement);
+            }
+        }
+        log.info("Dropped {} indexes for the duration of the import.", createStatements.size());
+        return createStatements;
+    }
+
+
+    private void createIndexes(List<String> createStatements) {
+        if (createStatements.isEmpty()) {
+            return;
+        }
+        log.info("Re-creating {} indexes.", createStatements.size());
+        for (String statement : createStatements) {
+            handle.createUpdate(statement).executeNoUpdate();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.storage.impl.sql;
+
+import io.apicurio.common.apps.config.Info;
+import io.apicurio.registry.metrics.MetricsConstants;
+import io.apicurio.registry.storage.impl.sql.jdb.StatementMetrics;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records per-statement metrics (executions, latency histogram and number of rows).
+ * <p>
+ * Statements are identified by the name of the {@link SqlStatements} method that provides their SQL,
+ * to keep the number of distinct tags bounded.  Dynamically built statements (e.g. searches) are
+ * all recorded as "other".
+ */
+@ApplicationScoped
+public class SqlStatementMetrics implements StatementMetrics {
+
+    private static final String OTHER = "other";
+
+    @Inject
+    MeterRegistry registry;
+
+    @Inject
+    SqlStatements sqlStatements;
+
+    @ConfigProperty(name = "registry.sql.metrics.statements.enabled", defaultValue = "false")
+    @Info(category = "storage", description = "Record execution metrics for every SQL statement", availableSince = "3.0.0")
+    boolean enabled;
+
+    private final Map<String, String> statementNames = new HashMap<>();
+
+    private final Map<String, Meters> meters = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void onConstruct() {
+        if (!enabled) {
+            return;
+        }
+        for (Method method : SqlStatements.class.getMethods()) {
+            if (method.getParameterCount() == 0 && method.getReturnType() == String.class && !"dbType".equals(method.getName())) {
+                try {
+                    statementNames.putIfAbsent((String) method.invoke(sqlStatements), method.getName());
+                } catch (Exception e) {
+                    throw new IllegalStateException("Could not read SQL statement " + method.getName(), e);
+                }
+            }
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.jdb.StatementMetrics#record(java.lang.String, long, long)
+     */
+    @Override
+    public void record(String sql, long durationNanos, long rows) {
+        Meters m = meters.computeIfAbsent(statementNames.getOrDefault(sql, OTHER), this::createMeters);
+        m.timer.record(durationNanos, TimeUnit.NANOSECONDS);
+        m.rows.record(rows);
+    }
+
+    private Meters createMeters(String statementName) {
+        Timer timer = Timer.builder(MetricsConstants.STORAGE_SQL_STATEMENT)
+                .description(MetricsConstants.STORAGE_SQL_STATEMENT_DESCRIPTION)
+                .tag(MetricsConstants.STORAGE_SQL_STATEMENT_TAG_NAME, statementName)
+                .publishPercentileHistogram()
+                .register(registry);
+        DistributionSummary rows = DistributionSummary.builder(MetricsConstants.STORAGE_SQL_STATEMENT_ROWS)
+                .description(MetricsConstants.STORAGE_SQL_STATEMENT_ROWS_DESCRIPTION)
+                .tag(MetricsConstants.STORAGE_SQL_STATEMENT_TAG_NAME, statementName)
+                .register(registry);
+        return new Meters(timer, rows);
+    }
+
+    private static class Meters {
+
+        final Timer timer;
+
+        final DistributionSummary rows;
+
+        Meters(Timer timer, DistributionSummary rows) {
+            this.timer = timer;
+            this.rows = rows;
+        }
+    }
+}
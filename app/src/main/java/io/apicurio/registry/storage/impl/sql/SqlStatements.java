@@ -45,6 +45,12 @@ public interface SqlStatements {
      */
     public boolean isForeignKeyViolation(Exception error);
 
+    /**
+     * Gets the transaction isolation level in which all queries of a read-only transaction read the same
+     * snapshot of the database, e.g. for a consistent export.
+     */
+    public int snapshotIsolationLevel();
+
     /**
      * A statement that returns 'true' if the database has already been initialized.
      */
@@ -144,11 +150,28 @@ public interface SqlStatements {
      */
     public String selectArtifactVersionMetaDataByCanonicalHash();
 
+    /**
+     * A statement used to select the rows in the versions by artifactId and dereferenced content hash.
+     */
+    public String selectArtifactVersionMetaDataByDereferencedHash();
+
     /**
      * A statement to select the content of an artifact version from the versions table by globalId.
      */
     public String selectArtifactVersionContentByGlobalId();
 
+    /**
+     * A statement to select the content of the artifact versions, that are not disabled, with any of the
+     * given number of globalIds.
+     */
+    public String selectArtifactVersionContentByGlobalIds(int count);
+
+    /**
+     * A statement to select the content of the artifact versions with any of the given number of
+     * groupId, artifactId and version coordinates.
+     */
+    public String selectArtifactVersionContentByCoordinates(int count);
+
     /**
      * A statement used to select all version #s for a given artifactId.
      */
@@ -169,6 +192,16 @@ public interface SqlStatements {
      */
     public String selectAllArtifactCount();
 
+    /**
+     * A statement used to count the total # of content rows.
+     */
+    public String selectAllContentCount();
+
+    /**
+     * A statement used to count the total # of groups.
+     */
+    public String selectAllGroupCount();
+
     /**
      * A statement used to count the total # of versions for an artifact.
      */
@@ -189,6 +222,27 @@ public interface SqlStatements {
      */
     public String selectArtifactVersionContent();
 
+    /**
+     * A statement to select the meta-data and the content of an artifact version by artifactId + version.
+     */
+    public String selectArtifactVersionMetaDataAndContent();
+
+    /**
+     * A statement to select the meta-data and the content of an artifact version by globalId.
+     */
+    public String selectArtifactVersionMetaDataAndContentByGlobalId();
+
+    /**
+     * A statement to select the meta-data and the content of the latest version of an artifact by artifactId.
+     */
+    public String selectLatestArtifactVersionMetaDataAndContent();
+
+    /**
+     * A statement to select the meta-data and the content of the non-DISABLED version of an artifact with the
+     * highest global ID.  This is used in case the latest version referenced by the artifact is DISABLED.
+     */
+    public String selectLatestArtifactVersionMetaDataAndContentWithMaxGlobalIDSkipDisabledState();
+
     /**
      * A statement to select the content ids of an artifact for all versions.
      */
@@ -204,6 +258,36 @@ public interface SqlStatements {
      */
     public String updateContentCanonicalHash();
 
+    /**
+     * A statement to select the IDs of the content with references, used by a version, that has no dereferencedHash value yet.
+     */
+    public String selectContentIdsWithoutDereferencedHash();
+
+    /**
+     * A statement to select a content with references that has no dereferencedHash value yet, with the types of the artifacts using it.
+     */
+    public String selectContentWithoutDereferencedHash();
+
+    /**
+     * A statement to update the dereferencedHash value in a row in the "content" table
+     */
+    public String updateContentDereferencedHash();
+
+    /**
+     * A statement to select a batch of content rows (contentId and bytes) with contentId greater than the given one.
+     */
+    public String selectContentBatch();
+
+    /**
+     * A statement to update the stored bytes of a row in the "content" table.
+     */
+    public String updateContentBytes();
+
+    /**
+     * A statement to drop the given (secondary) index of the given table.
+     */
+    public String dropIndex(String indexName, String tableName);
+
     /**
      * A statement to get a single artifact (latest version) content by artifactId.
      */
@@ -245,11 +329,26 @@ public interface SqlStatements {
      */
     public String selectContentIdByHash();
 
+    /**
+     * A statement to select the hash value of a row in the content table by contentId.
+     */
+    public String selectContentHashById();
+
+    /**
+     * A statement to select the content of the rows in the content table with any of the given number of contentIds.
+     */
+    public String selectContentByIds(int count);
+
     /**
      * A statement used to select artifact rules by artifactId.
      */
     public String selectArtifactRules();
 
+    /**
+     * A statement to get the configurations of all rules of an artifact and of all global rules.
+     */
+    public String selectRuleSet();
+
     /**
      * A statement to insert a row into the 'rules' table (artifact rule).
      */
@@ -599,6 +698,17 @@ public interface SqlStatements {
     public String deleteExpiredDownloads();
 
 
+    /*
+     * The next few statements support compatibility results.
+     */
+
+    public String selectCompatibilityResult();
+
+    public String insertCompatibilityResult();
+
+    public String deleteAllCompatibilityResults();
+
+
     /*
      * The next few statements support config properties.
      */
@@ -35,4 +35,21 @@ public interface Handle extends Closeable {
      */
     Update createUpdate(String sql);
 
+    /**
+     * Invokes the given callback in a read-only transaction with the given isolation level, so that all of
+     * its queries read the same snapshot of the database (given an isolation level that guarantees it).
+     * If the handle is already part of a transaction, the callback is invoked in that transaction.
+     * @param isolationLevel one of the {@link java.sql.Connection} transaction isolation levels
+     * @param callback
+     */
+    <R, X extends Exception> R inReadOnlyTransaction(int isolationLevel, HandleCallback<R, X> callback) throws X;
+
+    /**
+     * Invokes the given callback in a transaction, which is committed if the callback returns normally and
+     * rolled back if it throws.  If the handle is already part of a transaction, the callback is invoked in
+     * that transaction.
+     * @param callback
+     */
+    <R, X extends Exception> R inTransaction(HandleCallback<R, X> callback) throws X;
+
 }
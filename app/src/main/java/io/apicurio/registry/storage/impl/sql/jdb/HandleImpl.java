@@ -27,12 +27,24 @@ public class HandleImpl implements Handle {
 
     private final Connection connection;
 
+    private final StatementMetrics metrics;
+
     /**
      * Constructor.
      * @param connection
      */
     public HandleImpl(Connection connection) {
+        this(connection, null);
+    }
+
+    /**
+     * Constructor.
+     * @param connection
+     * @param metrics optional statement metrics
+     */
+    public HandleImpl(Connection connection, StatementMetrics metrics) {
         this.connection = connection;
+        this.metrics = metrics;
     }
 
     /**
@@ -52,7 +64,7 @@ public class HandleImpl implements Handle {
      */
     @Override
     public Query createQuery(String sql) {
-        QueryImpl query = new QueryImpl(connection, sql);
+        QueryImpl query = new QueryImpl(this, sql);
         return query;
     }
 
@@ -61,8 +73,105 @@ public class HandleImpl implements Handle {
      */
     @Override
     public Update createUpdate(String sql) {
-        UpdateImpl update = new UpdateImpl(connection, sql);
+        UpdateImpl update = new UpdateImpl(this, sql);
         return update;
     }
 
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.jdb.Handle#inReadOnlyTransaction(int, io.apicurio.registry.storage.impl.sql.jdb.HandleCallback)
+     */
+    @Override
+    public <R, X extends Exception> R inReadOnlyTransaction(int isolationLevel, HandleCallback<R, X> callback) throws X {
+        boolean autoCommit;
+        int previousIsolationLevel;
+        boolean previousReadOnly;
+        try {
+            autoCommit = connection.getAutoCommit();
+            if (!autoCommit) {
+                // Already in a (managed) transaction
+                return callback.withHandle(this);
+            }
+            previousIsolationLevel = connection.getTransactionIsolation();
+            previousReadOnly = connection.isReadOnly();
+            connection.setTransactionIsolation(isolationLevel);
+            connection.setReadOnly(true);
+            connection.setAutoCommit(false);
+        } catch (SQLException e) {
+            throw new RuntimeSqlException(e);
+        }
+        R result;
+        try {
+            result = callback.withHandle(this);
+        } catch (Exception | Error e) {
+            try {
+                endReadOnlyTransaction(previousIsolationLevel, previousReadOnly);
+            } catch (SQLException ex) {
+                e.addSuppressed(ex);
+            }
+            throw e;
+        }
+        try {
+            endReadOnlyTransaction(previousIsolationLevel, previousReadOnly);
+        } catch (SQLException e) {
+            throw new RuntimeSqlException(e);
+        }
+        return result;
+    }
+
+    private void endReadOnlyTransaction(int previousIsolationLevel, boolean previousReadOnly) throws SQLException {
+        connection.rollback();
+        connection.setAutoCommit(true);
+        connection.setReadOnly(previousReadOnly);
+        connection.setTransactionIsolation(previousIsolationLevel);
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.jdb.Handle#inTransaction(io.apicurio.registry.storage.impl.sql.jdb.HandleCallback)
+     */
+    @Override
+    public <R, X extends Exception> R inTransaction(HandleCallback<R, X> callback) throws X {
+        try {
+            if (!connection.getAutoCommit()) {
+                // Already in a (managed) transaction
+                return callback.withHandle(this);
+            }
+            connection.setAutoCommit(false);
+        } catch (SQLException e) {
+            throw new RuntimeSqlException(e);
+        }
+        R result;
+        try {
+            result = callback.withHandle(this);
+        } catch (Exception | Error e) {
+            rollbackTransaction(e);
+            throw e;
+        }
+        try {
+            connection.commit();
+            connection.setAutoCommit(true);
+        } catch (SQLException e) {
+            RuntimeSqlException ex = new RuntimeSqlException(e);
+            rollbackTransaction(ex);
+            throw ex;
+        }
+        return result;
+    }
+
+    private void rollbackTransaction(Throwable cause) {
+        try {
+            connection.rollback();
+            connection.setAutoCommit(true);
+        } catch (SQLException ex) {
+            cause.addSuppressed(ex);
+        }
+    }
+
+    Connection getConnection() {
+        return connection;
+    }
+
+    StatementMetrics getMetrics() {
+        return metrics;
+    }
+
 }
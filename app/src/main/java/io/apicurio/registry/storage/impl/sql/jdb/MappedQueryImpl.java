@@ -36,7 +36,10 @@ public class MappedQueryImpl<T> implements MappedQuery<T>, Closeable {
 
     final PreparedStatement statement;
     final RowMapper<T> mapper;
+    final CloseHandler closeHandler;
     final ResultSet resultSet;
+    private long rows;
+    private boolean closed;
 
     /**
      * Constructor.
@@ -45,11 +48,28 @@ public class MappedQueryImpl<T> implements MappedQuery<T>, Closeable {
      * @throws SQLException
      */
     public MappedQueryImpl(PreparedStatement statement, RowMapper<T> mapper) throws SQLException {
+        this(statement, mapper, rows -> statement.close());
+    }
+
+    /**
+     * Constructor.
+     * @param statement
+     * @param mapper
+     * @param closeHandler called (once) when the query is closed, responsible for closing or releasing the statement
+     * @throws SQLException
+     */
+    public MappedQueryImpl(PreparedStatement statement, RowMapper<T> mapper, CloseHandler closeHandler) throws SQLException {
         this.statement = statement;
         this.mapper = mapper;
+        this.closeHandler = closeHandler;
         this.resultSet = statement.executeQuery();
     }
 
+    private T mapRow() throws SQLException {
+        rows++;
+        return mapper.map(resultSet);
+    }
+
     /**
      * @see io.apicurio.registry.storage.impl.sql.jdb.MappedQuery#one()
      */
@@ -58,7 +78,7 @@ public class MappedQueryImpl<T> implements MappedQuery<T>, Closeable {
         T rval = null;
         try {
             if (this.resultSet.next()) {
-                rval = this.mapper.map(resultSet);
+                rval = mapRow();
                 if (this.resultSet.next()) {
                     throw new RuntimeSqlException("SQL error: Expected only one result but got multiple.");
                 }
@@ -81,7 +101,7 @@ public class MappedQueryImpl<T> implements MappedQuery<T>, Closeable {
         T rval = null;
         try {
             if (this.resultSet.next()) {
-                rval = this.mapper.map(resultSet);
+                rval = mapRow();
             } else {
                 throw new RuntimeSqlException("SQL error: Expected AT LEAST one result row but got none.");
             }
@@ -101,7 +121,7 @@ public class MappedQueryImpl<T> implements MappedQuery<T>, Closeable {
         Optional<T> rval;
         try {
             if (this.resultSet.next()) {
-                rval = Optional.of(this.mapper.map(resultSet));
+                rval = Optional.of(mapRow());
                 if (this.resultSet.next()) {
                     throw new RuntimeSqlException("SQL error: Expected only one result but got multiple.");
                 }
@@ -124,7 +144,7 @@ public class MappedQueryImpl<T> implements MappedQuery<T>, Closeable {
         Optional<T> rval = null;
         try {
             if (this.resultSet.next()) {
-                rval = Optional.of(this.mapper.map(resultSet));
+                rval = Optional.of(mapRow());
             } else {
                 rval = Optional.empty();
             }
@@ -144,7 +164,7 @@ public class MappedQueryImpl<T> implements MappedQuery<T>, Closeable {
         Optional<T> rval = null;
         try {
             while (this.resultSet.next()) {
-                rval = Optional.of(this.mapper.map(resultSet));
+                rval = Optional.of(mapRow());
             }
             if (rval == null) {
                 rval = Optional.empty();
@@ -165,7 +185,7 @@ public class MappedQueryImpl<T> implements MappedQuery<T>, Closeable {
         List<T> rval = new LinkedList<>();
         try {
             while (this.resultSet.next()) {
-                T t = this.mapper.map(resultSet);
+                T t = mapRow();
                 rval.add(t);
             }
         } catch (SQLException e) {
@@ -188,7 +208,7 @@ public class MappedQueryImpl<T> implements MappedQuery<T>, Closeable {
                     if (!resultSet.next()) {
                         return false;
                     }
-                    T t = mapper.map(resultSet);
+                    T t = mapRow();
                     action.accept(t);
                     return true;
                 } catch (SQLException e) {
@@ -204,11 +224,31 @@ public class MappedQueryImpl<T> implements MappedQuery<T>, Closeable {
      */
     @Override
     public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
         try {
-            this.statement.close();
+            try {
+                this.resultSet.close();
+            } finally {
+                this.closeHandler.onClose(rows);
+            }
         } catch (SQLException e) {
             throw new RuntimeSqlException(e);
         }
     }
 
+    /**
+     * Invoked when a mapped query is closed.
+     */
+    @FunctionalInterface
+    public interface CloseHandler {
+
+        /**
+         * @param rows number of rows read from the result set
+         */
+        void onClose(long rows) throws SQLException;
+    }
+
 }
@@ -16,7 +16,6 @@
 
 package io.apicurio.registry.storage.impl.sql.jdb;
 
-import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 
@@ -33,11 +32,11 @@ public class QueryImpl extends SqlImpl<Query> implements Query {
 
     /**
      * Constructor.
-     * @param connection
+     * @param handle
      * @param sql
      */
-    public QueryImpl(Connection connection, String sql) {
-        super(connection, sql);
+    public QueryImpl(HandleImpl handle, String sql) {
+        super(handle, sql);
     }
 
     /**
@@ -55,12 +54,21 @@ public class QueryImpl extends SqlImpl<Query> implements Query {
     @Override
     public <T> MappedQuery<T> map(RowMapper<T> mapper) {
         try {
-            PreparedStatement statement = this.connection.prepareStatement(sql);
-            this.bindParametersTo(statement);
-            if (this.fetchSize != -1) {
-                statement.setFetchSize(fetchSize);
+            PreparedStatement statement = prepareStatement();
+            try {
+                long start = System.nanoTime();
+                this.bindParametersTo(statement);
+                if (this.fetchSize != -1) {
+                    statement.setFetchSize(fetchSize);
+                }
+                return new MappedQueryImpl<T>(statement, mapper, rows -> {
+                    recordExecution(start, rows);
+                    statement.close();
+                });
+            } catch (SQLException | RuntimeException e) {
+                statement.close();
+                throw e;
             }
-            return new MappedQueryImpl<T>(statement, mapper);
         } catch (SQLException e) {
             throw new RuntimeSqlException(e);
         }
@@ -16,8 +16,8 @@
 
 package io.apicurio.registry.storage.impl.sql.jdb;
 
-import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.util.Date;
 import java.util.LinkedList;
 import java.util.List;
@@ -28,16 +28,16 @@ import java.util.List;
 @SuppressWarnings("unchecked")
 public abstract class SqlImpl<Q> implements Sql<Q> {
 
-    protected final Connection connection;
+    protected final HandleImpl handle;
     protected final String sql;
     protected final List<SqlParam> parameters;
 
     /**
-     * @param connection
+     * @param handle
      * @param sql
      */
-    public SqlImpl(Connection connection, String sql) {
-        this.connection = connection;
+    public SqlImpl(HandleImpl handle, String sql) {
+        this.handle = handle;
         this.sql = sql;
         this.parameters = new LinkedList<>();
     }
@@ -102,4 +102,20 @@ public abstract class SqlImpl<Q> implements Sql<Q> {
         });
     }
 
+    protected PreparedStatement prepareStatement() throws SQLException {
+        return handle.getConnection().prepareStatement(sql);
+    }
+
+    /**
+     * Records an execution of this SQL statement, if statement metrics are enabled.
+     * @param startNanos the value of {@link System#nanoTime()} when the execution started
+     * @param rows number of rows returned or affected
+     */
+    protected void recordExecution(long startNanos, long rows) {
+        StatementMetrics metrics = handle.getMetrics();
+        if (metrics != null) {
+            metrics.record(sql, System.nanoTime() - startNanos, rows);
+        }
+    }
+
 }
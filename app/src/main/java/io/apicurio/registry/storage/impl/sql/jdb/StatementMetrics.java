@@ -0,0 +1,32 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.storage.impl.sql.jdb;
+
+/**
+ * Receives timing information about every executed SQL statement.
+ */
+public interface StatementMetrics {
+
+    /**
+     * Records a single execution of the given SQL statement.
+     * @param sql the SQL text of the statement
+     * @param durationNanos time spent executing the statement (and reading its results)
+     * @param rows number of rows returned (for queries) or affected (for updates)
+     */
+    void record(String sql, long durationNanos, long rows);
+
+}
@@ -25,4 +25,21 @@ public interface Update extends Sql<Update> {
 
     public void executeNoUpdate();
 
+    /**
+     * Adds the currently bound parameters as a new row of a batch, and clears them so that
+     * the next row can be bound.
+     */
+    public Update add();
+
+    /**
+     * Executes all rows previously added with {@link #add()} as a single JDBC batch.
+     * Returns the update counts, one per row.
+     */
+    public int[] executeBatch();
+
+    /**
+     * Returns the number of rows added with {@link #add()} and not yet executed.
+     */
+    public int batchSize();
+
 }
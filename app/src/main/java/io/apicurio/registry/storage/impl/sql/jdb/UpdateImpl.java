@@ -16,22 +16,25 @@
 
 package io.apicurio.registry.storage.impl.sql.jdb;
 
-import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * @author eric.wittmann@gmail.com
  */
 public class UpdateImpl extends SqlImpl<Update> implements Update {
 
+    private final List<List<SqlParam>> batch = new ArrayList<>();
+
     /**
      * Constructor.
-     * @param connection
+     * @param handle
      * @param sql
      */
-    public UpdateImpl(Connection connection, String sql) {
-        super(connection, sql);
+    public UpdateImpl(HandleImpl handle, String sql) {
+        super(handle, sql);
     }
 
     /**
@@ -39,9 +42,12 @@ public class UpdateImpl extends SqlImpl<Update> implements Update {
      */
     @Override
     public int execute() {
-        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+        try (PreparedStatement statement = prepareStatement()) {
+            long start = System.nanoTime();
             bindParametersTo(statement);
-            return statement.executeUpdate();
+            int rows = statement.executeUpdate();
+            recordExecution(start, rows);
+            return rows;
         } catch (SQLException e) {
             throw new RuntimeSqlException(e);
         }
@@ -52,12 +58,56 @@ public class UpdateImpl extends SqlImpl<Update> implements Update {
      */
     @Override
     public void executeNoUpdate() {
-        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+        try (PreparedStatement statement = prepareStatement()) {
+            long start = System.nanoTime();
             bindParametersTo(statement);
             statement.execute();
+            recordExecution(start, 0);
+        } catch (SQLException e) {
+            throw new RuntimeSqlException(e);
+        }
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.jdb.Update#add()
+     */
+    @Override
+    public Update add() {
+        batch.add(new ArrayList<>(parameters));
+        parameters.clear();
+        return this;
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.jdb.Update#executeBatch()
+     */
+    @Override
+    public int[] executeBatch() {
+        if (batch.isEmpty()) {
+            return new int[0];
+        }
+        try (PreparedStatement statement = prepareStatement()) {
+            long start = System.nanoTime();
+            for (List<SqlParam> row : batch) {
+                row.forEach(param -> param.bindTo(statement));
+                statement.addBatch();
+            }
+            int[] counts = statement.executeBatch();
+            recordExecution(start, batch.size());
+            return counts;
         } catch (SQLException e) {
             throw new RuntimeSqlException(e);
+        } finally {
+            batch.clear();
         }
     }
 
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.jdb.Update#batchSize()
+     */
+    @Override
+    public int batchSize() {
+        return batch.size();
+    }
+
 }
@@ -19,6 +19,7 @@ package io.apicurio.registry.storage.impl.sql.mappers;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 
+import io.apicurio.registry.storage.impl.sql.ContentCompressionUtil;
 import io.apicurio.registry.storage.impl.sql.jdb.RowMapper;
 import io.apicurio.registry.utils.impexp.ContentEntity;
 
@@ -44,7 +45,8 @@ public class ContentEntityMapper implements RowMapper<ContentEntity> {
         entity.contentId = rs.getLong("contentId");
         entity.canonicalHash = rs.getString("canonicalHash");
         entity.contentHash = rs.getString("contentHash");
-        entity.contentBytes = rs.getBytes("content");
+        // Always export the uncompressed content
+        entity.contentBytes = ContentCompressionUtil.decompress(rs.getBytes("content"));
         try {
             entity.serializedReferences = rs.getString("artifactreferences");
         } catch (Exception e) {
@@ -21,6 +21,7 @@ import java.sql.SQLException;
 
 import io.apicurio.registry.content.ContentHandle;
 import io.apicurio.registry.storage.dto.ContentWrapperDto;
+import io.apicurio.registry.storage.impl.sql.ContentCompressionUtil;
 import io.apicurio.registry.storage.impl.sql.SqlUtil;
 import io.apicurio.registry.storage.impl.sql.jdb.RowMapper;
 
@@ -44,8 +45,9 @@ public class ContentMapper implements RowMapper<ContentWrapperDto> {
     public ContentWrapperDto map(ResultSet rs) throws SQLException {
         final ContentWrapperDto contentWrapperDto = new ContentWrapperDto();
         byte[] contentBytes = rs.getBytes("content");
-        ContentHandle content = ContentHandle.create(contentBytes);
+        ContentHandle content = ContentCompressionUtil.toContentHandle(contentBytes);
         contentWrapperDto.setContent(content);
+        contentWrapperDto.setContentHash(rs.getString("contentHash"));
         contentWrapperDto.setReferences(SqlUtil.deserializeReferences(rs.getString("artifactreferences")));
         return contentWrapperDto;
     }
@@ -19,6 +19,7 @@ package io.apicurio.registry.storage.impl.sql.mappers;
 import io.apicurio.registry.content.ContentHandle;
 import io.apicurio.registry.storage.dto.ArtifactReferenceDto;
 import io.apicurio.registry.storage.dto.StoredArtifactDto;
+import io.apicurio.registry.storage.impl.sql.ContentCompressionUtil;
 import io.apicurio.registry.storage.impl.sql.SqlUtil;
 import io.apicurio.registry.storage.impl.sql.jdb.RowMapper;
 
@@ -49,7 +50,7 @@ public class StoredArtifactMapper implements RowMapper<StoredArtifactDto> {
         int versionId = rs.getInt("versionId");
         Long contentId = rs.getLong("contentId");
         byte[] contentBytes = rs.getBytes("content");
-        ContentHandle content = ContentHandle.create(contentBytes);
+        ContentHandle content = ContentCompressionUtil.toContentHandle(contentBytes);
         List<ArtifactReferenceDto> references = SqlUtil.deserializeReferences(rs.getString("artifactreferences"));
         return StoredArtifactDto.builder().content(content).contentId(contentId).globalId(globalId).version(version).versionId(versionId).references(references).build();
     }
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.storage.impl.sql.mappers;
+
+import io.apicurio.registry.storage.dto.StoredArtifactVersionDto;
+import io.apicurio.registry.storage.impl.sql.SqlUtil;
+import io.apicurio.registry.storage.impl.sql.jdb.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Maps a row that has the columns of both the {@link ArtifactVersionMetaDataDtoMapper} and the
+ * {@link StoredArtifactMapper}, plus the content hash.
+ */
+public class StoredArtifactVersionMapper implements RowMapper<StoredArtifactVersionDto> {
+
+    public static final StoredArtifactVersionMapper instance = new StoredArtifactVersionMapper();
+
+    /**
+     * Constructor.
+     */
+    private StoredArtifactVersionMapper() {
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.impl.sql.jdb.RowMapper#map(java.sql.ResultSet)
+     */
+    @Override
+    public StoredArtifactVersionDto map(ResultSet rs) throws SQLException {
+        return StoredArtifactVersionDto.builder()
+                .groupId(SqlUtil.denormalizeGroupId(rs.getString("groupId")))
+                .artifactId(rs.getString("artifactId"))
+                .contentHash(rs.getString("contentHash"))
+                .metaData(ArtifactVersionMetaDataDtoMapper.instance.map(rs))
+                .artifact(StoredArtifactMapper.instance.map(rs))
+                .build();
+    }
+
+}
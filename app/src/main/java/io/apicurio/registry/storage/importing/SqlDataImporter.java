@@ -17,11 +17,15 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 
 public class SqlDataImporter extends AbstractDataImporter {
 
+    /**
+     * Number of imported entities between two progress log messages.
+     */
+    private static final int PROGRESS_INTERVAL = 10000;
+
     protected RegistryStorageContentUtils utils;
 
     protected final RegistryStorage storage;
@@ -31,15 +35,19 @@ public class SqlDataImporter extends AbstractDataImporter {
     private final boolean preserveContentId;
 
     // To handle the case where we are trying to import a version before its content has been imported
-    protected final List<ArtifactVersionEntity> waitingForContent = new ArrayList<>();
+    // (indexed by the original contentId)
+    protected final Map<Long, List<ArtifactVersionEntity>> waitingForContent = new HashMap<>();
 
     // To handle the case where we are trying to import a comment before its version has been imported
-    private final List<CommentEntity> waitingForVersion = new ArrayList<>();
+    // (indexed by the original globalId)
+    private final Map<Long, List<CommentEntity>> waitingForVersion = new HashMap<>();
 
     // ID remapping
     protected final Map<Long, Long> globalIdMapping = new HashMap<>();
     protected final Map<Long, Long> contentIdMapping = new HashMap<>();
 
+    private long entityCount;
+
 
     public SqlDataImporter(Logger logger, RegistryStorageContentUtils utils, RegistryStorage storage,
                            boolean preserveGlobalId, boolean preserveContentId) {
@@ -54,7 +62,7 @@ public class SqlDataImporter extends AbstractDataImporter {
     @Override
     public void importArtifactRule(ArtifactRuleEntity entity) {
         try {
-            storage.importArtifactRule(entity);
+            insertArtifactRule(entity);
             log.debug("Artifact rule imported successfully: {}", entity);
         } catch (Exception ex) {
             log.warn("Failed to import artifact rule {}: {}", entity, ex.getMessage());
@@ -68,7 +76,7 @@ public class SqlDataImporter extends AbstractDataImporter {
             // Content needs to be imported before artifact version
             if (!contentIdMapping.containsKey(entity.contentId)) {
                 // Add to the queue waiting for content imported
-                waitingForContent.add(entity);
+                waitingForContent.computeIfAbsent(entity.contentId, k -> new ArrayList<>()).add(entity);
                 return;
             }
 
@@ -76,22 +84,21 @@ public class SqlDataImporter extends AbstractDataImporter {
 
             var oldGlobalId = entity.globalId;
             if (!preserveGlobalId) {
-                entity.globalId = storage.nextGlobalId();
+                entity.globalId = nextGlobalId();
             }
 
 
-            storage.importArtifactVersion(entity);
+            insertArtifactVersion(entity);
             log.debug("Artifact version imported successfully: {}", entity);
             globalIdMapping.put(oldGlobalId, entity.globalId);
 
             // Import comments that were waiting for this version
-            var commentsToImport = waitingForVersion.stream()
-                    .filter(comment -> comment.globalId == oldGlobalId)
-                    .collect(Collectors.toList());
-            for (CommentEntity commentEntity : commentsToImport) {
-                importComment(commentEntity);
+            var commentsToImport = waitingForVersion.remove(oldGlobalId);
+            if (commentsToImport != null) {
+                for (CommentEntity commentEntity : commentsToImport) {
+                    importComment(commentEntity);
+                }
             }
-            waitingForVersion.removeAll(commentsToImport);
 
         } catch (VersionAlreadyExistsException ex) {
             if (ex.getGlobalId() != null) {
@@ -114,31 +121,28 @@ public class SqlDataImporter extends AbstractDataImporter {
             if (entity.canonicalHash == null && entity.artifactType != null) {
                 ContentHandle canonicalContent = utils.canonicalizeContent(
                         entity.artifactType, ContentHandle.create(entity.contentBytes),
-                        storage.resolveReferences(references));
+                        resolveReferences(references));
                 entity.canonicalHash = DigestUtils.sha256Hex(canonicalContent.bytes());
             }
 
 
             var oldContentId = entity.contentId;
             if (!preserveContentId) {
-                entity.contentId = storage.nextContentId();
+                entity.contentId = nextContentId();
             }
 
-            storage.importContent(entity);
+            insertContent(entity);
             log.debug("Content imported successfully: {}", entity);
 
             contentIdMapping.put(oldContentId, entity.contentId);
 
             // Import artifact versions that were waiting for this content
-            var artifactsToImport = waitingForContent.stream()
-                    .filter(artifactVersion -> artifactVersion.contentId == oldContentId)
-                    .collect(Collectors.toList());
-
-            for (ArtifactVersionEntity artifactVersionEntity : artifactsToImport) {
-                artifactVersionEntity.contentId = entity.contentId;
-                importArtifactVersion(artifactVersionEntity);
+            var artifactsToImport = waitingForContent.remove(oldContentId);
+            if (artifactsToImport != null) {
+                for (ArtifactVersionEntity artifactVersionEntity : artifactsToImport) {
+                    importArtifactVersion(artifactVersionEntity);
+                }
             }
-            waitingForContent.removeAll(artifactsToImport);
 
         } catch (Exception ex) {
             log.warn("Failed to import content {}: {}", entity, ex.getMessage());
@@ -149,7 +153,7 @@ public class SqlDataImporter extends AbstractDataImporter {
     @Override
     public void importGlobalRule(GlobalRuleEntity entity) {
         try {
-            storage.importGlobalRule(entity);
+            insertGlobalRule(entity);
             log.debug("Global rule imported successfully: {}", entity);
         } catch (Exception ex) {
             log.warn("Failed to import global rule {}: {}", entity, ex.getMessage());
@@ -160,7 +164,7 @@ public class SqlDataImporter extends AbstractDataImporter {
     @Override
     public void importGroup(GroupEntity entity) {
         try {
-            storage.importGroup(entity);
+            insertGroup(entity);
             log.debug("Group imported successfully: {}", entity);
         } catch (Exception ex) {
             log.warn("Failed to import group {}: {}", entity, ex.getMessage());
@@ -173,12 +177,12 @@ public class SqlDataImporter extends AbstractDataImporter {
         try {
             if (!globalIdMapping.containsKey(entity.globalId)) {
                 // The version hasn't been imported yet.  Need to wait for it.
-                waitingForVersion.add(entity);
+                waitingForVersion.computeIfAbsent(entity.globalId, k -> new ArrayList<>()).add(entity);
                 return;
             }
             entity.globalId = globalIdMapping.get(entity.globalId);
 
-            storage.importComment(entity);
+            insertComment(entity);
             log.debug("Comment imported successfully: {}", entity);
         } catch (Exception ex) {
             log.warn("Failed to import comment {}: {}", entity, ex.getMessage());
@@ -195,6 +199,11 @@ public class SqlDataImporter extends AbstractDataImporter {
             Entity entity = null;
             while ((entity = entities.nextEntity()) != null) {
                 importEntity(entity);
+                entityCount++;
+                if (entityCount % PROGRESS_INTERVAL == 0) {
+                    log.info("Import in progress: {} entities processed ({} content, {} versions imported so far)",
+                            entityCount, contentIdMapping.size(), globalIdMapping.size());
+                }
             }
 
             postImportAction.run();
@@ -208,8 +217,72 @@ public class SqlDataImporter extends AbstractDataImporter {
             // Make sure the commentId sequence is set high enough
             storage.resetCommentId();
 
+            log.info("Import finished: {} entities processed ({} content, {} versions imported)",
+                    entityCount, contentIdMapping.size(), globalIdMapping.size());
+            if (!waitingForContent.isEmpty() || !waitingForVersion.isEmpty()) {
+                log.warn("Import skipped {} artifact versions with missing content and {} comments with missing versions",
+                        waitingForContent.values().stream().mapToInt(List::size).sum(),
+                        waitingForVersion.values().stream().mapToInt(List::size).sum());
+            }
+
         } catch (IOException ex) {
             throw new RegistryException("Could not read next entity to import", ex);
         }
     }
+
+
+    /**
+     * Returns the number of entities processed so far.
+     */
+    public long getEntityCount() {
+        return entityCount;
+    }
+
+
+    // The following methods perform the actual writes and ID allocation, and can be overridden
+    // to import the data in a different way (e.g. in batches).
+
+    protected long nextContentId() {
+        return storage.nextContentId();
+    }
+
+
+    protected long nextGlobalId() {
+        return storage.nextGlobalId();
+    }
+
+
+    protected Map<String, ContentHandle> resolveReferences(List<ArtifactReferenceDto> references) {
+        return storage.resolveReferences(references);
+    }
+
+
+    protected void insertArtifactRule(ArtifactRuleEntity entity) {
+        storage.importArtifactRule(entity);
+    }
+
+
+    protected void insertArtifactVersion(ArtifactVersionEntity entity) {
+        storage.importArtifactVersion(entity);
+    }
+
+
+    protected void insertContent(ContentEntity entity) {
+        storage.importContent(entity);
+    }
+
+
+    protected void insertGlobalRule(GlobalRuleEntity entity) {
+        storage.importGlobalRule(entity);
+    }
+
+
+    protected void insertGroup(GroupEntity entity) {
+        storage.importGroup(entity);
+    }
+
+
+    protected void insertComment(CommentEntity entity) {
+        storage.importComment(entity);
+    }
 }
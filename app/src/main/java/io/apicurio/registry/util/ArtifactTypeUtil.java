@@ -19,20 +19,24 @@ package io.apicurio.registry.util;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.protobuf.DescriptorProtos;
+import com.squareup.wire.schema.internal.parser.ProtoFileElement;
 import graphql.schema.idl.SchemaParser;
 import graphql.schema.idl.TypeDefinitionRegistry;
+import io.apicurio.registry.content.ProtoFileElementParser;
 import io.apicurio.registry.content.ContentHandle;
+import io.apicurio.registry.content.ParsedContentHandle;
 import io.apicurio.registry.storage.error.InvalidArtifactTypeException;
 import io.apicurio.registry.types.ArtifactType;
 import io.apicurio.registry.utils.protobuf.schema.FileDescriptorUtils;
-import io.apicurio.registry.utils.protobuf.schema.ProtobufFile;
 import jakarta.ws.rs.BadRequestException;
 import jakarta.ws.rs.core.MediaType;
 import org.apache.avro.Schema;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.*;
 import java.util.regex.Pattern;
 
@@ -137,7 +141,13 @@ public final class ArtifactTypeUtil {
 
         // Try the various JSON formatted types
         try {
-            JsonNode tree = mapper.readTree(content.content());
+            JsonNode tree = ParsedContentHandle.parse(content, null, JsonNode.class, c -> {
+                try {
+                    return mapper.readTree(c.content());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
 
             // OpenAPI
             if (tree.has("openapi") || tree.has("swagger")) {
@@ -232,7 +242,8 @@ public final class ArtifactTypeUtil {
 
     private static String tryProto(ContentHandle content) {
         try {
-            ProtobufFile.toProtoFileElement(content.content());
+            ParsedContentHandle.parse(content, null, ProtoFileElement.class,
+                    new ProtoFileElementParser());
             return ArtifactType.PROTOBUF;
         } catch (Exception e) {
             try {
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.content;
+
+import jakarta.ws.rs.core.EntityTag;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class CompressedContentResponseFilterTest {
+
+    private static final List<String> ENCODINGS = List.of(CompressedContentCache.ENCODING_BROTLI, CompressedContentCache.ENCODING_GZIP);
+
+    @Test
+    public void testNegotiate() {
+        Assertions.assertNull(CompressedContentResponseFilter.negotiate(null, ENCODINGS));
+        Assertions.assertNull(CompressedContentResponseFilter.negotiate("identity", ENCODINGS));
+        Assertions.assertNull(CompressedContentResponseFilter.negotiate("gzip;q=0, br;q=0", ENCODINGS));
+
+        Assertions.assertEquals("br", CompressedContentResponseFilter.negotiate("gzip, deflate, br", ENCODINGS));
+        Assertions.assertEquals("gzip", CompressedContentResponseFilter.negotiate("gzip, deflate", ENCODINGS));
+        Assertions.assertEquals("gzip", CompressedContentResponseFilter.negotiate("br;q=0.5, GZIP;q=0.8", ENCODINGS));
+        Assertions.assertEquals("gzip", CompressedContentResponseFilter.negotiate("*, br;q=0", ENCODINGS));
+        Assertions.assertEquals("br", CompressedContentResponseFilter.negotiate("*", ENCODINGS));
+        Assertions.assertEquals("gzip", CompressedContentResponseFilter.negotiate("gzip, br", List.of(CompressedContentCache.ENCODING_GZIP)));
+    }
+
+    @Test
+    public void testWeak() {
+        Assertions.assertEquals(new EntityTag("abc", true), CompressedContentResponseFilter.weak(new EntityTag("abc")));
+        Assertions.assertEquals(new EntityTag("abc", true), CompressedContentResponseFilter.weak(new EntityTag("abc", true)));
+    }
+}
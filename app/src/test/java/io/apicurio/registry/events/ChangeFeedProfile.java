@@ -0,0 +1,15 @@
+package io.apicurio.registry.events;
+
+import io.quarkus.test.junit.QuarkusTestProfile;
+
+import java.util.Collections;
+import java.util.Map;
+
+public class ChangeFeedProfile implements QuarkusTestProfile {
+
+    @Override
+    public Map<String, String> getConfigOverrides() {
+        return Collections.singletonMap("registry.events.feed.enabled", "true");
+    }
+
+}
@@ -0,0 +1,77 @@
+package io.apicurio.registry.events;
+
+import io.apicurio.registry.AbstractResourceTestBase;
+import io.apicurio.registry.events.dto.RegistryEventType;
+import io.apicurio.registry.types.ArtifactType;
+import io.apicurio.registry.utils.IoUtil;
+import io.apicurio.registry.utils.tests.ApicurioTestTags;
+import io.apicurio.registry.utils.tests.TestUtils;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertLinesMatch;
+
+@QuarkusTest
+@TestProfile(ChangeFeedProfile.class)
+@Tag(ApicurioTestTags.SLOW)
+public class ChangeFeedTest extends AbstractResourceTestBase {
+
+    @Test
+    @Timeout(value = 65, unit = TimeUnit.SECONDS)
+    public void testChangeFeed() throws TimeoutException {
+
+        List<String> events = new CopyOnWriteArrayList<>();
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + testPort + "/apis/registry/v2/events"))
+                .header("Accept", "text/event-stream")
+                .build();
+        CompletableFuture<HttpResponse<Stream<String>>> responseFuture = HttpClient.newHttpClient()
+                .sendAsync(request, HttpResponse.BodyHandlers.ofLines());
+        responseFuture.thenAcceptAsync(response -> response.body()
+                .filter(line -> line.startsWith("event:"))
+                .map(line -> line.substring("event:".length()).trim())
+                .forEach(events::add));
+
+        TestUtils.waitFor("feed is subscribed", 200, 30 * 1000, responseFuture::isDone);
+
+        try {
+            InputStream jsonSchema = getClass().getResourceAsStream("/io/apicurio/registry/util/json-schema.json");
+            Assertions.assertNotNull(jsonSchema);
+            String content = IoUtil.toString(jsonSchema);
+
+            String artifactId = TestUtils.generateArtifactId();
+
+            try {
+                createArtifact(artifactId, ArtifactType.JSON, content);
+                createArtifactVersion(artifactId, ArtifactType.JSON, content);
+            } catch (Exception e) {
+                Assertions.fail(e);
+            }
+
+            TestUtils.waitFor("Events to be streamed", 200, 60 * 1000, () -> events.size() == 2);
+
+            assertLinesMatch(
+                    Arrays.asList(RegistryEventType.ARTIFACT_CREATED.cloudEventType(), RegistryEventType.ARTIFACT_UPDATED.cloudEventType()),
+                    events);
+        } finally {
+            responseFuture.cancel(true);
+        }
+    }
+}
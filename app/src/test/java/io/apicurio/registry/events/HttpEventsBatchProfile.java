@@ -0,0 +1,17 @@
+package io.apicurio.registry.events;
+
+import io.quarkus.test.junit.QuarkusTestProfile;
+
+import java.util.Map;
+
+public class HttpEventsBatchProfile implements QuarkusTestProfile {
+
+    @Override
+    public Map<String, String> getConfigOverrides() {
+        return Map.of(
+                "registry.events.sink.testsink", "http://localhost:8977/",
+                "registry.events.http.batch.enabled", "true",
+                "registry.events.http.retry-backoff", "PT0.1S");
+    }
+
+}
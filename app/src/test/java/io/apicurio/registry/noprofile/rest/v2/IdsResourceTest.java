@@ -18,6 +18,7 @@ package io.apicurio.registry.noprofile.rest.v2;
 
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
 
@@ -27,10 +28,13 @@ import org.junit.jupiter.api.Test;
 
 import io.apicurio.registry.AbstractResourceTestBase;
 import io.apicurio.registry.rest.v2.beans.ArtifactMetaData;
+import io.apicurio.registry.rest.v2.beans.ArtifactReference;
+import io.apicurio.registry.rest.v2.beans.BatchContentRequest;
 import io.apicurio.registry.types.ArtifactType;
 import io.apicurio.registry.utils.tests.TestUtils;
 import io.quarkus.test.junit.QuarkusTest;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -288,4 +292,47 @@ public class IdsResourceTest extends AbstractResourceTestBase {
                 .statusCode(404);
     }
 
+    @Test
+    public void testGetContentBatch() throws Exception {
+        String groupId = TestUtils.generateGroupId();
+        String customerContent = "{\"type\":\"record\",\"name\":\"Customer\",\"namespace\":\"com.example\",\"fields\":[{\"name\":\"id\",\"type\":\"string\"}]}";
+        String orderContent = "{\"type\":\"record\",\"name\":\"Order\",\"namespace\":\"com.example\",\"fields\":[{\"name\":\"customer\",\"type\":\"com.example.Customer\"}]}";
+
+        var customer = createArtifactExtendedRaw(groupId, "testGetContentBatch/Customer", ArtifactType.AVRO, customerContent, null);
+        long customerGlobalId = customer.getGlobalId();
+        long customerContentId = customer.getContentId();
+        long orderGlobalId = createArtifactWithReferences(groupId, "testGetContentBatch/Order", ArtifactType.AVRO, orderContent,
+                List.of(ArtifactReference.builder()
+                        .groupId(groupId)
+                        .artifactId("testGetContentBatch/Customer")
+                        .version("1")
+                        .name("com.example.Customer")
+                        .build()));
+
+        BatchContentRequest request = BatchContentRequest.builder()
+                .globalIds(List.of(orderGlobalId, (long) Integer.MAX_VALUE))
+                .contentIds(List.of(customerContentId))
+                .build();
+
+        // Ids that do not exist are left out, references are resolved
+        given()
+            .when()
+                .contentType(CT_JSON)
+                .body(request)
+                .post("/registry/v2/ids/batch")
+            .then()
+                .statusCode(200)
+                .body("", hasSize(2))
+                .body("[0].globalId", equalTo((int) orderGlobalId))
+                .body("[0].content", equalTo(orderContent))
+                .body("[0].references", hasSize(1))
+                .body("[0].references[0].name", equalTo("com.example.Customer"))
+                .body("[0].references[0].globalId", equalTo((int) customerGlobalId))
+                .body("[0].references[0].content", equalTo(customerContent))
+                .body("[1].globalId", equalTo(null))
+                .body("[1].contentId", equalTo((int) customerContentId))
+                .body("[1].content", equalTo(customerContent))
+                .body("[1].references", hasSize(0));
+    }
+
 }
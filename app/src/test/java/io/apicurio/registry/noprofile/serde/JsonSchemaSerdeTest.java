@@ -24,8 +24,13 @@ import com.microsoft.kiota.http.OkHttpRequestAdapter;
 import io.apicurio.registry.AbstractResourceTestBase;
 import io.apicurio.registry.resolver.DefaultSchemaResolver;
 import io.apicurio.registry.resolver.ParsedSchema;
+import io.apicurio.registry.resolver.ParsedSchemaImpl;
+import io.apicurio.registry.resolver.SchemaLookupResult;
+import io.apicurio.registry.resolver.SchemaParser;
 import io.apicurio.registry.resolver.SchemaResolver;
 import io.apicurio.registry.resolver.SchemaResolverConfig;
+import io.apicurio.registry.resolver.data.Record;
+import io.apicurio.registry.resolver.strategy.ArtifactReferenceResolverStrategy;
 import io.apicurio.registry.rest.client.RegistryClient;
 import io.apicurio.registry.rest.client.models.ArtifactContent;
 import io.apicurio.registry.rest.client.models.ArtifactMetaData;
@@ -349,6 +354,117 @@ public class JsonSchemaSerdeTest extends AbstractResourceTestBase {
         }
     }
 
+    @Test
+    public void testJsonSchemaSerdeWithNestedReferences() throws Exception {
+        InputStream countrySchema = getClass().getResourceAsStream("/io/apicurio/registry/util/country.json");
+        InputStream regionSchema = getClass().getResourceAsStream("/io/apicurio/registry/util/region.json");
+        InputStream residentSchema = getClass().getResourceAsStream("/io/apicurio/registry/util/resident.json");
+
+        Assertions.assertNotNull(countrySchema);
+        Assertions.assertNotNull(regionSchema);
+        Assertions.assertNotNull(residentSchema);
+
+        String groupId = TestUtils.generateGroupId();
+        String countryArtifactId = generateArtifactId();
+        String regionArtifactId = generateArtifactId();
+        String artifactId = generateArtifactId();
+
+        createArtifact(groupId, countryArtifactId, ArtifactType.JSON, IoUtil.toString(countrySchema));
+
+        final io.apicurio.registry.rest.v2.beans.ArtifactReference countryReference = new io.apicurio.registry.rest.v2.beans.ArtifactReference();
+        countryReference.setVersion("1");
+        countryReference.setGroupId(groupId);
+        countryReference.setArtifactId(countryArtifactId);
+        countryReference.setName("country.json");
+
+        createArtifactWithReferences(groupId, regionArtifactId, ArtifactType.JSON, IoUtil.toString(regionSchema), List.of(countryReference));
+
+        final io.apicurio.registry.rest.v2.beans.ArtifactReference regionReference = new io.apicurio.registry.rest.v2.beans.ArtifactReference();
+        regionReference.setVersion("1");
+        regionReference.setGroupId(groupId);
+        regionReference.setArtifactId(regionArtifactId);
+        regionReference.setName("region.json");
+
+        createArtifactWithReferences(groupId, artifactId, ArtifactType.JSON, IoUtil.toString(residentSchema), List.of(regionReference));
+
+        ObjectMapper mapper = new ObjectMapper();
+
+        try (JsonSchemaKafkaSerializer<JsonNode> serializer = new JsonSchemaKafkaSerializer<>(restClient, true);
+             Deserializer<JsonNode> deserializer = new JsonSchemaKafkaDeserializer<>(restClient, true)) {
+
+            Map<String, Object> config = new HashMap<>();
+            config.put(SerdeConfig.EXPLICIT_ARTIFACT_GROUP_ID, groupId);
+            config.put(SerdeConfig.ARTIFACT_RESOLVER_STRATEGY, SimpleTopicIdStrategy.class.getName());
+            serializer.configure(config, false);
+
+            deserializer.configure(Collections.emptyMap(), false);
+
+            JsonNode resident = mapper.readTree("{\"name\": \"Carles\", \"regions\": ["
+                    + "{\"name\": \"Catalonia\", \"country\": {\"name\": \"Spain\", \"population\": 47000000}}]}");
+
+            Headers headers = new RecordHeaders();
+            byte[] bytes = serializer.serialize(artifactId, headers, resident);
+            JsonNode deserialized = deserializer.deserialize(artifactId, headers, bytes);
+
+            Assertions.assertEquals("Spain", deserialized.get("regions").get(0).get("country").get("name").asText());
+
+            //invalid country, two references deep, should fail
+            JsonNode invalidResident = mapper.readTree("{\"name\": \"Carles\", \"regions\": ["
+                    + "{\"name\": \"Catalonia\", \"country\": {\"name\": \"Spain\", \"population\": -1}}]}");
+
+            Assertions.assertThrows(ValidationException.class, () -> serializer.serialize(artifactId, new RecordHeaders(), invalidResident));
+
+            //invalid data is rejected by the deserializer too
+            serializer.setValidationEnabled(false);
+            Headers invalidHeaders = new RecordHeaders();
+            byte[] invalidBytes = serializer.serialize(artifactId, invalidHeaders, invalidResident);
+
+            Assertions.assertThrows(ValidationException.class, () -> deserializer.deserialize(artifactId, invalidHeaders, invalidBytes));
+        }
+    }
+
+    @Test
+    public void testJsonSchemaSerdeWithCyclicReferences() throws Exception {
+        InputStream nodeSchema = getClass().getResourceAsStream("/io/apicurio/registry/util/node.json");
+        Assertions.assertNotNull(nodeSchema);
+
+        // The registry only references existing versions, so a schema referencing itself is resolved locally
+        Map<String, JsonSchema> references = new HashMap<>();
+        JsonSchema node = new JsonSchema(IoUtil.toString(nodeSchema), references, null);
+        references.put("node.json", node);
+
+        SchemaResolver<JsonSchema, JsonNode> resolver = new FixedSchemaResolver<>(node);
+
+        ObjectMapper mapper = new ObjectMapper();
+
+        try (JsonSchemaKafkaSerializer<JsonNode> serializer = new JsonSchemaKafkaSerializer<>(resolver);
+             Deserializer<JsonNode> deserializer = new JsonSchemaKafkaDeserializer<>(resolver)) {
+
+            serializer.configure(Map.of(SerdeConfig.VALIDATION_ENABLED, true), false);
+            deserializer.configure(Map.of(SerdeConfig.VALIDATION_ENABLED, true), false);
+
+            JsonNode list = mapper.readTree("{\"value\": 1, \"next\": {\"value\": 2, \"next\": {\"value\": 3}}}");
+
+            Headers headers = new RecordHeaders();
+            byte[] bytes = serializer.serialize("cyclic", headers, list);
+            JsonNode deserialized = deserializer.deserialize("cyclic", headers, bytes);
+
+            Assertions.assertEquals(3, deserialized.get("next").get("next").get("value").asInt());
+
+            //invalid value, three nodes deep, should fail
+            JsonNode invalidList = mapper.readTree("{\"value\": 1, \"next\": {\"value\": 2, \"next\": {\"value\": -3}}}");
+
+            Assertions.assertThrows(ValidationException.class, () -> serializer.serialize("cyclic", new RecordHeaders(), invalidList));
+
+            //invalid data is rejected by the deserializer too
+            serializer.setValidationEnabled(false);
+            Headers invalidHeaders = new RecordHeaders();
+            byte[] invalidBytes = serializer.serialize("cyclic", invalidHeaders, invalidList);
+
+            Assertions.assertThrows(ValidationException.class, () -> deserializer.deserialize("cyclic", invalidHeaders, invalidBytes));
+        }
+    }
+
     @Test
     public void complexObjectValidation() throws Exception {
         String version = "8";
@@ -495,4 +611,58 @@ public class JsonSchemaSerdeTest extends AbstractResourceTestBase {
             System.out.println(e.getAllMessages());
         }
     }
+
+    /**
+     * Resolves every record, and every artifact reference, to the same schema.
+     */
+    private static class FixedSchemaResolver<DATA> implements SchemaResolver<JsonSchema, DATA> {
+
+        private final SchemaLookupResult<JsonSchema> result;
+        private SchemaParser<JsonSchema, DATA> schemaParser;
+
+        private FixedSchemaResolver(JsonSchema schema) {
+            this.result = SchemaLookupResult.<JsonSchema>builder()
+                    .parsedSchema(new ParsedSchemaImpl<JsonSchema>()
+                            .setParsedSchema(schema)
+                            .setRawSchema(IoUtil.toBytes(schema.toString())))
+                    .globalId(1L)
+                    .build();
+        }
+
+        @Override
+        public void configure(Map<String, ?> configs, SchemaParser<JsonSchema, DATA> schemaParser) {
+            this.schemaParser = schemaParser;
+        }
+
+        @Override
+        public void setClient(RegistryClient client) {
+        }
+
+        @Override
+        public void setArtifactResolverStrategy(ArtifactReferenceResolverStrategy<JsonSchema, DATA> artifactResolverStrategy) {
+        }
+
+        @Override
+        public SchemaParser<JsonSchema, DATA> getSchemaParser() {
+            return schemaParser;
+        }
+
+        @Override
+        public SchemaLookupResult<JsonSchema> resolveSchema(Record<DATA> data) {
+            return result;
+        }
+
+        @Override
+        public SchemaLookupResult<JsonSchema> resolveSchemaByArtifactReference(io.apicurio.registry.resolver.strategy.ArtifactReference reference) {
+            return result;
+        }
+
+        @Override
+        public void reset() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
 }
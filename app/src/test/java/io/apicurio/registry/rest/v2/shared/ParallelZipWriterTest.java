@@ -0,0 +1,68 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.rest.v2.shared;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+class ParallelZipWriterTest {
+
+    @Test
+    void testEntriesAreWrittenInOrder() throws Exception {
+        Map<String, String> entries = new LinkedHashMap<>();
+        for (int i = 0; i < 100; i++) {
+            entries.put("entries/" + i + ".json", "{\"entry\": " + i + ", \"padding\": \"" + "x".repeat(i * 100) + "\"}");
+        }
+        entries.put("empty.data", "");
+
+        ExecutorService compressors = Executors.newFixedThreadPool(4);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try {
+            ParallelZipWriter zip = new ParallelZipWriter(output, compressors, 8, Deflater.DEFAULT_COMPRESSION);
+            for (Map.Entry<String, String> entry : entries.entrySet()) {
+                zip.handle(entry.getKey(), entry.getValue().getBytes(StandardCharsets.UTF_8));
+            }
+            zip.finish();
+        } finally {
+            compressors.shutdownNow();
+        }
+
+        // Read the zip file the way the import does
+        Map<String, String> read = new LinkedHashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(output.toByteArray()))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                read.put(entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        Assertions.assertEquals(List.copyOf(entries.keySet()), List.copyOf(read.keySet()));
+        Assertions.assertEquals(entries, read);
+    }
+
+}
@@ -18,11 +18,21 @@ package io.apicurio.registry.storage;
 
 import jakarta.inject.Inject;
 
+import io.apicurio.registry.content.ContentHandle;
 import io.apicurio.registry.noprofile.storage.AbstractRegistryStorageTest;
+import io.apicurio.registry.storage.impl.sql.DefaultHandleFactory;
 import io.apicurio.registry.storage.impl.sql.InMemoryRegistryStorage;
+import io.apicurio.registry.types.ArtifactType;
+import io.apicurio.registry.utils.impexp.EntityType;
 import io.apicurio.registry.utils.tests.ApicurioTestTags;
+import io.apicurio.registry.utils.tests.TestUtils;
 import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * @author eric.wittmann@gmail.com
@@ -31,9 +41,15 @@ import org.junit.jupiter.api.Tag;
 @Tag(ApicurioTestTags.SLOW)
 public class InMemoryRegistryStorageTest extends AbstractRegistryStorageTest {
 
+    private static final String SESSION_ISOLATION_LEVEL =
+            "SELECT ISOLATION_LEVEL FROM INFORMATION_SCHEMA.SESSIONS WHERE SESSION_ID = SESSION_ID()";
+
     @Inject
     InMemoryRegistryStorage storage;
 
+    @Inject
+    DefaultHandleFactory handles;
+
     /**
      * @see io.apicurio.registry.storage.AbstractRegistryStorageTest#storage()
      */
@@ -42,4 +58,23 @@ public class InMemoryRegistryStorageTest extends AbstractRegistryStorageTest {
         return storage;
     }
 
+    @Test
+    public void testExportReadsSnapshot() {
+        storage.createArtifact(InMemoryRegistryStorageTest.class.getSimpleName(), TestUtils.generateArtifactId(), null,
+                ArtifactType.JSON, ContentHandle.create("{}"), null);
+
+        // The handler runs on the connection the export reads with
+        List<String> isolationLevels = new ArrayList<>();
+        storage.exportData(entity -> {
+            if (entity.getEntityType() != EntityType.Manifest) {
+                isolationLevels.add(handles.withHandleNoException(handle -> handle.createQuery(SESSION_ISOLATION_LEVEL)
+                        .mapTo(String.class)
+                        .one()));
+            }
+            return null;
+        });
+
+        Assertions.assertFalse(isolationLevels.isEmpty());
+        isolationLevels.forEach(level -> Assertions.assertEquals("REPEATABLE READ", level));
+    }
 }
\ No newline at end of file
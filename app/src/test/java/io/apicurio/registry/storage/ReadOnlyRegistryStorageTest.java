@@ -55,6 +55,7 @@ public class ReadOnlyRegistryStorageTest {
         EXPECTED_METHODS = Map.<String, State>ofEntries(
                 // Keep alphabetical
                 entry("consumeDownload1", new State(true, s -> s.consumeDownload(null))),
+                entry("contentHashFromId1", new State(false, s -> s.contentHashFromId(0))),
                 entry("contentIdFromHash1", new State(false, s -> s.contentIdFromHash(null))),
                 entry("countArtifacts0", new State(false, RegistryStorage::countArtifacts)),
                 entry("countArtifactVersions2", new State(false, s -> s.countArtifactVersions(null, null))),
@@ -65,6 +66,7 @@ public class ReadOnlyRegistryStorageTest {
                 entry("createArtifactVersionCommentRaw7", new State(true, s -> s.createArtifactVersionCommentRaw(null, null, null, null, null, null, null))),
                 entry("createArtifactWithMetadata7", new State(true, s -> s.createArtifactWithMetadata(null, null, null, null, null, null, null))),
                 entry("createArtifactWithMetadata9", new State(true, s -> s.createArtifactWithMetadata(null, null, null, null, null, null, null, null, null))),
+                entry("createCompatibilityResult1", new State(true, s -> s.createCompatibilityResult(null))),
                 entry("createDownload1", new State(true, s -> s.createDownload(null))),
                 entry("createGlobalRule2", new State(true, s -> s.createGlobalRule(null, null))),
                 entry("createGroup1", new State(true, s -> s.createGroup(null))),
@@ -98,12 +100,19 @@ public class ReadOnlyRegistryStorageTest {
                 entry("getArtifactVersion1", new State(false, s -> s.getArtifactVersion(0))),
                 entry("getArtifactVersion3", new State(false, s -> s.getArtifactVersion(null, null, null))),
                 entry("getArtifactVersionComments3", new State(false, s -> s.getArtifactVersionComments(null, null, null))),
+                entry("getArtifactVersionContent1", new State(false, s -> s.getArtifactVersionContent(0))),
+                entry("getArtifactVersionContent3", new State(false, s -> s.getArtifactVersionContent(null, null, null))),
                 entry("getArtifactVersionMetaData3", new State(false, s -> s.getArtifactVersionMetaData(null, null, null))),
                 entry("getArtifactVersionMetaData5", new State(false, s -> s.getArtifactVersionMetaData(null, null, false, null, null))),
+                entry("getArtifactVersionMetaDataByDereferencedHash3", new State(false, s -> s.getArtifactVersionMetaDataByDereferencedHash(null, null, null))),
                 entry("getArtifactVersions2", new State(false, s -> s.getArtifactVersions(null, null))),
                 entry("getArtifactVersions3", new State(false, s -> s.getArtifactVersions(null, null, RegistryStorage.ArtifactRetrievalBehavior.DEFAULT))),
+                entry("getArtifactsByContentIds1", new State(false, s -> s.getArtifactsByContentIds(Set.of()))),
+                entry("getCompatibilityResult1", new State(false, s -> s.getCompatibilityResult(null))),
                 entry("getEnabledArtifactContentIds2", new State(false, s -> s.getEnabledArtifactContentIds(null, null))),
                 entry("getArtifactVersionsByContentId1", new State(false, s -> s.getArtifactVersionsByContentId(0))),
+                entry("getArtifactVersionsByGlobalIds1", new State(false, s -> s.getArtifactVersionsByGlobalIds(Set.of()))),
+                entry("getArtifactVersionsByReferences1", new State(false, s -> s.getArtifactVersionsByReferences(Set.of()))),
                 entry("getConfigProperties0", new State(false, DynamicConfigStorage::getConfigProperties)),
                 entry("getConfigProperty1", new State(false, s -> s.getConfigProperty(null))),
                 entry("getContentIdsReferencingArtifact3", new State(false, s -> s.getContentIdsReferencingArtifact(null, null, null))),
@@ -113,10 +122,12 @@ public class ReadOnlyRegistryStorageTest {
                 entry("getGroupIds1", new State(false, s -> s.getGroupIds(null))),
                 entry("getGroupMetaData1", new State(false, s -> s.getGroupMetaData(null))),
                 entry("getInboundArtifactReferences3", new State(false, s -> s.getInboundArtifactReferences(null, null, null))),
+                entry("getLatestArtifactVersionContent2", new State(false, s -> s.getLatestArtifactVersionContent(null, null))),
                 entry("getRawConfigProperty1", new State(false, s -> s.getRawConfigProperty(null))),
                 entry("getRoleForPrincipal1", new State(false, s -> s.getRoleForPrincipal(null))),
                 entry("getRoleMapping1", new State(false, s -> s.getRoleMapping(null))),
                 entry("getRoleMappings0", new State(false, RegistryStorage::getRoleMappings)),
+                entry("getRuleSet2", new State(false, s -> s.getRuleSet(null, null))),
                 entry("getStaleConfigProperties1", new State(false, s -> s.getStaleConfigProperties(null))),
                 entry("importArtifactRule1", new State(true, s -> s.importArtifactRule(null))),
                 entry("importArtifactVersion1", new State(true, s -> s.importArtifactVersion(null))),
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.storage.decorator;
+
+import com.google.common.cache.CacheBuilder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+class InvalidatingCacheTest {
+
+    @Test
+    void testValueIsCached() {
+        InvalidatingCache<String, String> cache = new InvalidatingCache<>(CacheBuilder.newBuilder().build());
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<String> loader = () -> {
+            loads.incrementAndGet();
+            return "v";
+        };
+        Assertions.assertEquals("v", cache.get("k", loader));
+        Assertions.assertEquals("v", cache.get("k", loader));
+        Assertions.assertEquals(1, loads.get());
+
+        cache.invalidateAll();
+        Assertions.assertEquals("v", cache.get("k", loader));
+        Assertions.assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testNullIsNotCached() {
+        InvalidatingCache<String, String> cache = new InvalidatingCache<>(CacheBuilder.newBuilder().build());
+        Assertions.assertNull(cache.get("k", () -> null));
+        Assertions.assertEquals("v", cache.get("k", () -> "v"));
+    }
+
+    @Test
+    void testValueLoadedDuringInvalidationIsNotCached() {
+        InvalidatingCache<String, String> cache = new InvalidatingCache<>(CacheBuilder.newBuilder().build());
+        Assertions.assertEquals("stale", cache.get("k", () -> {
+            cache.invalidateAll();
+            return "stale";
+        }));
+        Assertions.assertEquals("current", cache.get("k", () -> "current"));
+    }
+}
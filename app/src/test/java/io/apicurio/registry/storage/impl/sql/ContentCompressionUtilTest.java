@@ -0,0 +1,62 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.storage.impl.sql;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.apicurio.registry.content.ContentHandle;
+
+class ContentCompressionUtilTest {
+
+    private static final String SCHEMA = "{\"type\":\"record\",\"name\":\"User\",\"fields\":[{\"name\":\"name\",\"type\":\"string\"}]}";
+
+    @Test
+    void testRoundTrip() {
+        byte[] raw = SCHEMA.repeat(100).getBytes(StandardCharsets.UTF_8);
+        byte[] compressed = ContentCompressionUtil.compress(raw, 1024);
+
+        Assertions.assertTrue(ContentCompressionUtil.isCompressed(compressed));
+        Assertions.assertTrue(compressed.length < raw.length);
+        Assertions.assertArrayEquals(raw, ContentCompressionUtil.decompress(compressed));
+
+        ContentHandle handle = ContentCompressionUtil.toContentHandle(compressed);
+        Assertions.assertEquals(SCHEMA.repeat(100), handle.content());
+        Assertions.assertEquals(ContentHandle.create(raw).getSha256Hash(), handle.getSha256Hash());
+    }
+
+    @Test
+    void testBelowThreshold() {
+        byte[] raw = SCHEMA.getBytes(StandardCharsets.UTF_8);
+        byte[] stored = ContentCompressionUtil.compress(raw, 1024);
+
+        Assertions.assertSame(raw, stored);
+        Assertions.assertFalse(ContentCompressionUtil.isCompressed(stored));
+        Assertions.assertSame(raw, ContentCompressionUtil.decompress(stored));
+        Assertions.assertEquals(SCHEMA, ContentCompressionUtil.toContentHandle(stored).content());
+    }
+
+    @Test
+    void testNoDoubleCompression() {
+        byte[] raw = SCHEMA.repeat(100).getBytes(StandardCharsets.UTF_8);
+        byte[] compressed = ContentCompressionUtil.compress(raw, 0);
+        Assertions.assertSame(compressed, ContentCompressionUtil.compress(compressed, 0));
+    }
+
+}
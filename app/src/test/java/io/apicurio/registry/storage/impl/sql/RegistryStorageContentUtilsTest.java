@@ -0,0 +1,77 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.storage.impl.sql;
+
+import io.apicurio.registry.content.ContentHandle;
+import io.apicurio.registry.storage.dto.ArtifactReferenceDto;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+class RegistryStorageContentUtilsTest {
+
+    private static final ContentHandle CONTENT = ContentHandle.create("{\"type\":\"string\"}");
+    private static final List<ArtifactReferenceDto> REFERENCES = List.of(ArtifactReferenceDto.builder()
+            .groupId("g").artifactId("a").version("1").name("ref").build());
+
+    private static RegistryStorageContentUtils utils() {
+        RegistryStorageContentUtils utils = new RegistryStorageContentUtils();
+        utils.log = LoggerFactory.getLogger(RegistryStorageContentUtils.class);
+        utils.canonicalHashMemoEnabled = true;
+        utils.canonicalHashMemoMaxSize = 100;
+        utils.onConstruct();
+        return utils;
+    }
+
+    @Test
+    void testReferencesAreResolvedOnlyOnMiss() {
+        RegistryStorageContentUtils utils = utils();
+        AtomicInteger resolved = new AtomicInteger();
+        Function<List<ArtifactReferenceDto>, Map<String, ContentHandle>> resolver = references -> {
+            resolved.incrementAndGet();
+            return Map.of("ref", ContentHandle.create("{}"));
+        };
+
+        String hash = utils.getCanonicalContentHash(CONTENT, "AVRO", REFERENCES, resolver);
+        Assertions.assertEquals(hash, utils.getCanonicalContentHash(CONTENT, "AVRO", REFERENCES, resolver));
+        Assertions.assertEquals(1, resolved.get());
+
+        // A referenced version may be deleted and created again with a different content
+        utils.invalidateCanonicalHashes();
+        Assertions.assertEquals(hash, utils.getCanonicalContentHash(CONTENT, "AVRO", REFERENCES, resolver));
+        Assertions.assertEquals(2, resolved.get());
+    }
+
+    @Test
+    void testHashWithMissingReferenceIsNotMemoized() {
+        RegistryStorageContentUtils utils = utils();
+        AtomicInteger resolved = new AtomicInteger();
+        Function<List<ArtifactReferenceDto>, Map<String, ContentHandle>> resolver = references -> {
+            resolved.incrementAndGet();
+            return Map.of();
+        };
+
+        utils.getCanonicalContentHash(CONTENT, "AVRO", REFERENCES, resolver);
+        utils.getCanonicalContentHash(CONTENT, "AVRO", REFERENCES, resolver);
+        Assertions.assertEquals(2, resolved.get());
+    }
+}
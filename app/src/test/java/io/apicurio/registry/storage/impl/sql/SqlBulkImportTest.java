@@ -0,0 +1,193 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.storage.impl.sql;
+
+import io.apicurio.registry.storage.RegistryStorage;
+import io.apicurio.registry.storage.dto.ArtifactMetaDataDto;
+import io.apicurio.registry.storage.error.ContentNotFoundException;
+import io.apicurio.registry.storage.error.RegistryStorageException;
+import io.apicurio.registry.storage.impexp.EntityInputStream;
+import io.apicurio.registry.types.ArtifactState;
+import io.apicurio.registry.types.ArtifactType;
+import io.apicurio.registry.types.Current;
+import io.apicurio.registry.utils.impexp.ArtifactVersionEntity;
+import io.apicurio.registry.utils.impexp.CommentEntity;
+import io.apicurio.registry.utils.impexp.ContentEntity;
+import io.apicurio.registry.utils.impexp.Entity;
+import io.apicurio.registry.utils.tests.ApicurioTestTags;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Imports a generated export using the bulk (JDBC batch) import.  The number of generated
+ * versions can be increased with the "SqlBulkImportTest.versions" system property, in which case
+ * the test doubles as a benchmark.
+ */
+@QuarkusTest
+@TestProfile(SqlBulkImportTestProfile.class)
+@Tag(ApicurioTestTags.SLOW)
+public class SqlBulkImportTest {
+
+    private static final String GROUP_ID = SqlBulkImportTest.class.getSimpleName();
+
+    private static final int VERSIONS_PER_ARTIFACT = 5;
+
+    private static final String OPENAPI_CONTENT_TEMPLATE = "{" +
+            "    \"openapi\": \"3.0.2\"," +
+            "    \"info\": {" +
+            "        \"title\": \"TITLE\"," +
+            "        \"version\": \"VERSION\"" +
+            "    }" +
+            "}";
+
+    @Inject
+    Logger log;
+
+    @Inject
+    @Current
+    RegistryStorage storage;
+
+    @BeforeEach
+    public void cleanStorage() {
+        storage.deleteAllUserData();
+    }
+
+    @Test
+    public void testBulkImport() throws Exception {
+        int numVersions = Integer.getInteger(SqlBulkImportTest.class.getSimpleName() + ".versions", 2000);
+        List<Entity> entities = generateExport(numVersions);
+
+        long start = System.currentTimeMillis();
+        storage.importData(toStream(entities), true, true);
+        long end = System.currentTimeMillis();
+        log.info("Bulk import of {} entities ({} versions) took {}ms", entities.size(), numVersions, end - start);
+
+        Assertions.assertEquals(numVersions, storage.countTotalArtifactVersions());
+        Assertions.assertEquals(numVersions / VERSIONS_PER_ARTIFACT, storage.countArtifacts());
+
+        Assertions.assertEquals(List.of("1", "2", "3", "4", "5"), storage.getArtifactVersions(GROUP_ID, "artifact-0"));
+        ArtifactMetaDataDto latest = storage.getArtifactMetaData(GROUP_ID, "artifact-0");
+        Assertions.assertEquals("5", latest.getVersion());
+        Assertions.assertEquals(List.of("label-5"), latest.getLabels());
+        Assertions.assertEquals(Map.of("key", "value-5"), latest.getProperties());
+        Assertions.assertTrue(storage.getArtifactVersion(GROUP_ID, "artifact-0", "5").getContent().content().contains("Title 0-5"));
+        Assertions.assertEquals(1, storage.getArtifactVersionComments(GROUP_ID, "artifact-0", "1").size());
+
+        // The sequences must have been reset past the imported IDs
+        Assertions.assertTrue(storage.nextGlobalId() > numVersions);
+        Assertions.assertTrue(storage.nextContentId() > numVersions);
+    }
+
+    @Test
+    public void testFailedBulkImportIsRolledBack() {
+        List<Entity> entities = generateExport(1000);
+        // The last content duplicates the hash of the first one, so its batch fails after earlier batches were written
+        ContentEntity first = (ContentEntity) entities.stream().filter(e -> e instanceof ContentEntity).findFirst().get();
+        ContentEntity last = (ContentEntity) entities.get(entities.size() - 1);
+        last.contentHash = first.contentHash;
+
+        Assertions.assertThrows(RegistryStorageException.class, () -> storage.importData(toStream(entities), true, true));
+
+        Assertions.assertEquals(0, storage.countTotalArtifactVersions());
+        Assertions.assertEquals(0, storage.countArtifacts());
+        Assertions.assertThrows(ContentNotFoundException.class, () -> storage.getArtifactByContentId(1));
+    }
+
+    /**
+     * Versions are generated before their content, and comments before their versions, so that
+     * the importer has to hold them back until their dependencies have been imported.
+     */
+    private static List<Entity> generateExport(int numVersions) {
+        List<Entity> comments = new ArrayList<>();
+        List<Entity> versions = new ArrayList<>();
+        List<Entity> contents = new ArrayList<>();
+        for (int idx = 0; idx < numVersions; idx++) {
+            long id = idx + 1;
+            int artifact = idx / VERSIONS_PER_ARTIFACT;
+            int version = idx % VERSIONS_PER_ARTIFACT + 1;
+
+            byte[] content = OPENAPI_CONTENT_TEMPLATE
+                    .replace("TITLE", "Title " + artifact + "-" + version)
+                    .replace("VERSION", String.valueOf(version))
+                    .getBytes(StandardCharsets.UTF_8);
+            contents.add(ContentEntity.builder()
+                    .contentId(id)
+                    .contentHash(DigestUtils.sha256Hex(content))
+                    .canonicalHash(DigestUtils.sha256Hex(content))
+                    .artifactType(ArtifactType.OPENAPI)
+                    .contentBytes(content)
+                    .build());
+
+            versions.add(ArtifactVersionEntity.builder()
+                    .globalId(id)
+                    .groupId(GROUP_ID)
+                    .artifactId("artifact-" + artifact)
+                    .version(String.valueOf(version))
+                    .versionId(version)
+                    .artifactType(ArtifactType.OPENAPI)
+                    .state(ArtifactState.ENABLED)
+                    .createdBy("user")
+                    .createdOn(System.currentTimeMillis())
+                    .labels(List.of("label-" + version))
+                    .properties(Map.of("key", "value-" + version))
+                    .isLatest(version == VERSIONS_PER_ARTIFACT)
+                    .contentId(id)
+                    .build());
+
+            if (version == 1) {
+                comments.add(CommentEntity.builder()
+                        .globalId(id)
+                        .commentId(String.valueOf(id))
+                        .createdBy("user")
+                        .createdOn(System.currentTimeMillis())
+                        .value("Comment " + artifact)
+                        .build());
+            }
+        }
+        List<Entity> entities = new ArrayList<>(comments);
+        entities.addAll(versions);
+        entities.addAll(contents);
+        return entities;
+    }
+
+    private static EntityInputStream toStream(List<Entity> entities) {
+        Iterator<Entity> iterator = entities.iterator();
+        return new EntityInputStream() {
+            @Override
+            public Entity nextEntity() {
+                return iterator.hasNext() ? iterator.next() : null;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+}
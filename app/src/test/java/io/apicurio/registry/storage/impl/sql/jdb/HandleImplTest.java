@@ -0,0 +1,97 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.storage.impl.sql.jdb;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class HandleImplTest {
+
+    private static Connection connect() throws Exception {
+        return DriverManager.getConnection("jdbc:h2:mem:");
+    }
+
+    @Test
+    void testQueryAndUpdate() throws Exception {
+        List<String> recorded = new ArrayList<>();
+        try (HandleImpl handle = new HandleImpl(connect(), (sql, durationNanos, rows) -> recorded.add(sql + ":" + rows))) {
+            handle.createUpdate("CREATE TABLE t (id INT)").executeNoUpdate();
+            for (int i = 0; i < 3; i++) {
+                Assertions.assertEquals(1, handle.createUpdate("INSERT INTO t (id) VALUES (?)").bind(0, i).execute());
+            }
+            for (int i = 0; i < 2; i++) {
+                List<Integer> ids = handle.createQuery("SELECT id FROM t ORDER BY id")
+                        .map(rs -> rs.getInt(1))
+                        .list();
+                Assertions.assertEquals(List.of(0, 1, 2), ids);
+            }
+        }
+        Assertions.assertTrue(recorded.contains("INSERT INTO t (id) VALUES (?):1"));
+        Assertions.assertEquals(2, recorded.stream().filter(r -> r.equals("SELECT id FROM t ORDER BY id:3")).count());
+    }
+
+    @Test
+    void testReadOnlyTransactionReadsSnapshot() throws Exception {
+        String url = "jdbc:h2:mem:snapshot;DB_CLOSE_DELAY=-1";
+        try (Connection writer = DriverManager.getConnection(url);
+             HandleImpl handle = new HandleImpl(DriverManager.getConnection(url))) {
+            writer.createStatement().execute("CREATE TABLE t (id INT)");
+            writer.createStatement().execute("INSERT INTO t (id) VALUES (1)");
+
+            List<Long> counts = handle.inReadOnlyTransaction(Connection.TRANSACTION_REPEATABLE_READ, snapshot -> {
+                List<Long> result = new ArrayList<>();
+                result.add(snapshot.createQuery("SELECT count(*) FROM t").mapTo(Long.class).one());
+                writer.createStatement().execute("INSERT INTO t (id) VALUES (2)");
+                result.add(snapshot.createQuery("SELECT count(*) FROM t").mapTo(Long.class).one());
+                return result;
+            });
+            Assertions.assertEquals(List.of(1L, 1L), counts);
+
+            Assertions.assertTrue(handle.getConnection().getAutoCommit());
+            Assertions.assertFalse(handle.getConnection().isReadOnly());
+            Assertions.assertEquals(2L, handle.createQuery("SELECT count(*) FROM t").mapTo(Long.class).one());
+        }
+    }
+
+    @Test
+    void testTransactionIsRolledBackOnFailure() throws Exception {
+        try (HandleImpl handle = new HandleImpl(connect())) {
+            handle.createUpdate("CREATE TABLE t (id INT PRIMARY KEY)").executeNoUpdate();
+
+            handle.inTransaction(tx -> {
+                return tx.createUpdate("INSERT INTO t (id) VALUES (?)").bind(0, 1).execute();
+            });
+            Assertions.assertThrows(RuntimeSqlException.class, () -> handle.inTransaction(tx -> {
+                tx.createUpdate("INSERT INTO t (id) VALUES (?)").bind(0, 2).execute();
+                Update batch = tx.createUpdate("INSERT INTO t (id) VALUES (?)");
+                batch.bind(0, 3).add();
+                batch.bind(0, 1).add();
+                batch.executeBatch();
+                return null;
+            }));
+
+            Assertions.assertTrue(handle.getConnection().getAutoCommit());
+            Assertions.assertEquals(List.of(1), handle.createQuery("SELECT id FROM t ORDER BY id").map(rs -> rs.getInt(1)).list());
+        }
+    }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.benchmarks;
+
+import io.apicurio.registry.content.ContentHandle;
+import io.apicurio.registry.content.canon.ContentCanonicalizer;
+import io.apicurio.registry.rules.compatibility.CompatibilityChecker;
+import io.apicurio.registry.rules.compatibility.CompatibilityExecutionResult;
+import io.apicurio.registry.rules.compatibility.CompatibilityLevel;
+import io.apicurio.registry.rules.validity.ContentValidator;
+import io.apicurio.registry.rules.validity.ValidityLevel;
+import io.apicurio.registry.types.provider.ArtifactTypeUtilProvider;
+import io.apicurio.registry.types.provider.DefaultArtifactTypeUtilProviderImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the schema utilities of an artifact type, as the registry uses them, against a
+ * generated corpus of a given shape.  Subclasses generate the corpus of their artifact type, and add
+ * the benchmarks of the utilities that only some artifact types support, such as dereferencing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public abstract class AbstractArtifactTypeBenchmark {
+
+    @Param
+    CorpusShape shape;
+
+    protected Corpus corpus;
+    private List<ContentHandle> history;
+    private ContentCanonicalizer canonicalizer;
+    private ContentValidator validator;
+    private CompatibilityChecker compatibilityChecker;
+
+    /**
+     * @return the artifact type whose provider is benchmarked
+     */
+    protected abstract String artifactType();
+
+    /**
+     * Generates the version history of a schema of the given shape.
+     */
+    protected abstract Corpus createCorpus(CorpusShape shape);
+
+    @Setup
+    public void setup() {
+        ArtifactTypeUtilProvider provider = new DefaultArtifactTypeUtilProviderImpl().getArtifactTypeProvider(artifactType());
+        canonicalizer = provider.getContentCanonicalizer();
+        validator = provider.getContentValidator();
+        compatibilityChecker = provider.getCompatibilityChecker();
+        corpus = createCorpus(shape);
+        history = corpus.getHistory();
+    }
+
+    @Benchmark
+    public ContentHandle canonicalize() {
+        return canonicalize(canonicalizer, corpus);
+    }
+
+    /**
+     * Canonicalizes the latest version of the corpus, subclasses override this when the canonicalizer
+     * of their artifact type does not resolve references.
+     */
+    protected ContentHandle canonicalize(ContentCanonicalizer canonicalizer, Corpus corpus) {
+        return canonicalizer.canonicalize(corpus.getLatest(), corpus.getReferences());
+    }
+
+    @Benchmark
+    public ContentHandle validate() {
+        ContentHandle content = corpus.getLatest();
+        validator.validate(ValidityLevel.FULL, content, corpus.getReferences());
+        return content;
+    }
+
+    @Benchmark
+    public CompatibilityExecutionResult checkBackwardCompatibility() {
+        return compatibilityChecker.testCompatibility(CompatibilityLevel.BACKWARD,
+                List.of(corpus.getPrevious()), corpus.getLatest(), corpus.getReferences());
+    }
+
+    @Benchmark
+    public CompatibilityExecutionResult checkBackwardTransitiveCompatibility() {
+        return compatibilityChecker.testCompatibility(CompatibilityLevel.BACKWARD_TRANSITIVE,
+                history, corpus.getLatest(), corpus.getReferences());
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.benchmarks;
+
+import io.apicurio.registry.content.ContentHandle;
+import io.apicurio.registry.content.canon.ContentCanonicalizer;
+import io.apicurio.registry.content.dereference.AvroDereferencer;
+import io.apicurio.registry.content.dereference.ContentDereferencer;
+import io.apicurio.registry.types.ArtifactType;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Avro record schemas.  Every version adds an optional field, so the versions are backward compatible.
+ * Referenced schemas form a chain of records, each one referencing the previous one by its full name.
+ * The Avro canonicalizer does not resolve references, so schemas with references are canonicalized
+ * dereferenced.
+ */
+public class AvroBenchmark extends AbstractArtifactTypeBenchmark {
+
+    private static final String NAMESPACE = "io.apicurio.registry.benchmarks";
+    private static final String[] TYPES = {
+            "\"string\"", "\"int\"", "\"long\"", "\"double\"", "\"boolean\"",
+            "{\"type\": \"array\", \"items\": \"string\"}", "{\"type\": \"map\", \"values\": \"long\"}"
+    };
+
+    private final ContentDereferencer dereferencer = new AvroDereferencer();
+
+    @Override
+    protected String artifactType() {
+        return ArtifactType.AVRO;
+    }
+
+    @Benchmark
+    public ContentHandle dereference() {
+        return dereferencer.dereference(corpus.getLatest(), corpus.getReferences());
+    }
+
+    @Override
+    protected ContentHandle canonicalize(ContentCanonicalizer canonicalizer, Corpus corpus) {
+        if (corpus.getReferences().isEmpty()) {
+            return super.canonicalize(canonicalizer, corpus);
+        }
+        return canonicalizer.canonicalize(dereference(), Map.of());
+    }
+
+    @Override
+    protected Corpus createCorpus(CorpusShape shape) {
+        Map<String, ContentHandle> references = new LinkedHashMap<>();
+        for (int i = 0; i < shape.getReferenceDepth(); i++) {
+            StringBuilder reference = new StringBuilder()
+                    .append("{\"type\": \"record\", \"name\": \"Type").append(i)
+                    .append("\", \"namespace\": \"").append(NAMESPACE).append(".refs\", \"fields\": [")
+                    .append("{\"name\": \"value\", \"type\": \"string\"}");
+            if (i > 0) {
+                reference.append(", {\"name\": \"next\", \"type\": \"").append(NAMESPACE).append(".refs.Type").append(i - 1).append("\"}");
+            }
+            reference.append("]}");
+            references.put(NAMESPACE + ".refs.Type" + i, ContentHandle.create(reference.toString()));
+        }
+
+        List<ContentHandle> versions = new ArrayList<>();
+        for (int v = 0; v < shape.getVersions(); v++) {
+            StringBuilder schema = new StringBuilder()
+                    .append("{\n  \"type\": \"record\",\n  \"name\": \"Record\",\n  \"namespace\": \"").append(NAMESPACE)
+                    .append("\",\n  \"doc\": \"A generated record\",\n  \"fields\": [\n");
+            for (int i = 0; i < shape.getFields(); i++) {
+                schema.append("    {\"name\": \"field").append(i).append("\", \"type\": ").append(TYPES[i % TYPES.length])
+                        .append(", \"doc\": \"Field ").append(i).append("\"},\n");
+            }
+            if (shape.getReferenceDepth() > 0) {
+                schema.append("    {\"name\": \"reference\", \"type\": \"").append(NAMESPACE).append(".refs.Type")
+                        .append(shape.getReferenceDepth() - 1).append("\"},\n");
+            }
+            for (int i = 0; i < v; i++) {
+                schema.append("    {\"name\": \"added").append(i).append("\", \"type\": [\"null\", \"string\"], \"default\": null},\n");
+            }
+            schema.append("    {\"name\": \"id\", \"type\": \"string\"}\n  ]\n}\n");
+            versions.add(ContentHandle.create(schema.toString()));
+        }
+        return new Corpus(versions, references);
+    }
+}
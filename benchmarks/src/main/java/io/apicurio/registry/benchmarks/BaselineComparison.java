@@ -0,0 +1,96 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH result files written in the JSON format, benchmark by benchmark.
+ */
+public class BaselineComparison {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+
+    /**
+     * Prints the throughput and the allocated bytes per operation of the benchmarks of both files,
+     * with the change of the throughput relative to the baseline.
+     */
+    public static void compare(File baseline, File current, PrintStream out) throws IOException {
+        Map<String, Score> baselineScores = read(baseline);
+        Map<String, Score> currentScores = read(current);
+
+        out.println(String.format("%-80s %15s %15s %9s %15s %15s", "Benchmark", "Baseline", "Current", "Change",
+                "Baseline B/op", "Current B/op"));
+        for (Map.Entry<String, Score> entry : currentScores.entrySet()) {
+            Score currentScore = entry.getValue();
+            Score baselineScore = baselineScores.get(entry.getKey());
+            if (baselineScore == null) {
+                out.println(String.format("%-80s %15s %15.2f %9s %15s %15.0f", entry.getKey(), "-",
+                        currentScore.throughput, "-", "-", currentScore.allocated));
+            } else {
+                double change = (currentScore.throughput - baselineScore.throughput) / baselineScore.throughput * 100;
+                out.println(String.format("%-80s %15.2f %15.2f %+8.1f%% %15.0f %15.0f", entry.getKey(),
+                        baselineScore.throughput, currentScore.throughput, change,
+                        baselineScore.allocated, currentScore.allocated));
+            }
+        }
+        for (String benchmark : baselineScores.keySet()) {
+            if (!currentScores.containsKey(benchmark)) {
+                out.println(String.format("%-80s (missing from the current results)", benchmark));
+            }
+        }
+    }
+
+    private static Map<String, Score> read(File file) throws IOException {
+        Map<String, Score> scores = new TreeMap<>();
+        for (JsonNode result : MAPPER.readTree(file)) {
+            StringBuilder key = new StringBuilder(result.path("benchmark").asText());
+            Iterator<Map.Entry<String, JsonNode>> params = result.path("params").fields();
+            while (params.hasNext()) {
+                Map.Entry<String, JsonNode> param = params.next();
+                key.append(' ').append(param.getKey()).append('=').append(param.getValue().asText());
+            }
+            Score score = new Score();
+            score.throughput = result.path("primaryMetric").path("score").asDouble();
+            score.allocated = Double.NaN;
+            Iterator<Map.Entry<String, JsonNode>> metrics = result.path("secondaryMetrics").fields();
+            while (metrics.hasNext()) {
+                Map.Entry<String, JsonNode> metric = metrics.next();
+                // Older versions of JMH prefix the names of profiler metrics
+                if (metric.getKey().endsWith(ALLOCATION_METRIC)) {
+                    score.allocated = metric.getValue().path("score").asDouble();
+                }
+            }
+            scores.put(key.toString().replaceFirst("^io\\.apicurio\\.registry\\.benchmarks\\.", ""), score);
+        }
+        return scores;
+    }
+
+    private static class Score {
+        double throughput;
+        double allocated;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.io.File;
+
+/**
+ * Runs the benchmarks with the GC profiler, so that the allocation rate is reported next to the throughput,
+ * and writes the results as JSON.  The results can be compared with the results of a previous run:
+ *
+ * <pre>
+ * java -jar benchmarks.jar [--include &lt;regex&gt;] [--shape &lt;shape,...&gt;] [--quick] [--result &lt;file&gt;] [--baseline &lt;file&gt;]
+ * java -jar benchmarks.jar --compare &lt;baseline file&gt; &lt;result file&gt;
+ * </pre>
+ */
+public class BenchmarkRunner {
+
+    private static final String DEFAULT_RESULT = "benchmark-results.json";
+
+    public static void main(String[] args) throws Exception {
+        String include = ".*Benchmark.*";
+        String shapes = null;
+        String result = DEFAULT_RESULT;
+        String baseline = null;
+        boolean quick = false;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--include":
+                    include = value(args, ++i);
+                    break;
+                case "--shape":
+                    shapes = value(args, ++i);
+                    break;
+                case "--result":
+                    result = value(args, ++i);
+                    break;
+                case "--baseline":
+                    baseline = value(args, ++i);
+                    break;
+                case "--quick":
+                    quick = true;
+                    break;
+                case "--compare":
+                    BaselineComparison.compare(new File(value(args, ++i)), new File(value(args, ++i)), System.out);
+                    return;
+                default:
+                    throw new IllegalArgumentException("Unknown argument: " + args[i]);
+            }
+        }
+
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .include(include)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(result);
+        if (shapes != null) {
+            options.param("shape", shapes.split(","));
+        }
+        if (quick) {
+            // Good enough to spot large regressions while working on a change
+            options.forks(1)
+                    .warmupIterations(1)
+                    .warmupTime(TimeValue.seconds(1))
+                    .measurementIterations(2)
+                    .measurementTime(TimeValue.seconds(1));
+        }
+        new Runner(options.build()).run();
+
+        if (baseline != null) {
+            BaselineComparison.compare(new File(baseline), new File(result), System.out);
+        }
+    }
+
+    private static String value(String[] args, int index) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("Missing value of argument: " + args[index - 1]);
+        }
+        return args[index];
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.benchmarks;
+
+import io.apicurio.registry.content.ContentHandle;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The version history of a generated schema, together with the schemas it references.
+ */
+public class Corpus {
+
+    private final List<ContentHandle> versions;
+    private final Map<String, ContentHandle> references;
+
+    /**
+     * @param versions   oldest first
+     * @param references the referenced schemas, in the order in which they must be parsed
+     */
+    public Corpus(List<ContentHandle> versions, Map<String, ContentHandle> references) {
+        this.versions = List.copyOf(versions);
+        this.references = references;
+    }
+
+    /**
+     * @return the latest version, i.e. the proposed content of compatibility checks
+     */
+    public ContentHandle getLatest() {
+        return versions.get(versions.size() - 1);
+    }
+
+    /**
+     * @return the version preceding the latest version
+     */
+    public ContentHandle getPrevious() {
+        return versions.get(versions.size() - 2);
+    }
+
+    /**
+     * @return all versions but the latest, oldest first
+     */
+    public List<ContentHandle> getHistory() {
+        return versions.subList(0, versions.size() - 1);
+    }
+
+    public Map<String, ContentHandle> getReferences() {
+        return references;
+    }
+}
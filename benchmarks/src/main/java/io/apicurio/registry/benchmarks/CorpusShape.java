@@ -0,0 +1,71 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.benchmarks;
+
+/**
+ * The shapes of the generated schema corpora.
+ */
+public enum CorpusShape {
+
+    /**
+     * A few fields and versions, the most common case.
+     */
+    SMALL(10, 10, 0),
+
+    /**
+     * A schema with many fields.
+     */
+    LARGE(1000, 10, 0),
+
+    /**
+     * A schema that uses a chain of referenced schemas (where supported by the artifact type).
+     */
+    REFERENCED(10, 10, 25),
+
+    /**
+     * A small schema with a long version history, for transitive compatibility checks.
+     */
+    LONG_HISTORY(10, 500, 0);
+
+    private final int fields;
+    private final int versions;
+    private final int referenceDepth;
+
+    CorpusShape(int fields, int versions, int referenceDepth) {
+        this.fields = fields;
+        this.versions = versions;
+        this.referenceDepth = referenceDepth;
+    }
+
+    /**
+     * @return the number of fields of the first version, every next version adds a field
+     */
+    public int getFields() {
+        return fields;
+    }
+
+    public int getVersions() {
+        return versions;
+    }
+
+    /**
+     * @return the number of referenced schemas
+     */
+    public int getReferenceDepth() {
+        return referenceDepth;
+    }
+}
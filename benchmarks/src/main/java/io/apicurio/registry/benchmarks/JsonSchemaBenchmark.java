@@ -0,0 +1,81 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.benchmarks;
+
+import io.apicurio.registry.content.ContentHandle;
+import io.apicurio.registry.content.dereference.ContentDereferencer;
+import io.apicurio.registry.content.dereference.JsonSchemaDereferencer;
+import io.apicurio.registry.types.ArtifactType;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Draft-07 JSON object schemas.  Every version adds an optional property, so the versions are backward compatible.
+ * Referenced schemas are referenced directly by the schema, since references of referenced schemas are not resolved.
+ * The JSON Schema dereferencer is used directly, the artifact type provider returns the AsyncAPI dereferencer.
+ */
+public class JsonSchemaBenchmark extends AbstractArtifactTypeBenchmark {
+
+    private static final String[] TYPES = {
+            "{\"type\": \"string\"}", "{\"type\": \"integer\"}", "{\"type\": \"number\"}", "{\"type\": \"boolean\"}",
+            "{\"type\": \"array\", \"items\": {\"type\": \"string\"}}", "{\"type\": \"string\", \"format\": \"date-time\"}"
+    };
+
+    private final ContentDereferencer dereferencer = new JsonSchemaDereferencer();
+
+    @Override
+    protected String artifactType() {
+        return ArtifactType.JSON;
+    }
+
+    @Benchmark
+    public ContentHandle dereference() {
+        return dereferencer.dereference(corpus.getLatest(), corpus.getReferences());
+    }
+
+    @Override
+    protected Corpus createCorpus(CorpusShape shape) {
+        Map<String, ContentHandle> references = new LinkedHashMap<>();
+        for (int i = 0; i < shape.getReferenceDepth(); i++) {
+            references.put("types/Type" + i + ".json", ContentHandle.create(
+                    "{\"$schema\": \"http://json-schema.org/draft-07/schema#\", \"type\": \"object\", \"properties\": {\"value\": {\"type\": \"string\"}}}"));
+        }
+
+        List<ContentHandle> versions = new ArrayList<>();
+        for (int v = 0; v < shape.getVersions(); v++) {
+            StringBuilder schema = new StringBuilder()
+                    .append("{\n  \"$schema\": \"http://json-schema.org/draft-07/schema#\",\n")
+                    .append("  \"title\": \"Record\",\n  \"type\": \"object\",\n  \"properties\": {\n");
+            for (int i = 0; i < shape.getFields(); i++) {
+                schema.append("    \"field").append(i).append("\": ").append(TYPES[i % TYPES.length]).append(",\n");
+            }
+            for (int i = 0; i < shape.getReferenceDepth(); i++) {
+                schema.append("    \"reference").append(i).append("\": {\"$ref\": \"types/Type").append(i).append(".json\"},\n");
+            }
+            for (int i = 0; i < v; i++) {
+                schema.append("    \"added").append(i).append("\": {\"type\": \"string\"},\n");
+            }
+            schema.append("    \"id\": {\"type\": \"string\"}\n  },\n  \"required\": [\"id\"],\n  \"additionalProperties\": false\n}\n");
+            versions.add(ContentHandle.create(schema.toString()));
+        }
+        return new Corpus(versions, references);
+    }
+}
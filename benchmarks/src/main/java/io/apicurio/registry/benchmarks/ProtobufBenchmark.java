@@ -0,0 +1,78 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.benchmarks;
+
+import io.apicurio.registry.content.ContentHandle;
+import io.apicurio.registry.types.ArtifactType;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Proto3 messages.  Every version adds a field with a new number, so the versions are backward compatible.
+ * Referenced schemas are imported files, each one importing the previous one.
+ */
+public class ProtobufBenchmark extends AbstractArtifactTypeBenchmark {
+
+    private static final String[] TYPES = { "string", "int32", "int64", "double", "bool", "bytes", "repeated string" };
+
+    @Override
+    protected String artifactType() {
+        return ArtifactType.PROTOBUF;
+    }
+
+    @Override
+    protected Corpus createCorpus(CorpusShape shape) {
+        Map<String, ContentHandle> references = new LinkedHashMap<>();
+        for (int i = 0; i < shape.getReferenceDepth(); i++) {
+            StringBuilder reference = new StringBuilder("syntax = \"proto3\";\npackage benchmarks.refs;\n");
+            if (i > 0) {
+                reference.append("import \"type").append(i - 1).append(".proto\";\n");
+            }
+            reference.append("message Type").append(i).append(" {\n  string value = 1;\n");
+            if (i > 0) {
+                reference.append("  Type").append(i - 1).append(" next = 2;\n");
+            }
+            reference.append("}\n");
+            references.put("type" + i + ".proto", ContentHandle.create(reference.toString()));
+        }
+
+        List<ContentHandle> versions = new ArrayList<>();
+        for (int v = 0; v < shape.getVersions(); v++) {
+            StringBuilder schema = new StringBuilder("syntax = \"proto3\";\npackage benchmarks;\n\n");
+            if (shape.getReferenceDepth() > 0) {
+                schema.append("import \"type").append(shape.getReferenceDepth() - 1).append(".proto\";\n\n");
+            }
+            schema.append("message Record {\n  string id = 1;\n");
+            int number = 2;
+            for (int i = 0; i < shape.getFields(); i++) {
+                schema.append("  ").append(TYPES[i % TYPES.length]).append(" field").append(i).append(" = ").append(number++).append(";\n");
+            }
+            if (shape.getReferenceDepth() > 0) {
+                schema.append("  benchmarks.refs.Type").append(shape.getReferenceDepth() - 1).append(" reference = ").append(number++).append(";\n");
+            }
+            for (int i = 0; i < v; i++) {
+                schema.append("  string added").append(i).append(" = ").append(number++).append(";\n");
+            }
+            schema.append("}\n");
+            versions.add(ContentHandle.create(schema.toString()));
+        }
+        return new Corpus(versions, references);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.content.canon;
+
+import io.apicurio.registry.content.ContentHandle;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the streaming canonicalization of JSON content with the JSON tree based canonicalization.
+ * In the package of the canonicalizer, to call the tree based canonicalization directly.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonContentCanonicalizerBenchmark {
+
+    /**
+     * The number of schemas defined by the generated OpenAPI content.
+     */
+    @Param({ "10", "100", "1000" })
+    int schemas;
+
+    private final JsonContentCanonicalizer canonicalizer = new JsonContentCanonicalizer();
+    private ContentHandle content;
+
+    @Setup
+    public void setup() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("{\n  \"openapi\": \"3.0.2\",\n  \"info\": { \"title\": \"Benchmark API\", \"version\": \"1.0.0\" },\n");
+        builder.append("  \"components\": {\n    \"schemas\": {\n");
+        for (int i = schemas - 1; i >= 0; i--) {
+            builder.append("      \"Schema").append(i).append("\": {\n");
+            builder.append("        \"type\": \"object\",\n        \"required\": [\"name\", \"id\"],\n");
+            builder.append("        \"properties\": {\n");
+            builder.append("          \"name\": { \"type\": \"string\", \"description\": \"The name of the thing é\" },\n");
+            builder.append("          \"id\": { \"type\": \"integer\", \"format\": \"int64\", \"minimum\": 0, \"maximum\": 1.5E10 },\n");
+            builder.append("          \"tags\": { \"type\": \"array\", \"items\": { \"$ref\": \"#/components/schemas/Schema")
+                    .append((i + 1) % schemas).append("\" } }\n");
+            builder.append("        }\n      }").append(i > 0 ? "," : "").append("\n");
+        }
+        builder.append("    }\n  },\n  \"paths\": {}\n}\n");
+        content = ContentHandle.create(builder.toString());
+    }
+
+    @Benchmark
+    public ContentHandle canonicalizeStreaming() {
+        return canonicalizer.canonicalize(content, Map.of());
+    }
+
+    @Benchmark
+    public ContentHandle canonicalizeTree() {
+        return canonicalizer.canonicalizeTree(content);
+    }
+
+    @Benchmark
+    public byte[] hashStreaming() throws IOException {
+        MessageDigest digest = DigestUtils.getSha256Digest();
+        try (OutputStream out = new DigestOutputStream(OutputStream.nullOutputStream(), digest)) {
+            canonicalizer.canonicalize(content, Map.of(), out);
+        }
+        return digest.digest();
+    }
+
+    @Benchmark
+    public byte[] hashTree() {
+        return DigestUtils.sha256(canonicalizer.canonicalizeTree(content).bytes());
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.interceptor.InvocationContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead of the storage metrics interceptor, by comparing an intercepted call of a trivial
+ * storage method with a direct call.  In the package of the interceptor, to set its meter registry.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StorageMetricsInterceptorBenchmark {
+
+    private final StorageMetricsInterceptor interceptor = new StorageMetricsInterceptor();
+    private final Storage storage = new Storage();
+    private InvocationContext context;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        interceptor.registry = new SimpleMeterRegistry();
+        Method method = Storage.class.getMethod("getArtifactMetaData", String.class, String.class);
+        Object[] parameters = { "group", "artifact" };
+        context = new InvocationContext() {
+            @Override
+            public Object getTarget() {
+                return storage;
+            }
+
+            @Override
+            public Object getTimer() {
+                return null;
+            }
+
+            @Override
+            public Method getMethod() {
+                return method;
+            }
+
+            @Override
+            public Constructor<?> getConstructor() {
+                return null;
+            }
+
+            @Override
+            public Object[] getParameters() {
+                return parameters;
+            }
+
+            @Override
+            public void setParameters(Object[] params) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Map<String, Object> getContextData() {
+                return Map.of();
+            }
+
+            @Override
+            public Object proceed() {
+                return storage.getArtifactMetaData((String) parameters[0], (String) parameters[1]);
+            }
+        };
+    }
+
+    @Benchmark
+    public Object direct() throws Exception {
+        return context.proceed();
+    }
+
+    @Benchmark
+    public Object intercepted() throws Exception {
+        return interceptor.intercept(context);
+    }
+
+    public static class Storage {
+
+        public String getArtifactMetaData(String groupId, String artifactId) {
+            return artifactId;
+        }
+    }
+}
@@ -43,7 +43,10 @@ public enum RegistryEventType {
     GLOBAL_RULE_CREATED,
     GLOBAL_RULE_UPDATED,
     GLOBAL_RULE_DELETED,
-    ALL_GLOBAL_RULES_DELETED;
+    ALL_GLOBAL_RULES_DELETED,
+
+    DATA_IMPORTED,
+    ALL_USER_DATA_DELETED;
 
     private String cloudEventType;
 
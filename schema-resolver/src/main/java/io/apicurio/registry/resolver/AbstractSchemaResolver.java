@@ -16,12 +16,17 @@
 
 package io.apicurio.registry.resolver;
 
+import com.microsoft.kiota.ApiException;
 import com.microsoft.kiota.RequestAdapter;
+import com.microsoft.kiota.RequestHeaders;
+import com.microsoft.kiota.RequestOption;
 import com.microsoft.kiota.authentication.AnonymousAuthenticationProvider;
 import com.microsoft.kiota.authentication.BaseBearerTokenAuthenticationProvider;
 import com.microsoft.kiota.http.OkHttpRequestAdapter;
+import com.microsoft.kiota.http.middleware.options.HeadersInspectionOption;
 import io.apicurio.registry.auth.BasicAuthenticationProvider;
 import io.apicurio.registry.auth.OidcAccessTokenProvider;
+import io.apicurio.registry.events.dto.RegistryEventType;
 import io.apicurio.registry.resolver.config.DefaultSchemaResolverConfig;
 import io.apicurio.registry.resolver.data.Record;
 import io.apicurio.registry.resolver.strategy.ArtifactReference;
@@ -29,18 +34,23 @@ import io.apicurio.registry.resolver.strategy.ArtifactReferenceResolverStrategy;
 import io.apicurio.registry.resolver.utils.Utils;
 import io.apicurio.registry.rest.client.RegistryClient;
 import io.apicurio.registry.rest.client.models.ArtifactMetaData;
+import io.apicurio.registry.rest.client.models.BatchContent;
+import io.apicurio.registry.rest.client.models.BatchContentRequest;
 import io.apicurio.registry.rest.client.models.VersionMetaData;
 import io.apicurio.registry.utils.IoUtil;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
 
 /**
  * Base implementation of {@link SchemaResolver}
@@ -56,6 +66,7 @@ public abstract class AbstractSchemaResolver<S, T> implements SchemaResolver<S,
     protected DefaultSchemaResolverConfig config;
     protected SchemaParser<S, T> schemaParser;
     protected RegistryClient client;
+    protected ChangeFeedSubscriber changeFeed;
     protected ArtifactReferenceResolverStrategy<S, T> artifactResolverStrategy;
 
     protected String explicitArtifactGroupId;
@@ -75,23 +86,29 @@ public abstract class AbstractSchemaResolver<S, T> implements SchemaResolver<S,
             String authServerURL = config.getAuthServiceUrl();
             String tokenEndpoint = config.getTokenEndpoint();
 
+            RequestAdapter adapter;
             try {
                 if (authServerURL != null || tokenEndpoint != null) {
-                    client = configureClientWithBearerAuthentication(config, baseUrl, authServerURL, tokenEndpoint);
+                    adapter = configureClientWithBearerAuthentication(config, baseUrl, authServerURL, tokenEndpoint);
                 } else {
                     String username = config.getAuthUsername();
 
                     if (username != null) {
-                        client = configureClientWithBasicAuth(config, baseUrl, username);
+                        adapter = configureClientWithBasicAuth(config, baseUrl, username);
                     } else {
-                        var adapter = new OkHttpRequestAdapter(new AnonymousAuthenticationProvider());
+                        adapter = new OkHttpRequestAdapter(new AnonymousAuthenticationProvider());
                         adapter.setBaseUrl(baseUrl);
-                        client = new RegistryClient(adapter);
                     }
                 }
+                client = new RegistryClient(adapter);
             } catch (Exception e) {
                 throw new IllegalStateException(e);
             }
+
+            // The change feed is not subscribed to with a client that is set explicitly, as its adapter is unknown
+            if (config.getChangeFeed()) {
+                changeFeed = new ChangeFeedSubscriber(adapter, config.getChangeFeedReconnectBackoff(), this::onChange);
+            }
         }
 
         Object ais = config.getArtifactResolverStrategy();
@@ -110,6 +127,10 @@ public abstract class AbstractSchemaResolver<S, T> implements SchemaResolver<S,
         schemaCache.configureArtifactCoordinatesKeyExtractor(SchemaLookupResult::toArtifactCoordinates);
         schemaCache.checkInitialized();
 
+        if (changeFeed != null) {
+            changeFeed.start();
+        }
+
         String groupIdOverride = config.getExplicitArtifactGroupId();
         if (groupIdOverride != null) {
             this.explicitArtifactGroupId = groupIdOverride;
@@ -178,17 +199,19 @@ public abstract class AbstractSchemaResolver<S, T> implements SchemaResolver<S,
     }
 
     protected SchemaLookupResult<S> resolveSchemaByGlobalId(long globalId) {
-        return schemaCache.getByGlobalId(globalId, globalIdKey -> {
+        return schemaCache.revalidateByGlobalId(globalId, (globalIdKey, expired) -> {
             //TODO getContentByGlobalId have to return some minumum metadata (groupId, artifactId and version)
             //TODO or at least add some method to the api to return the version metadata by globalId
 //            ArtifactMetaData artifactMetadata = client.getArtifactMetaData("TODO", artifactId);
 
             InputStream rawSchema = null;
             ParsedSchemaImpl<S> ps = null;
+            HeadersInspectionOption responseHeaders = new HeadersInspectionOption(false, true);
             try {
                 rawSchema = client.ids().globalIds().byGlobalId(globalId).get(config -> {
                     config.headers.add("CANONICAL", "false");
                     config.headers.add("DEREFERENCE", "true");
+                    config.options = conditionalRequest(config.headers, expired, responseHeaders);
                 }).get();
 
                 //Get the artifact references
@@ -207,6 +230,9 @@ public abstract class AbstractSchemaResolver<S, T> implements SchemaResolver<S,
             } catch (InterruptedException e) {
                 throw new RuntimeException(e);
             } catch (ExecutionException e) {
+                if (isNotModified(e)) {
+                    return expired;
+                }
                 throw new RuntimeException(e);
             }
 
@@ -219,10 +245,36 @@ public abstract class AbstractSchemaResolver<S, T> implements SchemaResolver<S,
 //                  .version(0)
                 .globalId(globalIdKey)
                 .parsedSchema(ps)
+                .etag(getEtag(responseHeaders))
                 .build();
         });
     }
 
+    /**
+     * Makes a request for the content of a schema conditional on the entity tag of the expired lookup result
+     * of the schema, if there is one, so that the registry does not send the content again if it has not changed.
+     *
+     * @return the request options, to read the response headers into the given option
+     */
+    protected List<RequestOption> conditionalRequest(RequestHeaders headers, SchemaLookupResult<S> expired, HeadersInspectionOption responseHeaders) {
+        if (expired != null && expired.getEtag() != null) {
+            headers.add("If-None-Match", expired.getEtag());
+        }
+        return List.of(responseHeaders);
+    }
+
+    /**
+     * @return whether a conditional request failed because the content has not changed
+     */
+    protected static boolean isNotModified(ExecutionException e) {
+        return e.getCause() instanceof ApiException && ((ApiException) e.getCause()).responseStatusCode == 304;
+    }
+
+    protected static String getEtag(HeadersInspectionOption responseHeaders) {
+        Set<String> etag = responseHeaders.getResponseHeaders().get("ETag");
+        return etag == null || etag.isEmpty() ? null : etag.iterator().next();
+    }
+
     protected Map<String, ParsedSchema<S>> resolveReferences(List<io.apicurio.registry.rest.client.models.ArtifactReference> artifactReferences) {
         Map<String, ParsedSchema<S>> resolvedReferences = new HashMap<>();
         artifactReferences.forEach(reference -> {
@@ -255,6 +307,75 @@ public abstract class AbstractSchemaResolver<S, T> implements SchemaResolver<S,
         return resolvedReferences;
     }
 
+    /**
+     * Fetches the schemas with the given ids that are not cached yet, and the schemas they reference, with
+     * a single request to the registry, and caches them.
+     *
+     * @see io.apicurio.registry.resolver.SchemaResolver#prefetch(java.util.Collection, java.util.Collection)
+     */
+    @Override
+    public void prefetch(Collection<Long> globalIds, Collection<Long> contentIds) {
+        BatchContentRequest request = new BatchContentRequest();
+        request.setGlobalIds(globalIds.stream()
+                .filter(globalId -> !schemaCache.containsByGlobalId(globalId))
+                .distinct()
+                .collect(Collectors.toList()));
+        request.setContentIds(contentIds.stream()
+                .filter(contentId -> !schemaCache.containsByContentId(contentId))
+                .distinct()
+                .collect(Collectors.toList()));
+        if (request.getGlobalIds().isEmpty() && request.getContentIds().isEmpty()) {
+            return;
+        }
+
+        List<BatchContent> contents;
+        try {
+            contents = client.ids().batch().post(request).get();
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e);
+        }
+
+        for (BatchContent content : contents) {
+            final Map<String, ParsedSchema<S>> resolvedReferences = resolveReferences(content);
+            byte[] schema = IoUtil.toBytes(content.getContent());
+            S parsed = schemaParser.parseSchema(schema, resolvedReferences);
+
+            ParsedSchemaImpl<S> ps = new ParsedSchemaImpl<S>()
+                    .setParsedSchema(parsed)
+                    .setSchemaReferences(new ArrayList<>(resolvedReferences.values()))
+                    .setRawSchema(schema);
+
+            SchemaLookupResult.SchemaLookupResultBuilder<S> result = SchemaLookupResult.builder();
+            schemaCache.put(result
+                    .globalId(content.getGlobalId())
+                    .contentId(content.getContentId())
+                    .parsedSchema(ps)
+                    .build());
+        }
+    }
+
+    /**
+     * Like {@link #resolveReferences(List)}, but for references that the registry has already resolved.
+     */
+    private Map<String, ParsedSchema<S>> resolveReferences(BatchContent content) {
+        Map<String, ParsedSchema<S>> resolvedReferences = new HashMap<>();
+        if (content.getReferences() != null) {
+            content.getReferences().forEach(reference -> {
+                final Map<String, ParsedSchema<S>> nestedReferences = resolveReferences(reference);
+                resolvedReferences.putAll(nestedReferences);
+                byte[] schema = IoUtil.toBytes(reference.getContent());
+                resolvedReferences.put(reference.getName(), new ParsedSchemaImpl<S>()
+                        .setParsedSchema(schemaParser.parseSchema(schema, nestedReferences))
+                        .setSchemaReferences(new ArrayList<>(nestedReferences.values()))
+                        .setReferenceName(reference.getName())
+                        .setRawSchema(schema));
+            });
+        }
+        return resolvedReferences;
+    }
+
     private ParsedSchema<S> parseSchemaFromStream(String name, InputStream rawSchema, Map<String, ParsedSchema<S>> resolvedReferences) {
         byte[] schema = IoUtil.toBytes(rawSchema);
         S parsed = schemaParser.parseSchema(schema, resolvedReferences);
@@ -273,14 +394,39 @@ public abstract class AbstractSchemaResolver<S, T> implements SchemaResolver<S,
         this.schemaCache.clear();
     }
 
+    /**
+     * Evicts the cached schemas of the artifacts that changed, as notified by the change feed of the registry.
+     * Changes to the rules are ignored, they do not affect the schemas.  All the cached schemas are evicted when
+     * the subscription is reset, and when data is imported into the registry or all of it is deleted.
+     */
+    protected void onChange(ChangeFeedSubscriber.Change change) {
+        String type = change.getType();
+        if (ChangeFeedSubscriber.RESET_EVENT_TYPE.equals(type)
+                || RegistryEventType.DATA_IMPORTED.cloudEventType().equals(type)
+                || RegistryEventType.ALL_USER_DATA_DELETED.cloudEventType().equals(type)) {
+            schemaCache.clear();
+        } else if (RegistryEventType.GROUP_DELETED.cloudEventType().equals(type)
+                || RegistryEventType.ARTIFACTS_IN_GROUP_DELETED.cloudEventType().equals(type)) {
+            schemaCache.evictGroup(change.getGroupId());
+        } else if (RegistryEventType.ARTIFACT_CREATED.cloudEventType().equals(type)
+                || RegistryEventType.ARTIFACT_UPDATED.cloudEventType().equals(type)
+                || RegistryEventType.ARTIFACT_DELETED.cloudEventType().equals(type)
+                || RegistryEventType.ARTIFACT_STATE_CHANGED.cloudEventType().equals(type)) {
+            schemaCache.evictArtifact(change.getGroupId(), change.getArtifactId());
+        }
+    }
+
     /**
      * @see java.io.Closeable#close()
      */
     @Override
     public void close() throws IOException {
+        if (changeFeed != null) {
+            changeFeed.close();
+        }
     }
 
-    private RegistryClient configureClientWithBearerAuthentication(DefaultSchemaResolverConfig config, String registryUrl, String authServerUrl, String tokenEndpoint) {
+    private RequestAdapter configureClientWithBearerAuthentication(DefaultSchemaResolverConfig config, String registryUrl, String authServerUrl, String tokenEndpoint) {
         RequestAdapter auth;
         if (authServerUrl != null) {
             auth = configureAuthWithRealm(config, authServerUrl);
@@ -288,7 +434,7 @@ public abstract class AbstractSchemaResolver<S, T> implements SchemaResolver<S,
             auth = configureAuthWithUrl(config, tokenEndpoint);
         }
         auth.setBaseUrl(registryUrl);
-        return new RegistryClient(auth);
+        return auth;
     }
 
     private RequestAdapter configureAuthWithRealm(DefaultSchemaResolverConfig config, String authServerUrl) {
@@ -323,7 +469,7 @@ public abstract class AbstractSchemaResolver<S, T> implements SchemaResolver<S,
         return adapter;
     }
 
-    private RegistryClient configureClientWithBasicAuth(DefaultSchemaResolverConfig config, String registryUrl, String username) {
+    private RequestAdapter configureClientWithBasicAuth(DefaultSchemaResolverConfig config, String registryUrl, String username) {
 
         final String password = config.getAuthPassword();
 
@@ -334,7 +480,7 @@ public abstract class AbstractSchemaResolver<S, T> implements SchemaResolver<S,
         var adapter = new OkHttpRequestAdapter(new BasicAuthenticationProvider(username, password));
 
         adapter.setBaseUrl(registryUrl);
-        return new RegistryClient(adapter);
+        return adapter;
     }
 
     protected void loadFromArtifactMetaData(ArtifactMetaData artifactMetadata, SchemaLookupResult.SchemaLookupResultBuilder<S> resultBuilder) {
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.resolver;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microsoft.kiota.ApiException;
+import com.microsoft.kiota.HttpMethod;
+import com.microsoft.kiota.RequestAdapter;
+import com.microsoft.kiota.RequestInformation;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.HttpURLConnection;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Subscribes to the change feed of the registry, and passes the changes to a listener as they happen.  The
+ * subscription is resumed after a connection failure, from the last change received.  If the registry can
+ * not resume it, e.g. when the subscriber reconnects to a different registry replica, or when the
+ * subscription is not resumed but started, the listener gets a reset change instead, meaning that anything
+ * may have changed.
+ * <p>
+ * If the registry does not have the change feed enabled, or can not serve it because its replicas do not
+ * share the changes made through each of them, the subscriber stops.
+ */
+public class ChangeFeedSubscriber implements Closeable {
+
+    public static final String RESET_EVENT_TYPE = "io.apicurio.registry.feed-reset";
+
+    private static final Logger log = Logger.getLogger(ChangeFeedSubscriber.class.getName());
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private final RequestAdapter adapter;
+    private final Duration reconnectBackoff;
+    private final Consumer<Change> listener;
+    private final Thread thread;
+
+    private volatile boolean closed;
+    private volatile InputStream stream;
+    private String cursor;
+
+    public ChangeFeedSubscriber(RequestAdapter adapter, Duration reconnectBackoff, Consumer<Change> listener) {
+        this.adapter = adapter;
+        this.reconnectBackoff = reconnectBackoff;
+        this.listener = listener;
+        this.thread = new Thread(this::run, "apicurio-registry-change-feed");
+        this.thread.setDaemon(true);
+    }
+
+    public void start() {
+        thread.start();
+    }
+
+    private void run() {
+        while (!closed) {
+            try {
+                stream = subscribe();
+                if (cursor == null) {
+                    // Changes may have been missed before the subscription started
+                    listener.accept(new Change(RESET_EVENT_TYPE));
+                }
+                read(new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8)));
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof ApiException
+                        && ((ApiException) e.getCause()).responseStatusCode == HttpURLConnection.HTTP_NOT_FOUND) {
+                    log.warning("The registry change feed is not available, cached schemas are refreshed periodically only");
+                    return;
+                }
+                log.log(Level.FINE, "Registry change feed subscription failed", e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                if (!closed) {
+                    log.log(Level.FINE, "Registry change feed subscription failed", e);
+                }
+            }
+            try {
+                Thread.sleep(reconnectBackoff.toMillis());
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private InputStream subscribe() throws ExecutionException, InterruptedException {
+        RequestInformation request = new RequestInformation();
+        request.httpMethod = HttpMethod.GET;
+        request.urlTemplate = "{+baseurl}/events";
+        request.pathParameters.put("baseurl", adapter.getBaseUrl());
+        request.headers.add("Accept", "text/event-stream");
+        if (cursor != null) {
+            request.headers.add("Last-Event-ID", cursor);
+        }
+        return adapter.sendPrimitiveAsync(request, InputStream.class, null).get();
+    }
+
+    /**
+     * Reads the server-sent events of the subscription until it is closed.
+     */
+    private void read(BufferedReader reader) throws Exception {
+        String id = null;
+        String type = null;
+        StringBuilder data = new StringBuilder();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isEmpty()) {
+                if (type != null) {
+                    listener.accept(parse(type, data.toString()));
+                }
+                if (id != null) {
+                    cursor = id;
+                }
+                id = null;
+                type = null;
+                data.setLength(0);
+            } else if (!line.startsWith(":")) {
+                int colon = line.indexOf(':');
+                String field = colon < 0 ? line : line.substring(0, colon);
+                String value = colon < 0 ? "" : line.substring(colon + 1);
+                if (value.startsWith(" ")) {
+                    value = value.substring(1);
+                }
+                switch (field) {
+                    case "id":
+                        id = value;
+                        break;
+                    case "event":
+                        type = value;
+                        break;
+                    case "data":
+                        if (data.length() > 0) {
+                            data.append('\n');
+                        }
+                        data.append(value);
+                        break;
+                    default:
+                        // Ignore other fields, e.g. retry
+                }
+            }
+        }
+    }
+
+    private static Change parse(String type, String data) throws IOException {
+        JsonNode node = mapper.readTree(data);
+        return new Change(type, text(node, "groupId"), text(node, "artifactId"), text(node, "version"));
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node == null ? null : node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    /**
+     * @see java.io.Closeable#close()
+     */
+    @Override
+    public void close() {
+        closed = true;
+        thread.interrupt();
+        InputStream stream = this.stream;
+        if (stream != null) {
+            try {
+                stream.close();
+            } catch (Exception e) {
+                // Ignore
+            }
+        }
+    }
+
+    /**
+     * A change of the registry, i.e. the type of the change and the coordinates of what changed, as far as
+     * they apply to the type of the change.
+     */
+    public static class Change {
+
+        private final String type;
+        private final String groupId;
+        private final String artifactId;
+        private final String version;
+
+        public Change(String type) {
+            this(type, null, null, null);
+        }
+
+        public Change(String type, String groupId, String artifactId, String version) {
+            this.type = type;
+            this.groupId = groupId;
+            this.artifactId = artifactId;
+            this.version = version;
+        }
+
+        /**
+         * @return the cloud event type of the change, or {@link #RESET_EVENT_TYPE}
+         */
+        public String getType() {
+            return type;
+        }
+
+        public String getGroupId() {
+            return groupId;
+        }
+
+        public String getArtifactId() {
+            return artifactId;
+        }
+
+        public String getVersion() {
+            return version;
+        }
+    }
+}
@@ -16,6 +16,7 @@
 
 package io.apicurio.registry.resolver;
 
+import com.microsoft.kiota.http.middleware.options.HeadersInspectionOption;
 import io.apicurio.registry.resolver.data.Record;
 import io.apicurio.registry.resolver.strategy.ArtifactCoordinates;
 import io.apicurio.registry.resolver.strategy.ArtifactReference;
@@ -184,13 +185,16 @@ public class DefaultSchemaResolver<S, T> extends AbstractSchemaResolver<S, T> {
     }
 
     protected SchemaLookupResult<S> resolveSchemaByContentId(long contentId) {
-        return schemaCache.getByContentId(contentId, contentIdKey -> {
+        return schemaCache.revalidateByContentId(contentId, (contentIdKey, expired) -> {
 
             // it's impossible to retrieve more info about the artifact with only the contentId, and that's ok for this case
             InputStream rawSchema = null;
             ParsedSchemaImpl<S> ps = null;
+            HeadersInspectionOption responseHeaders = new HeadersInspectionOption(false, true);
             try {
-                rawSchema = client.ids().contentIds().byContentId(contentIdKey).get().get();
+                rawSchema = client.ids().contentIds().byContentId(contentIdKey).get(config -> {
+                    config.options = conditionalRequest(config.headers, expired, responseHeaders);
+                }).get();
 
                 //Get the artifact references
                 final List<io.apicurio.registry.rest.client.models.ArtifactReference> artifactReferences =
@@ -209,6 +213,9 @@ public class DefaultSchemaResolver<S, T> extends AbstractSchemaResolver<S, T> {
             } catch (InterruptedException e) {
                 throw new RuntimeException(e);
             } catch (ExecutionException e) {
+                if (isNotModified(e)) {
+                    return expired;
+                }
                 throw new RuntimeException(e);
             } catch (IOException e) {
                 throw new RuntimeException(e);
@@ -218,17 +225,21 @@ public class DefaultSchemaResolver<S, T> extends AbstractSchemaResolver<S, T> {
             return result
                     .contentId(contentIdKey)
                     .parsedSchema(ps)
+                    .etag(getEtag(responseHeaders))
                     .build();
         });
     }
 
     protected SchemaLookupResult<S> resolveSchemaByContentHash(String contentHash) {
-        return schemaCache.getByContentHash(contentHash, contentHashKey -> {
+        return schemaCache.revalidateByContentHash(contentHash, (contentHashKey, expired) -> {
             // it's impossible to retrieve more info about the artifact with only the contentHash, and that's ok for this case
             InputStream rawSchema = null;
             ParsedSchemaImpl<S> ps = null;
+            HeadersInspectionOption responseHeaders = new HeadersInspectionOption(false, true);
             try {
-                rawSchema = client.ids().contentHashes().byContentHash(contentHashKey).get().get();
+                rawSchema = client.ids().contentHashes().byContentHash(contentHashKey).get(config -> {
+                    config.options = conditionalRequest(config.headers, expired, responseHeaders);
+                }).get();
 
                 //Get the artifact references
                 final List<io.apicurio.registry.rest.client.models.ArtifactReference> artifactReferences = client
@@ -245,6 +256,9 @@ public class DefaultSchemaResolver<S, T> extends AbstractSchemaResolver<S, T> {
             } catch (InterruptedException e) {
                 throw new RuntimeException(e);
             } catch (ExecutionException e) {
+                if (isNotModified(e)) {
+                    return expired;
+                }
                 throw new RuntimeException(e);
             }
             SchemaLookupResult.SchemaLookupResultBuilder<S> result = SchemaLookupResult.builder();
@@ -252,6 +266,7 @@ public class DefaultSchemaResolver<S, T> extends AbstractSchemaResolver<S, T> {
             return result
                     .contentHash(contentHashKey)
                     .parsedSchema(ps)
+                    .etag(getEtag(responseHeaders))
                     .build();
         });
     }
@@ -26,7 +26,10 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 /**
@@ -60,6 +63,11 @@ public class ERCache<V> {
     private boolean cacheLatest;
     private boolean faultTolerantRefresh;
 
+    /**
+     * Incremented on every eviction, so that values loaded concurrently with an eviction are not cached.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
     // === Configuration
 
     public void configureLifetime(Duration lifetime) {
@@ -188,19 +196,60 @@ public class ERCache<V> {
         return getValue(value, key, loaderFunction);
     }
 
+    /**
+     * Like {@link #getByGlobalId(Long, Function)}, but the loader function is also given the expired value
+     * (or {@code null}), so that it can revalidate the expired value instead of loading it again.
+     */
+    public V revalidateByGlobalId(Long key, BiFunction<Long, V, V> loaderFunction) {
+        WrappedValue<V> value = this.index1.get(key);
+        return getValue(value, key, loaderFunction);
+    }
+
+    /**
+     * @see #revalidateByGlobalId(Long, BiFunction)
+     */
+    public V revalidateByContentId(Long key, BiFunction<Long, V, V> loaderFunction) {
+        WrappedValue<V> value = this.index3.get(key);
+        return getValue(value, key, loaderFunction);
+    }
+
+    /**
+     * @see #revalidateByGlobalId(Long, BiFunction)
+     */
+    public V revalidateByContentHash(String key, BiFunction<String, V, V> loaderFunction) {
+        WrappedValue<V> value = this.index5.get(key);
+        return getValue(value, key, loaderFunction);
+    }
+
+    /**
+     * Caches the given value under all of its keys, e.g. a value that was loaded ahead of its first lookup.
+     */
+    public void put(V value) {
+        Objects.requireNonNull(value);
+        reindex(new WrappedValue<>(lifetime, Instant.now(), value), value);
+    }
+
     // === Generic
 
     private <T> V getValue(WrappedValue<V> value, T key, Function<T, V> loaderFunction) {
+        return getValue(value, key, (k, expired) -> loaderFunction.apply(k));
+    }
+
+    private <T> V getValue(WrappedValue<V> value, T key, BiFunction<T, V, V> loaderFunction) {
         V result = value != null ? value.value : null;
 
         if (value == null || value.isExpired()) {
+            long loadGeneration = generation.get();
             // With retry
+            V expired = result;
             Result<V, RuntimeException> newValue = retry(backoff, retries, () -> {
-                return loaderFunction.apply(key);
+                return loaderFunction.apply(key, expired);
             });
             if (newValue.isOk()) {
-                // Index
-                reindex(new WrappedValue<>(lifetime, Instant.now(), newValue.ok), key);
+                // Index, unless the value may be stale already
+                if (generation.get() == loadGeneration) {
+                    reindex(new WrappedValue<>(lifetime, Instant.now(), newValue.ok), key);
+                }
                 // Return
                 result = newValue.ok;
             } else {
@@ -229,7 +278,43 @@ public class ERCache<V> {
         Optional.ofNullable(keyExtractor5.apply(newValue.value)).ifPresent(k -> index5.put(k, newValue));
     }
 
+    /**
+     * Evicts the values of all versions of the given artifact, e.g. when the registry notifies that the
+     * artifact changed.  The default group may be given as {@code null} or as {@code "default"}.
+     */
+    public void evictArtifact(String groupId, String artifactId) {
+        evictIf(coordinates -> isSameGroup(coordinates.getGroupId(), groupId)
+                && Objects.equals(coordinates.getArtifactId(), artifactId));
+    }
+
+    /**
+     * Evicts the values of all versions of all artifacts in the given group.
+     *
+     * @see #evictArtifact(String, String)
+     */
+    public void evictGroup(String groupId) {
+        evictIf(coordinates -> isSameGroup(coordinates.getGroupId(), groupId));
+    }
+
+    private void evictIf(Predicate<ArtifactCoordinates> predicate) {
+        generation.incrementAndGet();
+        Predicate<WrappedValue<V>> valuePredicate = value -> {
+            ArtifactCoordinates coordinates = keyExtractor4.apply(value.value);
+            return coordinates != null && predicate.test(coordinates);
+        };
+        index1.values().removeIf(valuePredicate);
+        index2.values().removeIf(valuePredicate);
+        index3.values().removeIf(valuePredicate);
+        index4.keySet().removeIf(predicate);
+        index5.values().removeIf(valuePredicate);
+    }
+
+    private static boolean isSameGroup(String groupId1, String groupId2) {
+        return Objects.equals(groupId1 == null ? "default" : groupId1, groupId2 == null ? "default" : groupId2);
+    }
+
     public void clear() {
+        generation.incrementAndGet();
         index1.clear();
         index2.clear();
         index3.clear();
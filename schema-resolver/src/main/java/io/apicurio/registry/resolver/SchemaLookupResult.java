@@ -32,6 +32,7 @@ public class SchemaLookupResult<T> {
     private String groupId;
     private String artifactId;
     private String version;
+    private String etag;
 
     private SchemaLookupResult() {
         //empty initialize manually
@@ -86,6 +87,13 @@ public class SchemaLookupResult<T> {
         return version;
     }
 
+    /**
+     * @return the entity tag of the schema content, used to revalidate this result when it expires
+     */
+    public String getEtag() {
+        return etag;
+    }
+
     public ArtifactReference toArtifactReference() {
         return ArtifactReference.builder()
                 .globalId(this.getGlobalId())
@@ -152,6 +160,11 @@ public class SchemaLookupResult<T> {
             return SchemaLookupResultBuilder.this;
         }
 
+        public SchemaLookupResultBuilder<T> etag(String etag) {
+            this.result.etag = etag;
+            return SchemaLookupResultBuilder.this;
+        }
+
         public SchemaLookupResult<T> build() {
             return this.result;
         }
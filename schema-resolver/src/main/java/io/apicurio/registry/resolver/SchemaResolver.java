@@ -17,6 +17,7 @@
 package io.apicurio.registry.resolver;
 
 import java.io.Closeable;
+import java.util.Collection;
 import java.util.Map;
 
 import io.apicurio.registry.resolver.data.Record;
@@ -59,6 +60,15 @@ public interface SchemaResolver<SCHEMA, DATA> extends Closeable {
      */
     public SchemaLookupResult<SCHEMA> resolveSchemaByArtifactReference(ArtifactReference reference);
 
+    /**
+     * Loads the schemas with the given ids ahead of their lookup, if supported, e.g. when starting to consume
+     * records with many different schemas, so that the schemas do not have to be resolved one by one.
+     * @param globalIds global ids of artifact versions
+     * @param contentIds ids of artifact contents
+     */
+    default void prefetch(Collection<Long> globalIds, Collection<Long> contentIds) {
+    }
+
     /**
      * Hard reset cache
      */
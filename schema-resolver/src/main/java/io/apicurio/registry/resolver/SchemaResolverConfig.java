@@ -173,4 +173,23 @@ public class SchemaResolverConfig {
     public static final String DEREFERENCE_SCHEMA = "apicurio.registry.dereference-schema";
     public static final boolean DEREFERENCE_SCHEMA_DEFAULT = false;
 
+    /**
+     * If {@code true}, subscribes to the change feed of the Registry, and evicts cached schemas as soon as the
+     * Registry notifies that their artifacts changed.  The change feed must be enabled in the Registry.
+     * <p>
+     * The Registry only serves its change feed when the feed has the changes made through all of its replicas,
+     * i.e. with the KafkaSQL storage, whose journal every replica consumes, or when it runs a single replica.
+     * Otherwise the subscription is refused, and cached schemas are only refreshed after
+     * {@link SchemaResolverConfig#CHECK_PERIOD_MS}, so only raise it when the Registry serves the change feed.
+     */
+    public static final String CHANGE_FEED = "apicurio.registry.change-feed";
+    public static final boolean CHANGE_FEED_DEFAULT = false;
+
+    /**
+     * The delay before subscribing to the change feed of the Registry again after the subscription failed, in
+     * milliseconds.  Only applicable when {@link SchemaResolverConfig#CHANGE_FEED} is enabled.
+     */
+    public static final String CHANGE_FEED_RECONNECT_BACKOFF_MS = "apicurio.registry.change-feed.reconnect-backoff-ms";
+    public static final long CHANGE_FEED_RECONNECT_BACKOFF_MS_DEFAULT = 5000;
+
 }
@@ -41,7 +41,9 @@ public class DefaultSchemaResolverConfig {
             entry(CHECK_PERIOD_MS, CHECK_PERIOD_MS_DEFAULT),
             entry(RETRY_COUNT, RETRY_COUNT_DEFAULT),
             entry(RETRY_BACKOFF_MS, RETRY_BACKOFF_MS_DEFAULT),
-            entry(DEREFERENCE_SCHEMA, DEREFERENCE_SCHEMA_DEFAULT)
+            entry(DEREFERENCE_SCHEMA, DEREFERENCE_SCHEMA_DEFAULT),
+            entry(CHANGE_FEED, CHANGE_FEED_DEFAULT),
+            entry(CHANGE_FEED_RECONNECT_BACKOFF_MS, CHANGE_FEED_RECONNECT_BACKOFF_MS_DEFAULT)
     );
 
     private Map<String, ?> originals;
@@ -124,6 +126,14 @@ public class DefaultSchemaResolverConfig {
         return getDurationNonNegativeMillis(RETRY_BACKOFF_MS);
     }
 
+    public boolean getChangeFeed() {
+        return getBoolean(CHANGE_FEED);
+    }
+
+    public Duration getChangeFeedReconnectBackoff() {
+        return getDurationNonNegativeMillis(CHANGE_FEED_RECONNECT_BACKOFF_MS);
+    }
+
     public String getExplicitArtifactGroupId() {
         return getString(EXPLICIT_ARTIFACT_GROUP_ID);
     }
@@ -185,6 +185,51 @@ public class ERCacheTest {
         assertEquals(2, loadCount.get());
     }
 
+    @Test
+    void testPutIndexesByAllKeys() {
+        String contentHashKey = "content hash key";
+        ERCache<String> cache = newCache(contentHashKey);
+        Function<Long, String> ensureCachedLoader = (key) -> {throw new IllegalStateException("this should've been cached");};
+
+        cache.put("prefetched");
+
+        assertTrue(cache.containsByGlobalId(1L));
+        assertTrue(cache.containsByContentId(2L));
+        assertTrue(cache.containsByContentHash(contentHashKey));
+        assertEquals("prefetched", cache.getByGlobalId(1L, ensureCachedLoader));
+        assertEquals("prefetched", cache.getByContentId(2L, ensureCachedLoader));
+    }
+
+    @Test
+    void testEvictArtifactAndGroup() {
+        ERCache<String> cache = new ERCache<>();
+        cache.configureLifetime(Duration.ofDays(30));
+        // Values are "groupId/artifactId/globalId".
+        cache.configureGlobalIdKeyExtractor((o) -> Long.valueOf(o.split("/")[2]));
+        cache.configureContentIdKeyExtractor((o) -> Long.valueOf(o.split("/")[2]));
+        cache.configureContentHashKeyExtractor((o) -> "hash " + o);
+        cache.configureArtifactCoordinatesKeyExtractor((o) -> ArtifactCoordinates.builder()
+                .groupId(o.split("/")[0]).artifactId(o.split("/")[1]).build());
+        cache.configureContentKeyExtractor((o) -> "content " + o);
+
+        cache.put("default/a1/1");
+        cache.put("g1/a1/2");
+        cache.put("g1/a2/3");
+        cache.put("g2/a1/4");
+
+        cache.evictArtifact(null, "a1");
+        assertFalse(cache.containsByGlobalId(1L));
+        assertFalse(cache.containsByContentHash("hash default/a1/1"));
+        assertTrue(cache.containsByGlobalId(2L));
+
+        cache.evictGroup("g1");
+        assertFalse(cache.containsByGlobalId(2L));
+        assertFalse(cache.containsByContentId(3L));
+        assertFalse(cache.containsByArtifactCoordinates(ArtifactCoordinates.builder().groupId("g1").artifactId("a2").build()));
+        assertTrue(cache.containsByGlobalId(4L));
+        assertTrue(cache.containsByArtifactCoordinates(ArtifactCoordinates.builder().groupId("g2").artifactId("a1").build()));
+    }
+
     private ERCache<String> newCache(String contentHashKey) {
         ERCache<String> cache = new ERCache<>();
         cache.configureLifetime(Duration.ofDays(30));
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.content;
+
+import org.apache.avro.Schema;
+
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Parses Avro content into a {@link Schema}, after the given references.  Shared by all users of the
+ * parsed schema, so that they share the model held by a {@link ParsedContentHandle}.
+ */
+public class AvroSchemaParser implements Function<ContentHandle, Schema> {
+
+    private final Map<String, ContentHandle> resolvedReferences;
+
+    /**
+     * @param resolvedReferences the references the content is parsed against, may be null
+     */
+    public AvroSchemaParser(Map<String, ContentHandle> resolvedReferences) {
+        this.resolvedReferences = resolvedReferences;
+    }
+
+    @Override
+    public Schema apply(ContentHandle content) {
+        Schema.Parser parser = new Schema.Parser();
+        if (resolvedReferences != null) {
+            for (ContentHandle schema : resolvedReferences.values()) {
+                parser.parse(schema.content());
+            }
+        }
+        return parser.parse(content.content());
+    }
+}
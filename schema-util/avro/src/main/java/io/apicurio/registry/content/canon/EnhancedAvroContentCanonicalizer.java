@@ -24,7 +24,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import io.apicurio.registry.content.AvroSchemaParser;
 import io.apicurio.registry.content.ContentHandle;
+import io.apicurio.registry.content.ParsedContentHandle;
 
 /**
  * An Avro implementation of a content Canonicalizer that handles avro references.
@@ -135,7 +137,8 @@ public class EnhancedAvroContentCanonicalizer implements ContentCanonicalizer {
      */
     @Override
     public ContentHandle canonicalize(ContentHandle content, Map<String, ContentHandle> resolvedReferences) {
-        String normalisedSchema = normalizeSchema(content.content()).toString();
+        Schema schema = ParsedContentHandle.parse(content, null, Schema.class, new AvroSchemaParser(null));
+        String normalisedSchema = normalizeSchema(schema).toString();
         return ContentHandle.create(normalisedSchema);
     }
 }
@@ -17,6 +17,7 @@
 package io.apicurio.registry.content.extract;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,6 +26,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.apicurio.registry.content.ContentHandle;
+import io.apicurio.registry.content.ParsedContentHandle;
 
 /**
  * Performs meta-data extraction for Avro content.
@@ -42,7 +44,7 @@ public class AvroContentExtractor implements ContentExtractor {
     @Override
     public ExtractedMetaData extract(ContentHandle content) {
         try {
-            JsonNode avroSchema = mapper.readTree(content.bytes());
+            JsonNode avroSchema = ParsedContentHandle.parse(content, null, JsonNode.class, this::readTree);
             JsonNode name = avroSchema.get("name");
 
             ExtractedMetaData metaData = null;
@@ -51,9 +53,17 @@ public class AvroContentExtractor implements ContentExtractor {
                 metaData.setName(name.asText());
             }
             return metaData;
-        } catch (IOException e) {
+        } catch (UncheckedIOException e) {
             log.warn("Error extracting metadata from JSON: {}", e.getMessage());
             return null;
         }
     }
+
+    private JsonNode readTree(ContentHandle content) {
+        try {
+            return mapper.readTree(content.bytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
@@ -16,6 +16,8 @@
 
 package io.apicurio.registry.content.refs;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
@@ -29,6 +31,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 
 import io.apicurio.registry.content.ContentHandle;
+import io.apicurio.registry.content.ParsedContentHandle;
 
 /**
  * An Apache Avro implementation of a reference finder.
@@ -47,7 +50,13 @@ public class AvroReferenceFinder implements ReferenceFinder {
     @Override
     public Set<ExternalReference> findExternalReferences(ContentHandle content) {
         try {
-            JsonNode tree = mapper.readTree(content.content());
+            JsonNode tree = ParsedContentHandle.parse(content, null, JsonNode.class, c -> {
+                try {
+                    return mapper.readTree(c.content());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
             Set<String> externalTypes = new HashSet<>();
             findExternalTypesIn(tree, externalTypes);
             return externalTypes.stream().map(type -> new ExternalReference(type)).collect(Collectors.toSet());
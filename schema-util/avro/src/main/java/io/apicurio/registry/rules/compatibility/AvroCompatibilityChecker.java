@@ -17,7 +17,9 @@
 package io.apicurio.registry.rules.compatibility;
 
 import com.google.common.collect.ImmutableSet;
+import io.apicurio.registry.content.AvroSchemaParser;
 import io.apicurio.registry.content.ContentHandle;
+import io.apicurio.registry.content.ParsedContentCache;
 import io.apicurio.registry.rules.UnprocessableSchemaException;
 import org.apache.avro.AvroRuntimeException;
 import org.apache.avro.Schema;
@@ -35,20 +37,26 @@ import java.util.Set;
  */
 public class AvroCompatibilityChecker extends AbstractCompatibilityChecker<Incompatibility> {
 
+    private final ParsedContentCache parsedContentCache;
+
+    public AvroCompatibilityChecker() {
+        this(new ParsedContentCache(0));
+    }
+
+    public AvroCompatibilityChecker(ParsedContentCache parsedContentCache) {
+        this.parsedContentCache = parsedContentCache;
+    }
+
     @Override
     protected Set<Incompatibility> isBackwardsCompatibleWith(String existing, String proposed, Map<String, ContentHandle> resolvedReferences) {
-        try {
-            Schema.Parser existingParser = new Schema.Parser();
-            for (ContentHandle schema : resolvedReferences.values()) {
-                existingParser.parse(schema.content());
-            }
-            final Schema existingSchema = existingParser.parse(existing);
+        return isBackwardsCompatibleWith(ContentHandle.create(existing), ContentHandle.create(proposed), resolvedReferences);
+    }
 
-            Schema.Parser proposingParser = new Schema.Parser();
-            for (ContentHandle schema : resolvedReferences.values()) {
-                proposingParser.parse(schema.content());
-            }
-            final Schema proposedSchema = proposingParser.parse(proposed);
+    @Override
+    protected Set<Incompatibility> isBackwardsCompatibleWith(ContentHandle existing, ContentHandle proposed, Map<String, ContentHandle> resolvedReferences) {
+        try {
+            final Schema existingSchema = parse(existing, resolvedReferences);
+            final Schema proposedSchema = parse(proposed, resolvedReferences);
 
             var result = SchemaCompatibility.checkReaderWriterCompatibility(proposedSchema, existingSchema).getResult();
             switch (result.getCompatibility()) {
@@ -65,6 +73,10 @@ public class AvroCompatibilityChecker extends AbstractCompatibilityChecker<Incom
         }
     }
 
+    private Schema parse(ContentHandle content, Map<String, ContentHandle> resolvedReferences) {
+        return parsedContentCache.get(content, resolvedReferences, Schema.class, new AvroSchemaParser(resolvedReferences));
+    }
+
     @Override
     protected CompatibilityDifference transform(Incompatibility original) {
         return new SimpleCompatibilityDifference(original.getMessage(), original.getLocation());
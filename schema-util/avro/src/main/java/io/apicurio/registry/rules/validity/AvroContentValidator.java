@@ -22,7 +22,9 @@ import java.util.Map;
 
 import org.apache.avro.Schema;
 
+import io.apicurio.registry.content.AvroSchemaParser;
 import io.apicurio.registry.content.ContentHandle;
+import io.apicurio.registry.content.ParsedContentHandle;
 import io.apicurio.registry.rest.v2.beans.ArtifactReference;
 import io.apicurio.registry.rules.RuleViolation;
 import io.apicurio.registry.rules.RuleViolationException;
@@ -58,11 +60,8 @@ public class AvroContentValidator implements ContentValidator {
     public void validate(ValidityLevel level, ContentHandle artifactContent, Map<String, ContentHandle> resolvedReferences) throws RuleViolationException {
         if (level == ValidityLevel.SYNTAX_ONLY || level == ValidityLevel.FULL) {
             try {
-                Schema.Parser parser = new Schema.Parser();
-                for (ContentHandle schema : resolvedReferences.values()) {
-                    parser.parse(schema.content());
-                }
-                parser.parse(artifactContent.content());
+                ParsedContentHandle.parse(artifactContent, resolvedReferences, Schema.class,
+                        new AvroSchemaParser(resolvedReferences));
             } catch (Exception e) {
                 throw new RuleViolationException("Syntax violation for Avro artifact.", RuleType.VALIDITY, level.name(), e);
             }
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.rules.compatibility.avro;
+
+import io.apicurio.registry.content.ContentHandle;
+import io.apicurio.registry.content.ParsedContentCache;
+import io.apicurio.registry.content.StoredContentHandle;
+import io.apicurio.registry.rules.compatibility.AvroCompatibilityChecker;
+import io.apicurio.registry.rules.compatibility.CompatibilityLevel;
+import org.apache.avro.Schema;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+class AvroParsedContentCacheTest {
+
+    private static final String V1 = "{\"type\":\"record\",\"name\":\"User\",\"fields\":[{\"name\":\"name\",\"type\":\"string\"}]}";
+    private static final String V2 = "{\"type\":\"record\",\"name\":\"User\",\"fields\":[{\"name\":\"name\",\"type\":\"string\"},"
+            + "{\"name\":\"age\",\"type\":\"int\",\"default\":0}]}";
+    private static final String V3 = "{\"type\":\"record\",\"name\":\"User\",\"fields\":[{\"name\":\"age\",\"type\":\"int\"}]}";
+
+    @Test
+    void testStoredContentIsParsedOnce() {
+        ParsedContentCache cache = new ParsedContentCache();
+        AtomicInteger parsed = new AtomicInteger();
+        Function<ContentHandle, Schema> parser = c -> {
+            parsed.incrementAndGet();
+            return new Schema.Parser().parse(c.content());
+        };
+
+        ContentHandle stored = new StoredContentHandle(1, ContentHandle.create(V1));
+        Schema first = cache.get(stored, Map.of(), Schema.class, parser);
+        Assertions.assertSame(first, cache.get(new StoredContentHandle(1, ContentHandle.create(V1)), Map.of(), Schema.class, parser));
+        Assertions.assertEquals(1, parsed.get());
+
+        // Content that is not stored is never cached
+        cache.get(ContentHandle.create(V1), Map.of(), Schema.class, parser);
+        cache.get(ContentHandle.create(V1), Map.of(), Schema.class, parser);
+        Assertions.assertEquals(3, parsed.get());
+
+        // A reused content ID with different content is parsed again
+        Schema other = cache.get(new StoredContentHandle(1, ContentHandle.create(V2)), Map.of(), Schema.class, parser);
+        Assertions.assertNotSame(first, other);
+        Assertions.assertEquals(4, parsed.get());
+
+        // So is the same content parsed with different references
+        cache.get(stored, Map.of("ref", ContentHandle.create("{}")), Schema.class, parser);
+        Assertions.assertEquals(5, parsed.get());
+    }
+
+    @Test
+    void testCachedCheckerResults() {
+        AvroCompatibilityChecker uncached = new AvroCompatibilityChecker();
+        AvroCompatibilityChecker cached = new AvroCompatibilityChecker(new ParsedContentCache());
+        List<ContentHandle> history = List.of(
+                new StoredContentHandle(1, ContentHandle.create(V1)),
+                new StoredContentHandle(2, ContentHandle.create(V2)));
+
+        for (int i = 0; i < 2; i++) {
+            for (CompatibilityLevel level : CompatibilityLevel.values()) {
+                for (String proposed : List.of(V2, V3)) {
+                    Assertions.assertEquals(
+                            uncached.testCompatibility(level, history, ContentHandle.create(proposed), Map.of()).isCompatible(),
+                            cached.testCompatibility(level, history, ContentHandle.create(proposed), Map.of()).isCompatible(),
+                            level + " " + proposed);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.rules.compatibility.avro;
+
+import io.apicurio.registry.content.AvroSchemaParser;
+import io.apicurio.registry.content.ContentHandle;
+import io.apicurio.registry.content.ParsedContentCache;
+import io.apicurio.registry.content.ParsedContentHandle;
+import io.apicurio.registry.content.canon.EnhancedAvroContentCanonicalizer;
+import io.apicurio.registry.rules.compatibility.AvroCompatibilityChecker;
+import io.apicurio.registry.rules.compatibility.CompatibilityLevel;
+import io.apicurio.registry.rules.validity.AvroContentValidator;
+import io.apicurio.registry.rules.validity.ValidityLevel;
+import org.apache.avro.Schema;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+class AvroParsedContentHandleTest {
+
+    private static final String V1 = "{\"type\":\"record\",\"name\":\"User\",\"fields\":[{\"name\":\"name\",\"type\":\"string\"}]}";
+    private static final String V2 = "{\"type\":\"record\",\"name\":\"User\",\"fields\":[{\"name\":\"name\",\"type\":\"string\"},"
+            + "{\"name\":\"age\",\"type\":\"int\",\"default\":0}]}";
+
+    @Test
+    void testModelsAreParsedOnce() {
+        AtomicInteger parsed = new AtomicInteger();
+        Function<ContentHandle, Schema> parser = c -> {
+            parsed.incrementAndGet();
+            return new Schema.Parser().parse(c.content());
+        };
+
+        ParsedContentHandle content = ParsedContentHandle.of(ContentHandle.create(V1));
+        Assertions.assertSame(content, ParsedContentHandle.of(content));
+        Schema first = ParsedContentHandle.parse(content, Map.of(), Schema.class, parser);
+        Assertions.assertSame(first, ParsedContentHandle.parse(content, null, Schema.class, parser));
+        Assertions.assertEquals(1, parsed.get());
+
+        // Different references may produce a different model
+        ParsedContentHandle.parse(content, Map.of("ref", ContentHandle.create("{}")), Schema.class, parser);
+        Assertions.assertEquals(2, parsed.get());
+
+        // Plain content is parsed every time
+        ParsedContentHandle.parse(ContentHandle.create(V1), null, Schema.class, parser);
+        ParsedContentHandle.parse(ContentHandle.create(V1), null, Schema.class, parser);
+        Assertions.assertEquals(4, parsed.get());
+    }
+
+    @Test
+    void testModelIsSharedByValidatorCheckerAndCanonicalizer() {
+        ParsedContentHandle proposed = ParsedContentHandle.of(ContentHandle.create(V2));
+        Function<ContentHandle, Schema> failing = c -> {
+            throw new IllegalStateException("The content has been parsed again");
+        };
+
+        new AvroContentValidator().validate(ValidityLevel.FULL, proposed, Map.of());
+        Schema validated = ParsedContentHandle.parse(proposed, Map.of(), Schema.class, new AvroSchemaParser(Map.of()));
+
+        Assertions.assertTrue(new AvroCompatibilityChecker(new ParsedContentCache(0))
+                .testCompatibility(CompatibilityLevel.BACKWARD, List.of(ContentHandle.create(V1)), proposed, Map.of())
+                .isCompatible());
+        Assertions.assertEquals(
+                new EnhancedAvroContentCanonicalizer().canonicalize(ContentHandle.create(V2), Map.of()).content(),
+                new EnhancedAvroContentCanonicalizer().canonicalize(proposed, Map.of()).content());
+        Assertions.assertSame(validated, ParsedContentHandle.parse(proposed, Map.of(), Schema.class, new AvroSchemaParser(Map.of())));
+
+        // Another parser of the same model type does not see the held model
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> ParsedContentHandle.parse(proposed, Map.of(), Schema.class, failing));
+    }
+
+    @Test
+    void testEqualsComparesContent() {
+        ContentHandle plain = ContentHandle.create(V1);
+        ParsedContentHandle parsed = ParsedContentHandle.of(ContentHandle.create(V1));
+
+        Assertions.assertEquals(plain, parsed);
+        Assertions.assertEquals(parsed, plain);
+        Assertions.assertEquals(plain.hashCode(), parsed.hashCode());
+        Assertions.assertNotEquals(parsed, ParsedContentHandle.of(ContentHandle.create(V2)));
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.rules.compatibility.avro;
+
+import io.apicurio.registry.content.ContentHandle;
+import io.apicurio.registry.rules.compatibility.AvroCompatibilityChecker;
+import io.apicurio.registry.rules.compatibility.CompatibilityDifference;
+import io.apicurio.registry.rules.compatibility.CompatibilityExecutionResult;
+import io.apicurio.registry.rules.compatibility.CompatibilityLevel;
+import io.apicurio.registry.rules.compatibility.TransitiveCompatibilityExecutor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+class AvroTransitiveCompatibilityTest {
+
+    /**
+     * Version n of the schema has the required fields f0 .. f(n-1).
+     */
+    private static String schema(int fields) {
+        StringBuilder builder = new StringBuilder("{\"type\":\"record\",\"name\":\"R\",\"fields\":[");
+        for (int i = 0; i < fields; i++) {
+            builder.append(i > 0 ? "," : "").append("{\"name\":\"f").append(i).append("\",\"type\":\"string\"}");
+        }
+        return builder.append("]}").toString();
+    }
+
+    @Test
+    void testParallelTransitiveCheck() {
+        List<ContentHandle> history = new ArrayList<>();
+        for (int i = 1; i <= 20; i++) {
+            history.add(ContentHandle.create(schema(i)));
+        }
+        AvroCompatibilityChecker checker = new AvroCompatibilityChecker();
+
+        // Removing fields is backward compatible with every version
+        Assertions.assertTrue(checker.testCompatibility(CompatibilityLevel.BACKWARD_TRANSITIVE, history,
+                ContentHandle.create(schema(1)), Map.of()).isCompatible());
+
+        // Adding a required field is incompatible with every version, the differences of all pairs are reported
+        Set<String> expected = new HashSet<>();
+        for (ContentHandle existing : history) {
+            expected.addAll(describe(checker.testCompatibility(CompatibilityLevel.BACKWARD, List.of(existing),
+                    ContentHandle.create(schema(21)), Map.of())));
+        }
+        CompatibilityExecutionResult result = checker.testCompatibility(CompatibilityLevel.BACKWARD_TRANSITIVE, history,
+                ContentHandle.create(schema(21)), Map.of());
+        Assertions.assertFalse(result.isCompatible());
+        Assertions.assertEquals(expected, describe(result));
+    }
+
+    private static Set<String> describe(CompatibilityExecutionResult result) {
+        return result.getIncompatibleDifferences().stream()
+                .map(CompatibilityDifference::asRuleViolation)
+                .map(violation -> violation.getDescription() + " at " + violation.getContext())
+                .collect(Collectors.toSet());
+    }
+
+    @Test
+    void testFindFirst() {
+        AtomicInteger tested = new AtomicInteger();
+        List<Integer> items = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+        int first = TransitiveCompatibilityExecutor.findFirst(items, i -> {
+            tested.incrementAndGet();
+            return i % 100 == 42;
+        });
+        Assertions.assertEquals(42, first);
+        Assertions.assertTrue(tested.get() < 1000);
+
+        Assertions.assertEquals(-1, TransitiveCompatibilityExecutor.findFirst(items.subList(0, 10), i -> false));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> TransitiveCompatibilityExecutor.findFirst(items.subList(0, 10), i -> {
+            throw new IllegalArgumentException();
+        }));
+    }
+
+    @Test
+    void testItemsAreReadOnCallingThread() {
+        Thread caller = Thread.currentThread();
+        List<Integer> lazy = new AbstractList<>() {
+            @Override
+            public Integer get(int index) {
+                Assertions.assertSame(caller, Thread.currentThread());
+                return index;
+            }
+
+            @Override
+            public int size() {
+                return 100;
+            }
+        };
+        // Nested evaluations run on the worker that submits them instead of waiting for another worker
+        List<Integer> sums = TransitiveCompatibilityExecutor.map(lazy, i -> TransitiveCompatibilityExecutor.map(
+                List.of(i, i, i, i), Function.identity()).stream().mapToInt(Integer::intValue).sum());
+        Assertions.assertEquals(100, sums.size());
+        Assertions.assertEquals(4 * 99, sums.get(99));
+        Assertions.assertEquals(42, TransitiveCompatibilityExecutor.findFirst(lazy, i -> i == 42));
+    }
+}
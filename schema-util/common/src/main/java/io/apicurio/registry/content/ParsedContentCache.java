@@ -0,0 +1,144 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.content;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * A bounded cache of parsed content models (e.g. an Avro `Schema` or a `ProtobufFile`), so that
+ * rules executed repeatedly against the same artifact history do not parse the same content again.
+ * <p>
+ * Only {@link StoredContentHandle stored content} is cached, keyed by its content ID, the type of
+ * the model and the references the content was parsed with.  The size and hash code of the content
+ * are part of the key as well, which guards against content IDs being reused after the registry
+ * data has been deleted and re-imported.  The cache is bounded by the total size of the cached
+ * content, and values are softly referenced so they can be reclaimed under memory pressure.
+ * <p>
+ * Each artifact type provider owns one instance, so the artifact type is implied by the cache.
+ * Models of {@link ParsedContentHandle non-stored content} are held by the content itself.
+ */
+public class ParsedContentCache {
+
+    public static final long DEFAULT_MAXIMUM_SIZE_BYTES = 8L * 1024 * 1024;
+
+    private final Cache<Key, Object> cache;
+
+    public ParsedContentCache() {
+        this(DEFAULT_MAXIMUM_SIZE_BYTES);
+    }
+
+    /**
+     * @param maximumSizeBytes maximum total size of the content whose models are cached, 0 disables the cache
+     */
+    public ParsedContentCache(long maximumSizeBytes) {
+        if (maximumSizeBytes > 0) {
+            this.cache = CacheBuilder.newBuilder()
+                    .maximumWeight(maximumSizeBytes)
+                    .weigher((Key key, Object value) -> key.sizeBytes)
+                    .softValues()
+                    .build();
+        } else {
+            this.cache = null;
+        }
+    }
+
+    /**
+     * Returns the model parsed from the given content, parsing it only if it is not cached yet.
+     * Exceptions thrown by the parser are propagated unchanged and nothing is cached.
+     *
+     * @param content            the content to parse
+     * @param resolvedReferences the references the parser resolves the content against, may be null
+     * @param modelType          the type of the parsed model
+     * @param parser             parses the content into the model
+     */
+    public <T> T get(ContentHandle content, Map<String, ContentHandle> resolvedReferences, Class<T> modelType,
+                     Function<ContentHandle, T> parser) {
+        if (content instanceof ParsedContentHandle) {
+            return ((ParsedContentHandle) content).getModel(resolvedReferences, modelType, parser);
+        }
+        if (cache == null || !(content instanceof StoredContentHandle)) {
+            return parser.apply(content);
+        }
+        Key key = new Key(((StoredContentHandle) content).getContentId(), content.getSizeBytes(), content.hashCode(),
+                modelType, referencesFingerprint(resolvedReferences));
+        Object model = cache.getIfPresent(key);
+        if (model == null) {
+            model = parser.apply(content);
+            cache.put(key, model);
+        }
+        return modelType.cast(model);
+    }
+
+    public void invalidateAll() {
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    /**
+     * The references are identified by their names and a cheap hash of their content, rather than
+     * a digest, because the fingerprint is computed for every lookup.
+     */
+    static String referencesFingerprint(Map<String, ContentHandle> resolvedReferences) {
+        if (resolvedReferences == null || resolvedReferences.isEmpty()) {
+            return "";
+        }
+        StringBuilder fingerprint = new StringBuilder();
+        new TreeMap<>(resolvedReferences).forEach((name, reference) -> fingerprint
+                .append(name).append(':')
+                .append(reference.getSizeBytes()).append(':')
+                .append(reference.hashCode()).append(';'));
+        return fingerprint.toString();
+    }
+
+    private static class Key {
+
+        private final long contentId;
+        private final int sizeBytes;
+        private final int contentHash;
+        private final Class<?> modelType;
+        private final String references;
+
+        private Key(long contentId, int sizeBytes, int contentHash, Class<?> modelType, String references) {
+            this.contentId = contentId;
+            this.sizeBytes = sizeBytes;
+            this.contentHash = contentHash;
+            this.modelType = modelType;
+            this.references = references;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key that = (Key) o;
+            return contentId == that.contentId && sizeBytes == that.sizeBytes && contentHash == that.contentHash
+                    && modelType == that.modelType && references.equals(that.references);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(contentId, sizeBytes, contentHash, modelType, references);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.content;
+
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A {@link ContentHandle} that holds the models parsed from its content, so that the content of a
+ * single request is parsed only once, even though it is handed to several validators, compatibility
+ * checkers, reference finders, canonicalizers and content extractors.
+ * <p>
+ * The holder is meant to live for the duration of a request only, and is not bounded.  Models are
+ * parsed lazily, on first use, and are shared between all users of the holder, so users must not
+ * modify them.  Models are held per parser, identified by its class, and per set of references the
+ * content is parsed with.  A lambda has a class of its own, so users that want to share a model must
+ * parse with the same named parser class (e.g. an Avro {@code Schema} parsed by the validator, the
+ * compatibility checker and the canonicalizer), while parsers that merely produce the same model type
+ * never see each other's models.  Parser failures (and null models) are not held, so the parser is
+ * invoked again on the next use.
+ */
+public class ParsedContentHandle implements ContentHandle {
+
+    private final ContentHandle delegate;
+    private final Map<Key, Object> models = new ConcurrentHashMap<>();
+
+    private ParsedContentHandle(ContentHandle delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Wraps the given content, unless it already is a {@link ParsedContentHandle}.
+     */
+    public static ParsedContentHandle of(ContentHandle content) {
+        if (content instanceof ParsedContentHandle) {
+            return (ParsedContentHandle) content;
+        }
+        return new ParsedContentHandle(Objects.requireNonNull(content));
+    }
+
+    /**
+     * Returns the model parsed from the given content.  The model is held by the content if it is a
+     * {@link ParsedContentHandle}, otherwise the content is simply parsed.
+     *
+     * @param content            the content to parse
+     * @param resolvedReferences the references the parser resolves the content against, may be null
+     * @param modelType          the type of the parsed model
+     * @param parser             parses the content into the model, identifies the held model together with
+     *                           the model type and the references
+     */
+    public static <T> T parse(ContentHandle content, Map<String, ContentHandle> resolvedReferences, Class<T> modelType,
+                              Function<ContentHandle, T> parser) {
+        if (content instanceof ParsedContentHandle) {
+            return ((ParsedContentHandle) content).getModel(resolvedReferences, modelType, parser);
+        }
+        return parser.apply(content);
+    }
+
+    /**
+     * Returns the held model, parsing the content if the model is not held yet.  Exceptions thrown by
+     * the parser are propagated unchanged.
+     */
+    public <T> T getModel(Map<String, ContentHandle> resolvedReferences, Class<T> modelType,
+                          Function<ContentHandle, T> parser) {
+        Key key = new Key(modelType, parser.getClass(), ParsedContentCache.referencesFingerprint(resolvedReferences));
+        Object model = models.get(key);
+        if (model == null) {
+            // Not computeIfAbsent, because a parser may itself use this holder for another model type
+            model = parser.apply(delegate);
+            if (model != null) {
+                models.putIfAbsent(key, model);
+            }
+        }
+        return modelType.cast(model);
+    }
+
+    /**
+     * @return the wrapped content
+     */
+    public ContentHandle getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public InputStream stream() {
+        return delegate.stream();
+    }
+
+    @Override
+    public byte[] bytes() {
+        return delegate.bytes();
+    }
+
+    @Override
+    public String content() {
+        return delegate.content();
+    }
+
+    @Override
+    public int getSizeBytes() {
+        return delegate.getSizeBytes();
+    }
+
+    @Override
+    public String getSha256Hash() {
+        return delegate.getSha256Hash();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ContentHandle)) return false;
+        ContentHandle that = (ContentHandle) o;
+        return Arrays.equals(bytes(), that.bytes());
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(bytes());
+    }
+
+    private static class Key {
+
+        private final Class<?> modelType;
+        private final Class<?> parserType;
+        private final String references;
+
+        private Key(Class<?> modelType, Class<?> parserType, String references) {
+            this.modelType = modelType;
+            this.parserType = parserType;
+            this.references = references;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key that = (Key) o;
+            return modelType == that.modelType && parserType == that.parserType && references.equals(that.references);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(modelType, parserType, references);
+        }
+    }
+}
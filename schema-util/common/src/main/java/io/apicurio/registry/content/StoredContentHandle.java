@@ -0,0 +1,74 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.content;
+
+import java.io.InputStream;
+
+/**
+ * A {@link ContentHandle} for content that has already been stored in the registry, and can
+ * therefore be identified by its content ID.  Because stored content is immutable, the ID can be
+ * used to cache anything derived from the content (see {@link ParsedContentCache}).
+ */
+public class StoredContentHandle implements ContentHandle {
+
+    private final long contentId;
+    private final ContentHandle delegate;
+
+    public StoredContentHandle(long contentId, ContentHandle delegate) {
+        this.contentId = contentId;
+        this.delegate = delegate;
+    }
+
+    public long getContentId() {
+        return contentId;
+    }
+
+    @Override
+    public InputStream stream() {
+        return delegate.stream();
+    }
+
+    @Override
+    public byte[] bytes() {
+        return delegate.bytes();
+    }
+
+    @Override
+    public String content() {
+        return delegate.content();
+    }
+
+    @Override
+    public int getSizeBytes() {
+        return delegate.getSizeBytes();
+    }
+
+    @Override
+    public String getSha256Hash() {
+        return delegate.getSha256Hash();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return delegate.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return delegate.hashCode();
+    }
+}
@@ -18,6 +18,8 @@ package io.apicurio.registry.content.canon;
 
 import io.apicurio.registry.content.ContentHandle;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Map;
 
 /**
@@ -35,4 +37,15 @@ public interface ContentCanonicalizer {
      */
     public ContentHandle canonicalize(ContentHandle content, Map<String, ContentHandle> resolvedReferences);
 
+    /**
+     * Called to write the canonical form of the given content to the given output stream, e.g. to
+     * hash the canonical form incrementally.  Nothing has been written if an exception is thrown
+     * while canonicalizing the content.
+     * @param content
+     * @param out
+     */
+    public default void canonicalize(ContentHandle content, Map<String, ContentHandle> resolvedReferences, OutputStream out) throws IOException {
+        out.write(canonicalize(content, resolvedReferences).bytes());
+    }
+
 }
@@ -45,34 +45,32 @@ public abstract class AbstractCompatibilityChecker<D> implements CompatibilityCh
             return CompatibilityExecutionResult.compatible();
         }
 
-        final String proposedArtifactContent = proposedArtifact.content();
-
         Set<D> incompatibleDiffs = new HashSet<>();
-        String lastExistingSchema = existingArtifacts.get(existingArtifacts.size() - 1).content();
+        ContentHandle lastExistingSchema = existingArtifacts.get(existingArtifacts.size() - 1);
 
         switch (compatibilityLevel) {
             case BACKWARD:
-                incompatibleDiffs = isBackwardsCompatibleWith(lastExistingSchema, proposedArtifactContent, resolvedReferences);
+                incompatibleDiffs = isBackwardsCompatibleWith(lastExistingSchema, proposedArtifact, resolvedReferences);
                 break;
             case BACKWARD_TRANSITIVE:
-                incompatibleDiffs = transitively(existingArtifacts, proposedArtifactContent, (existing, proposed) -> isBackwardsCompatibleWith(existing, proposed, resolvedReferences));
+                incompatibleDiffs = transitively(existingArtifacts, proposedArtifact, (existing, proposed) -> isBackwardsCompatibleWith(existing, proposed, resolvedReferences));
                 break;
             case FORWARD:
-                incompatibleDiffs = isBackwardsCompatibleWith(proposedArtifactContent, lastExistingSchema, resolvedReferences);
+                incompatibleDiffs = isBackwardsCompatibleWith(proposedArtifact, lastExistingSchema, resolvedReferences);
                 break;
             case FORWARD_TRANSITIVE:
-                incompatibleDiffs = transitively(existingArtifacts, proposedArtifactContent, (existing, proposed) -> isBackwardsCompatibleWith(proposed, existing, resolvedReferences));
+                incompatibleDiffs = transitively(existingArtifacts, proposedArtifact, (existing, proposed) -> isBackwardsCompatibleWith(proposed, existing, resolvedReferences));
                 break;
             case FULL:
                 incompatibleDiffs = ImmutableSet.<D>builder()
-                        .addAll(isBackwardsCompatibleWith(lastExistingSchema, proposedArtifactContent, resolvedReferences))
-                        .addAll(isBackwardsCompatibleWith(proposedArtifactContent, lastExistingSchema, resolvedReferences))
+                        .addAll(isBackwardsCompatibleWith(lastExistingSchema, proposedArtifact, resolvedReferences))
+                        .addAll(isBackwardsCompatibleWith(proposedArtifact, lastExistingSchema, resolvedReferences))
                         .build();
                 break;
             case FULL_TRANSITIVE:
                 incompatibleDiffs = ImmutableSet.<D>builder()
-                        .addAll(transitively(existingArtifacts, proposedArtifactContent, (existing, proposed) -> isBackwardsCompatibleWith(existing, proposed, resolvedReferences))) // Backward
-                        .addAll(transitively(existingArtifacts, proposedArtifactContent, (existing, proposed) -> isBackwardsCompatibleWith(proposed, existing, resolvedReferences))) // Backward
+                        .addAll(transitively(existingArtifacts, proposedArtifact, (existing, proposed) -> isBackwardsCompatibleWith(existing, proposed, resolvedReferences))) // Backward
+                        .addAll(transitively(existingArtifacts, proposedArtifact, (existing, proposed) -> isBackwardsCompatibleWith(proposed, existing, resolvedReferences))) // Backward
                         .build();
                 break;
             case NONE:
@@ -87,21 +85,28 @@ public abstract class AbstractCompatibilityChecker<D> implements CompatibilityCh
     }
 
     /**
-     * Given a proposed schema, walk the existing schemas in reverse order (i.e. newest to oldest),
-     * and for each pair (existing, proposed) call the check function.
+     * Given a proposed schema, check it against each of the existing schemas (see
+     * {@link TransitiveCompatibilityExecutor}), and for each pair (existing, proposed) call the check function.
      *
      * @return The collected set of differences.
      */
-    private Set<D> transitively(List<ContentHandle> existingSchemas, String proposedSchema,
-                                BiFunction<String, String, Set<D>> checkExistingProposed) {
+    private Set<D> transitively(List<ContentHandle> existingSchemas, ContentHandle proposedSchema,
+                                BiFunction<ContentHandle, ContentHandle, Set<D>> checkExistingProposed) {
         Set<D> result = new HashSet<>();
-        for (int i = existingSchemas.size() - 1; i >= 0; i--) { // TODO This may become too slow, more wide refactoring needed.
-            Set<D> current = checkExistingProposed.apply(existingSchemas.get(i).content(), proposedSchema);
-            result.addAll(current);
-        }
+        TransitiveCompatibilityExecutor.map(existingSchemas, existing -> checkExistingProposed.apply(existing, proposedSchema))
+                .forEach(result::addAll);
         return result;
     }
 
+    /**
+     * Checks a pair of schemas.  Checkers that parse the content should override this method, so that
+     * the parsed models of stored content (see {@link io.apicurio.registry.content.StoredContentHandle})
+     * can be cached.
+     */
+    protected Set<D> isBackwardsCompatibleWith(ContentHandle existing, ContentHandle proposed, Map<String, ContentHandle> resolvedReferences) {
+        return isBackwardsCompatibleWith(existing.content(), proposed.content(), resolvedReferences);
+    }
+
     protected abstract Set<D> isBackwardsCompatibleWith(String existing, String proposed, Map<String, ContentHandle> resolvedReferences);
 
     protected abstract CompatibilityDifference transform(D original);
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.rules.compatibility;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Evaluates the checks of a transitive compatibility test (the proposed artifact against every
+ * existing version) on a bounded fork-join pool, shared by all compatibility checkers.
+ * <p>
+ * The items are read from the given list on the calling thread before any check is submitted, so a
+ * list that loads its items lazily (e.g. from the storage) is never accessed by the pool workers.
+ * The checks themselves run outside of the caller's context (CDI request context, transaction,
+ * thread-local database handle), so they must be pure computations over in-memory content.
+ * <p>
+ * Lists shorter than {@link #PARALLEL_THRESHOLD}, a parallelism of 1, and checks submitted from
+ * within a check (which would otherwise wait for workers of the same pool) are evaluated serially on
+ * the calling thread.  Exceptions thrown by a check are propagated unchanged.
+ */
+public final class TransitiveCompatibilityExecutor {
+
+    public static final int PARALLEL_THRESHOLD = 4;
+
+    private static volatile int parallelism = Math.min(4, Runtime.getRuntime().availableProcessors());
+
+    private static volatile ForkJoinPool pool;
+
+    private TransitiveCompatibilityExecutor() {
+    }
+
+    /**
+     * Sets the maximum number of checks evaluated concurrently.  Must be called before the first
+     * parallel evaluation to take effect.
+     */
+    public static void setParallelism(int parallelism) {
+        TransitiveCompatibilityExecutor.parallelism = Math.max(1, parallelism);
+    }
+
+    public static int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Applies the check to every item and returns the results in the order of the items.
+     */
+    public static <T, R> List<R> map(List<T> items, Function<T, R> check) {
+        List<T> loaded = load(items);
+        if (!isParallel(loaded.size())) {
+            return loaded.stream().map(check).collect(Collectors.toList());
+        }
+        return execute(() -> IntStream.range(0, loaded.size()).parallel()
+                .mapToObj(i -> check.apply(loaded.get(i)))
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Finds the lowest index for which the test returns true, or -1 if there is none.  Items with a
+     * higher index than an already found match are not tested, so callers that only need a yes/no
+     * answer stop early on the first incompatibility.
+     */
+    public static <T> int findFirst(List<T> items, Predicate<T> test) {
+        List<T> loaded = load(items);
+        if (!isParallel(loaded.size())) {
+            for (int i = 0; i < loaded.size(); i++) {
+                if (test.test(loaded.get(i))) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        return execute(() -> IntStream.range(0, loaded.size()).parallel()
+                .filter(i -> test.test(loaded.get(i)))
+                .findFirst()
+                .orElse(-1));
+    }
+
+    /**
+     * Reads all items on the calling thread.  Iterates instead of copying, because lazy lists do not
+     * support {@link List#toArray()}.
+     */
+    private static <T> List<T> load(List<T> items) {
+        List<T> loaded = new ArrayList<>(items.size());
+        for (T item : items) {
+            loaded.add(item);
+        }
+        return loaded;
+    }
+
+    private static boolean isParallel(int size) {
+        return size >= PARALLEL_THRESHOLD && parallelism > 1 && !isWorkerThread();
+    }
+
+    private static boolean isWorkerThread() {
+        Thread thread = Thread.currentThread();
+        return thread instanceof ForkJoinWorkerThread && ((ForkJoinWorkerThread) thread).getPool() == pool;
+    }
+
+    private static <R> R execute(Callable<R> task) {
+        try {
+            return getPool().submit(task).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private static ForkJoinPool getPool() {
+        if (pool == null) {
+            synchronized (TransitiveCompatibilityExecutor.class) {
+                if (pool == null) {
+                    // Workers use the class loader of the checkers, regardless of the thread that created the pool
+                    ClassLoader classLoader = TransitiveCompatibilityExecutor.class.getClassLoader();
+                    pool = new ForkJoinPool(parallelism, p -> {
+                        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+                        thread.setName("compatibility-check-" + thread.getPoolIndex());
+                        thread.setContextClassLoader(classLoader);
+                        thread.setDaemon(true);
+                        return thread;
+                    }, null, false);
+                }
+            }
+        }
+        return pool;
+    }
+}
@@ -16,9 +16,12 @@
 
 package io.apicurio.registry.content.canon;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Map;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
@@ -29,18 +32,62 @@ import io.apicurio.registry.content.ContentHandle;
  * A common JSON content canonicalizer.  This will remove any extra formatting such as whitespace
  * and also sort all fields/properties for all objects (because ordering of properties does not
  * matter in JSON).
+ * <p>
+ * The canonical form is written while streaming the content, unless a subclass processes the JSON
+ * tree of the content (see {@link #processJsonNode(JsonNode)}).  Content that can not be streamed is
+ * canonicalized through its JSON tree, which produces the same canonical form.
  * 
  * @author eric.wittmann@gmail.com
  */
 public class JsonContentCanonicalizer implements ContentCanonicalizer {
 
     private final ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+    private final StreamingJsonCanonicalizer streamingCanonicalizer = new StreamingJsonCanonicalizer(mapper.getFactory());
+    private final boolean streaming = !processesJsonNode(getClass());
 
     /**
      * @see ContentCanonicalizer#canonicalize(io.apicurio.registry.content.ContentHandle, Map)
      */
     @Override
     public ContentHandle canonicalize(ContentHandle content, Map<String, ContentHandle> resolvedReferences) {
+        if (streaming) {
+            try {
+                String source = content.content();
+                ByteArrayOutputStream out = new ByteArrayOutputStream(source.length());
+                streamingCanonicalizer.write(source, out);
+                return ContentHandle.create(out.toByteArray());
+            } catch (JsonProcessingException | RuntimeException | StackOverflowError e) {
+                // Canonicalize through the JSON tree
+            } catch (IOException e) {
+                throw new IllegalStateException(e); // Not thrown by a ByteArrayOutputStream
+            }
+        }
+        return canonicalizeTree(content);
+    }
+
+    /**
+     * Writes the canonical form of the content without materializing it, e.g. to hash it.
+     *
+     * @see ContentCanonicalizer#canonicalize(io.apicurio.registry.content.ContentHandle, Map, OutputStream)
+     */
+    @Override
+    public void canonicalize(ContentHandle content, Map<String, ContentHandle> resolvedReferences, OutputStream out) throws IOException {
+        if (streaming) {
+            try {
+                streamingCanonicalizer.write(content.content(), out);
+                return;
+            } catch (JsonProcessingException | RuntimeException | StackOverflowError e) {
+                // Nothing has been written, canonicalize through the JSON tree
+            }
+        }
+        out.write(canonicalizeTree(content).bytes());
+    }
+
+    /**
+     * Canonicalizes the content by reading it as a JSON tree and writing the tree as sorted maps.
+     * @param content
+     */
+    ContentHandle canonicalizeTree(ContentHandle content) {
         try {
             JsonNode root = readAsJsonNode(content);
             processJsonNode(root);
@@ -59,6 +106,18 @@ public class JsonContentCanonicalizer implements ContentCanonicalizer {
     protected void processJsonNode(JsonNode node) {
     }
 
+    private static boolean processesJsonNode(Class<?> type) {
+        for (Class<?> c = type; c != JsonContentCanonicalizer.class; c = c.getSuperclass()) {
+            try {
+                c.getDeclaredMethod("processJsonNode", JsonNode.class);
+                return true;
+            } catch (NoSuchMethodException e) {
+                // Not overridden by this class
+            }
+        }
+        return false;
+    }
+
     /**
      * @param content
      * @return
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.content.canon;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Writes the canonical form of JSON content while streaming its tokens, without building a tree of
+ * the content.  The output is byte-identical to the tree based canonical form of {@link JsonContentCanonicalizer}:
+ * compact, with the members of every object sorted by name (the last of duplicate members wins),
+ * integers written as parsed and floating point numbers written as doubles.
+ * <p>
+ * Only the members of the objects being read are buffered, so that they can be written in the order
+ * of their names.  Nothing is written to the output unless the whole content has been read.  Content
+ * the tree based canonical form treats in some particular way (no value at all, unpaired surrogates,
+ * numbers that are not finite doubles) is rejected with an {@link IllegalArgumentException}.
+ */
+final class StreamingJsonCanonicalizer {
+
+    private static final byte[] TRUE = "true".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] FALSE = "false".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+
+    private final JsonFactory factory;
+
+    StreamingJsonCanonicalizer(JsonFactory factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Writes the canonical form of the given content to the given output stream.
+     *
+     * @throws com.fasterxml.jackson.core.JsonProcessingException if the content is not valid JSON
+     * @throws IllegalArgumentException                         if the content can not be streamed
+     */
+    void write(String content, OutputStream out) throws IOException {
+        try (JsonParser parser = factory.createParser(content)) {
+            new Writer(parser).writeRoot(out);
+        }
+    }
+
+    private static final class Writer {
+
+        private final JsonParser parser;
+        private final JsonStringEncoder encoder = JsonStringEncoder.getInstance();
+
+        /**
+         * The members read so far, per depth of object nesting.
+         */
+        private final List<Buffer> members = new ArrayList<>();
+
+        private Writer(JsonParser parser) {
+            this.parser = parser;
+        }
+
+        private void writeRoot(OutputStream out) throws IOException {
+            JsonToken token = parser.nextToken();
+            if (token == null) {
+                throw new IllegalArgumentException("No JSON value found");
+            }
+            if (token == JsonToken.START_OBJECT) {
+                // The members of the root object are buffered anyway
+                writeObject(out, 0);
+            } else {
+                Buffer root = new Buffer(256);
+                writeValue(token, root, 0);
+                root.writeTo(out);
+            }
+            // Like the tree based canonical form, ignore anything after the root value
+        }
+
+        private void writeValue(JsonToken token, OutputStream out, int depth) throws IOException {
+            if (token == null) {
+                throw new IllegalArgumentException("Unexpected end of JSON content");
+            }
+            switch (token) {
+                case START_OBJECT:
+                    writeObject(out, depth);
+                    break;
+                case START_ARRAY:
+                    out.write('[');
+                    JsonToken element = parser.nextToken();
+                    for (boolean first = true; element != JsonToken.END_ARRAY; element = parser.nextToken(), first = false) {
+                        if (!first) {
+                            out.write(',');
+                        }
+                        writeValue(element, out, depth);
+                    }
+                    out.write(']');
+                    break;
+                case VALUE_STRING:
+                    writeString(parser.getText(), out);
+                    break;
+                case VALUE_NUMBER_INT:
+                    writeAscii(integerText(), out);
+                    break;
+                case VALUE_NUMBER_FLOAT:
+                    writeAscii(floatText(), out);
+                    break;
+                case VALUE_TRUE:
+                    out.write(TRUE);
+                    break;
+                case VALUE_FALSE:
+                    out.write(FALSE);
+                    break;
+                case VALUE_NULL:
+                    out.write(NULL);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unexpected JSON token: " + token);
+            }
+        }
+
+        /**
+         * Reads the members of an object into the buffer of the given depth, and then writes them
+         * sorted by name.  Each member is buffered as {@code "name":value}, so writing them is a plain copy.
+         */
+        private void writeObject(OutputStream out, int depth) throws IOException {
+            if (members.size() == depth) {
+                members.add(new Buffer(256));
+            }
+            Buffer buffer = members.get(depth);
+            buffer.reset();
+            Map<String, int[]> ranges = new TreeMap<>();
+            for (JsonToken token = parser.nextToken(); token != JsonToken.END_OBJECT; token = parser.nextToken()) {
+                if (token != JsonToken.FIELD_NAME) {
+                    throw new IllegalArgumentException("Unexpected JSON token: " + token);
+                }
+                String name = parser.currentName();
+                int start = buffer.size();
+                writeString(name, buffer);
+                buffer.write(':');
+                writeValue(parser.nextToken(), buffer, depth + 1);
+                ranges.put(name, new int[] { start, buffer.size() });
+            }
+            out.write('{');
+            boolean first = true;
+            for (int[] range : ranges.values()) {
+                if (!first) {
+                    out.write(',');
+                }
+                first = false;
+                buffer.writeTo(out, range[0], range[1]);
+            }
+            out.write('}');
+            buffer.reset();
+        }
+
+        private void writeString(String value, OutputStream out) throws IOException {
+            out.write('"');
+            out.write(encoder.quoteAsUTF8(value));
+            out.write('"');
+        }
+
+        private String integerText() throws IOException {
+            switch (parser.getNumberType()) {
+                case INT:
+                    return Integer.toString(parser.getIntValue());
+                case LONG:
+                    return Long.toString(parser.getLongValue());
+                default:
+                    return parser.getBigIntegerValue().toString();
+            }
+        }
+
+        private String floatText() throws IOException {
+            if (parser.getNumberType() != JsonParser.NumberType.DOUBLE) {
+                throw new IllegalArgumentException("Unexpected number type: " + parser.getNumberType());
+            }
+            double value = parser.getDoubleValue();
+            if (Double.isNaN(value) || Double.isInfinite(value)) {
+                throw new IllegalArgumentException("Number is not finite: " + parser.getText());
+            }
+            return Double.toString(value);
+        }
+
+        private static void writeAscii(String value, OutputStream out) throws IOException {
+            out.write(value.getBytes(StandardCharsets.US_ASCII));
+        }
+    }
+
+    /**
+     * A byte buffer that can write a range of its content.
+     */
+    private static final class Buffer extends ByteArrayOutputStream {
+
+        private Buffer(int size) {
+            super(size);
+        }
+
+        private void writeTo(OutputStream out, int start, int end) throws IOException {
+            out.write(buf, start, end - start);
+        }
+    }
+}
@@ -17,6 +17,7 @@
 package io.apicurio.registry.content.extract;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,6 +26,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.apicurio.registry.content.ContentHandle;
+import io.apicurio.registry.content.ParsedContentHandle;
 
 /**
  * Performs meta-data extraction for JSON Schema content.
@@ -39,7 +41,7 @@ public class JsonContentExtractor implements ContentExtractor {
     @Override
     public ExtractedMetaData extract(ContentHandle content) {
         try {
-            JsonNode jsonSchema = mapper.readTree(content.bytes());
+            JsonNode jsonSchema = ParsedContentHandle.parse(content, null, JsonNode.class, this::readTree);
             JsonNode title = jsonSchema.get("title");
             JsonNode desc = jsonSchema.get("description");
 
@@ -55,9 +57,17 @@ public class JsonContentExtractor implements ContentExtractor {
                 metaData.setDescription(desc.asText());
             }
             return metaData;
-        } catch (IOException e) {
+        } catch (UncheckedIOException e) {
             log.warn("Error extracting metadata from JSON: {}", e.getMessage());
             return null;
         }
     }
+
+    private JsonNode readTree(ContentHandle content) {
+        try {
+            return mapper.readTree(content.bytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
@@ -16,6 +16,8 @@
 
 package io.apicurio.registry.content.refs;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -30,6 +32,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.apicurio.registry.content.ContentHandle;
+import io.apicurio.registry.content.ParsedContentHandle;
 
 /**
  * A JSON Schema implementation of a reference finder.
@@ -46,7 +49,13 @@ public class JsonSchemaReferenceFinder implements ReferenceFinder {
     @Override
     public Set<ExternalReference> findExternalReferences(ContentHandle content) {
         try {
-            JsonNode tree = mapper.readTree(content.content());
+            JsonNode tree = ParsedContentHandle.parse(content, null, JsonNode.class, c -> {
+                try {
+                    return mapper.readTree(c.content());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
             Set<String> externalTypes = new HashSet<>();
             findExternalTypesIn(tree, externalTypes);
 
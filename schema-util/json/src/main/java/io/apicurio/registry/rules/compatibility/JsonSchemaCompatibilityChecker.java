@@ -17,8 +17,10 @@
 package io.apicurio.registry.rules.compatibility;
 
 import io.apicurio.registry.content.ContentHandle;
+import io.apicurio.registry.content.ParsedContentCache;
 import io.apicurio.registry.rules.compatibility.jsonschema.JsonSchemaDiffLibrary;
 import io.apicurio.registry.rules.compatibility.jsonschema.diff.Difference;
+import org.everit.json.schema.Schema;
 
 import java.util.Map;
 import java.util.Set;
@@ -30,11 +32,32 @@ import java.util.Set;
  */
 public class JsonSchemaCompatibilityChecker extends AbstractCompatibilityChecker<Difference> {
 
+    private final ParsedContentCache parsedContentCache;
+
+    public JsonSchemaCompatibilityChecker() {
+        this(new ParsedContentCache(0));
+    }
+
+    public JsonSchemaCompatibilityChecker(ParsedContentCache parsedContentCache) {
+        this.parsedContentCache = parsedContentCache;
+    }
+
     @Override
     protected Set<Difference> isBackwardsCompatibleWith(String existing, String proposed, Map<String, ContentHandle> resolvedReferences) {
         return JsonSchemaDiffLibrary.getIncompatibleDifferences(existing, proposed, resolvedReferences);
     }
 
+    @Override
+    protected Set<Difference> isBackwardsCompatibleWith(ContentHandle existing, ContentHandle proposed, Map<String, ContentHandle> resolvedReferences) {
+        return JsonSchemaDiffLibrary.findDifferences(parse(existing, resolvedReferences), parse(proposed, resolvedReferences))
+                .getIncompatibleDifferences();
+    }
+
+    private Schema parse(ContentHandle content, Map<String, ContentHandle> resolvedReferences) {
+        return parsedContentCache.get(content, resolvedReferences, Schema.class,
+                c -> JsonSchemaDiffLibrary.loadSchema(c.content(), resolvedReferences));
+    }
+
     @Override
     protected CompatibilityDifference transform(Difference original) {
         return new JsonSchemaCompatibilityDifference(original);
@@ -52,28 +52,24 @@ public class JsonSchemaDiffLibrary {
      * @throws IllegalArgumentException if the input is not a valid representation of a JsonSchema
      */
     public static DiffContext findDifferences(String original, String updated, Map<String, ContentHandle> resolvedReferences) {
-        try {
-            JsonNode originalNode = MAPPER.readTree(original);
-            JsonNode updatedNode = MAPPER.readTree(updated);
-
-            JSONObject originalJson = MAPPER.readValue(original, JSONObject.class);
-            JSONObject updatedJson = MAPPER.readValue(updated, JSONObject.class);
-
-            SchemaLoader.SchemaLoaderBuilder originalSchemaBuilder = SchemaLoader.builder();
-
-            loadReferences(originalNode, resolvedReferences, originalSchemaBuilder);
-
-            Schema originalSchema = originalSchemaBuilder
-                    .schemaJson(originalJson)
-                    .build().load().build();
+        return findDifferences(loadSchema(original, resolvedReferences), loadSchema(updated, resolvedReferences));
+    }
 
-            SchemaLoader.SchemaLoaderBuilder updatedSchemaBuilder = SchemaLoader.builder();
+    /**
+     * Load a JSON schema, resolving any references against the given resolved references.
+     *
+     * @throws IllegalArgumentException if the input is not a valid representation of a JsonSchema
+     */
+    public static Schema loadSchema(String content, Map<String, ContentHandle> resolvedReferences) {
+        try {
+            JsonNode node = MAPPER.readTree(content);
+            JSONObject json = MAPPER.readValue(content, JSONObject.class);
 
-            loadReferences(updatedNode, resolvedReferences, updatedSchemaBuilder);
+            SchemaLoader.SchemaLoaderBuilder schemaBuilder = SchemaLoader.builder();
 
-            Schema updatedSchema = updatedSchemaBuilder.schemaJson(updatedJson).build().load().build();
+            loadReferences(node, resolvedReferences, schemaBuilder);
 
-            return findDifferences(originalSchema, updatedSchema);
+            return schemaBuilder.schemaJson(json).build().load().build();
 
         } catch (JsonProcessingException e) {
             throw new IllegalStateException(e);
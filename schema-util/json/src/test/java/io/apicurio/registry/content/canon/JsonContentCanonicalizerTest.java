@@ -0,0 +1,154 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.content.canon;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.apicurio.registry.content.ContentHandle;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+class JsonContentCanonicalizerTest {
+
+    private static final List<String> CONTENT = List.of(
+            "{\"b\": 1, \"a\": {\"d\": [3, 2, {\"z\": null, \"y\": true}], \"c\": false}}",
+            "{ \"openapi\" : \"3.0.2\",\n  \"info\" : { \"title\" : \"Empty API\", \"version\" : \"1.0.0\" },\n  \"paths\" : { } }",
+            "{\"a\": 1, \"a\": 2, \"b\": {\"x\": 1}, \"b\": [1]}",
+            "{\"B\": 1, \"a\": 2, \"_\": 3, \"\": 4, \"\\u00e9\": 5, \"aa\": 6, \"a \": 7}",
+            "{\"int\": -0, \"long\": 12345678901, \"big\": 123456789012345678901234567890, \"exp\": 1E3,"
+                    + " \"frac\": 0.10, \"small\": 1e-7, \"neg\": -2.50e+2, \"max\": 2147483647, \"min\": -2147483648}",
+            "{\"escapes\": \"\\\"\\\\\\/\\b\\f\\n\\r\\t\\u0000\\u001f\\u007f\", \"unicode\": \"\u00e9\u4e2d\ud83d\ude00\","
+                    + " \"escaped\": \"\\u00e9\\ud83d\\ude00\", \"\\n\": \"key\"}",
+            "[{\"b\": 1, \"a\": 2}, [], {}, \"s\", 1, 1.5, null]",
+            "\"just a string\"",
+            "42",
+            "null",
+            "{\"a\": 1} trailing content",
+            "{\"a\": [[[{\"c\": {\"e\": 1, \"d\": 2}, \"b\": [{\"y\": 1, \"x\": 2}]}]]]}",
+            // Content that can not be canonicalized, or that is canonicalized through the JSON tree
+            "",
+            "   ",
+            "{\"a\": ",
+            "not json",
+            "{\"a\": 1e400}",
+            "{\"lone\": \"\\ud83d\"}");
+
+    @Test
+    void testStreamingCanonicalFormIsIdenticalToTreeCanonicalForm() throws IOException {
+        JsonContentCanonicalizer canonicalizer = new JsonContentCanonicalizer();
+        for (String content : CONTENT) {
+            assertIdentical(canonicalizer, content);
+        }
+        Random random = new Random(42);
+        for (int i = 0; i < 500; i++) {
+            StringBuilder content = new StringBuilder();
+            randomValue(random, content, 0);
+            assertIdentical(canonicalizer, content.toString());
+        }
+    }
+
+    @Test
+    void testTreeProcessingSubclass() {
+        JsonContentCanonicalizer canonicalizer = new JsonContentCanonicalizer() {
+            @Override
+            protected void processJsonNode(JsonNode node) {
+                ((com.fasterxml.jackson.databind.node.ObjectNode) node).remove("removed");
+            }
+        };
+        Assertions.assertEquals("{\"a\":1}",
+                canonicalizer.canonicalize(ContentHandle.create("{\"removed\": true, \"a\": 1}"), Map.of()).content());
+    }
+
+    private static void assertIdentical(JsonContentCanonicalizer canonicalizer, String content) throws IOException {
+        ContentHandle handle = ContentHandle.create(content);
+        byte[] expected = canonicalizer.canonicalizeTree(handle).bytes();
+        Assertions.assertArrayEquals(expected, canonicalizer.canonicalize(handle, Map.of()).bytes(), content);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        canonicalizer.canonicalize(handle, Map.of(), out);
+        Assertions.assertEquals(DigestUtils.sha256Hex(expected), DigestUtils.sha256Hex(out.toByteArray()), content);
+    }
+
+    private static void randomValue(Random random, StringBuilder out, int depth) {
+        int kind = depth > 4 ? 2 + random.nextInt(6) : random.nextInt(8);
+        switch (kind) {
+            case 0:
+            case 1:
+                out.append('{');
+                int members = random.nextInt(6);
+                for (int i = 0; i < members; i++) {
+                    if (i > 0) {
+                        out.append(", ");
+                    }
+                    randomString(random, out);
+                    out.append(" : ");
+                    randomValue(random, out, depth + 1);
+                }
+                out.append('}');
+                break;
+            case 2:
+                out.append('[');
+                int elements = depth > 4 ? 0 : random.nextInt(5);
+                for (int i = 0; i < elements; i++) {
+                    if (i > 0) {
+                        out.append(",");
+                    }
+                    randomValue(random, out, depth + 1);
+                }
+                out.append(']');
+                break;
+            case 3:
+                randomString(random, out);
+                break;
+            case 4:
+                out.append(random.nextBoolean() ? random.nextInt() : random.nextLong());
+                break;
+            case 5:
+                out.append(random.nextDouble() * Math.pow(10, random.nextInt(40) - 20));
+                break;
+            case 6:
+                out.append(random.nextInt(3) == 0 ? "null" : Boolean.toString(random.nextBoolean()));
+                break;
+            default:
+                out.append("12345678901234567890").append(random.nextInt(1000));
+                break;
+        }
+    }
+
+    private static void randomString(Random random, StringBuilder out) {
+        String alphabet = "abcAB_ -\u00e9\u4e2d\\\"\n\t\u0001";
+        out.append('"');
+        int length = random.nextInt(4);
+        for (int i = 0; i < length; i++) {
+            char c = alphabet.charAt(random.nextInt(alphabet.length()));
+            if (c == '\\' || c == '"') {
+                out.append('\\').append(c);
+            } else if (c < 0x20) {
+                out.append(String.format("\\u%04x", (int) c));
+            } else {
+                out.append(c);
+            }
+        }
+        out.append('"');
+    }
+}
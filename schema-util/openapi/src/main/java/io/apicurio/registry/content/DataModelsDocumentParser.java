@@ -0,0 +1,34 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.content;
+
+import io.apicurio.datamodels.Library;
+import io.apicurio.datamodels.models.Document;
+
+import java.util.function.Function;
+
+/**
+ * Parses OpenAPI and AsyncAPI content into a data models {@link Document}.  Shared by all users of the
+ * parsed document, so that they share the model held by a {@link ParsedContentHandle}.
+ */
+public class DataModelsDocumentParser implements Function<ContentHandle, Document> {
+
+    @Override
+    public Document apply(ContentHandle content) {
+        return Library.readDocumentFromJSONString(content.content());
+    }
+}
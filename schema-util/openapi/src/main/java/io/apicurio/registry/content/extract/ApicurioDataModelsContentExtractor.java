@@ -24,7 +24,9 @@ import io.apicurio.datamodels.TraverserDirection;
 import io.apicurio.datamodels.models.Document;
 import io.apicurio.datamodels.models.Info;
 import io.apicurio.datamodels.models.visitors.CombinedVisitorAdapter;
+import io.apicurio.registry.content.DataModelsDocumentParser;
 import io.apicurio.registry.content.ContentHandle;
+import io.apicurio.registry.content.ParsedContentHandle;
 
 /**
  * Performs meta-data extraction for OpenAPI content.
@@ -37,7 +39,8 @@ public class ApicurioDataModelsContentExtractor implements ContentExtractor {
     @Override
     public ExtractedMetaData extract(ContentHandle content) {
         try {
-            Document openApi = Library.readDocumentFromJSONString(content.content());
+            Document openApi = ParsedContentHandle.parse(content, null, Document.class,
+                    new DataModelsDocumentParser());
             MetaDataVisitor viz = new MetaDataVisitor();
             Library.visitTree(openApi, viz, TraverserDirection.down);
 
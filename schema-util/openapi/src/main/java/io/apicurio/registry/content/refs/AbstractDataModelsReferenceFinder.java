@@ -29,7 +29,9 @@ import io.apicurio.datamodels.models.Node;
 import io.apicurio.datamodels.models.Referenceable;
 import io.apicurio.datamodels.models.asyncapi.AsyncApiMessage;
 import io.apicurio.datamodels.models.visitors.AllNodeVisitor;
+import io.apicurio.registry.content.DataModelsDocumentParser;
 import io.apicurio.registry.content.ContentHandle;
+import io.apicurio.registry.content.ParsedContentHandle;
 
 /**
  * Implementation of a reference finder that uses Apicurio Data Models and so supports any specification 
@@ -45,7 +47,8 @@ public abstract class AbstractDataModelsReferenceFinder implements ReferenceFind
      */
     @Override
     public Set<ExternalReference> findExternalReferences(ContentHandle content) {
-        Document doc = Library.readDocumentFromJSONString(content.content());
+        Document doc = ParsedContentHandle.parse(content, null, Document.class,
+                new DataModelsDocumentParser());
         
         // Find all the $refs
         RefFinderVisitor visitor = new RefFinderVisitor();
@@ -30,7 +30,9 @@ import io.apicurio.datamodels.models.Node;
 import io.apicurio.datamodels.models.Referenceable;
 import io.apicurio.datamodels.models.visitors.AllNodeVisitor;
 import io.apicurio.datamodels.validation.ValidationProblem;
+import io.apicurio.registry.content.DataModelsDocumentParser;
 import io.apicurio.registry.content.ContentHandle;
+import io.apicurio.registry.content.ParsedContentHandle;
 import io.apicurio.registry.rest.v2.beans.ArtifactReference;
 import io.apicurio.registry.rules.RuleViolation;
 import io.apicurio.registry.rules.RuleViolationException;
@@ -51,7 +53,7 @@ public abstract class ApicurioDataModelContentValidator implements ContentValida
         Document document = null;
         if (level == ValidityLevel.SYNTAX_ONLY || level == ValidityLevel.FULL) {
             try {
-                document = Library.readDocumentFromJSONString(artifactContent.content());
+                document = parseDocument(artifactContent);
             } catch (Exception e) {
                 throw new RuleViolationException("Syntax violation for " + getDataModelType() + " artifact.", RuleType.VALIDITY, level.name(), e);
             }
@@ -88,7 +90,7 @@ public abstract class ApicurioDataModelContentValidator implements ContentValida
     private Set<String> getAll$refs(ContentHandle artifactContent) {
         try {
             RefFinder refFinder = new RefFinder();
-            Document document = Library.readDocumentFromJSONString(artifactContent.content());
+            Document document = parseDocument(artifactContent);
             Library.visitTree(document, refFinder, TraverserDirection.down);
             return refFinder.references;
         } catch (Exception e) {
@@ -96,6 +98,15 @@ public abstract class ApicurioDataModelContentValidator implements ContentValida
         }
     }
 
+    /**
+     * Parses the document, or reuses the document already parsed from the same content.  The document
+     * must not be modified.
+     */
+    private static Document parseDocument(ContentHandle content) {
+        return ParsedContentHandle.parse(content, null, Document.class,
+                new DataModelsDocumentParser());
+    }
+
     /**
      * Returns the type of data model being validated.  Subclasses must implement.
      */
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.content;
+
+import com.squareup.wire.schema.internal.parser.ProtoFileElement;
+import io.apicurio.registry.utils.protobuf.schema.ProtobufFile;
+
+import java.util.function.Function;
+
+/**
+ * Parses Protobuf content into a {@link ProtoFileElement}.  Shared by all users of the parsed element,
+ * so that they share the model held by a {@link ParsedContentHandle}.
+ */
+public class ProtoFileElementParser implements Function<ContentHandle, ProtoFileElement> {
+
+    @Override
+    public ProtoFileElement apply(ContentHandle content) {
+        return ProtobufFile.toProtoFileElement(content.content());
+    }
+}
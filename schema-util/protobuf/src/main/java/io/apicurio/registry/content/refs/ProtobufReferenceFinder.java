@@ -26,8 +26,9 @@ import org.slf4j.LoggerFactory;
 
 import com.squareup.wire.schema.internal.parser.ProtoFileElement;
 
+import io.apicurio.registry.content.ProtoFileElementParser;
 import io.apicurio.registry.content.ContentHandle;
-import io.apicurio.registry.utils.protobuf.schema.ProtobufFile;
+import io.apicurio.registry.content.ParsedContentHandle;
 
 /**
  * A Google Protocol Buffer implementation of a reference finder.
@@ -43,7 +44,8 @@ public class ProtobufReferenceFinder implements ReferenceFinder {
     @Override
     public Set<ExternalReference> findExternalReferences(ContentHandle content) {
         try {
-            ProtoFileElement protoFileElement = ProtobufFile.toProtoFileElement(content.content());
+            ProtoFileElement protoFileElement = ParsedContentHandle.parse(content, null, ProtoFileElement.class,
+                    new ProtoFileElementParser());
             Set<String> allImports = new HashSet<>();
             allImports.addAll(protoFileElement.getImports());
             allImports.addAll(protoFileElement.getPublicImports());
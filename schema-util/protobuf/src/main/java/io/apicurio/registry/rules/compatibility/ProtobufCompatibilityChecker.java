@@ -20,8 +20,10 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Predicate;
 
 import io.apicurio.registry.content.ContentHandle;
+import io.apicurio.registry.content.ParsedContentCache;
 import io.apicurio.registry.rules.compatibility.protobuf.ProtobufCompatibilityCheckerLibrary;
 import io.apicurio.registry.utils.protobuf.schema.ProtobufFile;
 import org.jetbrains.annotations.NotNull;
@@ -31,6 +33,16 @@ import org.jetbrains.annotations.NotNull;
  */
 public class ProtobufCompatibilityChecker implements CompatibilityChecker {
 
+    private final ParsedContentCache parsedContentCache;
+
+    public ProtobufCompatibilityChecker() {
+        this(new ParsedContentCache(0));
+    }
+
+    public ProtobufCompatibilityChecker(ParsedContentCache parsedContentCache) {
+        this.parsedContentCache = parsedContentCache;
+    }
+
     @Override
     public CompatibilityExecutionResult testCompatibility(CompatibilityLevel compatibilityLevel, List<ContentHandle> existingArtifacts, ContentHandle proposedArtifact, Map<String, ContentHandle> resolvedReferences) {
         requireNonNull(compatibilityLevel, "compatibilityLevel MUST NOT be null");
@@ -41,8 +53,8 @@ public class ProtobufCompatibilityChecker implements CompatibilityChecker {
             return CompatibilityExecutionResult.compatible();
         }
 
-        ProtobufFile fileBefore = new ProtobufFile(existingArtifacts.get(existingArtifacts.size() - 1).content());
-        ProtobufFile fileAfter = new ProtobufFile(proposedArtifact.content());
+        ProtobufFile fileBefore = parse(existingArtifacts.get(existingArtifacts.size() - 1));
+        ProtobufFile fileAfter = parse(proposedArtifact);
 
         switch (compatibilityLevel) {
             case BACKWARD: {
@@ -68,14 +80,22 @@ public class ProtobufCompatibilityChecker implements CompatibilityChecker {
         }
     }
 
+    /**
+     * Tests the existing schemas in parallel, stopping at the first incompatible one.
+     */
+    private boolean anyIncompatible(List<ContentHandle> existingSchemas, Predicate<ProtobufFile> isIncompatible) {
+        return TransitiveCompatibilityExecutor.findFirst(existingSchemas,
+                existing -> isIncompatible.test(parse(existing))) >= 0;
+    }
+
+    private ProtobufFile parse(ContentHandle content) {
+        return parsedContentCache.get(content, null, ProtobufFile.class, c -> new ProtobufFile(c.content()));
+    }
+
     @NotNull
     private CompatibilityExecutionResult testFullTransitive(List<ContentHandle> existingSchemas, ProtobufFile fileAfter) {
-        ProtobufFile fileBefore;
-        for (ContentHandle existing : existingSchemas) {
-            fileBefore = new ProtobufFile(existing.content());
-            if (!testFull(fileBefore, fileAfter).isCompatible()) {
-                return CompatibilityExecutionResult.incompatible("The new version of the protobuf artifact is not fully compatible.");
-            }
+        if (anyIncompatible(existingSchemas, fileBefore -> !testFull(fileBefore, fileAfter).isCompatible())) {
+            return CompatibilityExecutionResult.incompatible("The new version of the protobuf artifact is not fully compatible.");
         }
         return CompatibilityExecutionResult.compatible();
     }
@@ -93,13 +113,8 @@ public class ProtobufCompatibilityChecker implements CompatibilityChecker {
 
     @NotNull
     private CompatibilityExecutionResult testForwardTransitive(List<ContentHandle> existingSchemas, ProtobufFile fileAfter) {
-        ProtobufFile fileBefore;
-        for (ContentHandle existing : existingSchemas) {
-            fileBefore = new ProtobufFile(existing.content());
-            ProtobufCompatibilityCheckerLibrary checker = new ProtobufCompatibilityCheckerLibrary(fileAfter, fileBefore);
-            if (!checker.validate()) {
-                return CompatibilityExecutionResult.incompatible("The new version of the protobuf artifact is not forward compatible.");
-            }
+        if (anyIncompatible(existingSchemas, fileBefore -> !new ProtobufCompatibilityCheckerLibrary(fileAfter, fileBefore).validate())) {
+            return CompatibilityExecutionResult.incompatible("The new version of the protobuf artifact is not forward compatible.");
         }
         return CompatibilityExecutionResult.compatible();
     }
@@ -116,13 +131,8 @@ public class ProtobufCompatibilityChecker implements CompatibilityChecker {
 
     @NotNull
     private CompatibilityExecutionResult testBackwardTransitive(List<ContentHandle> existingSchemas, ProtobufFile fileAfter) {
-        ProtobufFile fileBefore;
-        for (ContentHandle existing : existingSchemas) {
-            fileBefore = new ProtobufFile(existing.content());
-            ProtobufCompatibilityCheckerLibrary checker = new ProtobufCompatibilityCheckerLibrary(fileBefore, fileAfter);
-            if (!checker.validate()) {
-                return CompatibilityExecutionResult.incompatible("The new version of the protobuf artifact is not backward compatible.");
-            }
+        if (anyIncompatible(existingSchemas, fileBefore -> !new ProtobufCompatibilityCheckerLibrary(fileBefore, fileAfter).validate())) {
+            return CompatibilityExecutionResult.incompatible("The new version of the protobuf artifact is not backward compatible.");
         }
         return CompatibilityExecutionResult.compatible();
     }
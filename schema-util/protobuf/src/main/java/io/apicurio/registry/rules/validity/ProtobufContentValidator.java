@@ -27,7 +27,9 @@ import com.google.protobuf.Descriptors;
 import com.squareup.wire.schema.internal.parser.MessageElement;
 import com.squareup.wire.schema.internal.parser.ProtoFileElement;
 
+import io.apicurio.registry.content.ProtoFileElementParser;
 import io.apicurio.registry.content.ContentHandle;
+import io.apicurio.registry.content.ParsedContentHandle;
 import io.apicurio.registry.rest.v2.beans.ArtifactReference;
 import io.apicurio.registry.rules.RuleViolation;
 import io.apicurio.registry.rules.RuleViolationException;
@@ -58,9 +60,9 @@ public class ProtobufContentValidator implements ContentValidator {
         if (level == ValidityLevel.SYNTAX_ONLY || level == ValidityLevel.FULL) {
             try {
                 if (resolvedReferences == null || resolvedReferences.isEmpty()) {
-                    ProtobufFile.toProtoFileElement(artifactContent.content());
+                    parseProtoFileElement(artifactContent);
                 } else {
-                    final ProtoFileElement protoFileElement = ProtobufFile.toProtoFileElement(artifactContent.content());
+                    final ProtoFileElement protoFileElement = parseProtoFileElement(artifactContent);
                     final Map<String, ProtoFileElement> dependencies = Collections.unmodifiableMap(resolvedReferences.entrySet()
                             .stream()
                             .collect(Collectors.toMap(
@@ -94,7 +96,7 @@ public class ProtobufContentValidator implements ContentValidator {
         try {
             Set<String> mappedRefs = references.stream().map(ref -> ref.getName()).collect(Collectors.toSet());
 
-            ProtoFileElement protoFileElement = ProtobufFile.toProtoFileElement(artifactContent.content());
+            ProtoFileElement protoFileElement = parseProtoFileElement(artifactContent);
             Set<String> allImports = new HashSet<>();
             allImports.addAll(protoFileElement.getImports());
             allImports.addAll(protoFileElement.getPublicImports());
@@ -112,6 +114,11 @@ public class ProtobufContentValidator implements ContentValidator {
         }
     }
 
+    private static ProtoFileElement parseProtoFileElement(ContentHandle content) {
+        return ParsedContentHandle.parse(content, null, ProtoFileElement.class,
+                new ProtoFileElementParser());
+    }
+
     private ProtobufSchema getFileDescriptorFromElement(ProtoFileElement fileElem) throws Descriptors.DescriptorValidationException {
         Descriptors.FileDescriptor fileDescriptor = FileDescriptorUtils.protoFileToFileDescriptor(fileElem);
         return new ProtobufSchema(fileDescriptor, fileElem);
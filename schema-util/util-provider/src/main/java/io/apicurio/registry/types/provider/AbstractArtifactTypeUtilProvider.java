@@ -16,6 +16,7 @@
 
 package io.apicurio.registry.types.provider;
 
+import io.apicurio.registry.content.ParsedContentCache;
 import io.apicurio.registry.content.canon.ContentCanonicalizer;
 import io.apicurio.registry.content.extract.ContentExtractor;
 import io.apicurio.registry.rules.compatibility.CompatibilityChecker;
@@ -30,6 +31,7 @@ public abstract class AbstractArtifactTypeUtilProvider implements ArtifactTypeUt
     private volatile ContentCanonicalizer canonicalizer;
     private volatile ContentValidator validator;
     private volatile ContentExtractor extractor;
+    private final ParsedContentCache parsedContentCache = new ParsedContentCache();
 
     @Override
     public CompatibilityChecker getCompatibilityChecker() {
@@ -70,4 +72,9 @@ public abstract class AbstractArtifactTypeUtilProvider implements ArtifactTypeUt
     }
 
     protected abstract ContentExtractor createContentExtractor();
+
+    @Override
+    public ParsedContentCache getParsedContentCache() {
+        return parsedContentCache;
+    }
 }
@@ -16,6 +16,7 @@
 
 package io.apicurio.registry.types.provider;
 
+import io.apicurio.registry.content.ParsedContentCache;
 import io.apicurio.registry.content.canon.ContentCanonicalizer;
 import io.apicurio.registry.content.dereference.ContentDereferencer;
 import io.apicurio.registry.content.extract.ContentExtractor;
@@ -47,4 +48,9 @@ public interface ArtifactTypeUtilProvider {
     ContentDereferencer getContentDereferencer();
     
     ReferenceFinder getReferenceFinder();
+
+    /**
+     * @return the cache of parsed content models shared by the utils of this artifact type
+     */
+    ParsedContentCache getParsedContentCache();
 }
@@ -42,7 +42,7 @@ public class AvroArtifactTypeUtilProvider extends AbstractArtifactTypeUtilProvid
 
     @Override
     protected CompatibilityChecker createCompatibilityChecker() {
-        return new AvroCompatibilityChecker();
+        return new AvroCompatibilityChecker(getParsedContentCache());
     }
 
     @Override
@@ -42,7 +42,7 @@ public class JsonArtifactTypeUtilProvider extends AbstractArtifactTypeUtilProvid
 
     @Override
     protected CompatibilityChecker createCompatibilityChecker() {
-        return new JsonSchemaCompatibilityChecker();
+        return new JsonSchemaCompatibilityChecker(getParsedContentCache());
     }
 
     @Override
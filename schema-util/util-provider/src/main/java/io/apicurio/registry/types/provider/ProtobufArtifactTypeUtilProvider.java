@@ -41,7 +41,7 @@ public class ProtobufArtifactTypeUtilProvider extends AbstractArtifactTypeUtilPr
 
     @Override
     protected CompatibilityChecker createCompatibilityChecker() {
-        return new ProtobufCompatibilityChecker();
+        return new ProtobufCompatibilityChecker(getParsedContentCache());
     }
 
     @Override
@@ -21,22 +21,11 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.BinaryNode;
-import com.fasterxml.jackson.databind.node.BooleanNode;
-import com.fasterxml.jackson.databind.node.NullNode;
-import com.fasterxml.jackson.databind.node.NumericNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
-import com.fasterxml.jackson.databind.node.TextNode;
-import org.everit.json.schema.ArraySchema;
-import org.everit.json.schema.ObjectSchema;
-import org.everit.json.schema.ReferenceSchema;
 import org.everit.json.schema.Schema;
 import org.everit.json.schema.ValidationException;
 import org.everit.json.schema.loader.SchemaLoader;
 import org.everit.json.schema.loader.SpecificationVersion;
 import org.everit.json.schema.loader.internal.ReferenceResolver;
-import org.json.JSONArray;
 import org.json.JSONObject;
 
 import java.io.IOException;
@@ -52,12 +41,12 @@ import java.util.Objects;
 public class JsonSchema {
     public static final String TYPE = "JSON";
     private static final String SCHEMA_KEYWORD = "$schema";
-    private static final Object NONE_MARKER = new Object();
     private final JsonNode jsonNode;
     private transient Schema schemaObj;
     private final Integer version;
     private final Map<String, JsonSchema> resolvedReferences;
     private transient String canonicalString;
+    private transient volatile JsonSchemaValidator validator;
     private transient int hashCode;
     private static final int NO_HASHCODE = -2147483648;
     private static final ObjectMapper objectMapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false).setSerializationInclusion(JsonInclude.Include.NON_NULL);
@@ -106,21 +95,22 @@ public class JsonSchema {
         }
     }
 
-    private JsonSchema(JsonNode jsonNode, Schema schemaObj, Integer version, Map<String, JsonSchema> resolvedReferences, String canonicalString) {
+    private JsonSchema(JsonNode jsonNode, Schema schemaObj, Integer version, Map<String, JsonSchema> resolvedReferences, String canonicalString, JsonSchemaValidator validator) {
         this.hashCode = -2147483648;
         this.jsonNode = jsonNode;
         this.schemaObj = schemaObj;
         this.version = version;
         this.resolvedReferences = resolvedReferences;
         this.canonicalString = canonicalString;
+        this.validator = validator;
     }
 
     public JsonSchema copy() {
-        return new JsonSchema(this.jsonNode, this.schemaObj, this.version, this.resolvedReferences, this.canonicalString);
+        return new JsonSchema(this.jsonNode, this.schemaObj, this.version, this.resolvedReferences, this.canonicalString, this.validator);
     }
 
     public JsonSchema copy(Integer version) {
-        return new JsonSchema(this.jsonNode, this.schemaObj, version, this.resolvedReferences, this.canonicalString);
+        return new JsonSchema(this.jsonNode, this.schemaObj, version, this.resolvedReferences, this.canonicalString, this.validator);
     }
 
     public JsonNode toJsonNode() {
@@ -202,80 +192,25 @@ public class JsonSchema {
         return this.resolvedReferences;
     }
 
-    public void validate(Object value) throws JsonProcessingException, ValidationException {
-        Object primitiveValue = NONE_MARKER;
-        if (isPrimitive(value)) {
-            primitiveValue = value;
-        } else if (value instanceof BinaryNode) {
-            primitiveValue = ((BinaryNode) value).asText();
-        } else if (value instanceof BooleanNode) {
-            primitiveValue = ((BooleanNode) value).asBoolean();
-        } else if (value instanceof NullNode) {
-            primitiveValue = null;
-        } else if (value instanceof NumericNode) {
-            primitiveValue = ((NumericNode) value).numberValue();
-        } else if (value instanceof TextNode) {
-            primitiveValue = ((TextNode) value).asText();
-        }
-
-        if (primitiveValue != NONE_MARKER) {
-            this.rawSchema().validate(primitiveValue);
-        } else {
-            Object jsonObject;
-            if (value instanceof ArrayNode) {
-                jsonObject = objectMapper.treeToValue((ArrayNode) value, JSONArray.class);
-            } else if (value instanceof ObjectNode) {
-                jsonObject = new JSONObject(value.toString());
-            } else if (value instanceof JsonNode) {
-                jsonObject = objectMapper.treeToValue((JsonNode) value, JSONObject.class);
-            } else if (value.getClass().isArray()) {
-                jsonObject = objectMapper.convertValue(value, JSONArray.class);
-            } else if (value instanceof JSONObject) {
-                jsonObject = value;
-            } else {
-                jsonObject = objectMapper.convertValue(value, JSONObject.class);
-            }
-
-            this.rawSchema().validate(jsonObject);
-
-            if (this.schemaObj instanceof ObjectSchema && jsonObject instanceof JSONObject) {
-                for (Map.Entry<String, Schema> schema : ((ObjectSchema) schemaObj).getPropertySchemas().entrySet()) {
-                    if (schema.getValue() instanceof ReferenceSchema) {
-                        validateComplexObject((JSONObject) jsonObject, schema);
-                    } else if (isArrayWithComplexType(schema) && ((JSONObject) jsonObject).has(schema.getKey())) {
-                        validateArrayProperty(((JSONObject) jsonObject).getJSONArray(schema.getKey()), ((ArraySchema) schema.getValue()).getAllItemSchema());
-                    }
+    /**
+     * @return the validator of this schema, which is created on first use
+     */
+    public JsonSchemaValidator validator() {
+        JsonSchemaValidator validator = this.validator;
+        if (validator == null) {
+            synchronized (this) {
+                validator = this.validator;
+                if (validator == null) {
+                    validator = new JsonSchemaValidator(this, objectMapper);
+                    this.validator = validator;
                 }
             }
         }
+        return validator;
     }
 
-    private void validateComplexObject(JSONObject jsonObject, Map.Entry<String, Schema> schema) throws JsonProcessingException {
-        if (isRequiredProperty(schema) || objectContainsSchemaKey(jsonObject, schema)) {
-            resolvedReferences.get(((ReferenceSchema) schema.getValue()).getReferenceValue()).validate(jsonObject.get(schema.getKey()));
-        }
-    }
-
-    private void validateArrayProperty(JSONArray arrayProperty, Schema schema) throws JsonProcessingException {
-        for (int i = 0; i < arrayProperty.length(); i++) {
-            resolvedReferences.get(((ReferenceSchema) schema).getReferenceValue()).validate(arrayProperty.getJSONObject(i));
-        }
-    }
-
-    private boolean isArrayWithComplexType(Map.Entry<String, Schema> schema) {
-        return schema.getValue() instanceof ArraySchema && ((ArraySchema) schema.getValue()).getAllItemSchema() instanceof ReferenceSchema;
-    }
-
-    private boolean objectContainsSchemaKey(JSONObject jsonObject, Map.Entry<String, Schema> schema) {
-        return jsonObject.has(schema.getKey());
-    }
-
-    private boolean isRequiredProperty(Map.Entry<String, Schema> schema) {
-        return ((ObjectSchema) schemaObj).getRequiredProperties().contains(schema.getKey());
-    }
-
-    private static boolean isPrimitive(Object value) {
-        return value == null || value instanceof Boolean || value instanceof Number || value instanceof String;
+    public void validate(Object value) throws JsonProcessingException, ValidationException {
+        validator().validate(value);
     }
 
     public boolean equals(Object o) {
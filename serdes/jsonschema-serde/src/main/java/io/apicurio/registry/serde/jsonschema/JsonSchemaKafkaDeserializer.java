@@ -148,7 +148,7 @@ public class JsonSchemaKafkaDeserializer<T> extends AbstractKafkaDeserializer<Js
             if (this.specificReturnClass != null) {
                 messageType = this.specificReturnClass;
             } else if (headers == null) {
-                JsonNode jsonSchema = mapper.readTree(schema.getRawSchema());
+                JsonNode jsonSchema = schema.getParsedSchema().toJsonNode();
 
                 String javaType = null;
                 JsonNode javaTypeNode = jsonSchema.get("javaType");
@@ -16,6 +16,7 @@
 
 package io.apicurio.registry.serde.jsonschema;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.apicurio.registry.resolver.ParsedSchema;
 
@@ -32,6 +33,8 @@ public class JsonSchemaValidationUtil {
      * @throws IOException In case of validation errors, a IO exception is thrown.
      */
     protected static void validateDataWithSchema(ParsedSchema<JsonSchema> schema, byte[] data, ObjectMapper mapper) throws IOException {
-        schema.getParsedSchema().validate(mapper.readTree(data));
+        try (JsonParser parser = mapper.getFactory().createParser(data)) {
+            schema.getParsedSchema().validator().validate(parser);
+        }
     }
 }
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.serde.jsonschema;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.BinaryNode;
+import org.everit.json.schema.ArraySchema;
+import org.everit.json.schema.ObjectSchema;
+import org.everit.json.schema.ReferenceSchema;
+import org.everit.json.schema.Schema;
+import org.everit.json.schema.ValidationException;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Validates data against a {@link JsonSchema}.  The schema is loaded once when the validator is created, the
+ * validators of the schemas referenced by its properties are looked up when a property is validated, so that
+ * references may be nested or cyclic.  A validator is thread-safe.
+ * Data is converted to the JSON model of the schema library directly from a Jackson token stream or tree,
+ * without being serialized and parsed again.
+ */
+public class JsonSchemaValidator {
+
+    private final Schema schema;
+    private final List<ReferenceProperty> referenceProperties = new ArrayList<>();
+    private final ObjectMapper objectMapper;
+
+    JsonSchemaValidator(JsonSchema jsonSchema, ObjectMapper objectMapper) {
+        this.schema = jsonSchema.rawSchema();
+        this.objectMapper = objectMapper;
+        if (schema instanceof ObjectSchema) {
+            ObjectSchema objectSchema = (ObjectSchema) schema;
+            for (Map.Entry<String, Schema> property : objectSchema.getPropertySchemas().entrySet()) {
+                Schema propertySchema = property.getValue();
+                boolean array = false;
+                if (propertySchema instanceof ArraySchema && ((ArraySchema) propertySchema).getAllItemSchema() instanceof ReferenceSchema) {
+                    propertySchema = ((ArraySchema) propertySchema).getAllItemSchema();
+                    array = true;
+                }
+                if (propertySchema instanceof ReferenceSchema) {
+                    JsonSchema reference = jsonSchema.resolvedReferences().get(((ReferenceSchema) propertySchema).getReferenceValue());
+                    if (reference != null) {
+                        referenceProperties.add(new ReferenceProperty(property.getKey(), array, reference));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Validates the next value of the token stream.
+     */
+    public void validate(JsonParser parser) throws IOException, ValidationException {
+        JsonToken token = parser.nextToken();
+        if (token == null) {
+            throw new JsonParseException(parser, "No content to validate");
+        }
+        switch (token) {
+            case VALUE_NULL:
+                validateValue(null);
+                break;
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                validateValue(parser.getNumberValue());
+                break;
+            default:
+                validateValue(readValue(parser));
+        }
+    }
+
+    /**
+     * Validates a Jackson tree, a JSON value of the schema library, or an object that Jackson can convert to one.
+     */
+    public void validate(Object value) throws JsonProcessingException, ValidationException {
+        if (value == null || value instanceof Boolean || value instanceof Number || value instanceof String) {
+            validateValue(value);
+        } else if (value instanceof JsonNode) {
+            JsonNode node = (JsonNode) value;
+            if (node.isNull()) {
+                validateValue(null);
+            } else if (node.isNumber()) {
+                validateValue(node.numberValue());
+            } else {
+                validateValue(toJsonValue(node));
+            }
+        } else if (value instanceof JSONObject || value instanceof JSONArray) {
+            validateValue(value);
+        } else if (value.getClass().isArray()) {
+            validateValue(objectMapper.convertValue(value, JSONArray.class));
+        } else {
+            validateValue(objectMapper.convertValue(value, JSONObject.class));
+        }
+    }
+
+    private void validateValue(Object value) throws JsonProcessingException {
+        schema.validate(value);
+        if (value instanceof JSONObject) {
+            JSONObject object = (JSONObject) value;
+            for (ReferenceProperty property : referenceProperties) {
+                if (!object.has(property.name)) {
+                    continue;
+                }
+                // Not looked up in the constructor, so creating a validator never creates (or locks) the validators it references
+                JsonSchemaValidator validator = property.schema.validator();
+                if (property.array) {
+                    JSONArray items = object.getJSONArray(property.name);
+                    for (int i = 0; i < items.length(); i++) {
+                        validator.validate(items.getJSONObject(i));
+                    }
+                } else {
+                    validator.validate(object.get(property.name));
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads the value at the current token, numbers are read like the JSON parser of the schema library reads them.
+     */
+    private static Object readValue(JsonParser parser) throws IOException {
+        switch (parser.currentToken()) {
+            case START_OBJECT:
+                JSONObject object = new JSONObject();
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String name = parser.getCurrentName();
+                    parser.nextToken();
+                    object.put(name, readValue(parser));
+                }
+                return object;
+            case START_ARRAY:
+                JSONArray array = new JSONArray();
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    array.put(readValue(parser));
+                }
+                return array;
+            case VALUE_NUMBER_INT:
+                return parser.getNumberValue();
+            case VALUE_NUMBER_FLOAT:
+                return parser.getDecimalValue();
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            case VALUE_NULL:
+                return JSONObject.NULL;
+            default:
+                return parser.getText();
+        }
+    }
+
+    private static Object toJsonValue(JsonNode node) {
+        switch (node.getNodeType()) {
+            case OBJECT:
+                JSONObject object = new JSONObject();
+                Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> field = fields.next();
+                    object.put(field.getKey(), toJsonValue(field.getValue()));
+                }
+                return object;
+            case ARRAY:
+                JSONArray array = new JSONArray();
+                for (JsonNode item : node) {
+                    array.put(toJsonValue(item));
+                }
+                return array;
+            case NUMBER:
+                return node.isIntegralNumber() ? node.numberValue() : node.decimalValue();
+            case BOOLEAN:
+                return node.booleanValue();
+            case NULL:
+            case MISSING:
+                return JSONObject.NULL;
+            case BINARY:
+                return ((BinaryNode) node).asText();
+            default:
+                return node.asText();
+        }
+    }
+
+    private static class ReferenceProperty {
+        private final String name;
+        private final boolean array;
+        private final JsonSchema schema;
+
+        private ReferenceProperty(String name, boolean array, JsonSchema schema) {
+            this.name = name;
+            this.array = array;
+            this.schema = schema;
+        }
+    }
+}
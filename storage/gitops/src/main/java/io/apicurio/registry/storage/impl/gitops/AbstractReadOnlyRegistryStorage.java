@@ -264,6 +264,12 @@ public abstract class AbstractReadOnlyRegistryStorage implements RegistryStorage
     }
 
 
+    @Override
+    public void createCompatibilityResult(CompatibilityResultDto result) throws RegistryStorageException {
+        readOnlyViolation();
+    }
+
+
     @Override
     public void setConfigProperty(DynamicConfigPropertyDto propertyDto) {
         readOnlyViolation();
@@ -222,6 +222,12 @@ public class GitOpsRegistryStorage extends AbstractReadOnlyRegistryStorage {
     }
 
 
+    @Override
+    public Map<Long, ContentWrapperDto> getArtifactsByContentIds(Set<Long> contentIds) {
+        return proxy(storage -> storage.getArtifactsByContentIds(contentIds));
+    }
+
+
     @Override
     public ContentWrapperDto getArtifactByContentHash(String contentHash) {
         return proxy(storage -> storage.getArtifactByContentHash(contentHash));
@@ -275,12 +281,24 @@ public class GitOpsRegistryStorage extends AbstractReadOnlyRegistryStorage {
     }
 
 
+    @Override
+    public ArtifactVersionMetaDataDto getArtifactVersionMetaDataByDereferencedHash(String groupId, String artifactId, String dereferencedHash) {
+        return proxy(storage -> storage.getArtifactVersionMetaDataByDereferencedHash(groupId, artifactId, dereferencedHash));
+    }
+
+
     @Override
     public ArtifactMetaDataDto getArtifactMetaData(long globalId) {
         return proxy(storage -> storage.getArtifactMetaData(globalId));
     }
 
 
+    @Override
+    public RuleSetDto getRuleSet(String groupId, String artifactId) {
+        return proxy(storage -> storage.getRuleSet(groupId, artifactId));
+    }
+
+
     @Override
     public List<RuleType> getArtifactRules(String groupId, String artifactId) {
         return proxy(storage -> storage.getArtifactRules(groupId, artifactId));
@@ -316,12 +334,42 @@ public class GitOpsRegistryStorage extends AbstractReadOnlyRegistryStorage {
     }
 
 
+    @Override
+    public List<StoredArtifactDto> getArtifactVersionsByGlobalIds(Set<Long> globalIds) {
+        return proxy(storage -> storage.getArtifactVersionsByGlobalIds(globalIds));
+    }
+
+
+    @Override
+    public Map<ArtifactReferenceDto, StoredArtifactDto> getArtifactVersionsByReferences(Set<ArtifactReferenceDto> references) {
+        return proxy(storage -> storage.getArtifactVersionsByReferences(references));
+    }
+
+
     @Override
     public StoredArtifactDto getArtifactVersion(String groupId, String artifactId, String version) {
         return proxy(storage -> storage.getArtifactVersion(groupId, artifactId, version));
     }
 
 
+    @Override
+    public StoredArtifactVersionDto getArtifactVersionContent(String groupId, String artifactId, String version) {
+        return proxy(storage -> storage.getArtifactVersionContent(groupId, artifactId, version));
+    }
+
+
+    @Override
+    public StoredArtifactVersionDto getArtifactVersionContent(long globalId) {
+        return proxy(storage -> storage.getArtifactVersionContent(globalId));
+    }
+
+
+    @Override
+    public StoredArtifactVersionDto getLatestArtifactVersionContent(String groupId, String artifactId) {
+        return proxy(storage -> storage.getLatestArtifactVersionContent(groupId, artifactId));
+    }
+
+
     @Override
     public ArtifactVersionMetaDataDto getArtifactVersionMetaData(String groupId, String artifactId, String version) {
         return proxy(storage -> storage.getArtifactVersionMetaData(groupId, artifactId, version));
@@ -399,6 +447,11 @@ public class GitOpsRegistryStorage extends AbstractReadOnlyRegistryStorage {
         return proxy(storage -> storage.getRawConfigProperty(propertyName));
     }
 
+    @Override
+    public CompatibilityResultDto getCompatibilityResult(String resultKey) {
+        return proxy(storage -> storage.getCompatibilityResult(resultKey));
+    }
+
     @Override
     public List<DynamicConfigPropertyDto> getStaleConfigProperties(Instant since) {
         return proxy(storage -> storage.getStaleConfigProperties(since));
@@ -441,6 +494,12 @@ public class GitOpsRegistryStorage extends AbstractReadOnlyRegistryStorage {
     }
 
 
+    @Override
+    public Optional<String> contentHashFromId(long contentId) {
+        return proxy(storage -> storage.contentHashFromId(contentId));
+    }
+
+
     @Override
     public boolean isArtifactExists(String groupId, String artifactId) {
         return proxy(storage -> storage.isArtifactExists(groupId, artifactId));
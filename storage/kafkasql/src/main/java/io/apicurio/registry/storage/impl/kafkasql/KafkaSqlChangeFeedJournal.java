@@ -0,0 +1,40 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.storage.impl.kafkasql;
+
+import io.apicurio.registry.events.feed.ChangeFeedJournal;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Publishes the registry events of the change feed to the KafkaSQL topic, which every replica consumes.
+ */
+@ApplicationScoped
+public class KafkaSqlChangeFeedJournal implements ChangeFeedJournal {
+
+    @Inject
+    KafkaSqlSubmitter submitter;
+
+    /**
+     * @see io.apicurio.registry.events.feed.ChangeFeedJournal#publish(java.lang.String, java.lang.String)
+     */
+    @Override
+    public void publish(String type, String data) {
+        submitter.submitChangeEvent(type, data);
+    }
+
+}
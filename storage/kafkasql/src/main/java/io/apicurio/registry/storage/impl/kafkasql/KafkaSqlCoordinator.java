@@ -18,9 +18,11 @@ package io.apicurio.registry.storage.impl.kafkasql;
 
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
@@ -41,46 +43,52 @@ public class KafkaSqlCoordinator {
     KafkaSqlConfiguration configuration;
 
     private static final Object NULL = new Object();
-    private Map<UUID, CountDownLatch> latches = new ConcurrentHashMap<>();
-    private Map<UUID, Object> returnValues = new ConcurrentHashMap<>();
+
+    /**
+     * The pending operations.  Waiting for a {@link CompletableFuture} parks the waiting thread, so that a virtual
+     * thread is unmounted from its carrier while the Kafka consumer thread applies the operation.
+     */
+    private final Map<UUID, CompletableFuture<Object>> responses = new ConcurrentHashMap<>();
 
     /**
      * Creates a UUID for a single operation.
      */
     public UUID createUUID() {
         UUID uuid = UUID.randomUUID();
-        latches.put(uuid, new CountDownLatch(1));
+        responses.put(uuid, new CompletableFuture<>());
         return uuid;
     }
 
     /**
-     * Waits for a response to the operation with the given UUID. There is a countdown latch for each operation.  The
-     * caller waiting for the response will wait for the countdown to happen and then proceed.  We also remove
-     * the latch from the Map here since it's not needed anymore.
+     * Waits for a response to the operation with the given UUID.  The caller waiting for the response will wait
+     * for the response to be completed and then proceed.  We also remove the response from the Map here since
+     * it's not needed anymore.
      *
      * @param uuid
-     * @throws InterruptedException
      */
     public Object waitForResponse(UUID uuid) {
         try {
-            latches.get(uuid).await(configuration.responseTimeout(), TimeUnit.MILLISECONDS);
-
-            Object rval = returnValues.remove(uuid);
+            Object rval = responses.get(uuid).get(configuration.responseTimeout(), TimeUnit.MILLISECONDS);
             if (rval == NULL) {
                 return null;
             } else if (rval instanceof RegistryException) {
                 throw (RegistryException) rval;
             }
             return rval;
+        } catch (TimeoutException e) {
+            // As before, a response that did not arrive in time is treated as an empty response
+            return null;
+        } catch (ExecutionException e) {
+            throw new RegistryException("[KafkaSqlCoordinator] Failed waiting for a Kafka Sql response.", e.getCause());
         } catch (InterruptedException e) {
           throw new RegistryException("[KafkaSqlCoordinator] Thread interrupted waiting for a Kafka Sql response.", e);
         } finally {
-            latches.remove(uuid);
+            responses.remove(uuid);
         }
     }
 
     /**
-     * Countdown the latch for the given UUID.  This will wake up the thread waiting for the response
+     * Completes the response for the given UUID.  This will wake up the thread waiting for the response
      * so that it can proceed.
      * @param uuid
      * @param returnValue
@@ -91,22 +99,18 @@ public class KafkaSqlCoordinator {
             return;
         }
 
-        // If there is no countdown latch, then there is no HTTP thread waiting for
-        // a response.  This means one of two possible things:
+        // If there is no pending response, then there is no HTTP thread waiting for
+        // it.  This means one of two possible things:
         //  1) We're in a cluster and the HTTP thread is on another node
         //  2) We're starting up and consuming all the old journal entries
-        if (!latches.containsKey(uuid)) {
+        CompletableFuture<Object> response = responses.get(uuid);
+        if (response == null) {
             return;
         }
 
-        // Otherwise, put the return value in the Map and countdown the latch.  The latch
-        // countdown will notify the HTTP thread that the operation is complete and there is
-        // a return value waiting for it.
-        if (returnValue == null) {
-            returnValue = NULL;
-        }
-        returnValues.put(uuid, returnValue);
-        latches.get(uuid).countDown();
+        // Otherwise, complete the response.  This will notify the HTTP thread that the
+        // operation is complete and there is a return value waiting for it.
+        response.complete(returnValue == null ? NULL : returnValue);
     }
 
 }
@@ -103,6 +103,12 @@ public class KafkaSqlFactory {
     )
     Properties adminProperties;
 
+    @ConfigProperty(name = "registry.sql.content.compression.enabled", defaultValue = "false")
+    boolean contentCompressionEnabled;
+
+    @ConfigProperty(name = "registry.sql.content.compression.threshold", defaultValue = "1024")
+    int contentCompressionThreshold;
+
     @ConfigProperty(name = "registry.kafkasql.security.sasl.enabled", defaultValue = "false")
     boolean saslEnabled;
 
@@ -213,7 +219,7 @@ public class KafkaSqlFactory {
 
         // Create the Kafka producer
         KafkaSqlKeySerializer keySerializer = new KafkaSqlKeySerializer();
-        KafkaSqlValueSerializer valueSerializer = new KafkaSqlValueSerializer();
+        KafkaSqlValueSerializer valueSerializer = new KafkaSqlValueSerializer(contentCompressionEnabled, contentCompressionThreshold);
         return new AsyncProducer<MessageKey, MessageValue>(props, keySerializer, valueSerializer);
     }
 
@@ -731,6 +731,14 @@ public class KafkaSqlRegistryStorage extends RegistryStorageDecoratorReadOnlyBas
     }
 
 
+    @Override
+    public void createCompatibilityResult(CompatibilityResultDto result) throws RegistryStorageException {
+        // Note: this is OK to do because compatibility results only cache derived data, so each node
+        // can keep its own results instead of journaling them.
+        delegate.createCompatibilityResult(result);
+    }
+
+
     @Override
     public void setConfigProperty(DynamicConfigPropertyDto propertyDto) {
         UUID reqId = ConcurrentUtil.get(submitter.submitConfigProperty(propertyDto.getName(), ActionType.UPDATE, propertyDto.getValue()));
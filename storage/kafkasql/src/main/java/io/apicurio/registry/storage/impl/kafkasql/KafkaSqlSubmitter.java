@@ -35,6 +35,7 @@ import io.apicurio.registry.storage.impl.kafkasql.keys.ArtifactOwnerKey;
 import io.apicurio.registry.storage.impl.kafkasql.keys.ArtifactRuleKey;
 import io.apicurio.registry.storage.impl.kafkasql.keys.ArtifactVersionKey;
 import io.apicurio.registry.storage.impl.kafkasql.keys.BootstrapKey;
+import io.apicurio.registry.storage.impl.kafkasql.keys.ChangeEventKey;
 import io.apicurio.registry.storage.impl.kafkasql.keys.CommentIdKey;
 import io.apicurio.registry.storage.impl.kafkasql.keys.CommentKey;
 import io.apicurio.registry.storage.impl.kafkasql.keys.ConfigPropertyKey;
@@ -52,6 +53,7 @@ import io.apicurio.registry.storage.impl.kafkasql.values.ArtifactOwnerValue;
 import io.apicurio.registry.storage.impl.kafkasql.values.ArtifactRuleValue;
 import io.apicurio.registry.storage.impl.kafkasql.values.ArtifactValue;
 import io.apicurio.registry.storage.impl.kafkasql.values.ArtifactVersionValue;
+import io.apicurio.registry.storage.impl.kafkasql.values.ChangeEventValue;
 import io.apicurio.registry.storage.impl.kafkasql.values.CommentIdValue;
 import io.apicurio.registry.storage.impl.kafkasql.values.CommentValue;
 import io.apicurio.registry.storage.impl.kafkasql.values.ConfigPropertyValue;
@@ -307,6 +309,17 @@ public class KafkaSqlSubmitter {
     }
 
 
+    /* ******************************************************************************************
+     * Change events
+     * ****************************************************************************************** */
+    public void submitChangeEvent(String eventType, String data) {
+        ChangeEventKey key = ChangeEventKey.create();
+        ChangeEventValue value = ChangeEventValue.create(ActionType.CREATE, eventType, data);
+        // Sent without a request ID, because nobody waits for the event to be consumed
+        producer.apply(new ProducerRecord<>(configuration.topic(), 0, key, value));
+    }
+
+
     /* ******************************************************************************************
      * Tombstones
      * ****************************************************************************************** */
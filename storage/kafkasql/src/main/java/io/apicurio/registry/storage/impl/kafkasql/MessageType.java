@@ -41,6 +41,7 @@ public enum MessageType {
     ArtifactOwner(14),
     CommentId(15),
     Comment(16),
+    ChangeEvent(17),
     ;
 
     private final byte ord;
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.storage.impl.kafkasql.keys;
+
+import io.apicurio.registry.storage.impl.kafkasql.MessageType;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+/**
+ * Key of the registry events of the change feed.  All of them have the same key, so that only the latest
+ * one is kept when the topic is compacted: the events are only needed by the replicas consuming them live.
+ */
+@RegisterForReflection
+public class ChangeEventKey implements MessageKey {
+
+    private static final String CHANGE_EVENT_PARTITION_KEY = "__apicurio_registry_change_event__";
+
+    public static ChangeEventKey create() {
+        return new ChangeEventKey();
+    }
+
+    /**
+     * @see MessageKey#getType()
+     */
+    @Override
+    public MessageType getType() {
+        return MessageType.ChangeEvent;
+    }
+
+    /**
+     * @see MessageKey#getPartitionKey()
+     */
+    @Override
+    public String getPartitionKey() {
+        return CHANGE_EVENT_PARTITION_KEY;
+    }
+
+    /**
+     * @see Object#toString()
+     */
+    @Override
+    public String toString() {
+        return String.format("ChangeEventKey(super = %s)", super.toString());
+    }
+}
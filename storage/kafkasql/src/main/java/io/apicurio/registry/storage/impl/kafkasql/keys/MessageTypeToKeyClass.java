@@ -80,6 +80,9 @@ public class MessageTypeToKeyClass {
                 case Comment:
                     index.put(type, CommentKey.class);
                     break;
+                case ChangeEvent:
+                    index.put(type, ChangeEventKey.class);
+                    break;
                 default:
                     throw new RuntimeException("[MessageTypeToKeyClass] Type not mapped: " + type);
             }
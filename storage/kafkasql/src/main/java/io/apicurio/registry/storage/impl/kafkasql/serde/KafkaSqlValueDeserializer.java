@@ -32,6 +32,7 @@ import io.apicurio.registry.storage.impl.kafkasql.values.ActionType;
 import io.apicurio.registry.storage.impl.kafkasql.values.ContentValue;
 import io.apicurio.registry.storage.impl.kafkasql.values.MessageTypeToValueClass;
 import io.apicurio.registry.storage.impl.kafkasql.values.MessageValue;
+import io.apicurio.registry.storage.impl.sql.ContentCompressionUtil;
 
 /**
  * Kafka deserializer responsible for deserializing the value of a KSQL Kafka message.
@@ -97,7 +98,7 @@ public class KafkaSqlValueDeserializer implements Deserializer<MessageValue> {
         if (numContentBytes > 0) {
             byte[] contentBytes = new byte[numContentBytes];
             byteBuffer.get(contentBytes);
-            contentHandle = ContentHandle.create(contentBytes);
+            contentHandle = ContentCompressionUtil.toContentHandle(contentBytes);
         }
 
         String serializedReferences = null;
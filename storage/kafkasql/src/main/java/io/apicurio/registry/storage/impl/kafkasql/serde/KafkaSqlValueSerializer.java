@@ -30,6 +30,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.apicurio.registry.storage.impl.kafkasql.MessageType;
 import io.apicurio.registry.storage.impl.kafkasql.values.ContentValue;
 import io.apicurio.registry.storage.impl.kafkasql.values.MessageValue;
+import io.apicurio.registry.storage.impl.sql.ContentCompressionUtil;
 
 /**
  * Responsible for serializing the message key to bytes.
@@ -42,6 +43,26 @@ public class KafkaSqlValueSerializer implements Serializer<MessageValue> {
         mapper.setSerializationInclusion(Include.NON_NULL);
     }
 
+    private final boolean compressContent;
+    private final int compressionThreshold;
+
+    /**
+     * Constructor.
+     */
+    public KafkaSqlValueSerializer() {
+        this(false, 0);
+    }
+
+    /**
+     * Constructor.
+     * @param compressContent whether content bytes should be compressed in the journal
+     * @param compressionThreshold the minimum size (in bytes) of content worth compressing
+     */
+    public KafkaSqlValueSerializer(boolean compressContent, int compressionThreshold) {
+        this.compressContent = compressContent;
+        this.compressionThreshold = compressionThreshold;
+    }
+
     /**
      * @see org.apache.kafka.common.serialization.Serializer#serialize(java.lang.String, java.lang.Object)
      */
@@ -82,6 +103,9 @@ public class KafkaSqlValueSerializer implements Serializer<MessageValue> {
 
             if (contentValue.getContent() != null) {
                 byte[] contentBytes = contentValue.getContent().bytes();
+                if (compressContent) {
+                    contentBytes = ContentCompressionUtil.compress(contentBytes, compressionThreshold);
+                }
                 out.write(ByteBuffer.allocate(4).putInt(contentBytes.length).array());
                 out.write(contentBytes);
             } else {
@@ -2,6 +2,7 @@ package io.apicurio.registry.storage.impl.kafkasql.sql;
 
 import io.apicurio.common.apps.config.DynamicConfigPropertyDto;
 import io.apicurio.common.apps.logging.Logged;
+import io.apicurio.registry.events.feed.ChangeFeed;
 import io.apicurio.registry.storage.dto.ArtifactOwnerDto;
 import io.apicurio.registry.storage.dto.GroupMetaDataDto;
 import io.apicurio.registry.storage.error.ArtifactAlreadyExistsException;
@@ -46,6 +47,9 @@ public class KafkaSqlSink {
     @Inject
     KafkaSqlSubmitter submitter;
 
+    @Inject
+    ChangeFeed changeFeed;
+
     /**
      * Called by the {@link KafkaSqlRegistryStorage} main Kafka consumer loop to process a single
      * message in the topic.  Each message represents some attempt to modify the registry data.  So
@@ -135,12 +139,31 @@ public class KafkaSqlSink {
                 return processCommentId((CommentIdKey) key, (CommentIdValue) value);
             case Comment:
                 return processComment((CommentKey) key, (CommentValue) value);
+            case ChangeEvent:
+                return processChangeEvent((ChangeEventKey) key, (ChangeEventValue) value);
             default:
                 log.warn("Unrecognized message type: {}", record.key());
                 throw new RegistryStorageException("Unexpected message type: " + messageType.name());
         }
     }
 
+    /**
+     * Process a Kafka message of type "changeEvent".  The event is appended to the change feed of this
+     * replica, whichever replica published it.
+     *
+     * @param key
+     * @param value
+     */
+    private Object processChangeEvent(ChangeEventKey key, ChangeEventValue value) {
+        switch (value.getAction()) {
+            case CREATE:
+                changeFeed.append(value.getEventType(), value.getData());
+                return null;
+            default:
+                return unsupported(key, value);
+        }
+    }
+
     /**
      * Process a Kafka message of type "globalaction".
      *
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2023 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.apicurio.registry.storage.impl.kafkasql.values;
+
+import io.apicurio.registry.storage.impl.kafkasql.MessageType;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+/**
+ * A registry event of the change feed, published by the replica that handled the operation.
+ */
+@RegisterForReflection
+public class ChangeEventValue extends AbstractMessageValue {
+
+    private String eventType;
+    private String data;
+
+    /**
+     * Creator method.
+     * @param action
+     * @param eventType
+     * @param data
+     */
+    public static final ChangeEventValue create(ActionType action, String eventType, String data) {
+        ChangeEventValue value = new ChangeEventValue();
+        value.setAction(action);
+        value.setEventType(eventType);
+        value.setData(data);
+        return value;
+    }
+
+    /**
+     * @return the cloud event type of the event
+     */
+    public String getEventType() {
+        return eventType;
+    }
+
+    /**
+     * @param eventType the cloud event type of the event
+     */
+    public void setEventType(String eventType) {
+        this.eventType = eventType;
+    }
+
+    /**
+     * @return the event data, as JSON
+     */
+    public String getData() {
+        return data;
+    }
+
+    /**
+     * @param data the event data, as JSON
+     */
+    public void setData(String data) {
+        this.data = data;
+    }
+
+    /**
+     * @see io.apicurio.registry.storage.impl.kafkasql.values.MessageValue#getType()
+     */
+    @Override
+    public MessageType getType() {
+        return MessageType.ChangeEvent;
+    }
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "ChangeEventValue [eventType=" + eventType + ", data=" + data + "]";
+    }
+
+}
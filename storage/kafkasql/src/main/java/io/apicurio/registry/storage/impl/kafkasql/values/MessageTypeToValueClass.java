@@ -79,6 +79,9 @@ public class MessageTypeToValueClass {
                 case Comment:
                     index.put(type, CommentValue.class);
                     break;
+                case ChangeEvent:
+                    index.put(type, ChangeEventValue.class);
+                    break;
                 default:
                     throw new RuntimeException("[MessageTypeToValueClass] Type not mapped: " + type);
             }
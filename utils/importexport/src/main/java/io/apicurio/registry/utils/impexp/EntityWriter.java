@@ -29,6 +29,19 @@ import com.fasterxml.jackson.databind.ObjectMapper;
  */
 public class EntityWriter {
 
+    /**
+     * Receives the serialized entries of the written entities.
+     */
+    @FunctionalInterface
+    public interface EntryHandler {
+
+        /**
+         * @param path the path of the entry in the zip file
+         * @param data the uncompressed data of the entry
+         */
+        void handle(String path, byte[] data) throws IOException;
+    }
+
     private static final ObjectMapper mapper;
     static {
         JsonFactory jsonFactory = new JsonFactory();
@@ -36,14 +49,27 @@ public class EntityWriter {
         mapper = new ObjectMapper(jsonFactory);
     }
 
-    private final transient ZipOutputStream zip;
+    private final transient EntryHandler handler;
 
     /**
      * Constructor.
      * @param zip
      */
     public EntityWriter(ZipOutputStream zip) {
-        this.zip = zip;
+        this((path, data) -> {
+            zip.putNextEntry(new ZipEntry(path));
+            zip.write(data);
+            zip.closeEntry();
+        });
+    }
+
+    /**
+     * Constructor.  The entries of the written entities are given to the handler instead of being written
+     * to a zip output stream, e.g. so that they can be compressed in parallel.
+     * @param handler
+     */
+    public EntityWriter(EntryHandler handler) {
+        this.handler = handler;
     }
 
     /**
@@ -70,6 +96,7 @@ public class EntityWriter {
                 break;
             case Comment:
                 writeEntity((CommentEntity) entity);
+                break;
             case Manifest:
                 writeEntity((ManifestEntity) entity);
                 break;
@@ -79,52 +106,50 @@ public class EntityWriter {
     }
 
     private void writeEntity(ContentEntity entity) throws IOException {
-        ZipEntry mdEntry = createZipEntry(EntityType.Content, entity.contentHash, "json");
-        ZipEntry dataEntry = createZipEntry(EntityType.Content, entity.contentHash, "data");
+        String mdEntry = createEntryPath(EntityType.Content, entity.contentHash, "json");
+        String dataEntry = createEntryPath(EntityType.Content, entity.contentHash, "data");
 
         // Write the meta-data file.
         write(mdEntry, entity, ContentEntity.class);
 
         // Write the content file.
-        zip.putNextEntry(dataEntry);
-        zip.write(entity.contentBytes);
-        zip.closeEntry();
+        handler.handle(dataEntry, entity.contentBytes);
     }
 
     private void writeEntity(ManifestEntity entity) throws IOException {
-        ZipEntry mdEntry = createZipEntry(EntityType.Manifest, "manifest-" + entity.exportedOn.toInstant().toString(), "json");
+        String mdEntry = createEntryPath(EntityType.Manifest, "manifest-" + entity.exportedOn.toInstant().toString(), "json");
         write(mdEntry, entity, ManifestEntity.class);
     }
 
     private void writeEntity(GroupEntity entity) throws IOException {
-        ZipEntry mdEntry = createZipEntry(EntityType.Group, entity.groupId, "json");
+        String mdEntry = createEntryPath(EntityType.Group, entity.groupId, "json");
         write(mdEntry, entity, GroupEntity.class);
     }
 
     private void writeEntity(ArtifactVersionEntity entity) throws IOException {
-        ZipEntry mdEntry = createZipEntry(EntityType.ArtifactVersion, entity.groupId, entity.artifactId, entity.version, "json");
+        String mdEntry = createEntryPath(EntityType.ArtifactVersion, entity.groupId, entity.artifactId, entity.version, "json");
         write(mdEntry, entity, ArtifactVersionEntity.class);
     }
 
     private void writeEntity(ArtifactRuleEntity entity) throws IOException {
-        ZipEntry mdEntry = createZipEntry(EntityType.ArtifactRule, entity.groupId, entity.artifactId, entity.type.name(), "json");
+        String mdEntry = createEntryPath(EntityType.ArtifactRule, entity.groupId, entity.artifactId, entity.type.name(), "json");
         write(mdEntry, entity, ArtifactRuleEntity.class);
     }
 
     private void writeEntity(GlobalRuleEntity entity) throws IOException {
-        ZipEntry mdEntry = createZipEntry(EntityType.GlobalRule, entity.ruleType.name(), "json");
+        String mdEntry = createEntryPath(EntityType.GlobalRule, entity.ruleType.name(), "json");
         write(mdEntry, entity, GlobalRuleEntity.class);
     }
 
     private void writeEntity(CommentEntity entity) throws IOException {
-        ZipEntry mdEntry = createZipEntry(EntityType.Comment, entity.globalId + '-' + entity.commentId, "json");
+        String mdEntry = createEntryPath(EntityType.Comment, entity.globalId + '-' + entity.commentId, "json");
         write(mdEntry, entity, CommentEntity.class);
     }
 
-    private ZipEntry createZipEntry(EntityType type, String fileName, String fileExt) {
-        return createZipEntry(type, null, null, fileName, fileExt);
+    private String createEntryPath(EntityType type, String fileName, String fileExt) {
+        return createEntryPath(type, null, null, fileName, fileExt);
     }
-    private ZipEntry createZipEntry(EntityType type, String groupId, String artifactId, String fileName, String fileExt) {
+    private String createEntryPath(EntityType type, String groupId, String artifactId, String fileName, String fileExt) {
         // TODO encode groupId, artifactId, and filename as path elements
         String path = null;
         switch (type) {
@@ -152,17 +177,15 @@ public class EntityWriter {
             default:
                 throw new RuntimeException("Unhandled entity type: " + type.name());
         }
-        return new ZipEntry(path);
+        return path;
     }
 
     private String groupOrDefault(String groupId) {
         return groupId == null ? "default" : groupId;
     }
 
-    private void write(ZipEntry entry, Entity entity, Class<?> entityClass) throws IOException {
-        zip.putNextEntry(entry);
-        mapper.writerFor(entityClass).writeValue(zip, entity);
-        zip.closeEntry();
+    private void write(String entry, Entity entity, Class<?> entityClass) throws IOException {
+        handler.handle(entry, mapper.writerFor(entityClass).writeValueAsBytes(entity));
     }
 
 }